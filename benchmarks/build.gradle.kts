@@ -0,0 +1,32 @@
+plugins {
+    `java-library`
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+val edcGroup: String by project
+val edcVersion: String by project
+val minIOGroup: String by project
+val minIOVersion: String by project
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":extensions:ovhcloud-s3-core"))
+    jmh(project(":extensions:ovhcloud-s3-data-plane"))
+    jmh(project(":extensions:ovhcloud-s3-test-fixtures"))
+    jmh("${edcGroup}:core-spi:${edcVersion}")
+    jmh("${edcGroup}:data-plane-spi:${edcVersion}")
+    jmh("${edcGroup}:data-plane-util:${edcVersion}")
+    jmh("${minIOGroup}:minio:${minIOVersion}")
+}
+
+// Throughput and latency percentiles are reported by the modes of the benchmarks, the allocation
+// rate by the gc profiler. A subset is run with -PjmhIncludes=<regex>, e.g. DataSink.
+jmh {
+    jmhVersion.set(project.property("jmhVersion").toString())
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
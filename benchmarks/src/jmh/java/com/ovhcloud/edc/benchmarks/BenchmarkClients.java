@@ -0,0 +1,44 @@
+package com.ovhcloud.edc.benchmarks;
+
+import com.ovhcloud.edc.extension.s3.api.AsyncS3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.AsyncS3ConnectorAPIImpl;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIImpl;
+import com.ovhcloud.edc.extension.s3.utils.MinioClientBuilder;
+import com.ovhcloud.edc.extension.s3.utils.MinioClientBuilderImpl;
+import com.ovhcloud.edc.testfixtures.S3StandInServer;
+import java.util.Set;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+/**
+ * Builds the clients of the benchmarks, connected to a {@link S3StandInServer} with the default
+ * transport settings of the connector.
+ */
+final class BenchmarkClients {
+
+  /**
+   * The monitor of the benchmarks, discarding the messages.
+   */
+  static final Monitor MONITOR = new Monitor() {
+  };
+
+  private BenchmarkClients() {
+  }
+
+  static S3ConnectorAPI s3ConnectorAPI(S3StandInServer server) {
+    var builder = builder(server);
+    return new S3ConnectorAPIImpl(builder.build(), builder.buildAsync(), null);
+  }
+
+  static AsyncS3ConnectorAPI asyncS3ConnectorAPI(S3StandInServer server) {
+    return new AsyncS3ConnectorAPIImpl(builder(server).buildAsync(), null);
+  }
+
+  private static MinioClientBuilder builder(S3StandInServer server) {
+    var builder = MinioClientBuilderImpl.builder()
+        .endpoint(server.endpoint())
+        .allowedEndpoints(Set.of(server.endpoint()))
+        .credentials("access-key", "secret-key");
+    return builder.httpClient(builder.buildHttpClient());
+  }
+}
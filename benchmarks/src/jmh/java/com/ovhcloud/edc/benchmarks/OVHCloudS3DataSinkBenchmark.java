@@ -0,0 +1,138 @@
+package com.ovhcloud.edc.benchmarks;
+
+import com.ovhcloud.edc.dataplane.s3.OVHCloudS3DataSink;
+import com.ovhcloud.edc.dataplane.s3.OVHCloudS3MultipartUploader;
+import com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema;
+import com.ovhcloud.edc.testfixtures.S3StandInServer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the transfer of parts by {@link OVHCloudS3DataSink} to an in-process S3 stand-in,
+ * across part sizes and numbers of sink threads. Each transfer uploads 128MB, split in parts of
+ * the benchmarked size; the parts larger than a chunk are uploaded by multipart uploads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class OVHCloudS3DataSinkBenchmark {
+
+  private static final String BUCKET = "benchmark";
+  private static final int TRANSFER_SIZE = 128 * 1024 * 1024;
+
+  @Param({"65536", "1048576", "16777216", "67108864"})
+  int partSize;
+
+  @Param({"1", "4", "16"})
+  int threads;
+
+  private S3StandInServer server;
+  private ExecutorService executorService;
+  private ExecutorService uploadExecutor;
+  private OVHCloudS3DataSink sink;
+  private DataSource dataSource;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    server = S3StandInServer.start();
+    server.createBucket(BUCKET);
+    executorService = Executors.newFixedThreadPool(threads);
+    uploadExecutor = Executors.newCachedThreadPool();
+
+    var client = BenchmarkClients.s3ConnectorAPI(server);
+    sink = OVHCloudS3DataSink.Builder.newInstance()
+        .requestId("benchmark")
+        .monitor(BenchmarkClients.MONITOR)
+        .executorService(executorService)
+        // One part per task, so that the parts are transferred by all the threads
+        .partitionSize(1)
+        .s3ConnectorAPI(client)
+        .multipartUploader(OVHCloudS3MultipartUploader.Builder.newInstance()
+            .client(client)
+            .asyncClient(BenchmarkClients.asyncS3ConnectorAPI(server))
+            .monitor(BenchmarkClients.MONITOR)
+            .executor(uploadExecutor)
+            .chunkSize(S3SettingsSchema.DEFAULT_MULTIPART_CHUNK_SIZE)
+            .maxConcurrentChunks(S3SettingsSchema.DEFAULT_MULTIPART_CONCURRENCY)
+            .verifyIntegrity(true)
+            .build())
+        .bucketName(BUCKET)
+        .path("transfer")
+        .build();
+
+    var data = new byte[partSize];
+    new Random(42).nextBytes(data);
+    dataSource = new BytesDataSource(data, TRANSFER_SIZE / partSize);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executorService.shutdownNow();
+    uploadExecutor.shutdownNow();
+    server.close();
+  }
+
+  @Benchmark
+  public StreamResult<Object> transferParts() throws ExecutionException, InterruptedException {
+    var result = sink.transfer(dataSource).get();
+    if (result.failed()) {
+      throw new IllegalStateException(result.getFailureDetail());
+    }
+    return result;
+  }
+
+  /**
+   * A data source of parts sharing the same data.
+   */
+  private record BytesDataSource(byte[] data, int partCount) implements DataSource {
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+      return StreamResult.success(IntStream.range(0, partCount)
+          .mapToObj(index -> new BytesPart("part-" + index, data)));
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+
+  private record BytesPart(String name, byte[] data) implements DataSource.Part {
+
+    @Override
+    public long size() {
+      return data.length;
+    }
+
+    @Override
+    public InputStream openStream() {
+      return new ByteArrayInputStream(data);
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.ovhcloud.edc.benchmarks;
+
+import com.ovhcloud.edc.dataplane.s3.OVHCloudS3DataSource;
+import com.ovhcloud.edc.testfixtures.S3StandInServer;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link OVHCloudS3DataSource#openPartStream()} over prefixes of 10k to 1M objects: the
+ * listing of the objects and the creation of their parts, without reading their data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class OVHCloudS3DataSourceBenchmark {
+
+  private static final String BUCKET = "benchmark";
+  private static final String PREFIX = "objects/";
+
+  @Param({"10000", "100000", "1000000"})
+  int objectCount;
+
+  private S3StandInServer server;
+  private ExecutorService executor;
+  private OVHCloudS3DataSource dataSource;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    server = S3StandInServer.start();
+    server.putObjects(BUCKET, PREFIX, objectCount, new byte[1024]);
+    executor = Executors.newCachedThreadPool();
+    dataSource = OVHCloudS3DataSource.Builder.newInstance(BenchmarkClients.s3ConnectorAPI(server))
+        .monitor(BenchmarkClients.MONITOR)
+        .bucketName(BUCKET)
+        .objectPrefix(PREFIX)
+        .executor(executor)
+        .verifyIntegrity(true)
+        .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+    server.close();
+  }
+
+  @Benchmark
+  public void openPartStream(Blackhole blackhole) {
+    try (var parts = dataSource.openPartStream().getContent()) {
+      parts.forEach(blackhole::consume);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.ovhcloud.edc.benchmarks;
+
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
+import com.ovhcloud.edc.testfixtures.S3StandInServer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the requests of {@link com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIImpl} sent to
+ * an in-process S3 stand-in: buffered and streamed GETs and PUTs across object sizes, and listings
+ * across the number of listed objects.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class S3ConnectorAPIBenchmark {
+
+  private static final String BUCKET = "benchmark";
+
+  /**
+   * The server and the client shared by the benchmarks.
+   */
+  @State(Scope.Benchmark)
+  public static class Connection {
+
+    S3StandInServer server;
+    S3ConnectorAPI client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+      server = S3StandInServer.start();
+      server.createBucket(BUCKET);
+      client = BenchmarkClients.s3ConnectorAPI(server);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      server.close();
+    }
+  }
+
+  /**
+   * An object of the benchmarked size.
+   */
+  @State(Scope.Benchmark)
+  public static class SizedObject {
+
+    @Param({"4096", "1048576", "16777216"})
+    int objectSize;
+
+    byte[] data;
+
+    @Setup(Level.Trial)
+    public void setUp(Connection connection) {
+      data = new byte[objectSize];
+      new Random(42).nextBytes(data);
+      connection.server.putObject(BUCKET, "object", data);
+    }
+  }
+
+  /**
+   * Objects of a listed prefix.
+   */
+  @State(Scope.Benchmark)
+  public static class Listing {
+
+    @Param({"100", "1000", "10000"})
+    int objectCount;
+
+    @Setup(Level.Trial)
+    public void setUp(Connection connection) {
+      connection.server.putObjects(BUCKET, "listing-" + objectCount + "/", objectCount,
+          new byte[0]);
+    }
+  }
+
+  @Benchmark
+  public ByteArrayInputStream getObject(Connection connection, SizedObject object) {
+    return connection.client.getObject(BUCKET, "object");
+  }
+
+  @Benchmark
+  public long getObjectStream(Connection connection, SizedObject object) throws IOException {
+    try (var inputStream = connection.client.getObjectStream(BUCKET, "object")) {
+      return inputStream.transferTo(OutputStream.nullOutputStream());
+    }
+  }
+
+  @Benchmark
+  public String putObject(Connection connection, SizedObject object) {
+    return connection.client.putObject(BUCKET, "put-object",
+        new ByteArrayInputStream(object.data), object.data.length);
+  }
+
+  @Benchmark
+  public List<String> listObjects(Connection connection, Listing listing) {
+    return connection.client.listObjects(BUCKET, "listing-" + listing.objectCount + "/");
+  }
+}
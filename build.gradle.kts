@@ -8,7 +8,8 @@ plugins {
 val artifactIds = mapOf(
     "ovhcloud-s3-control-plane" to "control-plane-s3",
     "ovhcloud-s3-core" to "core-s3",
-    "ovhcloud-s3-data-plane" to "data-plane-s3"
+    "ovhcloud-s3-data-plane" to "data-plane-s3",
+    "ovhcloud-s3-metrics-micrometer" to "metrics-micrometer-s3"
 )
 
 val v = System.getenv("EDC_EXTENSIONS_VERSION")
@@ -26,7 +27,7 @@ subprojects {
     apply(plugin = "java")
     apply(plugin = "signing")
 
-    if (name in listOf("ovhcloud-s3-control-plane","ovhcloud-s3-data-plane","ovhcloud-s3-core")) {
+    if (name in artifactIds.keys) {
         publishing {
             publications {
                 create<MavenPublication>("${project.name}") {
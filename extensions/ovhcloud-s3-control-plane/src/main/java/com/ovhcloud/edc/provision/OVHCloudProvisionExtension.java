@@ -1,6 +1,6 @@
 package com.ovhcloud.edc.provision;
 
-import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.AsyncS3ConnectorAPI;
 import com.ovhcloud.edc.provision.s3.OVHCloudS3BucketProvisionedResource;
 import com.ovhcloud.edc.provision.s3.OVHCloudS3ConsumerResourceDefinitionGenerator;
 import com.ovhcloud.edc.provision.s3.OVHCloudS3Provisioner;
@@ -48,10 +48,10 @@ public class OVHCloudProvisionExtension implements ServiceExtension {
   private TypeManager typeManager;
 
   /**
-   * The {@link S3ConnectorAPI} service.
+   * The {@link AsyncS3ConnectorAPI} service.
    */
   @Inject
-  private S3ConnectorAPI client;
+  private AsyncS3ConnectorAPI client;
 
   /**
    * The name of the {@link Provisioner} service.
@@ -17,7 +17,7 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.jetbrains.annotations.NotNull;
 
-import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.AsyncS3ConnectorAPI;
 
 import dev.failsafe.RetryPolicy;
 
@@ -29,17 +29,18 @@ public class OVHCloudS3Provisioner implements
 
   private final RetryPolicy<Object> retryPolicy;
   private final Monitor monitor;
-  private final S3ConnectorAPI ovhCloudS3Client;
+  private final AsyncS3ConnectorAPI ovhCloudS3Client;
 
   /**
    * Creates a new {@link OVHCloudS3Provisioner}.
    * 
    * @param retryPolicy      the {@link RetryPolicy} to use.
    * @param monitor          the {@link Monitor} to use.
-   * @param ovhCloudS3Client the {@link S3ConnectorAPI} to use.
+   * @param ovhCloudS3Client the {@link AsyncS3ConnectorAPI} to use. Its requests do not block a
+   *                         thread while waiting for the responses.
    */
   public OVHCloudS3Provisioner(RetryPolicy<Object> retryPolicy, Monitor monitor,
-      S3ConnectorAPI ovhCloudS3Client) {
+      AsyncS3ConnectorAPI ovhCloudS3Client) {
     this.retryPolicy = retryPolicy;
     this.monitor = monitor;
     this.ovhCloudS3Client = ovhCloudS3Client;
@@ -91,7 +92,7 @@ public class OVHCloudS3Provisioner implements
         .ifPresent(m -> m.info("Provisioning request submitted for bucket: " + bucketName));
 
     return with(retryPolicy)
-        .getAsync(() -> ovhCloudS3Client.bucketExists(bucketName))
+        .getStageAsync(() -> ovhCloudS3Client.bucketExists(bucketName))
         .thenCompose(exists -> {
           if (Boolean.TRUE.equals(exists)) {
             return reuseExistingBucket(bucketName);
@@ -147,15 +148,12 @@ public class OVHCloudS3Provisioner implements
     Optional.ofNullable(monitor)
         .ifPresent(m -> m.info("Deprovisioning request submitted for bucket: " + bucketName));
 
-    return with(retryPolicy)
-        .getAsync(() -> ovhCloudS3Client.listObjects(bucketName, ""))
+    return listObjects(bucketName, "")
         .thenCompose((listObjectsResponse) -> deleteObjects(bucketName, listObjectsResponse))
-        .thenApply(empty -> {
-          ovhCloudS3Client.deleteBucket(bucketName);
-          return StatusResult.success(DeprovisionedResource.Builder.newInstance()
-              .provisionedResourceId(ovhCloudS3BucketProvisionedResource.getId())
-              .build());
-        });
+        .thenCompose(empty -> deleteBucket(bucketName))
+        .thenApply(empty -> StatusResult.success(DeprovisionedResource.Builder.newInstance()
+            .provisionedResourceId(ovhCloudS3BucketProvisionedResource.getId())
+            .build()));
   }
 
   @NotNull
@@ -167,25 +165,25 @@ public class OVHCloudS3Provisioner implements
   @NotNull
   private CompletableFuture<Void> createBucket(String bucketName) {
     return with(retryPolicy)
-        .runAsync(() -> {
-          ovhCloudS3Client.createBucket(bucketName);
-          Optional.ofNullable(monitor).ifPresent(
-              m -> m.debug("OVHCloudS3Provisioner: created a new container " + bucketName));
-        });
+        .<Void>getStageAsync(() -> ovhCloudS3Client.createBucket(bucketName))
+        .thenRun(() -> Optional.ofNullable(monitor).ifPresent(
+            m -> m.debug("OVHCloudS3Provisioner: created a new container " + bucketName)));
   }
 
   @NotNull
   private CompletableFuture<List<String>> listObjects(String bucketName, String prefix) {
-    return with(retryPolicy).getAsync(() -> ovhCloudS3Client.listObjects(bucketName, prefix));
+    return with(retryPolicy)
+        .getStageAsync(() -> ovhCloudS3Client.listObjects(bucketName, prefix));
   }
 
   @NotNull
   private CompletableFuture<Void> deleteObjects(String bucketName, List<String> keys) {
-    return with(retryPolicy).runAsync(() -> ovhCloudS3Client.deleteObjects(bucketName, keys));
+    return with(retryPolicy)
+        .getStageAsync(() -> ovhCloudS3Client.deleteObjects(bucketName, keys));
   }
 
   @NotNull
   private CompletableFuture<Void> deleteBucket(String bucketName) {
-    return with(retryPolicy).runAsync(() -> ovhCloudS3Client.deleteBucket(bucketName));
+    return with(retryPolicy).getStageAsync(() -> ovhCloudS3Client.deleteBucket(bucketName));
   }
 }
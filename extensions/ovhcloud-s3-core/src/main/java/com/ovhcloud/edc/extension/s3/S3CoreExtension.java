@@ -1,12 +1,80 @@
 package com.ovhcloud.edc.extension.s3;
 
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_BUFFER_POOL_MAX_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_CLIENT_CACHE_IDLE_TIMEOUT;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_CLIENT_CACHE_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_HTTP2_ENABLED;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_HTTP_KEEP_ALIVE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_HTTP_MAX_IDLE_CONNECTIONS;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_HTTP_MAX_REQUESTS_PER_HOST;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_HTTP_SOCKET_BUFFER_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_HTTP_TIMEOUT;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_LISTING_CONCURRENCY;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_METADATA_CACHE_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_METADATA_CACHE_TTL;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_RATE_LIMIT;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_READ_RETRY_DELAY;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_READ_RETRY_MAX;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_READ_RETRY_MAX_DELAY;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_WATERMARK_SAFETY_LAG;
 import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_ACCESS_KEY;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_BUFFER_POOL_MAX_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_CLIENT_CACHE_IDLE_TIMEOUT;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_CLIENT_CACHE_SIZE;
 import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_ENDPOINT;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_ENDPOINT_ALLOWLIST;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_HTTP2_ENABLED;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_HTTP_CONNECT_TIMEOUT;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_HTTP_KEEP_ALIVE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_HTTP_MAX_IDLE_CONNECTIONS;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_HTTP_MAX_REQUESTS_PER_HOST;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_HTTP_READ_TIMEOUT;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_HTTP_RECEIVE_BUFFER_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_HTTP_SEND_BUFFER_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_HTTP_WRITE_TIMEOUT;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_LISTING_CONCURRENCY;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_METADATA_CACHE_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_METADATA_CACHE_TTL;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_BYTES;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_DELETE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_GET;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_HEAD;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_LIST;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_PUT;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_BYTES;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_DELETE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_GET;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_HEAD;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_LIST;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_PUT;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_READ_RETRY_DELAY;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_READ_RETRY_MAX;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_READ_RETRY_MAX_DELAY;
 import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_SECRET_KEY;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_WATERMARK_DIRECTORY;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_WATERMARK_SAFETY_LAG;
 
+import com.ovhcloud.edc.extension.s3.api.AsyncS3ConnectorAPI;
 import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
-import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIImpl;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIRegistry;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIRegistryImpl;
+import com.ovhcloud.edc.extension.s3.api.S3BufferPool;
+import com.ovhcloud.edc.extension.s3.api.S3Metrics;
+import com.ovhcloud.edc.extension.s3.api.S3Operation;
+import com.ovhcloud.edc.extension.s3.api.S3RateLimits;
+import com.ovhcloud.edc.extension.s3.api.S3WatermarkStore;
 import com.ovhcloud.edc.extension.s3.utils.MinioClientBuilderImpl;
+import com.ovhcloud.edc.extension.s3.utils.S3RetryClassifier;
+import dev.failsafe.RetryPolicy;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import okhttp3.OkHttpClient;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
@@ -18,7 +86,8 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
  * This class provides an implementation of the ServiceExtension interface to handle connection to
  * OVHCloud S3.
  */
-@Provides(value = S3ConnectorAPI.class)
+@Provides(value = {S3ConnectorAPI.class, AsyncS3ConnectorAPI.class,
+    S3ConnectorAPIRegistry.class, S3BufferPool.class, S3WatermarkStore.class})
 @Extension(value = S3CoreExtension.NAME)
 public class S3CoreExtension implements ServiceExtension {
 
@@ -33,6 +102,13 @@ public class S3CoreExtension implements ServiceExtension {
   @Inject
   private Monitor monitor;
 
+  /**
+   * The metrics recording the S3 requests. It is provided by an optional extension, e.g. the
+   * Micrometer one; if none is present, nothing is recorded.
+   */
+  @Inject(required = false)
+  private S3Metrics metrics;
+
   /**
    * Returns the name of this extension.
    *
@@ -45,8 +121,10 @@ public class S3CoreExtension implements ServiceExtension {
 
   /**
    * Initializes the extension. This method is responsible for retrieving the S3 credentials from
-   * the configuration file, creating a MinioClient with these credentials, and registering the
-   * S3ConnectorAPI service.
+   * the configuration file and registering the S3ConnectorAPIRegistry service, which resolves
+   * the clients of a data address, the S3ConnectorAPI and AsyncS3ConnectorAPI services using
+   * these credentials, the S3BufferPool service shared by the transfers and the S3WatermarkStore
+   * service of the incremental transfers.
    *
    * @param context the ServiceExtensionContext
    */
@@ -60,11 +138,136 @@ public class S3CoreExtension implements ServiceExtension {
     String secretKey = context.getSetting(EDC_OVHCLOUD_S3_SECRET_KEY, "");
     String endpoint = context.getSetting(EDC_OVHCLOUD_S3_ENDPOINT, "");
 
-    var minioClient = MinioClientBuilderImpl.builder()
-        .credentials(accessKey, secretKey)
+    var s3Metrics = Optional.ofNullable(metrics).orElseGet(S3Metrics::noop);
+    var registry = S3ConnectorAPIRegistryImpl.Builder.newInstance()
+        .httpClient(buildHttpClient(context))
         .endpoint(endpoint)
+        .allowedEndpoints(parseEndpointAllowlist(context))
+        .credentials(accessKey, secretKey)
+        .maxSize(context.getSetting(EDC_OVHCLOUD_S3_CLIENT_CACHE_SIZE,
+            DEFAULT_CLIENT_CACHE_SIZE))
+        .idleTimeout(Duration.ofSeconds(context.getSetting(
+            EDC_OVHCLOUD_S3_CLIENT_CACHE_IDLE_TIMEOUT, DEFAULT_CLIENT_CACHE_IDLE_TIMEOUT)))
+        .metadataCacheSize(context.getSetting(EDC_OVHCLOUD_S3_METADATA_CACHE_SIZE,
+            DEFAULT_METADATA_CACHE_SIZE))
+        .metadataCacheTtl(Duration.ofSeconds(context.getSetting(
+            EDC_OVHCLOUD_S3_METADATA_CACHE_TTL, DEFAULT_METADATA_CACHE_TTL)))
+        .listingConcurrency(context.getSetting(EDC_OVHCLOUD_S3_LISTING_CONCURRENCY,
+            DEFAULT_LISTING_CONCURRENCY))
+        .readRetryPolicy(buildReadRetryPolicy(context))
+        .rateLimits(buildRateLimits(context))
+        .metrics(s3Metrics)
+        .monitor(monitor)
         .build();
 
-    context.registerService(S3ConnectorAPI.class, new S3ConnectorAPIImpl(minioClient, monitor));
+    context.registerService(S3ConnectorAPIRegistry.class, registry);
+    context.registerService(S3ConnectorAPI.class, registry.resolve(null));
+    context.registerService(AsyncS3ConnectorAPI.class, registry.resolveAsync(null));
+    context.registerService(S3BufferPool.class, new S3BufferPool(
+        context.getSetting(EDC_OVHCLOUD_S3_BUFFER_POOL_MAX_SIZE, DEFAULT_BUFFER_POOL_MAX_SIZE),
+        s3Metrics, monitor));
+    var watermarkDirectory = context.getSetting(EDC_OVHCLOUD_S3_WATERMARK_DIRECTORY, "");
+    context.registerService(S3WatermarkStore.class, new S3WatermarkStore(
+        watermarkDirectory.isBlank() ? null : Path.of(watermarkDirectory),
+        Duration.ofSeconds(context.getSetting(EDC_OVHCLOUD_S3_WATERMARK_SAFETY_LAG,
+            DEFAULT_WATERMARK_SAFETY_LAG)),
+        Clock.systemUTC()));
+  }
+
+  /**
+   * Parses the comma-separated endpoints accepted besides the OVHcloud S3 ones.
+   */
+  private Set<String> parseEndpointAllowlist(ServiceExtensionContext context) {
+    return Arrays.stream(context.getSetting(EDC_OVHCLOUD_S3_ENDPOINT_ALLOWLIST, "").split(","))
+        .map(String::trim)
+        .filter(allowedEndpoint -> !allowedEndpoint.isEmpty())
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * Builds the HTTP client shared by the S3 clients from the transport settings of the
+   * configuration file.
+   *
+   * @param context the ServiceExtensionContext
+   * @return the HTTP client
+   */
+  private OkHttpClient buildHttpClient(ServiceExtensionContext context) {
+    return MinioClientBuilderImpl.builder()
+        .connectionPool(
+            context.getSetting(EDC_OVHCLOUD_S3_HTTP_MAX_IDLE_CONNECTIONS,
+                DEFAULT_HTTP_MAX_IDLE_CONNECTIONS),
+            Duration.ofSeconds(context.getSetting(EDC_OVHCLOUD_S3_HTTP_KEEP_ALIVE,
+                DEFAULT_HTTP_KEEP_ALIVE)))
+        .maxRequestsPerHost(context.getSetting(EDC_OVHCLOUD_S3_HTTP_MAX_REQUESTS_PER_HOST,
+            DEFAULT_HTTP_MAX_REQUESTS_PER_HOST))
+        .timeouts(
+            Duration.ofSeconds(context.getSetting(EDC_OVHCLOUD_S3_HTTP_CONNECT_TIMEOUT,
+                DEFAULT_HTTP_TIMEOUT)),
+            Duration.ofSeconds(context.getSetting(EDC_OVHCLOUD_S3_HTTP_READ_TIMEOUT,
+                DEFAULT_HTTP_TIMEOUT)),
+            Duration.ofSeconds(context.getSetting(EDC_OVHCLOUD_S3_HTTP_WRITE_TIMEOUT,
+                DEFAULT_HTTP_TIMEOUT)))
+        .http2(context.getConfig().getBoolean(EDC_OVHCLOUD_S3_HTTP2_ENABLED,
+            DEFAULT_HTTP2_ENABLED))
+        .socketBufferSizes(
+            context.getSetting(EDC_OVHCLOUD_S3_HTTP_SEND_BUFFER_SIZE,
+                DEFAULT_HTTP_SOCKET_BUFFER_SIZE),
+            context.getSetting(EDC_OVHCLOUD_S3_HTTP_RECEIVE_BUFFER_SIZE,
+                DEFAULT_HTTP_SOCKET_BUFFER_SIZE))
+        .buildHttpClient();
+  }
+
+  private S3RateLimits buildRateLimits(ServiceExtensionContext context) {
+    var endpointRequests = Map.of(
+        S3Operation.LIST, EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_LIST,
+        S3Operation.HEAD, EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_HEAD,
+        S3Operation.GET, EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_GET,
+        S3Operation.PUT, EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_PUT,
+        S3Operation.DELETE, EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_DELETE);
+    var bucketRequests = Map.of(
+        S3Operation.LIST, EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_LIST,
+        S3Operation.HEAD, EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_HEAD,
+        S3Operation.GET, EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_GET,
+        S3Operation.PUT, EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_PUT,
+        S3Operation.DELETE, EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_DELETE);
+
+    var builder = S3RateLimits.Builder.newInstance()
+        .endpointBytesPerSecond(context.getSetting(EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_BYTES,
+            (long) DEFAULT_RATE_LIMIT))
+        .bucketBytesPerSecond(context.getSetting(EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_BYTES,
+            (long) DEFAULT_RATE_LIMIT));
+    endpointRequests.forEach((operation, key) -> builder.endpointRequestsPerSecond(operation,
+        context.getSetting(key, DEFAULT_RATE_LIMIT)));
+    bucketRequests.forEach((operation, key) -> builder.bucketRequestsPerSecond(operation,
+        context.getSetting(key, DEFAULT_RATE_LIMIT)));
+
+    return builder.build();
+  }
+
+  private RetryPolicy<Object> buildReadRetryPolicy(ServiceExtensionContext context) {
+    var maxRetries = context.getSetting(EDC_OVHCLOUD_S3_READ_RETRY_MAX, DEFAULT_READ_RETRY_MAX);
+    if (maxRetries <= 0) {
+      return null;
+    }
+
+    var delay = Duration.ofMillis(context.getSetting(EDC_OVHCLOUD_S3_READ_RETRY_DELAY,
+        DEFAULT_READ_RETRY_DELAY));
+    var maxDelay = Duration.ofMillis(context.getSetting(EDC_OVHCLOUD_S3_READ_RETRY_MAX_DELAY,
+        DEFAULT_READ_RETRY_MAX_DELAY));
+
+    var builder = RetryPolicy.builder()
+        .handleIf(S3RetryClassifier::isRetryable)
+        .withMaxRetries(maxRetries)
+        .onRetry(event -> monitor.debug("Retrying S3 read after a transient error: "
+            + event.getLastException().getMessage()));
+
+    // The jitter spreads the retries of the transfers failing together, e.g. when throttled
+    if (maxDelay.compareTo(delay) > 0) {
+      builder.withBackoff(delay, maxDelay).withJitter(0.5);
+    } else {
+      builder.withDelay(delay).withJitter(0.5);
+    }
+
+    return builder.build();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,165 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.EdcException;
+
+/**
+ * This interface provides non-blocking methods for interacting with OVHcloud S3 buckets. Unlike
+ * {@link S3ConnectorAPI}, no thread waits for the responses: the requests are sent and their
+ * responses read by the HTTP client, and the returned futures are completed once the responses are
+ * received. The futures are completed exceptionally with an {@link EdcException} on failure.
+ */
+@ExtensionPoint
+public interface AsyncS3ConnectorAPI {
+
+  /**
+   * Checks if a bucket exists.
+   *
+   * @param bucketName the name of the bucket
+   * @return a future completed with true if the bucket exists, false otherwise
+   */
+  CompletableFuture<Boolean> bucketExists(String bucketName);
+
+  /**
+   * Creates a new bucket with the given name. If the bucket already exists, this method does
+   * nothing.
+   *
+   * @param bucketName the name of the bucket to create
+   * @return a future completed once the bucket is created
+   */
+  CompletableFuture<Void> createBucket(String bucketName);
+
+  /**
+   * Deletes a bucket with the given name. The bucket must be empty. If the bucket does not exist,
+   * this method does nothing.
+   *
+   * @param bucketName the name of the bucket to delete
+   * @return a future completed once the bucket is deleted
+   */
+  CompletableFuture<Void> deleteBucket(String bucketName);
+
+  /**
+   * Lists the objects in a bucket that match a given prefix. The pages of the listing are
+   * requested one after the other, without blocking a thread between them.
+   *
+   * @param bucketName the name of the bucket
+   * @param prefix     the prefix to match against object names
+   * @return a future completed with the names of the objects that match the prefix
+   */
+  CompletableFuture<List<String>> listObjects(String bucketName, String prefix);
+
+  /**
+   * Deletes objects from a bucket. The objects are deleted by batches of 1000, the maximum
+   * accepted by a single request.
+   *
+   * @param bucketName the name of the bucket
+   * @param keys       the names of the objects to delete
+   * @return a future completed once the objects are deleted
+   */
+  CompletableFuture<Void> deleteObjects(String bucketName, List<String> keys);
+
+  /**
+   * Opens a stream on an object of a bucket. The future is completed once the response headers
+   * are received; the stream reads the response body and must be closed by the caller.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @return a future completed with a stream on the object data
+   */
+  CompletableFuture<InputStream> getObjectStream(String bucketName, String objectName);
+
+  /**
+   * Puts an object into a bucket with a single request.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param data       the object data
+   * @param length     the number of bytes of data to put
+   * @return a future completed with the ETag of the object
+   */
+  default CompletableFuture<String> putObject(String bucketName, String objectName, byte[] data,
+      int length) {
+    return putObject(bucketName, objectName, data, length, null);
+  }
+
+  /**
+   * Puts an object into a bucket with a single request, the bucket checking that the data it
+   * receives matches its MD5 digest.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param data       the object data
+   * @param length     the number of bytes of data to put
+   * @param contentMd5 the MD5 digest of the data, sent as Content-MD5, null to send none
+   * @return a future completed with the ETag of the object
+   */
+  CompletableFuture<String> putObject(String bucketName, String objectName, byte[] data,
+      int length, byte[] contentMd5);
+
+  /**
+   * Initiates a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @return a future completed with the id of the upload
+   */
+  CompletableFuture<String> createMultipartUpload(String bucketName, String objectName);
+
+  /**
+   * Uploads one part of a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the id of the upload
+   * @param partNumber the number of the part, from 1 to 10000
+   * @param data       the part data
+   * @param length     the number of bytes of data to upload
+   * @return a future completed with the ETag of the part
+   */
+  default CompletableFuture<String> uploadPart(String bucketName, String objectName,
+      String uploadId, int partNumber, byte[] data, int length) {
+    return uploadPart(bucketName, objectName, uploadId, partNumber, data, length, null);
+  }
+
+  /**
+   * Uploads one part of a multipart upload, the bucket checking that the data it receives matches
+   * its MD5 digest.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the id of the upload
+   * @param partNumber the number of the part, from 1 to 10000
+   * @param data       the part data
+   * @param length     the number of bytes of data to upload
+   * @param contentMd5 the MD5 digest of the data, sent as Content-MD5, null to send none
+   * @return a future completed with the ETag of the part
+   */
+  CompletableFuture<String> uploadPart(String bucketName, String objectName, String uploadId,
+      int partNumber, byte[] data, int length, byte[] contentMd5);
+
+  /**
+   * Completes a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the id of the upload
+   * @param parts      the uploaded parts
+   * @return a future completed with the ETag of the object
+   */
+  CompletableFuture<String> completeMultipartUpload(String bucketName, String objectName,
+      String uploadId, List<S3CompletedPart> parts);
+
+  /**
+   * Aborts a multipart upload, discarding the parts already uploaded.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the id of the upload
+   * @return a future completed once the upload is aborted
+   */
+  CompletableFuture<Void> abortMultipartUpload(String bucketName, String objectName,
+      String uploadId);
+}
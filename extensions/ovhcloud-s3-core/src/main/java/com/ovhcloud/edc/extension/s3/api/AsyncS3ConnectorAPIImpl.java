@@ -0,0 +1,354 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import com.ovhcloud.edc.extension.s3.utils.S3ErrorCodes;
+import io.minio.BucketExistsArgs;
+import io.minio.GetObjectArgs;
+import io.minio.MakeBucketArgs;
+import io.minio.MinioAsyncClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveBucketArgs;
+import io.minio.errors.MinioException;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Item;
+import io.minio.messages.Part;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+/**
+ * This class provides an implementation of the AsyncS3ConnectorAPI interface. It uses the
+ * MinioAsyncClient to interact with OVHcloud S3 buckets.
+ */
+public class AsyncS3ConnectorAPIImpl implements AsyncS3ConnectorAPI {
+
+  /**
+   * Maximum number of objects of a listing page, and of a deletion request, accepted by S3.
+   */
+  private static final int MAX_KEYS_PER_REQUEST = 1000;
+  private static final String BUCKET_ALREADY_OWNED_BY_YOU = "BucketAlreadyOwnedByYou";
+  private static final String NO_SUCH_BUCKET = "NoSuchBucket";
+
+  private final ExtendedMinioAsyncClient s3AsyncClient;
+  private final Monitor monitor;
+
+  /**
+   * Creates a new AsyncS3ConnectorAPIImpl.
+   *
+   * @param asyncClient the MinioAsyncClient
+   * @param monitor     the monitor
+   */
+  public AsyncS3ConnectorAPIImpl(MinioAsyncClient asyncClient, Monitor monitor) {
+    this(new ExtendedMinioAsyncClient(
+        Objects.requireNonNull(asyncClient, "asyncClient must not be null")), monitor);
+  }
+
+  AsyncS3ConnectorAPIImpl(ExtendedMinioAsyncClient asyncClient, Monitor monitor) {
+    this.s3AsyncClient = asyncClient;
+    this.monitor = monitor;
+  }
+
+  /**
+   * Checks if a bucket exists.
+   *
+   * @param bucketName the name of the bucket
+   * @return a future completed with true if the bucket exists, false otherwise
+   */
+  @Override
+  public CompletableFuture<Boolean> bucketExists(String bucketName) {
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Checking if bucket exists: " + bucketName));
+
+    var args = BucketExistsArgs.builder().bucket(bucketName).build();
+    return execute("Error checking if bucket exists", () -> s3AsyncClient.bucketExists(args));
+  }
+
+  /**
+   * Creates a new bucket with the given name. If the bucket already exists and is owned by the
+   * account, this method does nothing: the creation is sent without checking the existence of the
+   * bucket first, and its BucketAlreadyOwnedByYou error is ignored.
+   *
+   * @param bucketName the name of the bucket to create
+   * @return a future completed once the bucket is created
+   */
+  @Override
+  public CompletableFuture<Void> createBucket(String bucketName) {
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Creating bucket: " + bucketName));
+
+    var args = MakeBucketArgs.builder().bucket(bucketName).build();
+    return ignoring(BUCKET_ALREADY_OWNED_BY_YOU,
+        execute("Error creating bucket", () -> s3AsyncClient.makeBucket(args)));
+  }
+
+  /**
+   * Deletes a bucket with the given name. The bucket must be empty. If the bucket does not exist,
+   * this method does nothing: its NoSuchBucket error is ignored.
+   *
+   * @param bucketName the name of the bucket to delete
+   * @return a future completed once the bucket is deleted
+   */
+  @Override
+  public CompletableFuture<Void> deleteBucket(String bucketName) {
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Deleting bucket: " + bucketName));
+
+    var args = RemoveBucketArgs.builder().bucket(bucketName).build();
+    return ignoring(NO_SUCH_BUCKET,
+        execute("Error deleting bucket", () -> s3AsyncClient.removeBucket(args)));
+  }
+
+  /**
+   * Lists the objects in a bucket that match a given prefix.
+   *
+   * @param bucketName the name of the bucket
+   * @param prefix     the prefix to match against object names
+   * @return a future completed with the names of the objects that match the prefix
+   */
+  @Override
+  public CompletableFuture<List<String>> listObjects(String bucketName, String prefix) {
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug(
+            "Listing bucket objects with prefix: " + prefix + " in bucket: " + bucketName));
+
+    return listObjects(bucketName, prefix, null, new ArrayList<>());
+  }
+
+  private CompletableFuture<List<String>> listObjects(String bucketName, String prefix,
+      String continuationToken, List<String> objectNames) {
+    return execute("Error listing bucket objects in bucket " + bucketName,
+        () -> s3AsyncClient.listObjectsPage(bucketName, prefix, continuationToken,
+            MAX_KEYS_PER_REQUEST))
+        .thenCompose(response -> {
+          var result = response.result();
+          result.contents().stream()
+              .filter(item -> !item.isDir())
+              .map(Item::objectName)
+              .forEach(objectNames::add);
+
+          if (result.isTruncated()) {
+            return listObjects(bucketName, prefix, result.nextContinuationToken(), objectNames);
+          }
+          return CompletableFuture.completedFuture(objectNames);
+        });
+  }
+
+  /**
+   * Deletes objects from a bucket. Objects which fail to be deleted are logged.
+   *
+   * @param bucketName the name of the bucket
+   * @param keys       the names of the objects to delete
+   * @return a future completed once the objects are deleted
+   */
+  @Override
+  public CompletableFuture<Void> deleteObjects(String bucketName, List<String> keys) {
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Deleting objects " + keys.size() + " from bucket: " + bucketName));
+
+    var futures = new ArrayList<CompletableFuture<Void>>();
+    for (var start = 0; start < keys.size(); start += MAX_KEYS_PER_REQUEST) {
+      var batch = keys.subList(start, Math.min(start + MAX_KEYS_PER_REQUEST, keys.size())).stream()
+          .map(DeleteObject::new)
+          .toList();
+
+      futures.add(execute("Error removing objects in bucket " + bucketName,
+          () -> s3AsyncClient.removeObjects(bucketName, batch))
+          .thenAccept(response -> response.result().errorList().forEach(error ->
+              Optional.ofNullable(this.monitor)
+                  .ifPresent(m -> m.debug(
+                      "Failed to delete object " + error.objectName() + ": " + error.message())))));
+    }
+
+    return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+  }
+
+  /**
+   * Opens a stream on an object of a bucket.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @return a future completed with a stream on the object data, to close by the caller
+   */
+  @Override
+  public CompletableFuture<InputStream> getObjectStream(String bucketName, String objectName) {
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Opening stream on object: " + objectName + " from bucket: "
+            + bucketName));
+
+    var args = GetObjectArgs.builder().bucket(bucketName).object(objectName).build();
+    return execute("Error getting object " + objectName + " in bucket " + bucketName,
+        () -> s3AsyncClient.getObject(args).<InputStream>thenApply(S3ResponseInputStream::new));
+  }
+
+  /**
+   * Puts an object into a bucket with a single request.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param data       the object data
+   * @param length     the number of bytes of data to put
+   * @param contentMd5 the MD5 digest of the data, sent as Content-MD5, null to send none
+   * @return a future completed with the ETag of the object
+   */
+  @Override
+  public CompletableFuture<String> putObject(String bucketName, String objectName, byte[] data,
+      int length, byte[] contentMd5) {
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Putting object: " + objectName + " into bucket: " + bucketName));
+
+    var args = PutObjectArgs.builder()
+        .bucket(bucketName)
+        .object(objectName)
+        .stream(new ByteArrayInputStream(data, 0, length), length, -1)
+        .extraHeaders(ExtendedMinioAsyncClient.contentMd5Header(contentMd5))
+        .build();
+    return execute("Error putting object " + objectName + " in bucket " + bucketName,
+        () -> s3AsyncClient.putObject(args).thenApply(response -> response.etag()));
+  }
+
+  /**
+   * Initiates a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @return a future completed with the id of the upload
+   */
+  @Override
+  public CompletableFuture<String> createMultipartUpload(String bucketName, String objectName) {
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Creating multipart upload of object: " + objectName
+            + " in bucket: " + bucketName));
+
+    return execute(
+        "Error creating multipart upload of " + objectName + " in bucket " + bucketName,
+        () -> s3AsyncClient.createMultipartUpload(bucketName, objectName));
+  }
+
+  /**
+   * Uploads one part of a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the id of the upload
+   * @param partNumber the number of the part, from 1 to 10000
+   * @param data       the part data
+   * @param length     the number of bytes of data to upload
+   * @param contentMd5 the MD5 digest of the data, sent as Content-MD5, null to send none
+   * @return a future completed with the ETag of the part
+   */
+  @Override
+  public CompletableFuture<String> uploadPart(String bucketName, String objectName,
+      String uploadId, int partNumber, byte[] data, int length, byte[] contentMd5) {
+    return execute("Error uploading part " + partNumber + " of " + objectName + " in bucket "
+            + bucketName,
+        () -> s3AsyncClient.uploadPart(bucketName, objectName, uploadId, partNumber, data,
+            length, contentMd5));
+  }
+
+  /**
+   * Completes a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the id of the upload
+   * @param parts      the uploaded parts
+   * @return a future completed with the ETag of the object
+   */
+  @Override
+  public CompletableFuture<String> completeMultipartUpload(String bucketName, String objectName,
+      String uploadId, List<S3CompletedPart> parts) {
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Completing multipart upload of object: " + objectName
+            + " in bucket: " + bucketName + " with " + parts.size() + " parts"));
+
+    var minioParts = parts.stream()
+        .sorted(Comparator.comparingInt(S3CompletedPart::partNumber))
+        .map(part -> new Part(part.partNumber(), part.etag()))
+        .toArray(Part[]::new);
+
+    return execute(
+        "Error completing multipart upload of " + objectName + " in bucket " + bucketName,
+        () -> s3AsyncClient.completeMultipartUpload(bucketName, objectName, uploadId,
+            minioParts));
+  }
+
+  /**
+   * Aborts a multipart upload, discarding the parts already uploaded.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the id of the upload
+   * @return a future completed once the upload is aborted
+   */
+  @Override
+  public CompletableFuture<Void> abortMultipartUpload(String bucketName, String objectName,
+      String uploadId) {
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Aborting multipart upload " + uploadId + " of object: "
+            + objectName + " in bucket: " + bucketName));
+
+    return execute(
+        "Error aborting multipart upload of " + objectName + " in bucket " + bucketName,
+        () -> s3AsyncClient.abortMultipartUpload(bucketName, objectName, uploadId));
+  }
+
+  /**
+   * Sends a request with the async client, reporting its failure, whether it is thrown when the
+   * request is built or when its response is received, as a future completed exceptionally with
+   * an {@link EdcException}.
+   */
+  private static <T> CompletableFuture<T> execute(String errorMessage, MinioCall<T> call) {
+    CompletableFuture<T> future;
+    try {
+      future = call.execute();
+    } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
+      return CompletableFuture.failedFuture(
+          new EdcException(errorMessage + " : " + e.getMessage(), e));
+    }
+
+    return future.handle((result, throwable) -> {
+      if (throwable == null) {
+        return result;
+      }
+
+      var cause = throwable instanceof CompletionException && throwable.getCause() != null
+          ? throwable.getCause() : throwable;
+      throw cause instanceof EdcException edcException ? edcException
+          : new EdcException(errorMessage + " : " + cause.getMessage(), cause);
+    });
+  }
+
+  /**
+   * Completes a request normally when it fails with the given S3 error code.
+   */
+  private static CompletableFuture<Void> ignoring(String errorCode,
+      CompletableFuture<Void> future) {
+    return future.exceptionally(throwable -> {
+      if (errorCode.equals(S3ErrorCodes.of(throwable))) {
+        return null;
+      }
+      throw throwable instanceof CompletionException completionException ? completionException
+          : new CompletionException(throwable);
+    });
+  }
+
+  /**
+   * A request sent with the async client.
+   */
+  @FunctionalInterface
+  private interface MinioCall<T> {
+
+    CompletableFuture<T> execute()
+        throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException;
+  }
+}
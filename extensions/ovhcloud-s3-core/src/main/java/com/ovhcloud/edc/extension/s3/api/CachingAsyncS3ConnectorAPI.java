@@ -0,0 +1,110 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import com.ovhcloud.edc.extension.s3.utils.S3ErrorCodes;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An AsyncS3ConnectorAPI caching the existence of buckets in a {@link S3MetadataCache}, so that
+ * repeated checks do not send a HEAD request each. The entries are invalidated by the writes and
+ * deletions made through this client, and a bucket is forgotten when a call fails because it does
+ * not exist; other changes made by other clients are seen once the entries expire.
+ */
+public class CachingAsyncS3ConnectorAPI extends ForwardingAsyncS3ConnectorAPI {
+
+  private static final String NO_SUCH_BUCKET = "NoSuchBucket";
+
+  private final S3MetadataCache cache;
+
+  /**
+   * Creates a CachingAsyncS3ConnectorAPI.
+   *
+   * @param delegate the client the calls are forwarded to
+   * @param cache    the cache of the metadata
+   */
+  public CachingAsyncS3ConnectorAPI(AsyncS3ConnectorAPI delegate, S3MetadataCache cache) {
+    super(delegate);
+    this.cache = Objects.requireNonNull(cache, "cache must not be null");
+  }
+
+  @Override
+  public CompletableFuture<Boolean> bucketExists(String bucketName) {
+    return cache.bucketExists(bucketName)
+        .map(CompletableFuture::completedFuture)
+        .orElseGet(() -> delegate.bucketExists(bucketName)
+            .thenApply(exists -> {
+              cache.putBucketExists(bucketName, exists);
+              return exists;
+            }));
+  }
+
+  /**
+   * Creates a bucket. The creation is always forwarded, even when the bucket is known to exist, as
+   * the entry may be stale: the delegate creates the bucket with a single request, ignoring the
+   * error of a bucket that already exists.
+   *
+   * @param bucketName the name of the bucket to create
+   * @return a future completed once the bucket is created
+   */
+  @Override
+  public CompletableFuture<Void> createBucket(String bucketName) {
+    return delegate.createBucket(bucketName)
+        .thenRun(() -> cache.putBucketExists(bucketName, true));
+  }
+
+  /**
+   * Deletes a bucket. The deletion is always forwarded, even when the bucket is known not to
+   * exist, as the entry may be stale.
+   *
+   * @param bucketName the name of the bucket to delete
+   * @return a future completed once the bucket is deleted
+   */
+  @Override
+  public CompletableFuture<Void> deleteBucket(String bucketName) {
+    return delegate.deleteBucket(bucketName)
+        .thenRun(() -> {
+          cache.invalidateBucket(bucketName);
+          cache.putBucketExists(bucketName, false);
+        });
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteObjects(String bucketName, List<String> keys) {
+    return delegate.deleteObjects(bucketName, keys)
+        .whenComplete((result, throwable) -> {
+          keys.forEach(key -> cache.invalidateObject(bucketName, key));
+          invalidateOnNoSuchBucket(bucketName, throwable);
+        });
+  }
+
+  @Override
+  public CompletableFuture<String> putObject(String bucketName, String objectName, byte[] data,
+      int length, byte[] contentMd5) {
+    return delegate.putObject(bucketName, objectName, data, length, contentMd5)
+        .whenComplete((etag, throwable) -> {
+          cache.invalidateObject(bucketName, objectName);
+          invalidateOnNoSuchBucket(bucketName, throwable);
+        });
+  }
+
+  @Override
+  public CompletableFuture<String> completeMultipartUpload(String bucketName, String objectName,
+      String uploadId, List<S3CompletedPart> parts) {
+    return delegate.completeMultipartUpload(bucketName, objectName, uploadId, parts)
+        .whenComplete((etag, throwable) -> {
+          cache.invalidateObject(bucketName, objectName);
+          invalidateOnNoSuchBucket(bucketName, throwable);
+        });
+  }
+
+  /**
+   * Forgets a bucket when a call failed because it does not exist, so that a bucket deleted by
+   * another client is not reported to exist until the entry expires.
+   */
+  private void invalidateOnNoSuchBucket(String bucketName, Throwable throwable) {
+    if (throwable != null && NO_SUCH_BUCKET.equals(S3ErrorCodes.of(throwable))) {
+      cache.invalidateBucket(bucketName);
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import com.ovhcloud.edc.extension.s3.utils.S3ErrorCodes;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.eclipse.edc.spi.EdcException;
+
+/**
+ * A S3ConnectorAPI caching the existence of buckets and the metadata of objects in a
+ * {@link S3MetadataCache}, so that repeated checks do not send a HEAD request each. The entries are
+ * invalidated by the writes and deletions made through this client, and a bucket is forgotten when
+ * a call fails because it does not exist; other changes made by other clients are seen once the
+ * entries expire.
+ */
+public class CachingS3ConnectorAPI extends ForwardingS3ConnectorAPI {
+
+  private static final String NO_SUCH_BUCKET = "NoSuchBucket";
+
+  private final S3MetadataCache cache;
+
+  /**
+   * Creates a CachingS3ConnectorAPI.
+   *
+   * @param delegate the client the calls are forwarded to
+   * @param cache    the cache of the metadata
+   */
+  public CachingS3ConnectorAPI(S3ConnectorAPI delegate, S3MetadataCache cache) {
+    super(delegate);
+    this.cache = Objects.requireNonNull(cache, "cache must not be null");
+  }
+
+  @Override
+  public boolean bucketExists(String bucketName) throws EdcException {
+    return cache.bucketExists(bucketName).orElseGet(() -> {
+      var exists = delegate.bucketExists(bucketName);
+      cache.putBucketExists(bucketName, exists);
+      return exists;
+    });
+  }
+
+  /**
+   * Creates a bucket. The creation is always forwarded, even when the bucket is known to exist, as
+   * the entry may be stale: the delegate creates the bucket with a single request, ignoring the
+   * error of a bucket that already exists.
+   *
+   * @param bucketName the name of the bucket to create
+   * @throws EdcException if there is an error creating the bucket
+   */
+  @Override
+  public void createBucket(String bucketName) throws EdcException {
+    delegate.createBucket(bucketName);
+    cache.putBucketExists(bucketName, true);
+  }
+
+  /**
+   * Deletes a bucket. The deletion is always forwarded, even when the bucket is known not to
+   * exist, as the entry may be stale.
+   *
+   * @param bucketName the name of the bucket to delete
+   * @throws EdcException if there is an error deleting the bucket
+   */
+  @Override
+  public void deleteBucket(String bucketName) throws EdcException {
+    delegate.deleteBucket(bucketName);
+    cache.invalidateBucket(bucketName);
+    cache.putBucketExists(bucketName, false);
+  }
+
+  @Override
+  public S3ObjectMetadata statObject(String bucketName, String objectName) throws EdcException {
+    return cache.object(bucketName, objectName).orElseGet(() -> {
+      var metadata = invalidatingOnNoSuchBucket(bucketName,
+          () -> delegate.statObject(bucketName, objectName));
+      cache.putObject(bucketName, metadata);
+      return metadata;
+    });
+  }
+
+  @Override
+  public long getObjectSize(String bucketName, String objectName) {
+    return statObject(bucketName, objectName).size();
+  }
+
+  @Override
+  public void deleteObjects(String bucketName, List<String> keys) throws EdcException {
+    try {
+      invalidatingOnNoSuchBucket(bucketName, () -> delegate.deleteObjects(bucketName, keys));
+    } finally {
+      keys.forEach(key -> cache.invalidateObject(bucketName, key));
+    }
+  }
+
+  @Override
+  public void putObject(String bucketName, String objectName, InputStream inputStream) {
+    try {
+      invalidatingOnNoSuchBucket(bucketName,
+          () -> delegate.putObject(bucketName, objectName, inputStream));
+    } finally {
+      cache.invalidateObject(bucketName, objectName);
+    }
+  }
+
+  @Override
+  public String putObject(String bucketName, String objectName, InputStream inputStream,
+      long size, byte[] contentMd5) throws EdcException {
+    try {
+      return invalidatingOnNoSuchBucket(bucketName,
+          () -> delegate.putObject(bucketName, objectName, inputStream, size, contentMd5));
+    } finally {
+      cache.invalidateObject(bucketName, objectName);
+    }
+  }
+
+  @Override
+  public String completeMultipartUpload(String bucketName, String objectName, String uploadId,
+      List<S3CompletedPart> parts) throws EdcException {
+    try {
+      return invalidatingOnNoSuchBucket(bucketName,
+          () -> delegate.completeMultipartUpload(bucketName, objectName, uploadId, parts));
+    } finally {
+      cache.invalidateObject(bucketName, objectName);
+    }
+  }
+
+  @Override
+  public void copyObject(String sourceBucketName, String sourceObjectName, String bucketName,
+      String objectName, long size) throws EdcException {
+    try {
+      invalidatingOnNoSuchBucket(bucketName, () -> delegate.copyObject(sourceBucketName,
+          sourceObjectName, bucketName, objectName, size));
+    } finally {
+      cache.invalidateObject(bucketName, objectName);
+    }
+  }
+
+  @Override
+  public String createMultipartUpload(String bucketName, String objectName) throws EdcException {
+    return invalidatingOnNoSuchBucket(bucketName,
+        () -> delegate.createMultipartUpload(bucketName, objectName));
+  }
+
+  /**
+   * Runs a call on a bucket, forgetting the bucket when the call fails because it does not exist,
+   * so that a bucket deleted by another client is not reported to exist until the entry expires.
+   */
+  private <T> T invalidatingOnNoSuchBucket(String bucketName, Supplier<T> call) {
+    try {
+      return call.get();
+    } catch (EdcException e) {
+      if (NO_SUCH_BUCKET.equals(S3ErrorCodes.of(e))) {
+        cache.invalidateBucket(bucketName);
+      }
+      throw e;
+    }
+  }
+
+  private void invalidatingOnNoSuchBucket(String bucketName, Runnable call) {
+    invalidatingOnNoSuchBucket(bucketName, () -> {
+      call.run();
+      return null;
+    });
+  }
+}
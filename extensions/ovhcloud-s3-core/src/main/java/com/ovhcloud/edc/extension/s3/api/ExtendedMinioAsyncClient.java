@@ -0,0 +1,166 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import com.google.common.collect.HashMultimap;
+import io.minio.DeleteObjectsResponse;
+import io.minio.ListObjectsV2Response;
+import io.minio.MinioAsyncClient;
+import io.minio.errors.InsufficientDataException;
+import io.minio.errors.InternalException;
+import io.minio.errors.XmlParserException;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Part;
+import java.io.IOException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link MinioAsyncClient} exposing low level operations MinIO only uses internally: the
+ * multipart upload operations, which putObject uses to upload the parts one after the other, and
+ * the single page listing and deletion requests, which listObjects and removeObjects wrap in
+ * blocking iterators.
+ */
+class ExtendedMinioAsyncClient extends MinioAsyncClient {
+
+  ExtendedMinioAsyncClient(MinioAsyncClient client) {
+    super(client);
+  }
+
+  /**
+   * Initiates a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @return a future completed with the upload id
+   */
+  CompletableFuture<String> createMultipartUpload(String bucketName, String objectName)
+      throws InsufficientDataException, InternalException, InvalidKeyException, IOException,
+      NoSuchAlgorithmException, XmlParserException {
+    return createMultipartUploadAsync(bucketName, null, objectName, HashMultimap.create(),
+        HashMultimap.create())
+        .thenApply(response -> response.result().uploadId());
+  }
+
+  /**
+   * Uploads one part of a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the upload id
+   * @param partNumber the part number, starting at 1
+   * @param data       the part data
+   * @param length     the number of bytes of data to upload
+   * @param contentMd5 the MD5 digest of the data, null to send no Content-MD5
+   * @return a future completed with the ETag of the part
+   */
+  CompletableFuture<String> uploadPart(String bucketName, String objectName, String uploadId,
+      int partNumber, byte[] data, int length, byte[] contentMd5)
+      throws InsufficientDataException, InternalException, InvalidKeyException, IOException,
+      NoSuchAlgorithmException, XmlParserException {
+    HashMultimap<String, String> headers = HashMultimap.create();
+    contentMd5Header(contentMd5).forEach(headers::put);
+    return uploadPartAsync(bucketName, null, objectName, data, length, uploadId, partNumber,
+        headers, HashMultimap.create())
+        .thenApply(response -> response.etag());
+  }
+
+  /**
+   * Returns the Content-MD5 header of a request, with which the bucket rejects a body that does not
+   * match its digest.
+   *
+   * @param contentMd5 the MD5 digest of the body, null to send none
+   * @return the header, empty if no digest is sent
+   */
+  static Map<String, String> contentMd5Header(byte[] contentMd5) {
+    return contentMd5 == null ? Map.of()
+        : Map.of("Content-MD5", Base64.getEncoder().encodeToString(contentMd5));
+  }
+
+  /**
+   * Completes a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the upload id
+   * @param parts      the uploaded parts, ordered by part number
+   * @return a future completed with the ETag of the object
+   */
+  CompletableFuture<String> completeMultipartUpload(String bucketName, String objectName,
+      String uploadId, Part[] parts)
+      throws InsufficientDataException, InternalException, InvalidKeyException, IOException,
+      NoSuchAlgorithmException, XmlParserException {
+    return completeMultipartUploadAsync(bucketName, null, objectName, uploadId, parts,
+        HashMultimap.create(), HashMultimap.create())
+        .thenApply(response -> response.etag());
+  }
+
+  /**
+   * Aborts a multipart upload, discarding the parts already uploaded.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the upload id
+   * @return a future completed once the upload is aborted
+   */
+  CompletableFuture<Void> abortMultipartUpload(String bucketName, String objectName,
+      String uploadId)
+      throws InsufficientDataException, InternalException, InvalidKeyException, IOException,
+      NoSuchAlgorithmException, XmlParserException {
+    return abortMultipartUploadAsync(bucketName, null, objectName, uploadId,
+        HashMultimap.create(), HashMultimap.create())
+        .thenApply(response -> null);
+  }
+
+  /**
+   * Lists one page of the objects of a bucket, recursively.
+   *
+   * @param bucketName        the name of the bucket
+   * @param prefix            the prefix of the objects to list
+   * @param continuationToken the token returned by the previous page, null for the first page
+   * @param maxKeys           the maximum number of objects of the page
+   * @return a future completed with the page
+   */
+  CompletableFuture<ListObjectsV2Response> listObjectsPage(String bucketName, String prefix,
+      String continuationToken, int maxKeys)
+      throws InsufficientDataException, InternalException, InvalidKeyException, IOException,
+      NoSuchAlgorithmException, XmlParserException {
+    return listObjectsPage(bucketName, prefix, null, continuationToken, maxKeys);
+  }
+
+  /**
+   * Lists one page of the objects of a bucket. With a delimiter, the objects under the
+   * sub-prefixes ending with it are not listed, the sub-prefixes being returned instead.
+   *
+   * @param bucketName        the name of the bucket
+   * @param prefix            the prefix of the objects to list
+   * @param delimiter         the delimiter of the sub-prefixes, null to list recursively
+   * @param continuationToken the token returned by the previous page, null for the first page
+   * @param maxKeys           the maximum number of objects and sub-prefixes of the page
+   * @return a future completed with the page
+   */
+  CompletableFuture<ListObjectsV2Response> listObjectsPage(String bucketName, String prefix,
+      String delimiter, String continuationToken, int maxKeys)
+      throws InsufficientDataException, InternalException, InvalidKeyException, IOException,
+      NoSuchAlgorithmException, XmlParserException {
+    return listObjectsV2Async(bucketName, null, delimiter, null, null, maxKeys, prefix,
+        continuationToken, false, false, HashMultimap.create(), HashMultimap.create());
+  }
+
+  /**
+   * Deletes up to 1000 objects of a bucket with a single request.
+   *
+   * @param bucketName the name of the bucket
+   * @param objects    the objects to delete
+   * @return a future completed with the response, listing the objects which failed to be deleted
+   */
+  CompletableFuture<DeleteObjectsResponse> removeObjects(String bucketName,
+      List<DeleteObject> objects)
+      throws InsufficientDataException, InternalException, InvalidKeyException, IOException,
+      NoSuchAlgorithmException, XmlParserException {
+    return removeObjectsAsync(bucketName, null, objects, true, false, HashMultimap.create(),
+        HashMultimap.create());
+  }
+}
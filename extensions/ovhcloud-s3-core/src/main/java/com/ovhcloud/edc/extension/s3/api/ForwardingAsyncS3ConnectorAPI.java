@@ -0,0 +1,87 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An AsyncS3ConnectorAPI forwarding all its calls to another one. Decorators extend it and only
+ * override the methods they change.
+ */
+public abstract class ForwardingAsyncS3ConnectorAPI implements AsyncS3ConnectorAPI {
+
+  /**
+   * The client the calls are forwarded to.
+   */
+  protected final AsyncS3ConnectorAPI delegate;
+
+  /**
+   * Creates a ForwardingAsyncS3ConnectorAPI.
+   *
+   * @param delegate the client the calls are forwarded to
+   */
+  protected ForwardingAsyncS3ConnectorAPI(AsyncS3ConnectorAPI delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+  }
+
+  @Override
+  public CompletableFuture<Boolean> bucketExists(String bucketName) {
+    return delegate.bucketExists(bucketName);
+  }
+
+  @Override
+  public CompletableFuture<Void> createBucket(String bucketName) {
+    return delegate.createBucket(bucketName);
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteBucket(String bucketName) {
+    return delegate.deleteBucket(bucketName);
+  }
+
+  @Override
+  public CompletableFuture<List<String>> listObjects(String bucketName, String prefix) {
+    return delegate.listObjects(bucketName, prefix);
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteObjects(String bucketName, List<String> keys) {
+    return delegate.deleteObjects(bucketName, keys);
+  }
+
+  @Override
+  public CompletableFuture<InputStream> getObjectStream(String bucketName, String objectName) {
+    return delegate.getObjectStream(bucketName, objectName);
+  }
+
+  @Override
+  public CompletableFuture<String> putObject(String bucketName, String objectName, byte[] data,
+      int length, byte[] contentMd5) {
+    return delegate.putObject(bucketName, objectName, data, length, contentMd5);
+  }
+
+  @Override
+  public CompletableFuture<String> createMultipartUpload(String bucketName, String objectName) {
+    return delegate.createMultipartUpload(bucketName, objectName);
+  }
+
+  @Override
+  public CompletableFuture<String> uploadPart(String bucketName, String objectName,
+      String uploadId, int partNumber, byte[] data, int length, byte[] contentMd5) {
+    return delegate.uploadPart(bucketName, objectName, uploadId, partNumber, data, length,
+        contentMd5);
+  }
+
+  @Override
+  public CompletableFuture<String> completeMultipartUpload(String bucketName, String objectName,
+      String uploadId, List<S3CompletedPart> parts) {
+    return delegate.completeMultipartUpload(bucketName, objectName, uploadId, parts);
+  }
+
+  @Override
+  public CompletableFuture<Void> abortMultipartUpload(String bucketName, String objectName,
+      String uploadId) {
+    return delegate.abortMultipartUpload(bucketName, objectName, uploadId);
+  }
+}
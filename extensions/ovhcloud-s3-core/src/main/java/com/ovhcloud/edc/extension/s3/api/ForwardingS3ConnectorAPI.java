@@ -0,0 +1,140 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.eclipse.edc.spi.EdcException;
+
+/**
+ * A S3ConnectorAPI forwarding all its calls to another one. Decorators extend it and only override
+ * the methods they change.
+ */
+public abstract class ForwardingS3ConnectorAPI implements S3ConnectorAPI {
+
+  /**
+   * The client the calls are forwarded to.
+   */
+  protected final S3ConnectorAPI delegate;
+
+  /**
+   * Creates a ForwardingS3ConnectorAPI.
+   *
+   * @param delegate the client the calls are forwarded to
+   */
+  protected ForwardingS3ConnectorAPI(S3ConnectorAPI delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+  }
+
+  @Override
+  public boolean bucketExists(String bucketName) throws EdcException {
+    return delegate.bucketExists(bucketName);
+  }
+
+  @Override
+  public void createBucket(String bucketName) throws EdcException {
+    delegate.createBucket(bucketName);
+  }
+
+  @Override
+  public void deleteBucket(String bucketName) throws EdcException {
+    delegate.deleteBucket(bucketName);
+  }
+
+  @Override
+  public List<String> listObjects(String bucketName, String prefix) throws EdcException {
+    return delegate.listObjects(bucketName, prefix);
+  }
+
+  @Override
+  public List<S3ObjectMetadata> listObjectsWithMetadata(String bucketName, String prefix)
+      throws EdcException {
+    return delegate.listObjectsWithMetadata(bucketName, prefix);
+  }
+
+  @Override
+  public Stream<S3ObjectMetadata> streamObjects(String bucketName, String prefix,
+      S3ListingPageHook pageHook) throws EdcException {
+    return delegate.streamObjects(bucketName, prefix, pageHook);
+  }
+
+  @Override
+  public ByteArrayInputStream getObject(String bucketName, String objectName)
+      throws EdcException {
+    return delegate.getObject(bucketName, objectName);
+  }
+
+  @Override
+  public ByteArrayInputStream getObject(String bucketName, String objectName, long offset,
+      long size) throws EdcException {
+    return delegate.getObject(bucketName, objectName, offset, size);
+  }
+
+  @Override
+  public InputStream getObjectStream(String bucketName, String objectName) throws EdcException {
+    return delegate.getObjectStream(bucketName, objectName);
+  }
+
+  @Override
+  public InputStream getObjectStream(String bucketName, String objectName, long offset,
+      long size, String matchEtag) throws EdcException {
+    return delegate.getObjectStream(bucketName, objectName, offset, size, matchEtag);
+  }
+
+  @Override
+  public void deleteObjects(String bucketName, List<String> keys) throws EdcException {
+    delegate.deleteObjects(bucketName, keys);
+  }
+
+  @Override
+  public void putObject(String bucketName, String objectName, InputStream inputStream) {
+    delegate.putObject(bucketName, objectName, inputStream);
+  }
+
+  @Override
+  public String putObject(String bucketName, String objectName, InputStream inputStream,
+      long size, byte[] contentMd5) throws EdcException {
+    return delegate.putObject(bucketName, objectName, inputStream, size, contentMd5);
+  }
+
+  @Override
+  public String createMultipartUpload(String bucketName, String objectName) throws EdcException {
+    return delegate.createMultipartUpload(bucketName, objectName);
+  }
+
+  @Override
+  public String uploadPart(String bucketName, String objectName, String uploadId, int partNumber,
+      byte[] data, int length, byte[] contentMd5) throws EdcException {
+    return delegate.uploadPart(bucketName, objectName, uploadId, partNumber, data, length,
+        contentMd5);
+  }
+
+  @Override
+  public String completeMultipartUpload(String bucketName, String objectName, String uploadId,
+      List<S3CompletedPart> parts) throws EdcException {
+    return delegate.completeMultipartUpload(bucketName, objectName, uploadId, parts);
+  }
+
+  @Override
+  public void abortMultipartUpload(String bucketName, String objectName, String uploadId)
+      throws EdcException {
+    delegate.abortMultipartUpload(bucketName, objectName, uploadId);
+  }
+
+  @Override
+  public void copyObject(String sourceBucketName, String sourceObjectName, String bucketName,
+      String objectName, long size) throws EdcException {
+    delegate.copyObject(sourceBucketName, sourceObjectName, bucketName, objectName, size);
+  }
+
+  @Override
+  public S3ObjectMetadata statObject(String bucketName, String objectName) throws EdcException {
+    return delegate.statObject(bucketName, objectName);
+  }
+
+  @Override
+  public long getObjectSize(String bucketName, String objectName) {
+    return delegate.getObjectSize(bucketName, objectName);
+  }
+}
@@ -0,0 +1,124 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import com.ovhcloud.edc.extension.s3.utils.S3ErrorCodes;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * An AsyncS3ConnectorAPI recording the latency, the outcome and the transferred bytes of its
+ * requests in {@link S3Metrics}. A request is in flight until its future is completed.
+ */
+public class InstrumentedAsyncS3ConnectorAPI extends ForwardingAsyncS3ConnectorAPI {
+
+  private final S3Metrics metrics;
+
+  /**
+   * Creates an InstrumentedAsyncS3ConnectorAPI.
+   *
+   * @param delegate the client the calls are forwarded to
+   * @param metrics  the metrics recording the requests
+   */
+  public InstrumentedAsyncS3ConnectorAPI(AsyncS3ConnectorAPI delegate, S3Metrics metrics) {
+    super(delegate);
+    this.metrics = Objects.requireNonNull(metrics, "metrics must not be null");
+  }
+
+  @Override
+  public CompletableFuture<Boolean> bucketExists(String bucketName) {
+    return call("bucketExists", bucketName, () -> delegate.bucketExists(bucketName));
+  }
+
+  @Override
+  public CompletableFuture<Void> createBucket(String bucketName) {
+    return call("createBucket", bucketName, () -> delegate.createBucket(bucketName));
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteBucket(String bucketName) {
+    return call("deleteBucket", bucketName, () -> delegate.deleteBucket(bucketName));
+  }
+
+  @Override
+  public CompletableFuture<List<String>> listObjects(String bucketName, String prefix) {
+    return call("listObjects", bucketName, () -> delegate.listObjects(bucketName, prefix));
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteObjects(String bucketName, List<String> keys) {
+    return call("deleteObjects", bucketName, () -> delegate.deleteObjects(bucketName, keys));
+  }
+
+  @Override
+  public CompletableFuture<InputStream> getObjectStream(String bucketName, String objectName) {
+    return call("getObjectStream", bucketName,
+        () -> delegate.getObjectStream(bucketName, objectName))
+        .thenApply(inputStream -> new MeteredInputStream(inputStream,
+            bytes -> metrics.bytesIn(bucketName, bytes)));
+  }
+
+  @Override
+  public CompletableFuture<String> putObject(String bucketName, String objectName, byte[] data,
+      int length, byte[] contentMd5) {
+    return call("putObject", bucketName,
+        () -> delegate.putObject(bucketName, objectName, data, length, contentMd5))
+        .thenApply(etag -> {
+          metrics.bytesOut(bucketName, length);
+          return etag;
+        });
+  }
+
+  @Override
+  public CompletableFuture<String> createMultipartUpload(String bucketName, String objectName) {
+    return call("createMultipartUpload", bucketName,
+        () -> delegate.createMultipartUpload(bucketName, objectName));
+  }
+
+  @Override
+  public CompletableFuture<String> uploadPart(String bucketName, String objectName,
+      String uploadId, int partNumber, byte[] data, int length, byte[] contentMd5) {
+    return call("uploadPart", bucketName,
+        () -> delegate.uploadPart(bucketName, objectName, uploadId, partNumber, data, length,
+            contentMd5))
+        .thenApply(etag -> {
+          metrics.bytesOut(bucketName, length);
+          return etag;
+        });
+  }
+
+  @Override
+  public CompletableFuture<String> completeMultipartUpload(String bucketName, String objectName,
+      String uploadId, List<S3CompletedPart> parts) {
+    return call("completeMultipartUpload", bucketName,
+        () -> delegate.completeMultipartUpload(bucketName, objectName, uploadId, parts));
+  }
+
+  @Override
+  public CompletableFuture<Void> abortMultipartUpload(String bucketName, String objectName,
+      String uploadId) {
+    return call("abortMultipartUpload", bucketName,
+        () -> delegate.abortMultipartUpload(bucketName, objectName, uploadId));
+  }
+
+  private <T> CompletableFuture<T> call(String operation, String bucketName,
+      Supplier<CompletableFuture<T>> request) {
+    var sample = metrics.start(operation, bucketName);
+    CompletableFuture<T> future;
+    try {
+      future = request.get();
+    } catch (RuntimeException e) {
+      sample.failure(S3ErrorCodes.of(e));
+      throw e;
+    }
+
+    return future.whenComplete((result, failure) -> {
+      if (failure == null) {
+        sample.success();
+      } else {
+        sample.failure(S3ErrorCodes.of(failure));
+      }
+    });
+  }
+}
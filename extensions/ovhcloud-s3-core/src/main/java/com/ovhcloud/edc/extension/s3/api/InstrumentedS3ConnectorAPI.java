@@ -0,0 +1,212 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import com.ovhcloud.edc.extension.s3.utils.S3ErrorCodes;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.eclipse.edc.spi.EdcException;
+
+/**
+ * A S3ConnectorAPI recording the latency, the outcome and the transferred bytes of its requests in
+ * {@link S3Metrics}. The latency of the requests opening a stream is the time to receive the
+ * response headers; the bytes of the streams are recorded as they are read. Each page request of
+ * the streamed listings is recorded as a {@code listObjectsPage} request.
+ */
+public class InstrumentedS3ConnectorAPI extends ForwardingS3ConnectorAPI {
+
+  private final S3Metrics metrics;
+  private final S3ListingPageHook measuredPages = new S3ListingPageHook() {
+    @Override
+    public <T> CompletableFuture<T> page(String bucketName,
+        Supplier<CompletableFuture<T>> request) {
+      var sample = metrics.start("listObjectsPage", bucketName);
+      CompletableFuture<T> page;
+      try {
+        page = request.get();
+      } catch (RuntimeException e) {
+        sample.failure(S3ErrorCodes.of(e));
+        throw e;
+      }
+
+      return page.whenComplete((result, failure) -> {
+        if (failure == null) {
+          sample.success();
+        } else {
+          sample.failure(S3ErrorCodes.of(failure));
+        }
+      });
+    }
+  };
+
+  /**
+   * Creates an InstrumentedS3ConnectorAPI.
+   *
+   * @param delegate the client the calls are forwarded to
+   * @param metrics  the metrics recording the requests
+   */
+  public InstrumentedS3ConnectorAPI(S3ConnectorAPI delegate, S3Metrics metrics) {
+    super(delegate);
+    this.metrics = Objects.requireNonNull(metrics, "metrics must not be null");
+  }
+
+  @Override
+  public boolean bucketExists(String bucketName) throws EdcException {
+    return call("bucketExists", bucketName, () -> delegate.bucketExists(bucketName));
+  }
+
+  @Override
+  public void createBucket(String bucketName) throws EdcException {
+    run("createBucket", bucketName, () -> delegate.createBucket(bucketName));
+  }
+
+  @Override
+  public void deleteBucket(String bucketName) throws EdcException {
+    run("deleteBucket", bucketName, () -> delegate.deleteBucket(bucketName));
+  }
+
+  @Override
+  public List<String> listObjects(String bucketName, String prefix) throws EdcException {
+    return call("listObjects", bucketName, () -> delegate.listObjects(bucketName, prefix));
+  }
+
+  @Override
+  public List<S3ObjectMetadata> listObjectsWithMetadata(String bucketName, String prefix)
+      throws EdcException {
+    return call("listObjectsWithMetadata", bucketName,
+        () -> delegate.listObjectsWithMetadata(bucketName, prefix));
+  }
+
+  @Override
+  public Stream<S3ObjectMetadata> streamObjects(String bucketName, String prefix,
+      S3ListingPageHook pageHook) throws EdcException {
+    // The pages are requested as the stream is consumed: each one is measured
+    return delegate.streamObjects(bucketName, prefix, pageHook.andThen(measuredPages));
+  }
+
+  @Override
+  public ByteArrayInputStream getObject(String bucketName, String objectName)
+      throws EdcException {
+    var inputStream = call("getObject", bucketName,
+        () -> delegate.getObject(bucketName, objectName));
+    metrics.bytesIn(bucketName, inputStream.available());
+    return inputStream;
+  }
+
+  @Override
+  public ByteArrayInputStream getObject(String bucketName, String objectName, long offset,
+      long size) throws EdcException {
+    var inputStream = call("getObject", bucketName,
+        () -> delegate.getObject(bucketName, objectName, offset, size));
+    metrics.bytesIn(bucketName, inputStream.available());
+    return inputStream;
+  }
+
+  @Override
+  public InputStream getObjectStream(String bucketName, String objectName) throws EdcException {
+    var inputStream = call("getObjectStream", bucketName,
+        () -> delegate.getObjectStream(bucketName, objectName));
+    return new MeteredInputStream(inputStream, bytes -> metrics.bytesIn(bucketName, bytes));
+  }
+
+  @Override
+  public InputStream getObjectStream(String bucketName, String objectName, long offset,
+      long size, String matchEtag) throws EdcException {
+    var inputStream = call("getObjectStream", bucketName,
+        () -> delegate.getObjectStream(bucketName, objectName, offset, size, matchEtag));
+    return new MeteredInputStream(inputStream, bytes -> metrics.bytesIn(bucketName, bytes));
+  }
+
+  @Override
+  public void deleteObjects(String bucketName, List<String> keys) throws EdcException {
+    run("deleteObjects", bucketName, () -> delegate.deleteObjects(bucketName, keys));
+  }
+
+  @Override
+  public void putObject(String bucketName, String objectName, InputStream inputStream) {
+    var meteredInputStream = new MeteredInputStream(inputStream,
+        bytes -> metrics.bytesOut(bucketName, bytes));
+    run("putObject", bucketName,
+        () -> delegate.putObject(bucketName, objectName, meteredInputStream));
+  }
+
+  @Override
+  public String putObject(String bucketName, String objectName, InputStream inputStream,
+      long size, byte[] contentMd5) throws EdcException {
+    var meteredInputStream = new MeteredInputStream(inputStream,
+        bytes -> metrics.bytesOut(bucketName, bytes));
+    return call("putObject", bucketName,
+        () -> delegate.putObject(bucketName, objectName, meteredInputStream, size, contentMd5));
+  }
+
+  @Override
+  public String createMultipartUpload(String bucketName, String objectName) throws EdcException {
+    return call("createMultipartUpload", bucketName,
+        () -> delegate.createMultipartUpload(bucketName, objectName));
+  }
+
+  @Override
+  public String uploadPart(String bucketName, String objectName, String uploadId, int partNumber,
+      byte[] data, int length, byte[] contentMd5) throws EdcException {
+    var etag = call("uploadPart", bucketName,
+        () -> delegate.uploadPart(bucketName, objectName, uploadId, partNumber, data, length,
+            contentMd5));
+    metrics.bytesOut(bucketName, length);
+    return etag;
+  }
+
+  @Override
+  public String completeMultipartUpload(String bucketName, String objectName, String uploadId,
+      List<S3CompletedPart> parts) throws EdcException {
+    return call("completeMultipartUpload", bucketName,
+        () -> delegate.completeMultipartUpload(bucketName, objectName, uploadId, parts));
+  }
+
+  @Override
+  public void abortMultipartUpload(String bucketName, String objectName, String uploadId)
+      throws EdcException {
+    run("abortMultipartUpload", bucketName,
+        () -> delegate.abortMultipartUpload(bucketName, objectName, uploadId));
+  }
+
+  @Override
+  public void copyObject(String sourceBucketName, String sourceObjectName, String bucketName,
+      String objectName, long size) throws EdcException {
+    // The data is copied by the endpoint itself: no byte is transferred through the client
+    run("copyObject", bucketName, () -> delegate.copyObject(sourceBucketName, sourceObjectName,
+        bucketName, objectName, size));
+  }
+
+  @Override
+  public S3ObjectMetadata statObject(String bucketName, String objectName) throws EdcException {
+    return call("statObject", bucketName, () -> delegate.statObject(bucketName, objectName));
+  }
+
+  @Override
+  public long getObjectSize(String bucketName, String objectName) {
+    return call("getObjectSize", bucketName,
+        () -> delegate.getObjectSize(bucketName, objectName));
+  }
+
+  private <T> T call(String operation, String bucketName, Supplier<T> request) {
+    var sample = metrics.start(operation, bucketName);
+    try {
+      var result = request.get();
+      sample.success();
+      return result;
+    } catch (RuntimeException e) {
+      sample.failure(S3ErrorCodes.of(e));
+      throw e;
+    }
+  }
+
+  private void run(String operation, String bucketName, Runnable request) {
+    call(operation, bucketName, () -> {
+      request.run();
+      return null;
+    });
+  }
+}
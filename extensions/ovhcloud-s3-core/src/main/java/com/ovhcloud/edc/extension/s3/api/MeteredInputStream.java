@@ -0,0 +1,67 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+/**
+ * An InputStream reporting the number of bytes read, or skipped, from the stream it wraps as they
+ * are consumed.
+ */
+class MeteredInputStream extends FilterInputStream implements S3ObjectStream {
+
+  private final LongConsumer bytesConsumer;
+
+  MeteredInputStream(InputStream in, LongConsumer bytesConsumer) {
+    super(in);
+    this.bytesConsumer = bytesConsumer;
+  }
+
+  @Override
+  public int read() throws IOException {
+    var read = super.read();
+    if (read >= 0) {
+      bytesConsumer.accept(1);
+    }
+    return read;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    var read = super.read(b, off, len);
+    if (read > 0) {
+      bytesConsumer.accept(read);
+    }
+    return read;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    var skipped = super.skip(n);
+    if (skipped > 0) {
+      bytesConsumer.accept(skipped);
+    }
+    return skipped;
+  }
+
+  @Override
+  public S3ResponseHeaders responseHeaders() {
+    return S3ObjectStream.responseHeaders(in).orElse(null);
+  }
+
+  @Override
+  public boolean markSupported() {
+    // The bytes read again after a reset would be counted twice
+    return false;
+  }
+
+  @Override
+  public synchronized void mark(int readlimit) {
+  }
+
+  @Override
+  public synchronized void reset() throws IOException {
+    throw new IOException("mark/reset not supported");
+  }
+}
@@ -0,0 +1,111 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * An AsyncS3ConnectorAPI pacing its requests with a {@link S3RateLimiter}. The requests exceeding
+ * the limits are delayed without blocking the calling thread.
+ */
+public class RateLimitedAsyncS3ConnectorAPI extends ForwardingAsyncS3ConnectorAPI {
+
+  private final S3RateLimiter rateLimiter;
+
+  /**
+   * Creates a RateLimitedAsyncS3ConnectorAPI.
+   *
+   * @param delegate    the client the calls are forwarded to
+   * @param rateLimiter the rate limiter of the endpoint of the client
+   */
+  public RateLimitedAsyncS3ConnectorAPI(AsyncS3ConnectorAPI delegate,
+      S3RateLimiter rateLimiter) {
+    super(delegate);
+    this.rateLimiter = Objects.requireNonNull(rateLimiter, "rateLimiter must not be null");
+  }
+
+  @Override
+  public CompletableFuture<Boolean> bucketExists(String bucketName) {
+    return paced(bucketName, S3Operation.HEAD, 0, () -> delegate.bucketExists(bucketName));
+  }
+
+  @Override
+  public CompletableFuture<Void> createBucket(String bucketName) {
+    return paced(bucketName, S3Operation.PUT, 0, () -> delegate.createBucket(bucketName));
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteBucket(String bucketName) {
+    return paced(bucketName, S3Operation.DELETE, 0, () -> delegate.deleteBucket(bucketName));
+  }
+
+  @Override
+  public CompletableFuture<List<String>> listObjects(String bucketName, String prefix) {
+    return paced(bucketName, S3Operation.LIST, 0,
+        () -> delegate.listObjects(bucketName, prefix));
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteObjects(String bucketName, List<String> keys) {
+    return paced(bucketName, S3Operation.DELETE, 0,
+        () -> delegate.deleteObjects(bucketName, keys));
+  }
+
+  @Override
+  public CompletableFuture<InputStream> getObjectStream(String bucketName, String objectName) {
+    return paced(bucketName, S3Operation.GET, 0,
+        () -> delegate.getObjectStream(bucketName, objectName))
+        .thenApply(inputStream -> rateLimiter.limit(bucketName, inputStream));
+  }
+
+  @Override
+  public CompletableFuture<String> putObject(String bucketName, String objectName, byte[] data,
+      int length, byte[] contentMd5) {
+    return paced(bucketName, S3Operation.PUT, length,
+        () -> delegate.putObject(bucketName, objectName, data, length, contentMd5));
+  }
+
+  @Override
+  public CompletableFuture<String> createMultipartUpload(String bucketName, String objectName) {
+    return paced(bucketName, S3Operation.PUT, 0,
+        () -> delegate.createMultipartUpload(bucketName, objectName));
+  }
+
+  @Override
+  public CompletableFuture<String> uploadPart(String bucketName, String objectName,
+      String uploadId, int partNumber, byte[] data, int length, byte[] contentMd5) {
+    return paced(bucketName, S3Operation.PUT, length,
+        () -> delegate.uploadPart(bucketName, objectName, uploadId, partNumber, data, length,
+            contentMd5));
+  }
+
+  @Override
+  public CompletableFuture<String> completeMultipartUpload(String bucketName, String objectName,
+      String uploadId, List<S3CompletedPart> parts) {
+    return paced(bucketName, S3Operation.PUT, 0,
+        () -> delegate.completeMultipartUpload(bucketName, objectName, uploadId, parts));
+  }
+
+  @Override
+  public CompletableFuture<Void> abortMultipartUpload(String bucketName, String objectName,
+      String uploadId) {
+    return paced(bucketName, S3Operation.DELETE, 0,
+        () -> delegate.abortMultipartUpload(bucketName, objectName, uploadId));
+  }
+
+  private <T> CompletableFuture<T> paced(String bucketName, S3Operation operation, long bytes,
+      Supplier<CompletableFuture<T>> request) {
+    var delay = Math.max(rateLimiter.reserve(bucketName, operation),
+        rateLimiter.reserveBytes(bucketName, bytes));
+    if (delay <= 0) {
+      return request.get();
+    }
+
+    var delayedExecutor = CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS);
+    return CompletableFuture.runAsync(() -> {
+    }, delayedExecutor).thenCompose(ignored -> request.get());
+  }
+}
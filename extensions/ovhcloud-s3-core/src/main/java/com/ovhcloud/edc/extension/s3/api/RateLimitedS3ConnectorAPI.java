@@ -0,0 +1,186 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.eclipse.edc.spi.EdcException;
+
+/**
+ * A S3ConnectorAPI pacing its requests with a {@link S3RateLimiter}. The calling thread waits until
+ * the request fits in the limits; the bytes of the streams are paced as they are read. The page
+ * requests of the streamed listings are paced one by one, delayed without blocking the thread
+ * requesting them.
+ */
+public class RateLimitedS3ConnectorAPI extends ForwardingS3ConnectorAPI {
+
+  private final S3RateLimiter rateLimiter;
+  private final S3ListingPageHook pacedPages = new S3ListingPageHook() {
+    @Override
+    public <T> CompletableFuture<T> page(String bucketName,
+        Supplier<CompletableFuture<T>> request) {
+      var delay = rateLimiter.reserve(bucketName, S3Operation.LIST);
+      if (delay <= 0) {
+        return request.get();
+      }
+
+      var delayedExecutor = CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS);
+      return CompletableFuture.runAsync(() -> {
+      }, delayedExecutor).thenCompose(ignored -> request.get());
+    }
+  };
+
+  /**
+   * Creates a RateLimitedS3ConnectorAPI.
+   *
+   * @param delegate    the client the calls are forwarded to
+   * @param rateLimiter the rate limiter of the endpoint of the client
+   */
+  public RateLimitedS3ConnectorAPI(S3ConnectorAPI delegate, S3RateLimiter rateLimiter) {
+    super(delegate);
+    this.rateLimiter = Objects.requireNonNull(rateLimiter, "rateLimiter must not be null");
+  }
+
+  @Override
+  public boolean bucketExists(String bucketName) throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.HEAD);
+    return delegate.bucketExists(bucketName);
+  }
+
+  @Override
+  public void createBucket(String bucketName) throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.PUT);
+    delegate.createBucket(bucketName);
+  }
+
+  @Override
+  public void deleteBucket(String bucketName) throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.DELETE);
+    delegate.deleteBucket(bucketName);
+  }
+
+  @Override
+  public List<String> listObjects(String bucketName, String prefix) throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.LIST);
+    return delegate.listObjects(bucketName, prefix);
+  }
+
+  @Override
+  public List<S3ObjectMetadata> listObjectsWithMetadata(String bucketName, String prefix)
+      throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.LIST);
+    return delegate.listObjectsWithMetadata(bucketName, prefix);
+  }
+
+  @Override
+  public Stream<S3ObjectMetadata> streamObjects(String bucketName, String prefix,
+      S3ListingPageHook pageHook) throws EdcException {
+    // The pages are requested as the stream is consumed: each one is paced
+    return delegate.streamObjects(bucketName, prefix, pageHook.andThen(pacedPages));
+  }
+
+  @Override
+  public ByteArrayInputStream getObject(String bucketName, String objectName)
+      throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.GET);
+    var inputStream = delegate.getObject(bucketName, objectName);
+    // The size is only known once downloaded: the next transfers wait for it
+    rateLimiter.reserveBytes(bucketName, inputStream.available());
+    return inputStream;
+  }
+
+  @Override
+  public ByteArrayInputStream getObject(String bucketName, String objectName, long offset,
+      long size) throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.GET);
+    rateLimiter.acquireBytes(bucketName, size);
+    return delegate.getObject(bucketName, objectName, offset, size);
+  }
+
+  @Override
+  public InputStream getObjectStream(String bucketName, String objectName) throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.GET);
+    return rateLimiter.limit(bucketName, delegate.getObjectStream(bucketName, objectName));
+  }
+
+  @Override
+  public InputStream getObjectStream(String bucketName, String objectName, long offset,
+      long size, String matchEtag) throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.GET);
+    return rateLimiter.limit(bucketName,
+        delegate.getObjectStream(bucketName, objectName, offset, size, matchEtag));
+  }
+
+  @Override
+  public void deleteObjects(String bucketName, List<String> keys) throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.DELETE);
+    delegate.deleteObjects(bucketName, keys);
+  }
+
+  @Override
+  public void putObject(String bucketName, String objectName, InputStream inputStream) {
+    rateLimiter.acquire(bucketName, S3Operation.PUT);
+    delegate.putObject(bucketName, objectName, rateLimiter.limit(bucketName, inputStream));
+  }
+
+  @Override
+  public String putObject(String bucketName, String objectName, InputStream inputStream,
+      long size, byte[] contentMd5) throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.PUT);
+    return delegate.putObject(bucketName, objectName, rateLimiter.limit(bucketName, inputStream),
+        size, contentMd5);
+  }
+
+  @Override
+  public String createMultipartUpload(String bucketName, String objectName) throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.PUT);
+    return delegate.createMultipartUpload(bucketName, objectName);
+  }
+
+  @Override
+  public String uploadPart(String bucketName, String objectName, String uploadId, int partNumber,
+      byte[] data, int length, byte[] contentMd5) throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.PUT);
+    rateLimiter.acquireBytes(bucketName, length);
+    return delegate.uploadPart(bucketName, objectName, uploadId, partNumber, data, length,
+        contentMd5);
+  }
+
+  @Override
+  public String completeMultipartUpload(String bucketName, String objectName, String uploadId,
+      List<S3CompletedPart> parts) throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.PUT);
+    return delegate.completeMultipartUpload(bucketName, objectName, uploadId, parts);
+  }
+
+  @Override
+  public void abortMultipartUpload(String bucketName, String objectName, String uploadId)
+      throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.DELETE);
+    delegate.abortMultipartUpload(bucketName, objectName, uploadId);
+  }
+
+  @Override
+  public void copyObject(String sourceBucketName, String sourceObjectName, String bucketName,
+      String objectName, long size) throws EdcException {
+    // The data is copied by the endpoint itself: only the request is paced
+    rateLimiter.acquire(bucketName, S3Operation.PUT);
+    delegate.copyObject(sourceBucketName, sourceObjectName, bucketName, objectName, size);
+  }
+
+  @Override
+  public S3ObjectMetadata statObject(String bucketName, String objectName) throws EdcException {
+    rateLimiter.acquire(bucketName, S3Operation.HEAD);
+    return delegate.statObject(bucketName, objectName);
+  }
+
+  @Override
+  public long getObjectSize(String bucketName, String objectName) {
+    rateLimiter.acquire(bucketName, S3Operation.HEAD);
+    return delegate.getObjectSize(bucketName, objectName);
+  }
+}
@@ -0,0 +1,239 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import com.ovhcloud.edc.extension.s3.utils.S3RetryClassifier;
+import dev.failsafe.Failsafe;
+import dev.failsafe.FailsafeException;
+import dev.failsafe.RetryPolicy;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import org.eclipse.edc.spi.EdcException;
+
+/**
+ * An input stream reading an object, or a byte range of an object, which survives transient
+ * failures of the connection. It counts the bytes already delivered and, when a read fails, reopens
+ * the object with a range request starting at the first byte not delivered, following the retry
+ * policy. The data already read is never downloaded again. The retries are counted per read, so
+ * that a long transfer making progress is not failed by a few unrelated errors. The response
+ * headers it exposes are those of the first response.
+ * <p>
+ * The reopened ranges are pinned to the version of the object first read: they are requested with
+ * the ETag of the first response as If-Match, so that an object replaced during the read fails it
+ * with a 412 (PreconditionFailed) error, never retried, instead of mixing the data of two versions.
+ * A whole object is reopened up to the Content-Length of its first response.
+ * </p>
+ */
+class ResumableObjectInputStream extends InputStream implements S3ObjectStream {
+
+  private final S3ConnectorAPI client;
+  private final String bucketName;
+  private final String objectName;
+  private final RetryPolicy<Object> retryPolicy;
+  private final byte[] single = new byte[1];
+
+  private long position;
+  private long end;
+  private String etag;
+  private InputStream current;
+  private S3ResponseHeaders responseHeaders;
+  private boolean closed;
+
+  /**
+   * Creates a stream reading a whole object. Its size is only fetched if the stream has to be
+   * reopened and the first response did not announce it.
+   *
+   * @param client      the client the requests are sent with
+   * @param bucketName  the name of the bucket
+   * @param objectName  the name of the object
+   * @param retryPolicy the policy of the retries
+   */
+  ResumableObjectInputStream(S3ConnectorAPI client, String bucketName, String objectName,
+      RetryPolicy<Object> retryPolicy) {
+    this(client, bucketName, objectName, 0, -1, null, retryPolicy);
+  }
+
+  /**
+   * Creates a stream reading a byte range of whatever version of an object is first read.
+   *
+   * @param client      the client the requests are sent with
+   * @param bucketName  the name of the bucket
+   * @param objectName  the name of the object
+   * @param offset      the offset of the range
+   * @param size        the size of the range, a negative value to read up to the end of the object
+   * @param retryPolicy the policy of the retries
+   */
+  ResumableObjectInputStream(S3ConnectorAPI client, String bucketName, String objectName,
+      long offset, long size, RetryPolicy<Object> retryPolicy) {
+    this(client, bucketName, objectName, offset, size, null, retryPolicy);
+  }
+
+  /**
+   * Creates a stream reading a byte range of an object.
+   *
+   * @param client      the client the requests are sent with
+   * @param bucketName  the name of the bucket
+   * @param objectName  the name of the object
+   * @param offset      the offset of the range
+   * @param size        the size of the range, a negative value to read up to the end of the object
+   * @param matchEtag   the ETag the object must have, null to pin the version first read
+   * @param retryPolicy the policy of the retries
+   */
+  ResumableObjectInputStream(S3ConnectorAPI client, String bucketName, String objectName,
+      long offset, long size, String matchEtag, RetryPolicy<Object> retryPolicy) {
+    this.client = Objects.requireNonNull(client, "client must not be null");
+    this.bucketName = bucketName;
+    this.objectName = objectName;
+    this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy must not be null");
+    this.position = offset;
+    this.end = size < 0 ? -1 : offset + size;
+    this.etag = matchEtag;
+  }
+
+  @Override
+  public int read() throws IOException {
+    var read = read(single, 0, 1);
+    return read == -1 ? -1 : single[0] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    if (closed) {
+      throw new IOException("Stream is closed");
+    }
+    if (len == 0) {
+      return 0;
+    }
+
+    try {
+      return Failsafe.with(retryPolicy).get(() -> readOnce(b, off, len));
+    } catch (FailsafeException e) {
+      throw e.getCause() instanceof IOException ioException ? ioException
+          : new IOException(e.getCause());
+    } catch (EdcException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public int available() throws IOException {
+    return current == null ? 0 : current.available();
+  }
+
+  @Override
+  public S3ResponseHeaders responseHeaders() {
+    return responseHeaders;
+  }
+
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    if (current != null) {
+      current.close();
+      current = null;
+    }
+  }
+
+  /**
+   * Opens the first connection, so that a missing object or a denied access is reported by the
+   * call opening the stream rather than by its first read.
+   *
+   * @return this stream
+   * @throws EdcException if the object cannot be opened
+   */
+  ResumableObjectInputStream connect() throws EdcException {
+    current = Failsafe.with(retryPolicy).get(this::openRange);
+    return this;
+  }
+
+  /**
+   * Returns the offset in the object of the next byte read.
+   *
+   * @return the offset of the next byte
+   */
+  long position() {
+    return position;
+  }
+
+  private int readOnce(byte[] b, int off, int len) throws IOException {
+    if (end >= 0 && position >= end) {
+      return -1;
+    }
+    if (current == null) {
+      current = openRange();
+    }
+
+    int read;
+    try {
+      read = current.read(b, off, len);
+    } catch (IOException e) {
+      discardCurrent();
+      throw e;
+    }
+
+    if (read == -1) {
+      if (end >= 0 && position < end) {
+        discardCurrent();
+        throw new EOFException(String.format("Response for %s ended at %d instead of %d",
+            objectName, position, end));
+      }
+      return -1;
+    }
+
+    position += read;
+    return read;
+  }
+
+  private InputStream openRange() {
+    if (position == 0 && end < 0 && etag == null) {
+      // Nothing delivered yet: whatever version is read becomes the pinned one
+      responseHeaders = null;
+      return opened(client.getObjectStream(bucketName, objectName));
+    }
+
+    if (end < 0) {
+      // Reopening a whole object: the range must be bounded
+      if (responseHeaders != null && responseHeaders.contentLength() >= 0) {
+        end = responseHeaders.contentLength();
+      } else {
+        var metadata = client.statObject(bucketName, objectName);
+        end = metadata.size();
+        etag = etag == null ? metadata.etag() : etag;
+      }
+      if (position >= end) {
+        return InputStream.nullInputStream();
+      }
+    }
+
+    try {
+      return opened(client.getObjectStream(bucketName, objectName, position, end - position,
+          etag));
+    } catch (EdcException e) {
+      if (S3RetryClassifier.isPreconditionFailed(e)) {
+        throw new EdcException(String.format("Object %s changed while it was read, at offset %d",
+            objectName, position), e);
+      }
+      throw e;
+    }
+  }
+
+  private InputStream opened(InputStream inputStream) {
+    if (responseHeaders == null) {
+      responseHeaders = S3ObjectStream.responseHeaders(inputStream).orElse(null);
+      if (etag == null && responseHeaders != null) {
+        etag = responseHeaders.etag();
+      }
+    }
+    return inputStream;
+  }
+
+  private void discardCurrent() {
+    try {
+      current.close();
+    } catch (IOException ignored) {
+      // the connection is already broken
+    }
+    current = null;
+  }
+}
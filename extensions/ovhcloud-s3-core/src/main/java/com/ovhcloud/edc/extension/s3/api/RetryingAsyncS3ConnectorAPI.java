@@ -0,0 +1,43 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import dev.failsafe.Failsafe;
+import dev.failsafe.RetryPolicy;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An AsyncS3ConnectorAPI retrying the writes of the data held in an array when they fail with a
+ * transient error: each attempt sends the array again from the start. The retries are delayed
+ * without blocking the calling thread.
+ */
+public class RetryingAsyncS3ConnectorAPI extends ForwardingAsyncS3ConnectorAPI {
+
+  private final RetryPolicy<Object> retryPolicy;
+
+  /**
+   * Creates a RetryingAsyncS3ConnectorAPI.
+   *
+   * @param delegate    the client the calls are forwarded to
+   * @param retryPolicy the policy of the retries, which should only handle transient failures
+   */
+  public RetryingAsyncS3ConnectorAPI(AsyncS3ConnectorAPI delegate,
+      RetryPolicy<Object> retryPolicy) {
+    super(delegate);
+    this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy must not be null");
+  }
+
+  @Override
+  public CompletableFuture<String> putObject(String bucketName, String objectName, byte[] data,
+      int length, byte[] contentMd5) {
+    return Failsafe.with(retryPolicy)
+        .getStageAsync(() -> delegate.putObject(bucketName, objectName, data, length, contentMd5));
+  }
+
+  @Override
+  public CompletableFuture<String> uploadPart(String bucketName, String objectName,
+      String uploadId, int partNumber, byte[] data, int length, byte[] contentMd5) {
+    // The part is read from its array by each attempt: uploading it again replaces it
+    return Failsafe.with(retryPolicy).getStageAsync(() -> delegate.uploadPart(bucketName,
+        objectName, uploadId, partNumber, data, length, contentMd5));
+  }
+}
@@ -0,0 +1,90 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import dev.failsafe.Failsafe;
+import dev.failsafe.RetryPolicy;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Objects;
+import org.eclipse.edc.spi.EdcException;
+
+/**
+ * A S3ConnectorAPI retrying the reads failing with a transient error. The streams it opens resume
+ * from the last byte delivered when their connection fails, instead of failing the transfer. The
+ * writes are only retried when their data is held in memory, in a {@link ByteArrayInputStream} or
+ * an array, so that each attempt sends it again from the start: the other streams are consumed by
+ * the failed attempt.
+ */
+public class RetryingS3ConnectorAPI extends ForwardingS3ConnectorAPI {
+
+  private final RetryPolicy<Object> retryPolicy;
+
+  /**
+   * Creates a RetryingS3ConnectorAPI.
+   *
+   * @param delegate    the client the calls are forwarded to
+   * @param retryPolicy the policy of the retries, which should only handle transient failures
+   */
+  public RetryingS3ConnectorAPI(S3ConnectorAPI delegate, RetryPolicy<Object> retryPolicy) {
+    super(delegate);
+    this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy must not be null");
+  }
+
+  @Override
+  public ByteArrayInputStream getObject(String bucketName, String objectName)
+      throws EdcException {
+    return Failsafe.with(retryPolicy).get(() -> delegate.getObject(bucketName, objectName));
+  }
+
+  @Override
+  public ByteArrayInputStream getObject(String bucketName, String objectName, long offset,
+      long size) throws EdcException {
+    return Failsafe.with(retryPolicy)
+        .get(() -> delegate.getObject(bucketName, objectName, offset, size));
+  }
+
+  @Override
+  public InputStream getObjectStream(String bucketName, String objectName) throws EdcException {
+    return new ResumableObjectInputStream(delegate, bucketName, objectName, retryPolicy)
+        .connect();
+  }
+
+  @Override
+  public InputStream getObjectStream(String bucketName, String objectName, long offset,
+      long size, String matchEtag) throws EdcException {
+    return new ResumableObjectInputStream(delegate, bucketName, objectName, offset, size,
+        matchEtag, retryPolicy).connect();
+  }
+
+  @Override
+  public S3ObjectMetadata statObject(String bucketName, String objectName) throws EdcException {
+    return Failsafe.with(retryPolicy).get(() -> delegate.statObject(bucketName, objectName));
+  }
+
+  @Override
+  public long getObjectSize(String bucketName, String objectName) {
+    return Failsafe.with(retryPolicy).get(() -> delegate.getObjectSize(bucketName, objectName));
+  }
+
+  @Override
+  public String putObject(String bucketName, String objectName, InputStream inputStream,
+      long size, byte[] contentMd5) throws EdcException {
+    if (size < 0 || !(inputStream instanceof ByteArrayInputStream bytes)) {
+      return delegate.putObject(bucketName, objectName, inputStream, size, contentMd5);
+    }
+
+    // Already in memory: each attempt reads it again from the current position
+    bytes.mark(0);
+    return Failsafe.with(retryPolicy).get(() -> {
+      bytes.reset();
+      return delegate.putObject(bucketName, objectName, bytes, size, contentMd5);
+    });
+  }
+
+  @Override
+  public String uploadPart(String bucketName, String objectName, String uploadId, int partNumber,
+      byte[] data, int length, byte[] contentMd5) throws EdcException {
+    // The part is read from its array by each attempt: uploading it again replaces it
+    return Failsafe.with(retryPolicy).get(() -> delegate.uploadPart(bucketName, objectName,
+        uploadId, partNumber, data, length, contentMd5));
+  }
+}
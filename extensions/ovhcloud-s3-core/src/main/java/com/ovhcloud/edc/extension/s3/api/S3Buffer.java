@@ -0,0 +1,45 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+/**
+ * A buffer acquired from a {@link S3BufferPool}. Its array may be larger than its size, only the
+ * first {@link #size()} bytes are meant to be used. Closing the buffer gives its array back to the
+ * pool: neither the buffer nor its array must be used afterwards.
+ */
+public final class S3Buffer implements AutoCloseable {
+
+  private final byte[] array;
+  private final int size;
+  private final S3BufferPool.Lease lease;
+
+  S3Buffer(byte[] array, int size, S3BufferPool.Lease lease) {
+    this.array = array;
+    this.size = size;
+    this.lease = lease;
+  }
+
+  /**
+   * Returns the array of the buffer.
+   *
+   * @return the array, at least as long as the size of the buffer
+   */
+  public byte[] array() {
+    return array;
+  }
+
+  /**
+   * Returns the number of bytes the buffer was acquired for.
+   *
+   * @return the size of the buffer
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Releases the buffer. Releasing it again has no effect.
+   */
+  @Override
+  public void close() {
+    lease.release();
+  }
+}
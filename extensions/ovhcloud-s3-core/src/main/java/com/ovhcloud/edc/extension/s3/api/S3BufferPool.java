@@ -0,0 +1,216 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.lang.ref.Cleaner;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+/**
+ * A pool of the buffers holding the chunks of the transfers, so that the chunks of several
+ * megabytes downloaded and uploaded concurrently reuse the same arrays instead of being allocated
+ * for each chunk, which fills the old generation and triggers full collections.
+ * <p>
+ * The buffers are grouped by size class: powers of two from 64KB to 1MB, then multiples of 1MB.
+ * The arrays owned by the pool, whether in use or free, are bounded by a hard cap. When it is
+ * reached, the free arrays of other size classes are dropped to make room, and if that is not
+ * enough, the buffer is allocated outside of the pool and dropped once released. Allocations are
+ * reported to the {@link S3Metrics}. A buffer garbage collected without having been released is
+ * reported as a leak, and its share of the cap is given back.
+ * </p>
+ */
+public class S3BufferPool {
+
+  /**
+   * Smallest size class: 64KB.
+   */
+  static final int MIN_SIZE_CLASS = 64 * 1024;
+
+  /**
+   * Step of the size classes above 1MB.
+   */
+  static final int LARGE_SIZE_CLASS_STEP = 1024 * 1024;
+
+  private static final Cleaner CLEANER = Cleaner.create();
+  private static final S3BufferPool UNPOOLED = new S3BufferPool(0, S3Metrics.noop(), null);
+
+  private final long maxPooledBytes;
+  private final S3Metrics metrics;
+  private final Monitor monitor;
+  private final Map<Integer, Deque<byte[]>> freeBuffers = new ConcurrentHashMap<>();
+  private final AtomicLong pooledBytes = new AtomicLong();
+
+  /**
+   * Creates a S3BufferPool.
+   *
+   * @param maxPooledBytes the maximum number of bytes of the arrays owned by the pool, 0 to
+   *                       allocate every buffer
+   * @param metrics        the metrics the allocations and leaks are reported to
+   * @param monitor        the monitor the leaks are reported to, may be null
+   */
+  public S3BufferPool(long maxPooledBytes, S3Metrics metrics, Monitor monitor) {
+    if (maxPooledBytes < 0) {
+      throw new IllegalArgumentException("maxPooledBytes must not be negative");
+    }
+
+    this.maxPooledBytes = maxPooledBytes;
+    this.metrics = Objects.requireNonNull(metrics, "metrics must not be null");
+    this.monitor = monitor;
+  }
+
+  /**
+   * Returns a pool keeping no buffer: each buffer is allocated, and dropped once released.
+   *
+   * @return the pool keeping no buffer
+   */
+  public static S3BufferPool unpooled() {
+    return UNPOOLED;
+  }
+
+  /**
+   * Acquires a buffer, reusing a free array of its size class if any. The buffer must be released
+   * by closing it, and not used afterwards.
+   *
+   * @param size the number of bytes the buffer must hold
+   * @return the buffer, whose array may be larger than the requested size
+   */
+  public S3Buffer acquire(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("size must not be negative");
+    }
+
+    var capacity = sizeClass(size);
+    var array = Optional.ofNullable(freeBuffers.get(capacity)).map(Deque::poll).orElse(null);
+    var pooled = true;
+    if (array == null) {
+      pooled = reserve(capacity);
+      array = new byte[capacity];
+      metrics.bufferAllocated(capacity, pooled);
+    }
+
+    var lease = new Lease(this, array, pooled);
+    var buffer = new S3Buffer(array, size, lease);
+    lease.cleanable = CLEANER.register(buffer, lease);
+    return buffer;
+  }
+
+  /**
+   * Returns the number of bytes of the arrays owned by the pool, whether in use or free.
+   *
+   * @return the number of pooled bytes
+   */
+  public long pooledBytes() {
+    return pooledBytes.get();
+  }
+
+  static int sizeClass(int size) {
+    if (size <= MIN_SIZE_CLASS) {
+      return MIN_SIZE_CLASS;
+    }
+    if (size <= LARGE_SIZE_CLASS_STEP) {
+      return Integer.highestOneBit(size - 1) << 1;
+    }
+    return (int) Math.min(Integer.MAX_VALUE - 8,
+        ((long) size + LARGE_SIZE_CLASS_STEP - 1) / LARGE_SIZE_CLASS_STEP * LARGE_SIZE_CLASS_STEP);
+  }
+
+  /**
+   * Reserves room for a new array in the pool, dropping free arrays if needed.
+   *
+   * @return false if the array cannot be pooled
+   */
+  private boolean reserve(int capacity) {
+    if (capacity > maxPooledBytes) {
+      return false;
+    }
+
+    while (true) {
+      var pooled = pooledBytes.get();
+      if (pooled + capacity <= maxPooledBytes) {
+        if (pooledBytes.compareAndSet(pooled, pooled + capacity)) {
+          return true;
+        }
+      } else if (!dropFreeBuffer()) {
+        return false;
+      }
+    }
+  }
+
+  private boolean dropFreeBuffer() {
+    for (var buffers : freeBuffers.values()) {
+      var array = buffers.poll();
+      if (array != null) {
+        pooledBytes.addAndGet(-array.length);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void release(byte[] array, boolean pooled) {
+    if (pooled) {
+      freeBuffers.computeIfAbsent(array.length, key -> new ConcurrentLinkedDeque<>()).push(array);
+    }
+  }
+
+  private void leaked(int capacity, boolean pooled) {
+    if (pooled) {
+      pooledBytes.addAndGet(-capacity);
+    }
+    metrics.bufferLeaked(capacity);
+    Optional.ofNullable(monitor).ifPresent(m -> m.warning(String.format(
+        "A S3 transfer buffer of %d bytes was garbage collected without being released",
+        capacity)));
+  }
+
+  /**
+   * The state of an acquired buffer, run by the cleaner when the buffer is released or garbage
+   * collected. It must not reference the buffer, otherwise the buffer would never be collected.
+   */
+  static final class Lease implements Runnable {
+
+    private final S3BufferPool pool;
+    private final int capacity;
+    private final boolean pooled;
+    private byte[] array;
+    private boolean released;
+    private Cleaner.Cleanable cleanable;
+
+    private Lease(S3BufferPool pool, byte[] array, boolean pooled) {
+      this.pool = pool;
+      this.array = array;
+      this.capacity = array.length;
+      this.pooled = pooled;
+    }
+
+    void release() {
+      synchronized (this) {
+        if (released) {
+          return;
+        }
+        released = true;
+      }
+      cleanable.clean();
+    }
+
+    @Override
+    public void run() {
+      boolean leaked;
+      synchronized (this) {
+        leaked = !released;
+        released = true;
+      }
+
+      if (leaked) {
+        pool.leaked(capacity, pooled);
+      } else {
+        pool.release(array, pooled);
+      }
+      array = null;
+    }
+  }
+}
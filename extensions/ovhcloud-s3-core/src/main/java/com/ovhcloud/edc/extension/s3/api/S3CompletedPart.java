@@ -0,0 +1,11 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+/**
+ * A part of a multipart upload that has been uploaded to an OVHcloud S3 bucket.
+ *
+ * @param partNumber the number of the part, starting at 1
+ * @param etag       the ETag returned by the bucket when the part was uploaded
+ */
+public record S3CompletedPart(int partNumber, String etag) {
+
+}
@@ -5,6 +5,7 @@ import org.eclipse.edc.spi.EdcException;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * This interface provides methods for interacting with OVHcloud S3 buckets.
@@ -48,6 +49,50 @@ public interface S3ConnectorAPI {
    */
   List<String> listObjects(String bucketName, String prefix) throws EdcException;
 
+  /**
+   * Lists the objects in a bucket that match a given prefix, with their metadata. The metadata is
+   * part of the listing response: no additional request is sent per object.
+   *
+   * @param bucketName the name of the bucket
+   * @param prefix     the prefix to match against object names
+   * @return the metadata of the objects that match the prefix
+   * @throws EdcException if there is an error listing the objects in the bucket
+   */
+  List<S3ObjectMetadata> listObjectsWithMetadata(String bucketName, String prefix)
+      throws EdcException;
+
+  /**
+   * Lists the objects of a bucket whose name starts with a prefix, as a lazy stream. Unlike
+   * {@link #listObjectsWithMetadata(String, String)}, the listing is not materialized in memory:
+   * its pages are requested as the stream is consumed, the next page being fetched in background
+   * while the current one is processed. The stream must be closed when it is not fully consumed.
+   *
+   * @param bucketName the name of the bucket
+   * @param prefix     the prefix of the objects to list
+   * @return a stream of the metadata of the objects
+   * @throws EdcException if there is an error listing the objects in the bucket, possibly while
+   *                      consuming the stream
+   */
+  default Stream<S3ObjectMetadata> streamObjects(String bucketName, String prefix)
+      throws EdcException {
+    return streamObjects(bucketName, prefix, S3ListingPageHook.none());
+  }
+
+  /**
+   * Lists the objects of a bucket whose name starts with a prefix, as a lazy stream, sending each
+   * page request through a hook. The decorators of a client act on every page request through the
+   * hook, rather than once per listing.
+   *
+   * @param bucketName the name of the bucket
+   * @param prefix     the prefix of the objects to list
+   * @param pageHook   the hook sending the page requests
+   * @return a stream of the metadata of the objects
+   * @throws EdcException if there is an error listing the objects in the bucket, possibly while
+   *                      consuming the stream
+   */
+  Stream<S3ObjectMetadata> streamObjects(String bucketName, String prefix,
+      S3ListingPageHook pageHook) throws EdcException;
+
   /**
    * Retrieves an object from a bucket.
    *
@@ -71,6 +116,55 @@ public interface S3ConnectorAPI {
   ByteArrayInputStream getObject(String bucketName, String objectName, long offset, long size)
       throws EdcException;
 
+  /**
+   * Opens a stream on an object of a bucket. Unlike {@link #getObject(String, String)}, the object
+   * data is not buffered in memory: the returned stream reads directly from the HTTP response and
+   * must be closed by the caller to release the underlying connection. The headers of the response
+   * are exposed by the stream as a {@link S3ObjectStream}.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object to retrieve
+   * @return an InputStream reading the object data
+   * @throws EdcException if there is an error retrieving the object from the bucket
+   */
+  InputStream getObjectStream(String bucketName, String objectName) throws EdcException;
+
+  /**
+   * Opens a stream on a byte range of an object of a bucket. The object data is not buffered in
+   * memory and the returned stream must be closed by the caller to release the underlying
+   * connection. The headers of the response are exposed by the stream as a
+   * {@link S3ObjectStream}.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object to retrieve
+   * @param offset     the offset in the object to start reading from
+   * @param size       the number of bytes to read from the object
+   * @return an InputStream reading the requested range of the object data
+   * @throws EdcException if there is an error retrieving the object from the bucket
+   */
+  default InputStream getObjectStream(String bucketName, String objectName, long offset,
+      long size) throws EdcException {
+    return getObjectStream(bucketName, objectName, offset, size, null);
+  }
+
+  /**
+   * Opens a stream on a byte range of an object of a bucket, only if the object still has the
+   * given ETag. A range read again after a failure is thus read from the same version of the
+   * object as the data already delivered: if the object was replaced in between, the request fails
+   * with a 412 (PreconditionFailed) error, which is not worth retrying.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object to retrieve
+   * @param offset     the offset in the object to start reading from
+   * @param size       the number of bytes to read from the object
+   * @param matchEtag  the ETag the object must have, without the surrounding quotes, null to read
+   *                   whatever version of the object
+   * @return an InputStream reading the requested range of the object data
+   * @throws EdcException if there is an error retrieving the object from the bucket
+   */
+  InputStream getObjectStream(String bucketName, String objectName, long offset, long size,
+      String matchEtag) throws EdcException;
+
   /**
    * Delete objects from a bucket
    *
@@ -89,6 +183,130 @@ public interface S3ConnectorAPI {
    */
   void putObject(String bucketName, String objectName, InputStream inputStream);
 
+  /**
+   * Put an object of a known size into a bucket with a single request.
+   *
+   * @param bucketName  the name of the bucket
+   * @param objectName  the name of the object
+   * @param inputStream the input stream to read the object data from
+   * @param size        the number of bytes to read from the input stream
+   * @return the ETag of the object
+   * @throws EdcException if there is an error putting the object into the bucket
+   */
+  default String putObject(String bucketName, String objectName, InputStream inputStream,
+      long size) throws EdcException {
+    return putObject(bucketName, objectName, inputStream, size, null);
+  }
+
+  /**
+   * Put an object of a known size into a bucket with a single request, the bucket checking that
+   * the data it receives matches its MD5 digest.
+   *
+   * @param bucketName  the name of the bucket
+   * @param objectName  the name of the object
+   * @param inputStream the input stream to read the object data from
+   * @param size        the number of bytes to read from the input stream
+   * @param contentMd5  the MD5 digest of the data, sent as Content-MD5, null to send none
+   * @return the ETag of the object
+   * @throws EdcException if there is an error putting the object into the bucket, or if the data
+   *                      does not match its digest
+   */
+  String putObject(String bucketName, String objectName, InputStream inputStream, long size,
+      byte[] contentMd5) throws EdcException;
+
+  /**
+   * Initiates a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @return the id of the multipart upload
+   * @throws EdcException if there is an error initiating the multipart upload
+   */
+  String createMultipartUpload(String bucketName, String objectName) throws EdcException;
+
+  /**
+   * Uploads a part of a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the id of the multipart upload
+   * @param partNumber the number of the part, starting at 1
+   * @param data       the part data
+   * @param length     the number of bytes of data to upload
+   * @return the ETag of the uploaded part
+   * @throws EdcException if there is an error uploading the part
+   */
+  default String uploadPart(String bucketName, String objectName, String uploadId,
+      int partNumber, byte[] data, int length) throws EdcException {
+    return uploadPart(bucketName, objectName, uploadId, partNumber, data, length, null);
+  }
+
+  /**
+   * Uploads a part of a multipart upload, the bucket checking that the data it receives matches
+   * its MD5 digest.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the id of the multipart upload
+   * @param partNumber the number of the part, starting at 1
+   * @param data       the part data
+   * @param length     the number of bytes of data to upload
+   * @param contentMd5 the MD5 digest of the data, sent as Content-MD5, null to send none
+   * @return the ETag of the uploaded part
+   * @throws EdcException if there is an error uploading the part, or if the data does not match
+   *                      its digest
+   */
+  String uploadPart(String bucketName, String objectName, String uploadId, int partNumber,
+      byte[] data, int length, byte[] contentMd5) throws EdcException;
+
+  /**
+   * Completes a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the id of the multipart upload
+   * @param parts      the uploaded parts
+   * @return the ETag of the object
+   * @throws EdcException if there is an error completing the multipart upload
+   */
+  String completeMultipartUpload(String bucketName, String objectName, String uploadId,
+      List<S3CompletedPart> parts) throws EdcException;
+
+  /**
+   * Aborts a multipart upload and discards the parts already uploaded.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the id of the multipart upload
+   * @throws EdcException if there is an error aborting the multipart upload
+   */
+  void abortMultipartUpload(String bucketName, String objectName, String uploadId)
+      throws EdcException;
+
+  /**
+   * Copies an object server-side: the data is not transferred through the client. Objects larger
+   * than 5GB are copied by a multipart upload of ranges of the source object.
+   *
+   * @param sourceBucketName the name of the bucket of the source object
+   * @param sourceObjectName the name of the source object
+   * @param bucketName       the name of the destination bucket
+   * @param objectName       the name of the destination object
+   * @param size             the size of the source object
+   * @throws EdcException if there is an error copying the object
+   */
+  void copyObject(String sourceBucketName, String sourceObjectName, String bucketName,
+      String objectName, long size) throws EdcException;
+
+  /**
+   * Get the metadata of an object in a bucket, without reading its data.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @return the metadata of the object
+   * @throws EdcException if the object does not exist or there is an error reading its metadata
+   */
+  S3ObjectMetadata statObject(String bucketName, String objectName) throws EdcException;
+
   /**
    * Get the size of an object in a bucket
    *
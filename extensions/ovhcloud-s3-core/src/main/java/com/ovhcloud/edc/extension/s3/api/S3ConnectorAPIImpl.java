@@ -1,9 +1,16 @@
 package com.ovhcloud.edc.extension.s3.api;
 
+import com.ovhcloud.edc.extension.s3.utils.PrefetchingIterator;
+import com.ovhcloud.edc.extension.s3.utils.S3ErrorCodes;
 import io.minio.BucketExistsArgs;
+import io.minio.ComposeObjectArgs;
+import io.minio.ComposeSource;
+import io.minio.CopyObjectArgs;
+import io.minio.CopySource;
 import io.minio.GetObjectArgs;
 import io.minio.ListObjectsArgs;
 import io.minio.MakeBucketArgs;
+import io.minio.MinioAsyncClient;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveBucketArgs;
@@ -20,14 +27,27 @@ import io.minio.errors.XmlParserException;
 import io.minio.messages.DeleteError;
 import io.minio.messages.DeleteObject;
 import io.minio.messages.Item;
+import io.minio.messages.Part;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -39,11 +59,89 @@ import org.eclipse.edc.spi.monitor.Monitor;
 public class S3ConnectorAPIImpl implements S3ConnectorAPI {
 
   private final MinioClient s3Client;
+  private final ExtendedMinioAsyncClient s3AsyncClient;
   private final Monitor monitor;
+  private final int listingConcurrency;
   private static final String ERROR_INITIALIZING_S3_CLIENT = "S3 client is not well initialized";
+  private static final String BUCKET_ALREADY_OWNED_BY_YOU = "BucketAlreadyOwnedByYou";
+  private static final String NO_SUCH_BUCKET = "NoSuchBucket";
+  private static final String ERROR_INITIALIZING_S3_ASYNC_CLIENT =
+      "S3 async client is not well initialized";
+
+  /**
+   * Minimum part size used when the size of an object to put is unknown.
+   */
+  private static final long UNKNOWN_SIZE_PART_SIZE = 5L * 1024L * 1024L;
+
+  /**
+   * Number of objects requested per page of a listing, the maximum accepted by S3.
+   */
+  private static final int LISTING_PAGE_SIZE = 1000;
+
+  /**
+   * Number of pages of the listing of a sub-prefix read ahead of the consumer by a parallel
+   * listing.
+   */
+  private static final int LISTING_READ_AHEAD_PAGES = 10;
+
+  /**
+   * Maximum size of an object copied by a single CopyObject request: 5GB.
+   */
+  private static final long MAX_COPY_OBJECT_SIZE = 5L * 1024L * 1024L * 1024L;
+
+  /**
+   * Executor fetching the pages of the streamed listings in background.
+   */
+  private static final ExecutorService LISTING_EXECUTOR = Executors.newCachedThreadPool(
+      runnable -> {
+        var thread = new Thread(runnable, "ovhcloud-s3-listing");
+        thread.setDaemon(true);
+        return thread;
+      });
 
   public S3ConnectorAPIImpl(MinioClient client, Monitor monitor) {
+    this(client, null, monitor);
+  }
+
+  /**
+   * Creates a new S3ConnectorAPIImpl. The async client is used for the multipart upload operations,
+   * which the blocking MinioClient does not expose.
+   *
+   * @param client      the MinioClient
+   * @param asyncClient the MinioAsyncClient, may be null if multipart uploads are not used
+   * @param monitor     the monitor
+   */
+  public S3ConnectorAPIImpl(MinioClient client, MinioAsyncClient asyncClient, Monitor monitor) {
+    this(client, asyncClient, 1, monitor);
+  }
+
+  /**
+   * Creates a new S3ConnectorAPIImpl. The async client is used for the multipart upload operations,
+   * which the blocking MinioClient does not expose, and to list the sub-prefixes of the streamed
+   * listings in parallel.
+   *
+   * @param client             the MinioClient
+   * @param asyncClient        the MinioAsyncClient, may be null if multipart uploads and parallel
+   *                           listings are not used
+   * @param listingConcurrency the maximum number of sub-prefixes of a streamed listing listed at
+   *                           the same time, 1 to list them one after the other
+   * @param monitor            the monitor
+   */
+  public S3ConnectorAPIImpl(MinioClient client, MinioAsyncClient asyncClient,
+      int listingConcurrency, Monitor monitor) {
+    this(client, asyncClient == null ? null : new ExtendedMinioAsyncClient(asyncClient),
+        listingConcurrency, monitor);
+  }
+
+  S3ConnectorAPIImpl(MinioClient client, ExtendedMinioAsyncClient asyncClient,
+      int listingConcurrency, Monitor monitor) {
+    if (listingConcurrency <= 0) {
+      throw new IllegalArgumentException("listingConcurrency must be greater than 0");
+    }
+
     this.s3Client = client;
+    this.s3AsyncClient = asyncClient;
+    this.listingConcurrency = listingConcurrency;
     this.monitor = monitor;
   }
 
@@ -70,13 +168,14 @@ public class S3ConnectorAPIImpl implements S3ConnectorAPI {
       var value = this.s3Client.bucketExists(args);
       return value;
     } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
-      throw new EdcException("Error checking if bucket exists: " + e.getMessage());
+      throw new EdcException("Error checking if bucket exists: " + e.getMessage(), e);
     }
   }
 
   /**
-   * Creates a new bucket with the given name. If the bucket already exists, this method does
-   * nothing.
+   * Creates a new bucket with the given name. If the bucket already exists and is owned by the
+   * account, this method does nothing: the creation is sent without checking the existence of the
+   * bucket first, and its BucketAlreadyOwnedByYou error is ignored.
    *
    * @param bucketName the name of the bucket to create
    * @throws EdcException if there is an error creating the bucket
@@ -85,13 +184,6 @@ public class S3ConnectorAPIImpl implements S3ConnectorAPI {
   public void createBucket(String bucketName) throws EdcException {
     checkS3ClientInitialized();
 
-    if (this.bucketExists(bucketName)) {
-      Optional.ofNullable(this.monitor)
-          .ifPresent(m -> m.debug(
-              "bucket " + bucketName + " already exists. Skipping creation."));
-      return;
-    }
-
     try {
       Optional.ofNullable(this.monitor)
           .ifPresent(m -> m.debug("Creating bucket: " + bucketName));
@@ -102,12 +194,20 @@ public class S3ConnectorAPIImpl implements S3ConnectorAPI {
           .build();
       this.s3Client.makeBucket(makeBucketArgs);
     } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
-      throw new EdcException("Error creating bucket: " + e.getMessage());
+      if (BUCKET_ALREADY_OWNED_BY_YOU.equals(S3ErrorCodes.of(e))) {
+        Optional.ofNullable(this.monitor)
+            .ifPresent(m -> m.debug(
+                "bucket " + bucketName + " already exists. Skipping creation."));
+        return;
+      }
+      throw new EdcException("Error creating bucket: " + e.getMessage(), e);
     }
   }
 
   /**
-   * Deletes a bucket with the given name. If the bucket does not exist, this method does nothing.
+   * Deletes a bucket with the given name. If the bucket does not exist, this method does nothing:
+   * the deletion is sent without checking the existence of the bucket first, and its NoSuchBucket
+   * error is ignored.
    *
    * @param bucketName the name of the bucket to delete
    * @throws EdcException if there is an error deleting the bucket
@@ -115,13 +215,6 @@ public class S3ConnectorAPIImpl implements S3ConnectorAPI {
   public void deleteBucket(String bucketName) throws EdcException {
     checkS3ClientInitialized();
 
-    if (!this.bucketExists(bucketName)) {
-      Optional.ofNullable(this.monitor)
-          .ifPresent(m -> m.debug(
-              "bucket " + bucketName + " does not exist. Skipping deletion."));
-      return;
-    }
-
     Optional.ofNullable(this.monitor)
         .ifPresent(m -> m.debug("Deleting bucket: " + bucketName));
 
@@ -132,7 +225,13 @@ public class S3ConnectorAPIImpl implements S3ConnectorAPI {
           .build();
       this.s3Client.removeBucket(removeBucketArgs);
     } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
-      throw new EdcException("Error deleting bucket: " + e.getMessage());
+      if (NO_SUCH_BUCKET.equals(S3ErrorCodes.of(e))) {
+        Optional.ofNullable(this.monitor)
+            .ifPresent(m -> m.debug(
+                "bucket " + bucketName + " does not exist. Skipping deletion."));
+        return;
+      }
+      throw new EdcException("Error deleting bucket: " + e.getMessage(), e);
     }
   }
 
@@ -152,11 +251,120 @@ public class S3ConnectorAPIImpl implements S3ConnectorAPI {
         .ifPresent(m -> m.debug(
             "Listing bucket objects with prefix: " + prefix + " in bucket: " + bucketName));
 
+    return listObjectItems(bucketName, prefix)
+        .map(Item::objectName)
+        .toList();
+  }
+
+  /**
+   * Lists the objects in a bucket that match a given prefix, with their metadata. The metadata is
+   * read from the listing response: no additional request is sent per object.
+   *
+   * @param bucketName the name of the bucket
+   * @param prefix     the prefix to match against object names
+   * @return the metadata of the objects that match the prefix
+   * @throws EdcException if there is an error listing the objects in the bucket
+   */
+  @Override
+  public List<S3ObjectMetadata> listObjectsWithMetadata(String bucketName, String prefix)
+      throws EdcException {
+    checkS3ClientInitialized();
+
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Listing bucket objects metadata with prefix: " + prefix
+            + " in bucket: " + bucketName));
+
+    return listObjectItems(bucketName, prefix)
+        .filter(item -> !item.isDir())
+        .map(S3ConnectorAPIImpl::toObjectMetadata)
+        .toList();
+  }
+
+  /**
+   * Lists the objects of a bucket whose name starts with a prefix, as a lazy stream. The pages of
+   * the listing are fetched by a background thread, at most one page ahead of the consumer. When
+   * the listing concurrency is greater than 1, the sub-prefixes delimited by {@code /} are listed
+   * in parallel by the async client instead, the objects being streamed in the same order. Each
+   * page is requested through the hook, the listing being paged by the async client: without it,
+   * the pages are requested by the MinioClient and only the opening of the listing goes through
+   * the hook.
+   *
+   * @param bucketName the name of the bucket
+   * @param prefix     the prefix of the objects to list
+   * @param pageHook   the hook sending the page requests
+   * @return a stream of the metadata of the objects, to close when it is not fully consumed
+   * @throws EdcException if there is an error listing the objects in the bucket, possibly while
+   *                      consuming the stream
+   */
+  @Override
+  public Stream<S3ObjectMetadata> streamObjects(String bucketName, String prefix,
+      S3ListingPageHook pageHook) throws EdcException {
+    checkS3ClientInitialized();
+
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Streaming bucket objects with prefix: " + prefix
+            + " in bucket: " + bucketName));
+
+    S3ParallelLister.PageReader pageReader = (subPrefix, delimiter, continuationToken) ->
+        pageHook.page(bucketName,
+            () -> listObjectsPage(bucketName, subPrefix, delimiter, continuationToken));
+
+    if (listingConcurrency > 1 && s3AsyncClient != null) {
+      var lister = new S3ParallelLister(pageReader, prefix, listingConcurrency,
+          LISTING_READ_AHEAD_PAGES * LISTING_PAGE_SIZE);
+      return StreamSupport.stream(Spliterators.spliteratorUnknownSize(lister,
+              Spliterator.ORDERED | Spliterator.NONNULL), false)
+          .onClose(lister::close);
+    }
+
+    Iterator<S3ObjectMetadata> objects;
+    if (s3AsyncClient != null) {
+      objects = new PagedObjects(pageReader, prefix);
+    } else {
+      objects = S3ParallelLister.join(pageHook.page(bucketName,
+              () -> CompletableFuture.completedFuture(listObjectItems(bucketName, prefix))))
+          .filter(item -> !item.isDir())
+          .map(S3ConnectorAPIImpl::toObjectMetadata)
+          .iterator();
+    }
+    var prefetchingIterator = new PrefetchingIterator<>(objects, LISTING_PAGE_SIZE,
+        LISTING_EXECUTOR);
+
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(prefetchingIterator,
+            Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(prefetchingIterator::close);
+  }
+
+  private CompletableFuture<S3ParallelLister.Page> listObjectsPage(String bucketName,
+      String prefix, String delimiter, String continuationToken) {
+    try {
+      return s3AsyncClient.listObjectsPage(bucketName, prefix, delimiter, continuationToken,
+              LISTING_PAGE_SIZE)
+          .thenApply(response -> {
+            var result = response.result();
+            return new S3ParallelLister.Page(
+                result.contents().stream()
+                    .filter(item -> !item.isDir())
+                    .map(S3ConnectorAPIImpl::toObjectMetadata)
+                    .toList(),
+                result.commonPrefixes().stream()
+                    .map(commonPrefix -> commonPrefix.toItem().objectName())
+                    .toList(),
+                result.isTruncated() ? result.nextContinuationToken() : null);
+          });
+    } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
+      return CompletableFuture.failedFuture(new EdcException(
+          "Error listing bucket objects in bucket " + bucketName + " : " + e.getMessage(), e));
+    }
+  }
+
+  private Stream<Item> listObjectItems(String bucketName, String prefix) {
     var listObjectsArgs = ListObjectsArgs
         .builder()
         .bucket(bucketName)
         .prefix(prefix)
         .recursive(true)
+        .maxKeys(LISTING_PAGE_SIZE)
         .build();
 
     return StreamSupport.stream(this.s3Client.listObjects(listObjectsArgs).spliterator(), false)
@@ -166,11 +374,9 @@ public class S3ConnectorAPIImpl implements S3ConnectorAPI {
           } catch (MinioException | IOException | InvalidKeyException |
                    NoSuchAlgorithmException e) {
             throw new EdcException(
-                "Error listing bucket objects in bucket " + bucketName + " : " + e.getMessage());
+                "Error listing bucket objects in bucket " + bucketName + " : " + e.getMessage(), e);
           }
-        })
-        .map(Item::objectName)
-        .toList();
+        });
   }
 
   /**
@@ -199,7 +405,7 @@ public class S3ConnectorAPIImpl implements S3ConnectorAPI {
 
     } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
       throw new EdcException(
-          "Error getting bucket objects in bucket " + bucketName + " : " + e.getMessage());
+          "Error getting bucket objects in bucket " + bucketName + " : " + e.getMessage(), e);
     }
   }
 
@@ -234,10 +440,80 @@ public class S3ConnectorAPIImpl implements S3ConnectorAPI {
 
     } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
       throw new EdcException(
-          "Error getting bucket objects in bucket " + bucketName + " : " + e.getMessage());
+          "Error getting bucket objects in bucket " + bucketName + " : " + e.getMessage(), e);
     }
   }
 
+  /**
+   * Opens a stream on an object of a bucket. The returned stream is the live HTTP response: the
+   * object is never buffered in memory, and closing the stream releases the connection.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object to retrieve
+   * @return an InputStream reading the object data
+   * @throws EdcException if there is an error retrieving the object from the bucket
+   */
+  @Override
+  public InputStream getObjectStream(String bucketName, String objectName) throws EdcException {
+    checkS3ClientInitialized();
+
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Streaming object: " + objectName + " from bucket: " + bucketName));
+
+    var getObjectArgs = GetObjectArgs
+        .builder()
+        .bucket(bucketName)
+        .object(objectName)
+        .build();
+
+    return openObjectStream(bucketName, getObjectArgs);
+  }
+
+  /**
+   * Opens a stream on a byte range of an object of a bucket. The returned stream is the live HTTP
+   * response: the range is never buffered in memory, and closing the stream releases the
+   * connection.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object to retrieve
+   * @param offset     the offset in the object to start reading from
+   * @param size       the number of bytes to read from the object
+   * @param matchEtag  the ETag the object must have, sent as If-Match, null to not send it
+   * @return an InputStream reading the requested range of the object data
+   * @throws EdcException if there is an error retrieving the object from the bucket
+   */
+  @Override
+  public InputStream getObjectStream(String bucketName, String objectName, long offset, long size,
+      String matchEtag) throws EdcException {
+    checkS3ClientInitialized();
+
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Streaming object: " + objectName + " from bucket: " + bucketName
+            + " (offset: " + offset + ", size: " + size + ")"));
+
+    var builder = GetObjectArgs
+        .builder()
+        .bucket(bucketName)
+        .object(objectName)
+        .offset(offset)
+        .length(size);
+    if (matchEtag != null) {
+      builder.matchETag("\"" + matchEtag + "\"");
+    }
+    var getObjectArgs = builder.build();
+
+    return openObjectStream(bucketName, getObjectArgs);
+  }
+
+  private InputStream openObjectStream(String bucketName, GetObjectArgs getObjectArgs)
+      throws EdcException {
+    try {
+      return new S3ResponseInputStream(this.s3Client.getObject(getObjectArgs));
+    } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
+      throw new EdcException(
+          "Error streaming bucket objects in bucket " + bucketName + " : " + e.getMessage(), e);
+    }
+  }
 
   /**
    * Delete objects from a bucket
@@ -271,7 +547,7 @@ public class S3ConnectorAPIImpl implements S3ConnectorAPI {
 
     } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
       throw new EdcException(
-          "Error removing objects in bucket " + bucketName + " : " + e.getMessage());
+          "Error removing objects in bucket " + bucketName + " : " + e.getMessage(), e);
     }
   }
 
@@ -290,15 +566,250 @@ public class S3ConnectorAPIImpl implements S3ConnectorAPI {
         .ifPresent(m -> m.debug("Putting object: " + objectName + " into bucket: " + bucketName));
 
     try {
+      // The size of the stream is unknown: InputStream.available() is only an estimate of what
+      // can be read without blocking.
       var putObjectArgs = PutObjectArgs.builder()
           .bucket(bucketName)
           .object(objectName)
-          .stream(inputStream, inputStream.available(), -1).build();
+          .stream(inputStream, -1, UNKNOWN_SIZE_PART_SIZE).build();
       this.s3Client.putObject(putObjectArgs);
     } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
       throw new EdcException(
           "Error putting " + objectName + " in bucket " + bucketName + " : "
-              + e.getMessage());
+              + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Put an object of a known size into a bucket with a single request.
+   *
+   * @param bucketName  the name of the bucket
+   * @param objectName  the name of the object
+   * @param inputStream the input stream to read the object data from
+   * @param size        the number of bytes to read from the input stream
+   * @param contentMd5  the MD5 digest of the data, sent as Content-MD5, null to send none
+   * @return the ETag of the object
+   * @throws EdcException if there is an error putting the object into the bucket, or if the data
+   *                      does not match its digest
+   */
+  @Override
+  public String putObject(String bucketName, String objectName, InputStream inputStream,
+      long size, byte[] contentMd5) throws EdcException {
+    checkS3ClientInitialized();
+
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Putting object: " + objectName + " (" + size
+            + " bytes) into bucket: " + bucketName));
+
+    try {
+      var putObjectArgs = PutObjectArgs.builder()
+          .bucket(bucketName)
+          .object(objectName)
+          .stream(inputStream, size, -1)
+          .extraHeaders(ExtendedMinioAsyncClient.contentMd5Header(contentMd5))
+          .build();
+      return this.s3Client.putObject(putObjectArgs).etag();
+    } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
+      throw new EdcException(
+          "Error putting " + objectName + " in bucket " + bucketName + " : "
+              + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Initiates a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @return the id of the multipart upload
+   * @throws EdcException if there is an error initiating the multipart upload
+   */
+  @Override
+  public String createMultipartUpload(String bucketName, String objectName) throws EdcException {
+    checkS3AsyncClientInitialized();
+
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Creating multipart upload for object: " + objectName
+            + " in bucket: " + bucketName));
+
+    try {
+      return await(this.s3AsyncClient.createMultipartUpload(bucketName, objectName));
+    } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
+      throw new EdcException(
+          "Error creating multipart upload of " + objectName + " in bucket " + bucketName + " : "
+              + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Uploads a part of a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the id of the multipart upload
+   * @param partNumber the number of the part, starting at 1
+   * @param data       the part data
+   * @param length     the number of bytes of data to upload
+   * @param contentMd5 the MD5 digest of the data, sent as Content-MD5, null to send none
+   * @return the ETag of the uploaded part
+   * @throws EdcException if there is an error uploading the part, or if the data does not match
+   *                      its digest
+   */
+  @Override
+  public String uploadPart(String bucketName, String objectName, String uploadId, int partNumber,
+      byte[] data, int length, byte[] contentMd5) throws EdcException {
+    checkS3AsyncClientInitialized();
+
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Uploading part " + partNumber + " (" + length
+            + " bytes) of object: " + objectName + " in bucket: " + bucketName));
+
+    try {
+      return await(this.s3AsyncClient.uploadPart(bucketName, objectName, uploadId, partNumber, data,
+          length, contentMd5));
+    } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
+      throw new EdcException(
+          "Error uploading part " + partNumber + " of " + objectName + " in bucket " + bucketName
+              + " : " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Completes a multipart upload.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the id of the multipart upload
+   * @param parts      the uploaded parts
+   * @return the ETag of the object
+   * @throws EdcException if there is an error completing the multipart upload
+   */
+  @Override
+  public String completeMultipartUpload(String bucketName, String objectName, String uploadId,
+      List<S3CompletedPart> parts) throws EdcException {
+    checkS3AsyncClientInitialized();
+
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Completing multipart upload of object: " + objectName
+            + " in bucket: " + bucketName + " with " + parts.size() + " parts"));
+
+    var minioParts = parts.stream()
+        .sorted(Comparator.comparingInt(S3CompletedPart::partNumber))
+        .map(part -> new Part(part.partNumber(), part.etag()))
+        .toArray(Part[]::new);
+
+    try {
+      return await(this.s3AsyncClient.completeMultipartUpload(bucketName, objectName, uploadId,
+          minioParts));
+    } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
+      throw new EdcException(
+          "Error completing multipart upload of " + objectName + " in bucket " + bucketName
+              + " : " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Aborts a multipart upload and discards the parts already uploaded.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @param uploadId   the id of the multipart upload
+   * @throws EdcException if there is an error aborting the multipart upload
+   */
+  @Override
+  public void abortMultipartUpload(String bucketName, String objectName, String uploadId)
+      throws EdcException {
+    checkS3AsyncClientInitialized();
+
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Aborting multipart upload of object: " + objectName
+            + " in bucket: " + bucketName));
+
+    try {
+      await(this.s3AsyncClient.abortMultipartUpload(bucketName, objectName, uploadId));
+    } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
+      throw new EdcException(
+          "Error aborting multipart upload of " + objectName + " in bucket " + bucketName + " : "
+              + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Copies an object server-side: the data is not transferred through the client. Objects larger
+   * than 5GB are copied by a multipart upload of ranges of the source object.
+   *
+   * @param sourceBucketName the name of the bucket of the source object
+   * @param sourceObjectName the name of the source object
+   * @param bucketName       the name of the destination bucket
+   * @param objectName       the name of the destination object
+   * @param size             the size of the source object
+   * @throws EdcException if there is an error copying the object
+   */
+  @Override
+  public void copyObject(String sourceBucketName, String sourceObjectName, String bucketName,
+      String objectName, long size) throws EdcException {
+    checkS3ClientInitialized();
+
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Copying object: " + sourceObjectName + " from bucket: "
+            + sourceBucketName + " to " + objectName + " in bucket: " + bucketName));
+
+    try {
+      if (size <= MAX_COPY_OBJECT_SIZE) {
+        this.s3Client.copyObject(CopyObjectArgs.builder()
+            .bucket(bucketName)
+            .object(objectName)
+            .source(CopySource.builder()
+                .bucket(sourceBucketName)
+                .object(sourceObjectName)
+                .build())
+            .build());
+      } else {
+        // MinIO composes a single large source with UploadPartCopy requests of at most 5GB each
+        this.s3Client.composeObject(ComposeObjectArgs.builder()
+            .bucket(bucketName)
+            .object(objectName)
+            .sources(List.of(ComposeSource.builder()
+                .bucket(sourceBucketName)
+                .object(sourceObjectName)
+                .build()))
+            .build());
+      }
+    } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
+      throw new EdcException(
+          "Error copying " + sourceObjectName + " of bucket " + sourceBucketName + " to "
+              + objectName + " in bucket " + bucketName + " : " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Get the metadata of an object in a bucket, without reading its data.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @return the metadata of the object
+   * @throws EdcException if the object does not exist or there is an error reading its metadata
+   */
+  @Override
+  public S3ObjectMetadata statObject(String bucketName, String objectName) throws EdcException {
+    checkS3ClientInitialized();
+
+    Optional.ofNullable(this.monitor)
+        .ifPresent(m -> m.debug("Getting metadata of object: " + objectName + " from bucket: "
+            + bucketName));
+
+    try {
+      var response = this.s3Client.statObject(StatObjectArgs.builder()
+          .bucket(bucketName)
+          .object(objectName)
+          .build());
+
+      return new S3ObjectMetadata(objectName, response.size(), unquote(response.etag()),
+          response.lastModified());
+    } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
+      throw new EdcException(
+          "Error getting metadata of " + objectName + " in bucket " + bucketName + " : "
+              + e.getMessage(), e);
     }
   }
 
@@ -328,12 +839,96 @@ public class S3ConnectorAPIImpl implements S3ConnectorAPI {
     } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
       throw new EdcException(
           "Error Getting size of " + objectName + " in bucket " + bucketName + " : "
-              + e.getMessage());
+              + e.getMessage(), e);
     }
 
   }
 
+  /**
+   * The objects of a recursive listing, requesting its pages one after the other as they are
+   * consumed.
+   */
+  private static final class PagedObjects implements Iterator<S3ObjectMetadata> {
+
+    private final S3ParallelLister.PageReader pageReader;
+    private final String prefix;
+    private Iterator<S3ObjectMetadata> page = Collections.emptyIterator();
+    private String continuationToken;
+    private boolean lastPage;
+
+    private PagedObjects(S3ParallelLister.PageReader pageReader, String prefix) {
+      this.pageReader = pageReader;
+      this.prefix = prefix;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!page.hasNext() && !lastPage) {
+        var next = S3ParallelLister.join(pageReader.read(prefix, null, continuationToken));
+        continuationToken = next.nextContinuationToken();
+        lastPage = continuationToken == null;
+        page = next.objects().iterator();
+      }
+      return page.hasNext();
+    }
+
+    @Override
+    public S3ObjectMetadata next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return page.next();
+    }
+  }
+
+  private static S3ObjectMetadata toObjectMetadata(Item item) {
+    return new S3ObjectMetadata(item.objectName(), item.size(), unquote(item.etag()),
+        item.lastModified());
+  }
+
+  private static String unquote(String etag) {
+    if (etag != null && etag.length() >= 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+      return etag.substring(1, etag.length() - 1);
+    }
+    return etag;
+  }
+
   private void checkS3ClientInitialized() throws EdcException {
     Optional.ofNullable(s3Client).orElseThrow(() -> new EdcException(ERROR_INITIALIZING_S3_CLIENT));
   }
+
+  private void checkS3AsyncClientInitialized() throws EdcException {
+    Optional.ofNullable(s3AsyncClient)
+        .orElseThrow(() -> new EdcException(ERROR_INITIALIZING_S3_ASYNC_CLIENT));
+  }
+
+  /**
+   * Waits for the completion of an async client call, unwrapping the failure so that it is
+   * reported like a failure of the blocking client.
+   */
+  private static <T> T await(CompletableFuture<T> future) throws MinioException, IOException,
+      InvalidKeyException, NoSuchAlgorithmException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new EdcException("Interrupted while waiting for S3 response", e);
+    } catch (ExecutionException e) {
+      var cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+          ? e.getCause().getCause() : e.getCause();
+      if (cause instanceof MinioException minioException) {
+        throw minioException;
+      }
+      if (cause instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (cause instanceof InvalidKeyException invalidKeyException) {
+        throw invalidKeyException;
+      }
+      if (cause instanceof NoSuchAlgorithmException noSuchAlgorithmException) {
+        throw noSuchAlgorithmException;
+      }
+      throw new EdcException(cause);
+    }
+  }
 }
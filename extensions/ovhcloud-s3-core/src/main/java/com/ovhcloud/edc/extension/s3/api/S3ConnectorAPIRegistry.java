@@ -0,0 +1,41 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+
+/**
+ * This interface resolves the S3 clients to use for an OVHcloud S3 data address. The endpoint,
+ * region and credentials of the address are used when present, the ones of the connector
+ * configuration otherwise. A null address resolves the clients of the connector configuration.
+ * The endpoint of an address must be an OVHcloud S3 endpoint or an allowed one, and an address
+ * setting another endpoint than the one of the configuration must define its own credentials.
+ */
+@ExtensionPoint
+public interface S3ConnectorAPIRegistry {
+
+  /**
+   * Resolves the client for a data address.
+   *
+   * @param dataAddress the data address
+   * @return the S3ConnectorAPI connected to the endpoint of the address with its credentials
+   */
+  S3ConnectorAPI resolve(DataAddress dataAddress);
+
+  /**
+   * Resolves the non-blocking client for a data address.
+   *
+   * @param dataAddress the data address
+   * @return the AsyncS3ConnectorAPI connected to the endpoint of the address with its credentials
+   */
+  AsyncS3ConnectorAPI resolveAsync(DataAddress dataAddress);
+
+  /**
+   * Tells whether two data addresses resolve to the same client, i.e. the same endpoint, region
+   * and credentials. Objects can then be copied server-side between them.
+   *
+   * @param first  the first data address
+   * @param second the second data address
+   * @return true if both addresses resolve to the same client
+   */
+  boolean sameClient(DataAddress first, DataAddress second);
+}
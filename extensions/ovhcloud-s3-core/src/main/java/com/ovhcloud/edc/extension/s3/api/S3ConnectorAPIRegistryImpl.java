@@ -0,0 +1,535 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema;
+import com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema;
+import com.ovhcloud.edc.extension.s3.utils.MinioClientBuilder;
+import com.ovhcloud.edc.extension.s3.utils.MinioClientBuilderImpl;
+import com.ovhcloud.edc.extension.s3.utils.S3Utils;
+import dev.failsafe.RetryPolicy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import okhttp3.OkHttpClient;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Default implementation of the S3ConnectorAPIRegistry interface. The clients are cached by
+ * endpoint, region and credentials in a bounded LRU cache: the least recently used clients are
+ * evicted when the cache is full, and the clients unused for longer than the idle timeout are
+ * evicted on the next resolution. All the clients share the same HTTP client, hence the same
+ * connection pool. Unless disabled, the clients cache the metadata of buckets and objects. When a
+ * read retry policy is set, the reads failing with a transient error are retried, and so are the
+ * writes whose data is held in memory. When rate limits are set, the requests of all the clients
+ * of an endpoint are paced by a shared rate limiter. The requests actually sent, retries
+ * included, are recorded in the metrics.
+ */
+public class S3ConnectorAPIRegistryImpl implements S3ConnectorAPIRegistry {
+
+  private final Supplier<MinioClientBuilder> clientBuilderFactory;
+  private final OkHttpClient httpClient;
+  private final ClientKey defaultKey;
+  private final Set<String> allowedEndpoints;
+  private final int maxSize;
+  private final Duration idleTimeout;
+  private final int metadataCacheSize;
+  private final Duration metadataCacheTtl;
+  private final int listingConcurrency;
+  private final RetryPolicy<Object> readRetryPolicy;
+  private final S3RateLimits rateLimits;
+  private final S3Metrics metrics;
+  private final Clock clock;
+  private final Monitor monitor;
+  private final LinkedHashMap<ClientKey, Clients> clients =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, S3RateLimiter> rateLimiters = new HashMap<>();
+
+  private S3ConnectorAPIRegistryImpl(Builder builder) {
+    this.clientBuilderFactory = builder.clientBuilderFactory;
+    this.httpClient = builder.httpClient;
+    this.defaultKey = new ClientKey(builder.endpoint, builder.region, builder.accessKey,
+        builder.secretKey);
+    this.allowedEndpoints = builder.allowedEndpoints;
+    this.maxSize = builder.maxSize;
+    this.idleTimeout = builder.idleTimeout;
+    this.metadataCacheSize = builder.metadataCacheSize;
+    this.listingConcurrency = builder.listingConcurrency;
+    this.metadataCacheTtl = builder.metadataCacheTtl;
+    this.readRetryPolicy = builder.readRetryPolicy;
+    this.rateLimits = builder.rateLimits;
+    this.metrics = builder.metrics;
+    this.clock = builder.clock;
+    this.monitor = builder.monitor;
+  }
+
+  /**
+   * Resolves the client for a data address.
+   *
+   * @param dataAddress the data address
+   * @return the S3ConnectorAPI connected to the endpoint of the address with its credentials
+   * @throws EdcException if the endpoint of the address is neither an OVHcloud S3 one nor an
+   *                      allowed one, or if the address overrides the endpoint without defining
+   *                      its credentials
+   */
+  @Override
+  public S3ConnectorAPI resolve(DataAddress dataAddress) {
+    return clientsFor(keyOf(dataAddress)).client();
+  }
+
+  /**
+   * Resolves the non-blocking client for a data address.
+   *
+   * @param dataAddress the data address
+   * @return the AsyncS3ConnectorAPI connected to the endpoint of the address with its credentials
+   * @throws EdcException if the endpoint of the address is neither an OVHcloud S3 one nor an
+   *                      allowed one, or if the address overrides the endpoint without defining
+   *                      its credentials
+   */
+  @Override
+  public AsyncS3ConnectorAPI resolveAsync(DataAddress dataAddress) {
+    return clientsFor(keyOf(dataAddress)).asyncClient();
+  }
+
+  /**
+   * Tells whether two data addresses resolve to the same client, i.e. the same endpoint, region
+   * and credentials.
+   *
+   * @param first  the first data address
+   * @param second the second data address
+   * @return true if both addresses resolve to the same client
+   */
+  @Override
+  public boolean sameClient(DataAddress first, DataAddress second) {
+    return keyOf(first).equals(keyOf(second));
+  }
+
+  /**
+   * Returns the number of cached clients.
+   *
+   * @return the number of cached clients
+   */
+  public synchronized int size() {
+    return clients.size();
+  }
+
+  private synchronized Clients clientsFor(ClientKey key) {
+    var now = clock.instant();
+    evictIdleClients(now);
+
+    var entry = clients.computeIfAbsent(key, this::createClients);
+    entry.lastAccess = now;
+
+    if (clients.size() > maxSize) {
+      var eldest = clients.keySet().iterator().next();
+      clients.remove(eldest);
+      Optional.ofNullable(monitor)
+          .ifPresent(m -> m.debug(
+              "Evicted least recently used S3 client of " + eldest.endpoint()));
+    }
+
+    return entry;
+  }
+
+  private void evictIdleClients(Instant now) {
+    var expiration = now.minus(idleTimeout);
+    clients.entrySet().removeIf(entry -> {
+      var idle = entry.getValue().lastAccess.isBefore(expiration);
+      if (idle) {
+        Optional.ofNullable(monitor)
+            .ifPresent(m -> m.debug("Evicted idle S3 client of " + entry.getKey().endpoint()));
+      }
+      return idle;
+    });
+  }
+
+  private Clients createClients(ClientKey key) {
+    Optional.ofNullable(monitor)
+        .ifPresent(m -> m.debug("Creating S3 client of " + key.endpoint()));
+
+    var builder = clientBuilderFactory.get()
+        .endpoint(key.endpoint())
+        .region(key.region())
+        .allowedEndpoints(allowedEndpoints)
+        .credentials(key.accessKey(), key.secretKey())
+        .httpClient(httpClient);
+
+    var asyncClient = builder.buildAsync();
+    S3ConnectorAPI client = new S3ConnectorAPIImpl(builder.build(), asyncClient,
+        listingConcurrency, monitor);
+    AsyncS3ConnectorAPI asyncS3Client = new AsyncS3ConnectorAPIImpl(asyncClient, monitor);
+
+    // Innermost, so that the latency does not include the pacing, and each retry is recorded
+    client = new InstrumentedS3ConnectorAPI(client, metrics);
+    asyncS3Client = new InstrumentedAsyncS3ConnectorAPI(asyncS3Client, metrics);
+
+    if (!rateLimits.isUnlimited()) {
+      // The limits apply to the endpoint, whatever the credentials of the clients
+      var rateLimiter = rateLimiters.computeIfAbsent(String.valueOf(key.endpoint()),
+          endpoint -> new S3RateLimiter(rateLimits));
+      client = new RateLimitedS3ConnectorAPI(client, rateLimiter);
+      asyncS3Client = new RateLimitedAsyncS3ConnectorAPI(asyncS3Client, rateLimiter);
+    }
+
+    if (readRetryPolicy != null) {
+      client = new RetryingS3ConnectorAPI(client, readRetryPolicy);
+      asyncS3Client = new RetryingAsyncS3ConnectorAPI(asyncS3Client, readRetryPolicy);
+    }
+
+    if (metadataCacheTtl.isPositive()) {
+      // Both clients share the cache, so that a write through one invalidates the other
+      var cache = new S3MetadataCache(metadataCacheSize, metadataCacheTtl, clock);
+      client = new CachingS3ConnectorAPI(client, cache);
+      asyncS3Client = new CachingAsyncS3ConnectorAPI(asyncS3Client, cache);
+    }
+
+    return new Clients(client, asyncS3Client);
+  }
+
+  private ClientKey keyOf(DataAddress dataAddress) {
+    if (dataAddress == null) {
+      return defaultKey;
+    }
+
+    var endpoint = dataAddress.getStringProperty(OVHCloudBucketSchema.ENDPOINT);
+    var ownEndpoint = isBlank(endpoint) || isDefaultEndpoint(endpoint);
+    var region = propertyOrDefault(dataAddress, OVHCloudBucketSchema.REGION,
+        defaultKey.region());
+
+    // The endpoint of an address may come from the counterparty: it is checked whether the
+    // region is set or not, and only the OVHcloud S3 and allowed endpoints are accepted.
+    if (ownEndpoint) {
+      endpoint = defaultKey.endpoint();
+    } else {
+      try {
+        S3Utils.validateEndpoint(endpoint, allowedEndpoints);
+      } catch (IllegalArgumentException e) {
+        throw new EdcException("The endpoint " + endpoint + " of the data address is not allowed",
+            e);
+      }
+    }
+
+    // The credentials of the address are only used together, so that an access key is never
+    // paired with the secret key of another account. The default credentials are never sent to
+    // another endpoint than the default one.
+    var accessKey = dataAddress.getStringProperty(OVHCloudBucketSchema.ACCESS_KEY_ID);
+    var secretKey = dataAddress.getStringProperty(OVHCloudBucketSchema.SECRET_ACCESS_KEY);
+    if (isBlank(accessKey) || isBlank(secretKey)) {
+      if (!ownEndpoint) {
+        throw new EdcException("The data address must define its credentials to use the endpoint "
+            + endpoint);
+      }
+      accessKey = defaultKey.accessKey();
+      secretKey = defaultKey.secretKey();
+    }
+
+    return new ClientKey(endpoint, region, accessKey, secretKey);
+  }
+
+  private boolean isDefaultEndpoint(String endpoint) {
+    return !isBlank(defaultKey.endpoint())
+        && S3Utils.isAllowedEndpoint(endpoint, Set.of(defaultKey.endpoint()));
+  }
+
+  private static String propertyOrDefault(DataAddress dataAddress, String key,
+      String defaultValue) {
+    var value = dataAddress.getStringProperty(key);
+    return isBlank(value) ? defaultValue : value;
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+
+  /**
+   * The key of the cached clients. Its string representation does not contain the secret key.
+   */
+  private record ClientKey(String endpoint, String region, String accessKey, String secretKey) {
+
+    @Override
+    public String toString() {
+      return "ClientKey[endpoint=" + endpoint + ", region=" + region + ", accessKey=" + accessKey
+          + "]";
+    }
+  }
+
+  private static final class Clients {
+
+    private final S3ConnectorAPI client;
+    private final AsyncS3ConnectorAPI asyncClient;
+    private Instant lastAccess;
+
+    private Clients(S3ConnectorAPI client, AsyncS3ConnectorAPI asyncClient) {
+      this.client = client;
+      this.asyncClient = asyncClient;
+    }
+
+    private S3ConnectorAPI client() {
+      return client;
+    }
+
+    private AsyncS3ConnectorAPI asyncClient() {
+      return asyncClient;
+    }
+  }
+
+  /**
+   * A builder for {@link S3ConnectorAPIRegistryImpl}.
+   */
+  public static class Builder {
+
+    private Supplier<MinioClientBuilder> clientBuilderFactory = MinioClientBuilderImpl::builder;
+    private OkHttpClient httpClient;
+    private String endpoint;
+    private String region;
+    private Set<String> allowedEndpoints = Set.of();
+    private String accessKey;
+    private String secretKey;
+    private int maxSize = S3SettingsSchema.DEFAULT_CLIENT_CACHE_SIZE;
+    private Duration idleTimeout =
+        Duration.ofSeconds(S3SettingsSchema.DEFAULT_CLIENT_CACHE_IDLE_TIMEOUT);
+    private int metadataCacheSize = S3SettingsSchema.DEFAULT_METADATA_CACHE_SIZE;
+    private int listingConcurrency = S3SettingsSchema.DEFAULT_LISTING_CONCURRENCY;
+    private Duration metadataCacheTtl =
+        Duration.ofSeconds(S3SettingsSchema.DEFAULT_METADATA_CACHE_TTL);
+    private RetryPolicy<Object> readRetryPolicy;
+    private S3RateLimits rateLimits = S3RateLimits.unlimited();
+    private S3Metrics metrics = S3Metrics.noop();
+    private Clock clock = Clock.systemUTC();
+    private Monitor monitor;
+
+    private Builder() {
+    }
+
+    /**
+     * Creates a new instance of {@link Builder}.
+     *
+     * @return a new instance of {@link Builder}.
+     */
+    @Contract(value = " -> new", pure = true)
+    public static @NotNull Builder newInstance() {
+      return new Builder();
+    }
+
+    /**
+     * Sets the factory of the builders of the MinIO clients.
+     *
+     * @param clientBuilderFactory the factory of the builders.
+     * @return the builder.
+     */
+    public Builder clientBuilderFactory(Supplier<MinioClientBuilder> clientBuilderFactory) {
+      this.clientBuilderFactory = clientBuilderFactory;
+      return this;
+    }
+
+    /**
+     * Sets the HTTP client shared by all the clients.
+     *
+     * @param httpClient the HTTP client.
+     * @return the builder.
+     */
+    public Builder httpClient(OkHttpClient httpClient) {
+      this.httpClient = httpClient;
+      return this;
+    }
+
+    /**
+     * Sets the endpoint used when a data address does not define one.
+     *
+     * @param endpoint the default endpoint.
+     * @return the builder.
+     */
+    public Builder endpoint(String endpoint) {
+      this.endpoint = endpoint;
+      return this;
+    }
+
+    /**
+     * Sets the region used when a data address does not define one. If not set, the region is
+     * extracted from the endpoint.
+     *
+     * @param region the default region.
+     * @return the builder.
+     */
+    public Builder region(String region) {
+      this.region = region;
+      return this;
+    }
+
+    /**
+     * Sets the endpoints allowed besides the OVHcloud S3 ones, e.g. a local S3-compatible server
+     * used by integration tests. If not set, only OVHcloud S3 endpoints are accepted when the
+     * region is not defined.
+     *
+     * @param allowedEndpoints the allowed endpoints.
+     * @return the builder.
+     */
+    public Builder allowedEndpoints(Set<String> allowedEndpoints) {
+      this.allowedEndpoints = allowedEndpoints;
+      return this;
+    }
+
+    /**
+     * Sets the credentials used when a data address does not define them.
+     *
+     * @param accessKey the default access key.
+     * @param secretKey the default secret key.
+     * @return the builder.
+     */
+    public Builder credentials(String accessKey, String secretKey) {
+      this.accessKey = accessKey;
+      this.secretKey = secretKey;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of cached clients.
+     *
+     * @param maxSize the maximum number of cached clients.
+     * @return the builder.
+     */
+    public Builder maxSize(int maxSize) {
+      this.maxSize = maxSize;
+      return this;
+    }
+
+    /**
+     * Sets the duration after which an unused client is evicted.
+     *
+     * @param idleTimeout the idle timeout.
+     * @return the builder.
+     */
+    public Builder idleTimeout(Duration idleTimeout) {
+      this.idleTimeout = idleTimeout;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of buckets, and of objects, whose metadata is cached per client.
+     *
+     * @param metadataCacheSize the maximum number of cached entries.
+     * @return the builder.
+     */
+    public Builder metadataCacheSize(int metadataCacheSize) {
+      this.metadataCacheSize = metadataCacheSize;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of sub-prefixes of a streamed listing listed at the same time.
+     *
+     * @param listingConcurrency the maximum number of sub-prefixes listed in parallel, 1 to list
+     *                           them one after the other.
+     * @return the builder.
+     */
+    public Builder listingConcurrency(int listingConcurrency) {
+      this.listingConcurrency = listingConcurrency;
+      return this;
+    }
+
+    /**
+     * Sets the duration the metadata of buckets and objects is cached. A duration of zero disables
+     * the cache.
+     *
+     * @param metadataCacheTtl the time to live of the cached metadata.
+     * @return the builder.
+     */
+    public Builder metadataCacheTtl(Duration metadataCacheTtl) {
+      this.metadataCacheTtl = metadataCacheTtl;
+      return this;
+    }
+
+    /**
+     * Sets the policy of the retries of the reads failing with a transient error, also applied to
+     * the writes whose data is held in memory. If not set, the requests are not retried.
+     *
+     * @param readRetryPolicy the retry policy of the reads.
+     * @return the builder.
+     */
+    public Builder readRetryPolicy(RetryPolicy<Object> readRetryPolicy) {
+      this.readRetryPolicy = readRetryPolicy;
+      return this;
+    }
+
+    /**
+     * Sets the rate limits of the requests sent to each endpoint. If not set, the requests are not
+     * limited.
+     *
+     * @param rateLimits the rate limits.
+     * @return the builder.
+     */
+    public Builder rateLimits(S3RateLimits rateLimits) {
+      this.rateLimits = rateLimits;
+      return this;
+    }
+
+    /**
+     * Sets the metrics recording the requests of the clients. If not set, nothing is recorded.
+     *
+     * @param metrics the metrics.
+     * @return the builder.
+     */
+    public Builder metrics(S3Metrics metrics) {
+      this.metrics = metrics;
+      return this;
+    }
+
+    /**
+     * Sets the clock used to measure the idle time of the clients and the age of the cached
+     * metadata.
+     *
+     * @param clock the clock.
+     * @return the builder.
+     */
+    public Builder clock(Clock clock) {
+      this.clock = clock;
+      return this;
+    }
+
+    /**
+     * Sets the monitor.
+     *
+     * @param monitor the monitor.
+     * @return the builder.
+     */
+    public Builder monitor(Monitor monitor) {
+      this.monitor = monitor;
+      return this;
+    }
+
+    /**
+     * Builds the {@link S3ConnectorAPIRegistryImpl}.
+     *
+     * @return the {@link S3ConnectorAPIRegistryImpl}.
+     */
+    public S3ConnectorAPIRegistryImpl build() {
+      Objects.requireNonNull(clientBuilderFactory, "clientBuilderFactory must not be null");
+      Objects.requireNonNull(idleTimeout, "idleTimeout must not be null");
+      Objects.requireNonNull(clock, "clock must not be null");
+      Objects.requireNonNull(metadataCacheTtl, "metadataCacheTtl must not be null");
+      Objects.requireNonNull(rateLimits, "rateLimits must not be null");
+      Objects.requireNonNull(metrics, "metrics must not be null");
+      Objects.requireNonNull(allowedEndpoints, "allowedEndpoints must not be null");
+      if (maxSize <= 0) {
+        throw new IllegalArgumentException("maxSize must be greater than 0");
+      }
+      if (listingConcurrency <= 0) {
+        throw new IllegalArgumentException("listingConcurrency must be greater than 0");
+      }
+      if (metadataCacheTtl.isPositive() && metadataCacheSize <= 0) {
+        throw new IllegalArgumentException("metadataCacheSize must be greater than 0");
+      }
+
+      return new S3ConnectorAPIRegistryImpl(this);
+    }
+  }
+}
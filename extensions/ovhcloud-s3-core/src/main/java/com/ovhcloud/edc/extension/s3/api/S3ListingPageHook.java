@@ -0,0 +1,73 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A hook sending each page request of a streamed listing. The pages are requested by the client
+ * as the stream is consumed, underneath its decorators: a decorator acting on every request, such
+ * as pacing or measuring it, composes its own hook with the one it receives and passes the result
+ * to its delegate, which sends every page request through it.
+ */
+public interface S3ListingPageHook {
+
+  /**
+   * Returns the hook sending the page requests as they come.
+   *
+   * @return the hook doing nothing
+   */
+  static S3ListingPageHook none() {
+    return NoopHook.INSTANCE;
+  }
+
+  /**
+   * Sends the request of a page of a listing.
+   *
+   * @param bucketName the name of the bucket listed
+   * @param request    sends the request, returning the future page
+   * @param <T>        the type of the page
+   * @return the future page
+   */
+  <T> CompletableFuture<T> page(String bucketName, Supplier<CompletableFuture<T>> request);
+
+  /**
+   * Composes this hook with another one, which sends the page requests this hook lets through.
+   *
+   * @param next the hook sending the requests once this one acted on them
+   * @return the composed hook
+   */
+  default S3ListingPageHook andThen(S3ListingPageHook next) {
+    Objects.requireNonNull(next, "next must not be null");
+    var first = this;
+    return new S3ListingPageHook() {
+      @Override
+      public <T> CompletableFuture<T> page(String bucketName,
+          Supplier<CompletableFuture<T>> request) {
+        return first.page(bucketName, () -> next.page(bucketName, request));
+      }
+    };
+  }
+
+  /**
+   * The hook sending the page requests as they come.
+   */
+  final class NoopHook implements S3ListingPageHook {
+
+    private static final NoopHook INSTANCE = new NoopHook();
+
+    private NoopHook() {
+    }
+
+    @Override
+    public <T> CompletableFuture<T> page(String bucketName,
+        Supplier<CompletableFuture<T>> request) {
+      return request.get();
+    }
+
+    @Override
+    public S3ListingPageHook andThen(S3ListingPageHook next) {
+      return Objects.requireNonNull(next, "next must not be null");
+    }
+  }
+}
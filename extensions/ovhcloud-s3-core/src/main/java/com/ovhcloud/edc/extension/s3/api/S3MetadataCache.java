@@ -0,0 +1,139 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A cache of the existence of buckets and of the metadata of objects. Entries expire after a time
+ * to live, and the least recently used ones are evicted when the cache is full. A cache is shared
+ * by the blocking and non-blocking decorators of the clients of the same endpoint, region and
+ * credentials, so that a change made through one of them invalidates the entries seen by the
+ * other. Clients with other credentials have their own cache.
+ */
+public class S3MetadataCache {
+
+  private final int maxSize;
+  private final Duration ttl;
+  private final Clock clock;
+  private final LinkedHashMap<String, Entry<Boolean>> buckets =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<ObjectKey, Entry<S3ObjectMetadata>> objects =
+      new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Creates a S3MetadataCache.
+   *
+   * @param maxSize the maximum number of buckets, and of objects, cached
+   * @param ttl     the duration after which an entry expires
+   * @param clock   the clock measuring the age of the entries
+   */
+  public S3MetadataCache(int maxSize, Duration ttl, Clock clock) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be greater than 0");
+    }
+    this.maxSize = maxSize;
+    this.ttl = Objects.requireNonNull(ttl, "ttl must not be null");
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+  }
+
+  /**
+   * Returns whether a bucket exists, if known.
+   *
+   * @param bucketName the name of the bucket
+   * @return the existence of the bucket, empty if unknown
+   */
+  public synchronized Optional<Boolean> bucketExists(String bucketName) {
+    return get(buckets, bucketName);
+  }
+
+  /**
+   * Records whether a bucket exists.
+   *
+   * @param bucketName the name of the bucket
+   * @param exists     whether the bucket exists
+   */
+  public synchronized void putBucketExists(String bucketName, boolean exists) {
+    put(buckets, bucketName, exists);
+  }
+
+  /**
+   * Returns the metadata of an object, if known.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @return the metadata of the object, empty if unknown
+   */
+  public synchronized Optional<S3ObjectMetadata> object(String bucketName, String objectName) {
+    return get(objects, new ObjectKey(bucketName, objectName));
+  }
+
+  /**
+   * Records the metadata of an object. The bucket of the object is known to exist.
+   *
+   * @param bucketName the name of the bucket
+   * @param metadata   the metadata of the object
+   */
+  public synchronized void putObject(String bucketName, S3ObjectMetadata metadata) {
+    put(objects, new ObjectKey(bucketName, metadata.objectName()), metadata);
+    put(buckets, bucketName, true);
+  }
+
+  /**
+   * Forgets the metadata of an object, after it has been written or deleted.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   */
+  public synchronized void invalidateObject(String bucketName, String objectName) {
+    objects.remove(new ObjectKey(bucketName, objectName));
+  }
+
+  /**
+   * Forgets the existence of a bucket and the metadata of all its objects.
+   *
+   * @param bucketName the name of the bucket
+   */
+  public synchronized void invalidateBucket(String bucketName) {
+    buckets.remove(bucketName);
+    objects.keySet().removeIf(key -> key.bucketName().equals(bucketName));
+  }
+
+  /**
+   * Returns the number of cached entries, buckets and objects included.
+   *
+   * @return the number of cached entries
+   */
+  public synchronized int size() {
+    return buckets.size() + objects.size();
+  }
+
+  private <K, V> Optional<V> get(Map<K, Entry<V>> entries, K key) {
+    var entry = entries.get(key);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    if (!entry.expiration().isAfter(clock.instant())) {
+      entries.remove(key);
+      return Optional.empty();
+    }
+    return Optional.of(entry.value());
+  }
+
+  private <K, V> void put(LinkedHashMap<K, Entry<V>> entries, K key, V value) {
+    entries.put(key, new Entry<>(value, clock.instant().plus(ttl)));
+    if (entries.size() > maxSize) {
+      entries.remove(entries.keySet().iterator().next());
+    }
+  }
+
+  private record ObjectKey(String bucketName, String objectName) {
+  }
+
+  private record Entry<V>(V value, Instant expiration) {
+  }
+}
@@ -0,0 +1,141 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.util.concurrent.ExecutorService;
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+/**
+ * The metrics of the S3 requests: their latency and outcome per operation and bucket, the
+ * requests in flight and the bytes transferred, the allocations of the transfer buffers and the
+ * saturation of the transfer executors. An implementation is provided by an extension to
+ * export them to a monitoring system; by default, nothing is recorded.
+ */
+@ExtensionPoint
+public interface S3Metrics {
+
+  /**
+   * Returns metrics recording nothing.
+   *
+   * @return the metrics recording nothing
+   */
+  static S3Metrics noop() {
+    return NoopS3Metrics.INSTANCE;
+  }
+
+  /**
+   * Records the start of a request. The request is in flight until the returned sample is
+   * stopped.
+   *
+   * @param operation  the name of the operation, e.g. {@code getObjectStream}
+   * @param bucketName the name of the bucket
+   * @return the sample to stop once the request completes
+   */
+  Sample start(String operation, String bucketName);
+
+  /**
+   * Records bytes downloaded from a bucket.
+   *
+   * @param bucketName the name of the bucket
+   * @param bytes      the number of bytes
+   */
+  void bytesIn(String bucketName, long bytes);
+
+  /**
+   * Records bytes uploaded to a bucket.
+   *
+   * @param bucketName the name of the bucket
+   * @param bytes      the number of bytes
+   */
+  void bytesOut(String bucketName, long bytes);
+
+  /**
+   * Records the allocation of a transfer buffer by the {@link S3BufferPool}. Buffers reused from
+   * the pool are not recorded. Nothing is recorded by default.
+   *
+   * @param bytes  the capacity of the buffer
+   * @param pooled whether the buffer is kept by the pool once released, false when the pool is
+   *               full
+   */
+  default void bufferAllocated(long bytes, boolean pooled) {
+  }
+
+  /**
+   * Records a transfer buffer garbage collected without having been released to the
+   * {@link S3BufferPool}. Nothing is recorded by default.
+   *
+   * @param bytes the capacity of the buffer
+   */
+  default void bufferLeaked(long bytes) {
+  }
+
+  /**
+   * Instruments an executor running transfers, e.g. to record its active and queued tasks. By
+   * default, the executor is returned as is.
+   *
+   * @param name     the name of the executor
+   * @param executor the executor
+   * @return the executor to use instead of the given one
+   */
+  default ExecutorService monitorExecutor(String name, ExecutorService executor) {
+    return executor;
+  }
+
+  /**
+   * Records a task submitted to a saturated executor: the submitting thread either runs it or
+   * waits for a running task to complete. Nothing is recorded by default.
+   *
+   * @param name the name of the executor
+   */
+  default void executorSaturated(String name) {
+  }
+
+  /**
+   * A request in flight.
+   */
+  interface Sample {
+
+    /**
+     * Records the success of the request and its latency.
+     */
+    void success();
+
+    /**
+     * Records the failure of the request and its latency.
+     *
+     * @param errorCode the S3 error code of the failure, or the type of the failure when the
+     *                  endpoint did not answer
+     */
+    void failure(String errorCode);
+  }
+
+  /**
+   * The metrics recording nothing.
+   */
+  final class NoopS3Metrics implements S3Metrics, Sample {
+
+    private static final NoopS3Metrics INSTANCE = new NoopS3Metrics();
+
+    private NoopS3Metrics() {
+    }
+
+    @Override
+    public Sample start(String operation, String bucketName) {
+      return this;
+    }
+
+    @Override
+    public void bytesIn(String bucketName, long bytes) {
+    }
+
+    @Override
+    public void bytesOut(String bucketName, long bytes) {
+    }
+
+    @Override
+    public void success() {
+    }
+
+    @Override
+    public void failure(String errorCode) {
+    }
+  }
+}
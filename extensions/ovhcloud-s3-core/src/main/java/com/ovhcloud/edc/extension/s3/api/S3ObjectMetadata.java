@@ -0,0 +1,16 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Metadata of an object stored in an OVHcloud S3 bucket, as returned by a listing.
+ *
+ * @param objectName   the name of the object
+ * @param size         the size of the object in bytes
+ * @param etag         the ETag of the object, without the surrounding quotes
+ * @param lastModified the date of the last modification of the object, may be null
+ */
+public record S3ObjectMetadata(String objectName, long size, String etag,
+                               ZonedDateTime lastModified) {
+
+}
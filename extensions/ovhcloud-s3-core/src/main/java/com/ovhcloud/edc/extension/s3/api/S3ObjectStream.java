@@ -0,0 +1,30 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * A stream reading the data of an object, exposing the headers of the response it reads. The
+ * streams opened by the clients implement it, and the streams wrapping them forward the headers of
+ * the stream they wrap.
+ */
+public interface S3ObjectStream {
+
+  /**
+   * Returns the headers of the response the data is read from.
+   *
+   * @return the response headers, null if no response was received yet
+   */
+  S3ResponseHeaders responseHeaders();
+
+  /**
+   * Returns the response headers of a stream opened by a client.
+   *
+   * @param inputStream the stream
+   * @return the response headers, empty if the stream does not expose them
+   */
+  static Optional<S3ResponseHeaders> responseHeaders(InputStream inputStream) {
+    return inputStream instanceof S3ObjectStream objectStream
+        ? Optional.ofNullable(objectStream.responseHeaders()) : Optional.empty();
+  }
+}
@@ -0,0 +1,32 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+/**
+ * The classes of S3 requests, each having its own rate limit.
+ */
+public enum S3Operation {
+
+  /**
+   * Listing of the objects of a bucket.
+   */
+  LIST,
+
+  /**
+   * Check of the existence of a bucket or of the metadata of an object.
+   */
+  HEAD,
+
+  /**
+   * Download of an object or of a byte range of an object.
+   */
+  GET,
+
+  /**
+   * Creation of a bucket, upload or copy of an object or of a part of an object.
+   */
+  PUT,
+
+  /**
+   * Deletion of a bucket or of objects, abort of a multipart upload.
+   */
+  DELETE
+}
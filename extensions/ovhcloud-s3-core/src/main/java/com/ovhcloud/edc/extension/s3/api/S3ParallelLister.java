@@ -0,0 +1,408 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import com.ovhcloud.edc.extension.s3.utils.S3Utils;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.eclipse.edc.spi.EdcException;
+
+/**
+ * A listing of the objects of a prefix fanned out over its sub-prefixes, for the prefixes holding
+ * too many objects to be listed by a single sequence of requests: each request returns at most a
+ * page of objects, and waits for the previous one.
+ * <p>
+ * The prefix is first listed with the {@code /} delimiter, which returns the objects directly
+ * under it and its sub-prefixes, each one standing for all the objects under it. The sub-prefixes
+ * are then listed recursively, at most {@code concurrency} of them at the same time, each one read
+ * ahead of the consumer up to a bounded number of objects. The objects are returned in the order
+ * of a single listing, the binary order of the UTF-8 encoding of their keys: the sub-prefixes are
+ * consumed one after the other while the next ones are listed in background. A prefix without
+ * sub-prefixes is listed by a single sequence of requests, as the delimited listing returns all
+ * its objects.
+ * </p>
+ * <p>
+ * Failures of the listings are rethrown to the consumer when it reaches their objects. The lister
+ * must be closed when it is not fully consumed, so that no more page is requested.
+ * </p>
+ */
+final class S3ParallelLister implements Iterator<S3ObjectMetadata>, AutoCloseable {
+
+  /**
+   * The delimiter of the sub-prefixes.
+   */
+  static final String DELIMITER = "/";
+
+  private final PageReader pageReader;
+  private final String prefix;
+  private final int concurrency;
+  private final int readAhead;
+  private final Deque<Segment> segments = new ArrayDeque<>();
+  private int segmentsWeight;
+  private String discoveryToken;
+  private boolean discoveryDone;
+  private Segment current;
+  private volatile boolean closed;
+
+  /**
+   * Creates a lister. No request is sent until the first object is read.
+   *
+   * @param pageReader  the reader of the pages of the listings
+   * @param prefix      the prefix of the objects to list, null for the whole bucket
+   * @param concurrency the maximum number of sub-prefixes listed at the same time
+   * @param readAhead   the maximum number of objects of a sub-prefix read ahead of the consumer
+   */
+  S3ParallelLister(PageReader pageReader, String prefix, int concurrency, int readAhead) {
+    if (concurrency <= 0) {
+      throw new IllegalArgumentException("concurrency must be greater than 0");
+    }
+    if (readAhead <= 0) {
+      throw new IllegalArgumentException("readAhead must be greater than 0");
+    }
+
+    this.pageReader = Objects.requireNonNull(pageReader, "pageReader must not be null");
+    this.prefix = prefix == null ? "" : prefix;
+    this.concurrency = concurrency;
+    this.readAhead = readAhead;
+  }
+
+  /**
+   * Returns true if there are more objects, waiting for their listing if needed.
+   *
+   * @return true if there are more objects
+   * @throws EdcException if a listing failed
+   */
+  @Override
+  public boolean hasNext() {
+    while (!closed) {
+      if (current != null && current.hasNext()) {
+        return true;
+      }
+      current = nextSegment();
+      if (current == null) {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the next object, waiting for its listing if needed.
+   *
+   * @return the next object
+   * @throws NoSuchElementException if there are no more objects
+   * @throws EdcException           if a listing failed
+   */
+  @Override
+  public S3ObjectMetadata next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+
+  /**
+   * Stops requesting pages and releases the objects read ahead.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    segments.forEach(Segment::close);
+    segments.clear();
+    if (current != null) {
+      current.close();
+    }
+  }
+
+  private Segment nextSegment() {
+    while (segments.isEmpty() && !discoveryDone) {
+      discover();
+    }
+
+    var segment = segments.poll();
+    if (segment != null) {
+      segmentsWeight -= segment.weight();
+      startSubListings(segment);
+    }
+    return segment;
+  }
+
+  /**
+   * Starts the listings of the next sub-prefixes, so that the one being consumed and the
+   * following ones are listed at the same time. The delimited listing is read further to find
+   * them, as long as the objects and sub-prefixes found ahead of the consumer do not exceed the
+   * read-ahead limit.
+   *
+   * @param next the segment about to be consumed
+   */
+  private void startSubListings(Segment next) {
+    var started = next instanceof SubListing ? 1 : 0;
+    for (var segment : segments) {
+      if (started >= concurrency) {
+        return;
+      }
+      if (segment instanceof SubListing subListing) {
+        subListing.start();
+        started++;
+      }
+    }
+
+    while (started < concurrency && !discoveryDone && segmentsWeight < readAhead) {
+      var discovered = discover();
+      for (var segment : discovered) {
+        if (started < concurrency && segment instanceof SubListing subListing) {
+          subListing.start();
+          started++;
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads the next page of the delimited listing, merging its objects and sub-prefixes in the
+   * order of their keys: a page returns them as two sorted lists.
+   *
+   * @return the segments found
+   */
+  private List<Segment> discover() {
+    var page = join(pageReader.read(prefix, DELIMITER, discoveryToken));
+    discoveryToken = page.nextContinuationToken();
+    discoveryDone = discoveryToken == null;
+
+    var discovered = new ArrayList<Segment>();
+    var objects = new ArrayList<S3ObjectMetadata>();
+    var i = 0;
+    var j = 0;
+    while (i < page.objects().size() || j < page.prefixes().size()) {
+      if (j == page.prefixes().size() || (i < page.objects().size()
+          && S3Utils.compareKeys(page.objects().get(i).objectName(),
+          page.prefixes().get(j)) < 0)) {
+        objects.add(page.objects().get(i++));
+        continue;
+      }
+      if (!objects.isEmpty()) {
+        discovered.add(new ListedObjects(objects));
+        objects = new ArrayList<>();
+      }
+      discovered.add(new SubListing(page.prefixes().get(j++)));
+    }
+    if (!objects.isEmpty()) {
+      discovered.add(new ListedObjects(objects));
+    }
+
+    discovered.forEach(segment -> segmentsWeight += segment.weight());
+    segments.addAll(discovered);
+    return discovered;
+  }
+
+  /**
+   * Waits for a listing request.
+   *
+   * @param request the future result of the request
+   * @param <T>     the type of the result
+   * @return the result
+   * @throws EdcException if the request failed
+   */
+  static <T> T join(CompletableFuture<T> request) {
+    try {
+      return request.join();
+    } catch (CompletionException e) {
+      throw toEdcException(e.getCause());
+    }
+  }
+
+  private static EdcException toEdcException(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      throwable = throwable.getCause();
+    }
+    if (throwable instanceof EdcException edcException) {
+      return edcException;
+    }
+    return new EdcException("Error listing bucket objects: " + throwable.getMessage(), throwable);
+  }
+
+  /**
+   * Reads the pages of the listings of a bucket.
+   */
+  @FunctionalInterface
+  interface PageReader {
+
+    /**
+     * Reads a page of a listing.
+     *
+     * @param prefix            the prefix of the objects to list
+     * @param delimiter         the delimiter of the sub-prefixes, null to list the objects under
+     *                          the sub-prefixes too
+     * @param continuationToken the token returned by the previous page, null for the first page
+     * @return a future completed with the page
+     */
+    CompletableFuture<Page> read(String prefix, String delimiter, String continuationToken);
+  }
+
+  /**
+   * A page of a listing.
+   *
+   * @param objects               the objects of the page, in the order of their keys
+   * @param prefixes              the sub-prefixes of the page, in the order of their keys, empty
+   *                              without delimiter
+   * @param nextContinuationToken the token of the next page, null for the last page
+   */
+  record Page(List<S3ObjectMetadata> objects, List<String> prefixes,
+              String nextContinuationToken) {
+
+  }
+
+  /**
+   * A run of consecutive objects of the listing, either already read or under a sub-prefix.
+   */
+  private interface Segment {
+
+    boolean hasNext();
+
+    S3ObjectMetadata next();
+
+    /**
+     * Returns the weight of the segment in the part of the listing read ahead of the consumer.
+     */
+    int weight();
+
+    default void close() {
+    }
+  }
+
+  /**
+   * Objects directly under the prefix, returned by the delimited listing.
+   */
+  private static final class ListedObjects implements Segment {
+
+    private final Iterator<S3ObjectMetadata> objects;
+    private final int size;
+
+    private ListedObjects(List<S3ObjectMetadata> objects) {
+      this.objects = objects.iterator();
+      this.size = objects.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return objects.hasNext();
+    }
+
+    @Override
+    public S3ObjectMetadata next() {
+      return objects.next();
+    }
+
+    @Override
+    public int weight() {
+      return size;
+    }
+  }
+
+  /**
+   * The objects under a sub-prefix, listed recursively in background once started. The next page
+   * is requested as long as the objects read ahead do not exceed the limit.
+   */
+  private final class SubListing implements Segment {
+
+    private final String subPrefix;
+    private final Deque<S3ObjectMetadata> buffer = new ArrayDeque<>();
+    private String continuationToken;
+    private boolean started;
+    private boolean fetching;
+    private boolean done;
+    private EdcException failure;
+
+    private SubListing(String subPrefix) {
+      this.subPrefix = subPrefix;
+    }
+
+    synchronized void start() {
+      if (!started) {
+        started = true;
+        fetch();
+      }
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+      start();
+      while (buffer.isEmpty() && failure == null && !done) {
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new EdcException("Interrupted while listing the objects of " + subPrefix, e);
+        }
+      }
+
+      if (!buffer.isEmpty()) {
+        return true;
+      }
+      if (failure != null) {
+        throw failure;
+      }
+      return false;
+    }
+
+    @Override
+    public synchronized S3ObjectMetadata next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      var object = buffer.poll();
+      fetch();
+      return object;
+    }
+
+    @Override
+    public int weight() {
+      return 1;
+    }
+
+    @Override
+    public synchronized void close() {
+      done = true;
+      buffer.clear();
+      notifyAll();
+    }
+
+    private void fetch() {
+      if (fetching || done || closed || buffer.size() >= readAhead) {
+        return;
+      }
+
+      fetching = true;
+      try {
+        pageReader.read(subPrefix, null, continuationToken).whenComplete(this::onPage);
+      } catch (RuntimeException e) {
+        onPage(null, e);
+      }
+    }
+
+    private synchronized void onPage(Page page, Throwable throwable) {
+      fetching = false;
+      if (done) {
+        // Closed while the page was requested
+        return;
+      }
+
+      if (throwable != null) {
+        failure = toEdcException(throwable);
+        done = true;
+      } else {
+        buffer.addAll(page.objects());
+        continuationToken = page.nextContinuationToken();
+        done = continuationToken == null;
+        fetch();
+      }
+      notifyAll();
+    }
+  }
+}
@@ -0,0 +1,209 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+import org.eclipse.edc.spi.EdcException;
+
+/**
+ * Paces the requests sent to an endpoint with token buckets, so that the clients stay under the
+ * limits of the endpoint instead of being throttled with 503 SlowDown errors. The requests are
+ * counted per {@link S3Operation}, for the whole endpoint and for each bucket; the bytes are
+ * counted for the whole endpoint and for each bucket. A limiter is shared by all the clients of an
+ * endpoint.
+ */
+public class S3RateLimiter {
+
+  private final S3RateLimits limits;
+  private final LongSupplier nanoTime;
+  private final Limits endpoint;
+  private final Map<String, Limits> buckets = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a S3RateLimiter.
+   *
+   * @param limits the rate limits of the endpoint
+   */
+  public S3RateLimiter(S3RateLimits limits) {
+    this(limits, System::nanoTime);
+  }
+
+  S3RateLimiter(S3RateLimits limits, LongSupplier nanoTime) {
+    this.limits = Objects.requireNonNull(limits, "limits must not be null");
+    this.nanoTime = nanoTime;
+    this.endpoint = new Limits(limits::endpointRequestsPerSecond,
+        limits.endpointBytesPerSecond());
+  }
+
+  /**
+   * Reserves a request to a bucket.
+   *
+   * @param bucketName the name of the bucket
+   * @param operation  the operation of the request
+   * @return the time in nanoseconds to wait before sending the request
+   */
+  public long reserve(String bucketName, S3Operation operation) {
+    return Math.max(endpoint.reserve(operation), bucketLimits(bucketName).reserve(operation));
+  }
+
+  /**
+   * Reserves the transfer of bytes with a bucket.
+   *
+   * @param bucketName the name of the bucket
+   * @param bytes      the number of bytes
+   * @return the time in nanoseconds to wait before transferring the bytes
+   */
+  public long reserveBytes(String bucketName, long bytes) {
+    if (bytes <= 0) {
+      return 0;
+    }
+    return Math.max(endpoint.reserveBytes(bytes), bucketLimits(bucketName).reserveBytes(bytes));
+  }
+
+  /**
+   * Waits until a request to a bucket can be sent.
+   *
+   * @param bucketName the name of the bucket
+   * @param operation  the operation of the request
+   * @throws EdcException if interrupted while waiting
+   */
+  public void acquire(String bucketName, S3Operation operation) throws EdcException {
+    await(reserve(bucketName, operation));
+  }
+
+  /**
+   * Waits until bytes can be transferred with a bucket.
+   *
+   * @param bucketName the name of the bucket
+   * @param bytes      the number of bytes
+   * @throws EdcException if interrupted while waiting
+   */
+  public void acquireBytes(String bucketName, long bytes) throws EdcException {
+    await(reserveBytes(bucketName, bytes));
+  }
+
+  /**
+   * Wraps a stream so that the bytes read through it are paced by the limits of a bucket.
+   *
+   * @param bucketName  the name of the bucket
+   * @param inputStream the stream to pace
+   * @return the paced stream, or the stream itself if the bytes are not limited
+   */
+  public InputStream limit(String bucketName, InputStream inputStream) {
+    if (limits.endpointBytesPerSecond() <= 0 && limits.bucketBytesPerSecond() <= 0) {
+      return inputStream;
+    }
+    return new RateLimitedInputStream(inputStream, bucketName);
+  }
+
+  private Limits bucketLimits(String bucketName) {
+    return buckets.computeIfAbsent(String.valueOf(bucketName),
+        name -> new Limits(limits::bucketRequestsPerSecond, limits.bucketBytesPerSecond()));
+  }
+
+  private static void await(long nanos) throws EdcException {
+    try {
+      sleep(nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new EdcException("Interrupted while waiting for the S3 rate limit", e);
+    }
+  }
+
+  private static void sleep(long nanos) throws InterruptedException {
+    if (nanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    }
+  }
+
+  /**
+   * The token buckets of a scope, the endpoint or a bucket. The absent ones are not limited.
+   */
+  private final class Limits {
+
+    private final Map<S3Operation, S3TokenBucket> requests = new EnumMap<>(S3Operation.class);
+    private final S3TokenBucket bytes;
+
+    private Limits(ToIntFunction<S3Operation> requestsPerSecond, long bytesPerSecond) {
+      for (var operation : S3Operation.values()) {
+        var limit = requestsPerSecond.applyAsInt(operation);
+        if (limit > 0) {
+          requests.put(operation, new S3TokenBucket(limit, nanoTime));
+        }
+      }
+      this.bytes = bytesPerSecond > 0 ? new S3TokenBucket(bytesPerSecond, nanoTime) : null;
+    }
+
+    private long reserve(S3Operation operation) {
+      var bucket = requests.get(operation);
+      return bucket == null ? 0 : bucket.reserve(1);
+    }
+
+    private long reserveBytes(long count) {
+      return bytes == null ? 0 : bytes.reserve(count);
+    }
+  }
+
+  /**
+   * A stream charging the bytes read through it to the limits of a bucket.
+   */
+  private final class RateLimitedInputStream extends FilterInputStream implements S3ObjectStream {
+
+    private final String bucketName;
+
+    private RateLimitedInputStream(InputStream in, String bucketName) {
+      super(in);
+      this.bucketName = bucketName;
+    }
+
+    @Override
+    public int read() throws IOException {
+      var b = in.read();
+      if (b != -1) {
+        pace(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      var read = in.read(b, off, len);
+      if (read > 0) {
+        pace(read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      // The skipped bytes are downloaded all the same
+      var skipped = in.skip(n);
+      if (skipped > 0) {
+        pace(skipped);
+      }
+      return skipped;
+    }
+
+    @Override
+    public S3ResponseHeaders responseHeaders() {
+      return S3ObjectStream.responseHeaders(in).orElse(null);
+    }
+
+    private void pace(long count) throws IOException {
+      try {
+        sleep(reserveBytes(bucketName, count));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the S3 rate limit");
+      }
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The rate limits of the requests sent to an endpoint, and to each of its buckets. The requests
+ * are limited per second and per {@link S3Operation}; the bytes uploaded and downloaded are limited
+ * per second regardless of the operation. A limit lower than or equal to 0 means no limit.
+ */
+public final class S3RateLimits {
+
+  private final Map<S3Operation, Integer> endpointRequestsPerSecond;
+  private final Map<S3Operation, Integer> bucketRequestsPerSecond;
+  private final long endpointBytesPerSecond;
+  private final long bucketBytesPerSecond;
+
+  private S3RateLimits(Builder builder) {
+    this.endpointRequestsPerSecond = Map.copyOf(builder.endpointRequestsPerSecond);
+    this.bucketRequestsPerSecond = Map.copyOf(builder.bucketRequestsPerSecond);
+    this.endpointBytesPerSecond = builder.endpointBytesPerSecond;
+    this.bucketBytesPerSecond = builder.bucketBytesPerSecond;
+  }
+
+  /**
+   * Returns the limits of an endpoint without any limit.
+   *
+   * @return the absence of limits
+   */
+  public static S3RateLimits unlimited() {
+    return Builder.newInstance().build();
+  }
+
+  /**
+   * Returns the maximum number of requests of an operation per second sent to the endpoint.
+   *
+   * @param operation the operation
+   * @return the maximum number of requests per second, 0 for no limit
+   */
+  public int endpointRequestsPerSecond(S3Operation operation) {
+    return endpointRequestsPerSecond.getOrDefault(operation, 0);
+  }
+
+  /**
+   * Returns the maximum number of requests of an operation per second sent to a bucket.
+   *
+   * @param operation the operation
+   * @return the maximum number of requests per second, 0 for no limit
+   */
+  public int bucketRequestsPerSecond(S3Operation operation) {
+    return bucketRequestsPerSecond.getOrDefault(operation, 0);
+  }
+
+  /**
+   * Returns the maximum number of bytes per second transferred with the endpoint.
+   *
+   * @return the maximum number of bytes per second, 0 for no limit
+   */
+  public long endpointBytesPerSecond() {
+    return endpointBytesPerSecond;
+  }
+
+  /**
+   * Returns the maximum number of bytes per second transferred with a bucket.
+   *
+   * @return the maximum number of bytes per second, 0 for no limit
+   */
+  public long bucketBytesPerSecond() {
+    return bucketBytesPerSecond;
+  }
+
+  /**
+   * Tells whether no limit is set.
+   *
+   * @return true if no limit is set
+   */
+  public boolean isUnlimited() {
+    return endpointRequestsPerSecond.isEmpty() && bucketRequestsPerSecond.isEmpty()
+        && endpointBytesPerSecond <= 0 && bucketBytesPerSecond <= 0;
+  }
+
+  /**
+   * A builder for {@link S3RateLimits}.
+   */
+  public static class Builder {
+
+    private final Map<S3Operation, Integer> endpointRequestsPerSecond =
+        new EnumMap<>(S3Operation.class);
+    private final Map<S3Operation, Integer> bucketRequestsPerSecond =
+        new EnumMap<>(S3Operation.class);
+    private long endpointBytesPerSecond;
+    private long bucketBytesPerSecond;
+
+    private Builder() {
+    }
+
+    /**
+     * Creates a new instance of {@link Builder}.
+     *
+     * @return a new instance of {@link Builder}.
+     */
+    @Contract(value = " -> new", pure = true)
+    public static @NotNull Builder newInstance() {
+      return new Builder();
+    }
+
+    /**
+     * Sets the maximum number of requests of an operation per second sent to the endpoint.
+     *
+     * @param operation         the operation.
+     * @param requestsPerSecond the maximum number of requests per second, 0 for no limit.
+     * @return the builder.
+     */
+    public Builder endpointRequestsPerSecond(S3Operation operation, int requestsPerSecond) {
+      put(endpointRequestsPerSecond, operation, requestsPerSecond);
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of requests of an operation per second sent to each bucket.
+     *
+     * @param operation         the operation.
+     * @param requestsPerSecond the maximum number of requests per second, 0 for no limit.
+     * @return the builder.
+     */
+    public Builder bucketRequestsPerSecond(S3Operation operation, int requestsPerSecond) {
+      put(bucketRequestsPerSecond, operation, requestsPerSecond);
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of bytes per second transferred with the endpoint.
+     *
+     * @param bytesPerSecond the maximum number of bytes per second, 0 for no limit.
+     * @return the builder.
+     */
+    public Builder endpointBytesPerSecond(long bytesPerSecond) {
+      this.endpointBytesPerSecond = Math.max(bytesPerSecond, 0);
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of bytes per second transferred with each bucket.
+     *
+     * @param bytesPerSecond the maximum number of bytes per second, 0 for no limit.
+     * @return the builder.
+     */
+    public Builder bucketBytesPerSecond(long bytesPerSecond) {
+      this.bucketBytesPerSecond = Math.max(bytesPerSecond, 0);
+      return this;
+    }
+
+    /**
+     * Builds the {@link S3RateLimits}.
+     *
+     * @return the {@link S3RateLimits}.
+     */
+    public S3RateLimits build() {
+      return new S3RateLimits(this);
+    }
+
+    private static void put(Map<S3Operation, Integer> limits, S3Operation operation,
+        int requestsPerSecond) {
+      Objects.requireNonNull(operation, "operation must not be null");
+      if (requestsPerSecond > 0) {
+        limits.put(operation, requestsPerSecond);
+      } else {
+        limits.remove(operation);
+      }
+    }
+  }
+}
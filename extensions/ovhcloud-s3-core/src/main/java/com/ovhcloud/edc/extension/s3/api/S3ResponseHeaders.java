@@ -0,0 +1,45 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import okhttp3.Headers;
+
+/**
+ * Headers of the response of a request reading an object of an OVHcloud S3 bucket.
+ *
+ * @param etag                the ETag of the object, without the surrounding quotes, may be null
+ * @param contentLength       the length of the response body, the size of the object when it is
+ *                            read whole, -1 if unknown
+ * @param serverSideEncrypted whether the object is encrypted by the bucket, with keys of the
+ *                            customer, of a key management service or of the bucket itself: its
+ *                            ETag is then not the MD5 digest of its data
+ */
+public record S3ResponseHeaders(String etag, long contentLength, boolean serverSideEncrypted) {
+
+  private static final String SERVER_SIDE_ENCRYPTION = "x-amz-server-side-encryption";
+  private static final String CUSTOMER_ALGORITHM =
+      "x-amz-server-side-encryption-customer-algorithm";
+
+  static S3ResponseHeaders of(Headers headers) {
+    if (headers == null) {
+      return new S3ResponseHeaders(null, -1, false);
+    }
+    var etag = headers.get("ETag");
+    if (etag != null && etag.length() >= 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+      etag = etag.substring(1, etag.length() - 1);
+    }
+    var serverSideEncrypted = headers.get(SERVER_SIDE_ENCRYPTION) != null
+        || headers.get(CUSTOMER_ALGORITHM) != null;
+    return new S3ResponseHeaders(etag, contentLength(headers.get("Content-Length")),
+        serverSideEncrypted);
+  }
+
+  private static long contentLength(String value) {
+    if (value == null) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import io.minio.GetObjectResponse;
+import java.io.FilterInputStream;
+
+/**
+ * The live HTTP response of a request reading an object, exposing its headers.
+ */
+class S3ResponseInputStream extends FilterInputStream implements S3ObjectStream {
+
+  private final S3ResponseHeaders responseHeaders;
+
+  S3ResponseInputStream(GetObjectResponse response) {
+    super(response);
+    this.responseHeaders = S3ResponseHeaders.of(response.headers());
+  }
+
+  @Override
+  public S3ResponseHeaders responseHeaders() {
+    return responseHeaders;
+  }
+}
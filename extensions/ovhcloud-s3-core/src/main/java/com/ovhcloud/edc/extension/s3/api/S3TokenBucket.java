@@ -0,0 +1,51 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket refilled at a constant rate, holding at most one second of tokens. A reservation
+ * is always granted and returns the time the caller must wait before proceeding: the tokens may be
+ * borrowed ahead of the refill, so that a reservation larger than the capacity (e.g. a large part)
+ * is paced instead of being refused, and the callers are served in the order of their reservation.
+ */
+final class S3TokenBucket {
+
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final double capacity;
+  private final LongSupplier nanoTime;
+  private double tokens;
+  private long lastRefill;
+
+  /**
+   * Creates a full token bucket.
+   *
+   * @param tokensPerSecond the number of tokens added per second
+   * @param nanoTime        the source of the time, in nanoseconds
+   */
+  S3TokenBucket(long tokensPerSecond, LongSupplier nanoTime) {
+    if (tokensPerSecond <= 0) {
+      throw new IllegalArgumentException("tokensPerSecond must be greater than 0");
+    }
+    this.capacity = tokensPerSecond;
+    this.nanoTime = nanoTime;
+    this.tokens = capacity;
+    this.lastRefill = nanoTime.getAsLong();
+  }
+
+  /**
+   * Reserves tokens.
+   *
+   * @param permits the number of tokens to reserve
+   * @return the time in nanoseconds to wait before using the tokens, 0 if they are available
+   */
+  synchronized long reserve(long permits) {
+    var now = nanoTime.getAsLong();
+    tokens = Math.min(capacity, tokens + (now - lastRefill) * capacity / NANOS_PER_SECOND);
+    lastRefill = now;
+
+    tokens -= permits;
+    return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * NANOS_PER_SECOND / capacity);
+  }
+}
@@ -0,0 +1,171 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.edc.spi.EdcException;
+
+/**
+ * The high-watermarks of the incremental transfers: for each key, the last modification date up
+ * to which the objects of a source were transferred by the last completed flow, so that the next
+ * flow of the same key only transfers the objects written since.
+ * <p>
+ * The watermarks are kept in memory, and written to a properties file of a directory when one is
+ * set, so that they survive a restart of the data plane. The file is replaced atomically on each
+ * update.
+ * </p>
+ * <p>
+ * The watermark of a new flow is the current time minus a safety lag, so that the objects whose
+ * last modification date is behind the time they became visible are left to the next flow rather
+ * than skipped: the clock of the bucket may lag behind the clock of the data plane, and the date of
+ * a multipart upload is the time it was initiated, not completed.
+ * </p>
+ */
+public class S3WatermarkStore {
+
+  /**
+   * The name of the file holding the watermarks in the directory of the store.
+   */
+  static final String FILE_NAME = "watermarks.properties";
+
+  private final Path file;
+  private final Duration safetyLag;
+  private final Clock clock;
+  private final Map<String, Instant> watermarks = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a S3WatermarkStore with the default safety lag, reading the watermarks already written
+   * to the directory.
+   *
+   * @param directory the directory of the file holding the watermarks, null to keep them in
+   *                  memory only
+   */
+  public S3WatermarkStore(Path directory) {
+    this(directory, Duration.ofSeconds(S3SettingsSchema.DEFAULT_WATERMARK_SAFETY_LAG),
+        Clock.systemUTC());
+  }
+
+  /**
+   * Creates a S3WatermarkStore, reading the watermarks already written to the directory.
+   *
+   * @param directory the directory of the file holding the watermarks, null to keep them in
+   *                  memory only
+   * @param safetyLag the time subtracted from the clock to get the watermark of a new flow
+   * @param clock     the clock giving the watermark of a new flow
+   */
+  public S3WatermarkStore(Path directory, Duration safetyLag, Clock clock) {
+    Objects.requireNonNull(safetyLag, "safetyLag must not be null");
+    if (safetyLag.isNegative()) {
+      throw new IllegalArgumentException("safetyLag must not be negative");
+    }
+
+    this.file = directory == null ? null : directory.resolve(FILE_NAME);
+    this.safetyLag = safetyLag;
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    if (file != null && Files.exists(file)) {
+      load();
+    }
+  }
+
+  /**
+   * Returns the watermark of a key.
+   *
+   * @param key the key of the incremental transfers
+   * @return the last modification date up to which the objects were transferred, empty if no flow
+   * of the key completed yet
+   */
+  public Optional<Instant> get(String key) {
+    return Optional.ofNullable(watermarks.get(Objects.requireNonNull(key, "key must not be null")));
+  }
+
+  /**
+   * Returns the watermark of a flow starting now, the upper bound of the modification dates of its
+   * objects when none is set: the current time minus the safety lag.
+   *
+   * @return the watermark of a new flow
+   */
+  public Instant nextWatermark() {
+    return clock.instant().minus(safetyLag);
+  }
+
+  /**
+   * Sets the watermark of a key, once a flow completed. A watermark never moves backwards: an
+   * earlier date than the current one is ignored.
+   *
+   * @param key       the key of the incremental transfers
+   * @param watermark the last modification date up to which the objects were transferred
+   * @throws EdcException if the watermarks cannot be written to the directory
+   */
+  public synchronized void put(String key, Instant watermark) {
+    Objects.requireNonNull(key, "key must not be null");
+    Objects.requireNonNull(watermark, "watermark must not be null");
+
+    var current = watermarks.get(key);
+    if (current != null && !watermark.isAfter(current)) {
+      return;
+    }
+
+    watermarks.put(key, watermark);
+    if (file != null) {
+      store();
+    }
+  }
+
+  private void load() {
+    var properties = new Properties();
+    try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      properties.load(reader);
+      properties.stringPropertyNames().forEach(key -> watermarks.put(key,
+          Instant.parse(properties.getProperty(key))));
+    } catch (IOException | DateTimeParseException e) {
+      throw new EdcException("Error reading the watermarks of " + file, e);
+    }
+  }
+
+  private void store() {
+    var properties = new Properties();
+    watermarks.forEach((key, watermark) -> properties.setProperty(key, watermark.toString()));
+    Path temporaryFile = null;
+    try {
+      Files.createDirectories(file.getParent());
+      temporaryFile = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+      try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+        properties.store(writer, null);
+      }
+      Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      deleteQuietly(temporaryFile, e);
+      throw new EdcException("Error writing the watermarks to " + file, e);
+    }
+  }
+
+  /**
+   * Deletes the temporary file of a failed write, so that failures do not leave files behind.
+   */
+  private static void deleteQuietly(Path temporaryFile, IOException failure) {
+    if (temporaryFile == null) {
+      return;
+    }
+
+    try {
+      Files.deleteIfExists(temporaryFile);
+    } catch (IOException e) {
+      failure.addSuppressed(e);
+    }
+  }
+}
@@ -53,4 +53,46 @@ public interface OVHCloudBucketSchema {
    */
   String PATH = EDC_NAMESPACE + "path";
 
+  /**
+   * The name of the key that contains the number of parts uploaded by the same partition of the
+   * sink of a destination.
+   */
+  String PARTITION_SIZE = EDC_NAMESPACE + "partitionSize";
+
+  /**
+   * The name of the key that contains the maximum number of partitions of the sink of a
+   * destination running at the same time.
+   */
+  String MAX_PARALLEL_PARTITIONS = EDC_NAMESPACE + "maxParallelPartitions";
+
+  /**
+   * The name of the key that contains the maximum number of chunks of an upload to a destination
+   * in flight at the same time.
+   */
+  String MULTIPART_CONCURRENCY = EDC_NAMESPACE + "multipartConcurrency";
+
+  /**
+   * The name of the key that tells whether a transfer to a destination skips the objects already
+   * there, unchanged.
+   */
+  String SYNC = EDC_NAMESPACE + "sync";
+
+  /**
+   * The name of the key that contains the ISO-8601 instant from which the objects of a source
+   * were last modified to be transferred, inclusive.
+   */
+  String MODIFIED_AFTER = EDC_NAMESPACE + "modifiedAfter";
+
+  /**
+   * The name of the key that contains the ISO-8601 instant before which the objects of a source
+   * were last modified to be transferred, exclusive.
+   */
+  String MODIFIED_BEFORE = EDC_NAMESPACE + "modifiedBefore";
+
+  /**
+   * The name of the key that contains the key of the high-watermark of the incremental transfers
+   * of a source.
+   */
+  String WATERMARK_KEY = EDC_NAMESPACE + "watermarkKey";
+
 }
@@ -25,6 +25,562 @@ public final class S3SettingsSchema {
   @Setting(value = "The key of the secret where the S3 Endpoint is stored")
   public static final String EDC_OVHCLOUD_S3_ENDPOINT = "edc.ovhcloud.s3.endpoint";
 
+  /**
+   * The comma-separated endpoints accepted besides the OVHcloud S3 ones, e.g. a local
+   * S3-compatible server used by integration tests. Their region defaults to us-east-1.
+   */
+  @Setting(value = "The comma-separated endpoints accepted besides the OVHcloud S3 ones",
+      defaultValue = "")
+  public static final String EDC_OVHCLOUD_S3_ENDPOINT_ALLOWLIST =
+      "edc.ovhcloud.s3.endpoint.allowlist";
+
+  /**
+   * The size in bytes of the chunks of a multipart upload.
+   */
+  @Setting(value = "The size in bytes of the chunks of a multipart upload", type = "long",
+      defaultValue = "" + S3SettingsSchema.DEFAULT_MULTIPART_CHUNK_SIZE)
+  public static final String EDC_OVHCLOUD_S3_MULTIPART_CHUNK_SIZE =
+      "edc.ovhcloud.s3.multipart.chunk.size";
+
+  /**
+   * The maximum number of chunks of a single multipart upload that are uploaded concurrently.
+   */
+  @Setting(value = "The maximum number of chunks of a multipart upload uploaded concurrently",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_MULTIPART_CONCURRENCY)
+  public static final String EDC_OVHCLOUD_S3_MULTIPART_CONCURRENCY =
+      "edc.ovhcloud.s3.multipart.concurrency";
+
+  /**
+   * The size in bytes of the ranges of an object downloaded in parallel.
+   */
+  @Setting(value = "The size in bytes of the ranges of an object downloaded in parallel",
+      type = "long", defaultValue = "" + S3SettingsSchema.DEFAULT_DOWNLOAD_CHUNK_SIZE)
+  public static final String EDC_OVHCLOUD_S3_DOWNLOAD_CHUNK_SIZE =
+      "edc.ovhcloud.s3.download.chunk.size";
+
+  /**
+   * The maximum number of ranges of a single object that are downloaded concurrently.
+   */
+  @Setting(value = "The maximum number of ranges of an object downloaded concurrently",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_DOWNLOAD_CONCURRENCY)
+  public static final String EDC_OVHCLOUD_S3_DOWNLOAD_CONCURRENCY =
+      "edc.ovhcloud.s3.download.concurrency";
+
+  /**
+   * The maximum number of bytes buffered by the ranges read ahead of the sinks, across all the
+   * downloads.
+   */
+  @Setting(value = "The maximum number of bytes buffered by the ranges read ahead of the sinks",
+      type = "long", defaultValue = "" + S3SettingsSchema.DEFAULT_DOWNLOAD_MEMORY_LIMIT)
+  public static final String EDC_OVHCLOUD_S3_DOWNLOAD_MEMORY_LIMIT =
+      "edc.ovhcloud.s3.download.memory.limit";
+
+  /**
+   * The executor running the partitions of the sinks: {@code fixed} for a pool of platform
+   * threads, {@code container} for the executor of the data plane, {@code virtual} for a virtual
+   * thread per partition on Java 21 and later.
+   */
+  @Setting(value = "The executor running the partitions of the sinks: fixed, container or virtual",
+      defaultValue = S3SettingsSchema.DEFAULT_SINK_EXECUTOR_TYPE)
+  public static final String EDC_OVHCLOUD_S3_SINK_EXECUTOR_TYPE =
+      "edc.ovhcloud.s3.sink.executor.type";
+
+  /**
+   * The number of threads of the fixed sink executor, or the maximum number of partitions running
+   * at the same time on virtual threads.
+   */
+  @Setting(value = "The number of threads of the fixed sink executor, or the maximum number of "
+      + "partitions running at the same time on virtual threads", type = "int",
+      defaultValue = "" + S3SettingsSchema.DEFAULT_SINK_EXECUTOR_THREADS)
+  public static final String EDC_OVHCLOUD_S3_SINK_EXECUTOR_THREADS =
+      "edc.ovhcloud.s3.sink.executor.threads";
+
+  /**
+   * The maximum number of partitions waiting for a thread of the fixed sink executor, 0 for no
+   * bound. Beyond it, the partitions are run by the thread starting the transfer.
+   */
+  @Setting(value = "The maximum number of partitions waiting for a thread of the fixed sink "
+      + "executor, 0 for no bound", type = "int",
+      defaultValue = "" + S3SettingsSchema.DEFAULT_SINK_EXECUTOR_QUEUE_SIZE)
+  public static final String EDC_OVHCLOUD_S3_SINK_EXECUTOR_QUEUE_SIZE =
+      "edc.ovhcloud.s3.sink.executor.queue.size";
+
+  /**
+   * The number of parts of a transfer uploaded one after the other by the same partition of its
+   * sink. Small partitions spread the objects of a transfer over more threads, large ones make a
+   * transfer of many small objects submit fewer tasks.
+   */
+  @Setting(value = "The number of parts of a transfer uploaded by the same partition of its sink",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_SINK_PARTITION_SIZE)
+  public static final String EDC_OVHCLOUD_S3_SINK_PARTITION_SIZE =
+      "edc.ovhcloud.s3.sink.partition.size";
+
+  /**
+   * The maximum number of partitions of a transfer running at the same time, 0 for no bound but the
+   * sink executor. The other partitions of the transfer wait, so that a single transfer cannot take
+   * all the threads of the sink executor.
+   */
+  @Setting(value = "The maximum number of partitions of a transfer running at the same time, 0 for "
+      + "no bound", type = "int",
+      defaultValue = "" + S3SettingsSchema.DEFAULT_SINK_MAX_PARALLEL_PARTITIONS)
+  public static final String EDC_OVHCLOUD_S3_SINK_MAX_PARALLEL_PARTITIONS =
+      "edc.ovhcloud.s3.sink.max.parallel.partitions";
+
+  /**
+   * The maximum number of parts of a transfer read ahead of the workers uploading them, and handed
+   * out to them by size, the largest first. 0 to split the parts in partitions of the same number
+   * of parts instead, whatever their size.
+   */
+  @Setting(value = "The maximum number of parts of a transfer read ahead and handed out by size, "
+      + "0 to split the parts in partitions of the same number of parts", type = "int",
+      defaultValue = "" + S3SettingsSchema.DEFAULT_SINK_SCHEDULING_WINDOW)
+  public static final String EDC_OVHCLOUD_S3_SINK_SCHEDULING_WINDOW =
+      "edc.ovhcloud.s3.sink.scheduling.window";
+
+  /**
+   * The time in seconds given to the transfers in progress to complete when the runtime shuts
+   * down, before they are interrupted.
+   */
+  @Setting(value = "The time in seconds given to the transfers in progress to complete on "
+      + "shutdown", type = "long",
+      defaultValue = "" + S3SettingsSchema.DEFAULT_EXECUTOR_SHUTDOWN_TIMEOUT)
+  public static final String EDC_OVHCLOUD_S3_EXECUTOR_SHUTDOWN_TIMEOUT =
+      "edc.ovhcloud.s3.executor.shutdown.timeout";
+
+  /**
+   * The maximum number of S3 clients cached by endpoint, region and credentials.
+   */
+  @Setting(value = "The maximum number of S3 clients cached by endpoint, region and credentials",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_CLIENT_CACHE_SIZE)
+  public static final String EDC_OVHCLOUD_S3_CLIENT_CACHE_SIZE =
+      "edc.ovhcloud.s3.client.cache.size";
+
+  /**
+   * The duration in seconds after which an unused cached S3 client is evicted.
+   */
+  @Setting(value = "The duration in seconds after which an unused cached S3 client is evicted",
+      type = "long", defaultValue = "" + S3SettingsSchema.DEFAULT_CLIENT_CACHE_IDLE_TIMEOUT)
+  public static final String EDC_OVHCLOUD_S3_CLIENT_CACHE_IDLE_TIMEOUT =
+      "edc.ovhcloud.s3.client.cache.idle.timeout";
+
+  /**
+   * The maximum number of idle connections kept in the HTTP connection pool.
+   */
+  @Setting(value = "The maximum number of idle connections kept in the HTTP connection pool",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_HTTP_MAX_IDLE_CONNECTIONS)
+  public static final String EDC_OVHCLOUD_S3_HTTP_MAX_IDLE_CONNECTIONS =
+      "edc.ovhcloud.s3.http.pool.max.idle.connections";
+
+  /**
+   * The duration in seconds an idle HTTP connection is kept in the pool.
+   */
+  @Setting(value = "The duration in seconds an idle HTTP connection is kept in the pool",
+      type = "long", defaultValue = "" + S3SettingsSchema.DEFAULT_HTTP_KEEP_ALIVE)
+  public static final String EDC_OVHCLOUD_S3_HTTP_KEEP_ALIVE =
+      "edc.ovhcloud.s3.http.pool.keep.alive";
+
+  /**
+   * The maximum number of concurrent HTTP requests to an S3 endpoint.
+   */
+  @Setting(value = "The maximum number of concurrent HTTP requests to an S3 endpoint", type = "int",
+      defaultValue = "" + S3SettingsSchema.DEFAULT_HTTP_MAX_REQUESTS_PER_HOST)
+  public static final String EDC_OVHCLOUD_S3_HTTP_MAX_REQUESTS_PER_HOST =
+      "edc.ovhcloud.s3.http.max.requests.per.host";
+
+  /**
+   * The HTTP connect timeout in seconds.
+   */
+  @Setting(value = "The HTTP connect timeout in seconds", type = "long",
+      defaultValue = "" + S3SettingsSchema.DEFAULT_HTTP_TIMEOUT)
+  public static final String EDC_OVHCLOUD_S3_HTTP_CONNECT_TIMEOUT =
+      "edc.ovhcloud.s3.http.connect.timeout";
+
+  /**
+   * The HTTP read timeout in seconds.
+   */
+  @Setting(value = "The HTTP read timeout in seconds", type = "long",
+      defaultValue = "" + S3SettingsSchema.DEFAULT_HTTP_TIMEOUT)
+  public static final String EDC_OVHCLOUD_S3_HTTP_READ_TIMEOUT =
+      "edc.ovhcloud.s3.http.read.timeout";
+
+  /**
+   * The HTTP write timeout in seconds.
+   */
+  @Setting(value = "The HTTP write timeout in seconds", type = "long",
+      defaultValue = "" + S3SettingsSchema.DEFAULT_HTTP_TIMEOUT)
+  public static final String EDC_OVHCLOUD_S3_HTTP_WRITE_TIMEOUT =
+      "edc.ovhcloud.s3.http.write.timeout";
+
+  /**
+   * Whether HTTP/2 is negotiated with the S3 endpoints supporting it.
+   */
+  @Setting(value = "Whether HTTP/2 is negotiated with the S3 endpoints supporting it",
+      type = "boolean", defaultValue = "" + S3SettingsSchema.DEFAULT_HTTP2_ENABLED)
+  public static final String EDC_OVHCLOUD_S3_HTTP2_ENABLED =
+      "edc.ovhcloud.s3.http.http2.enabled";
+
+  /**
+   * The size in bytes of the socket send buffers, 0 for the system default.
+   */
+  @Setting(value = "The size in bytes of the socket send buffers, 0 for the system default",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_HTTP_SOCKET_BUFFER_SIZE)
+  public static final String EDC_OVHCLOUD_S3_HTTP_SEND_BUFFER_SIZE =
+      "edc.ovhcloud.s3.http.socket.send.buffer.size";
+
+  /**
+   * The size in bytes of the socket receive buffers, 0 for the system default.
+   */
+  @Setting(value = "The size in bytes of the socket receive buffers, 0 for the system default",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_HTTP_SOCKET_BUFFER_SIZE)
+  public static final String EDC_OVHCLOUD_S3_HTTP_RECEIVE_BUFFER_SIZE =
+      "edc.ovhcloud.s3.http.socket.receive.buffer.size";
+
+  /**
+   * The maximum number of buckets, and of objects, whose metadata is cached per client.
+   */
+  @Setting(value = "The maximum number of buckets and objects whose metadata is cached per client",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_METADATA_CACHE_SIZE)
+  public static final String EDC_OVHCLOUD_S3_METADATA_CACHE_SIZE =
+      "edc.ovhcloud.s3.metadata.cache.size";
+
+  /**
+   * The maximum number of sub-prefixes of a listing listed at the same time, 1 to list them one
+   * after the other.
+   */
+  @Setting(value = "The maximum number of sub-prefixes of a listing listed at the same time",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_LISTING_CONCURRENCY)
+  public static final String EDC_OVHCLOUD_S3_LISTING_CONCURRENCY =
+      "edc.ovhcloud.s3.listing.concurrency";
+
+  /**
+   * The duration in seconds the metadata of buckets and objects is cached, 0 to disable the cache.
+   */
+  @Setting(value = "The duration in seconds the metadata of buckets and objects is cached",
+      type = "long", defaultValue = "" + S3SettingsSchema.DEFAULT_METADATA_CACHE_TTL)
+  public static final String EDC_OVHCLOUD_S3_METADATA_CACHE_TTL =
+      "edc.ovhcloud.s3.metadata.cache.ttl";
+
+  /**
+   * Whether the transferred data is verified against the MD5 digests of the objects.
+   */
+  @Setting(value = "Whether the transferred data is verified against the MD5 digests of the "
+      + "objects",
+      type = "boolean", defaultValue = "" + S3SettingsSchema.DEFAULT_INTEGRITY_CHECK_ENABLED)
+  public static final String EDC_OVHCLOUD_S3_INTEGRITY_CHECK_ENABLED =
+      "edc.ovhcloud.s3.integrity.check.enabled";
+
+  /**
+   * The maximum number of retries of a read failing with a transient error, 0 to disable them.
+   */
+  @Setting(value = "The maximum number of retries of a transient read failure, 0 to disable them",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_READ_RETRY_MAX)
+  public static final String EDC_OVHCLOUD_S3_READ_RETRY_MAX = "edc.ovhcloud.s3.read.retry.max";
+
+  /**
+   * The delay in milliseconds before the first retry of a read, doubled at each retry.
+   */
+  @Setting(value = "The delay in milliseconds before the first retry of a read, then doubled",
+      type = "long", defaultValue = "" + S3SettingsSchema.DEFAULT_READ_RETRY_DELAY)
+  public static final String EDC_OVHCLOUD_S3_READ_RETRY_DELAY = "edc.ovhcloud.s3.read.retry.delay";
+
+  /**
+   * The maximum delay in milliseconds between two retries of a read.
+   */
+  @Setting(value = "The maximum delay in milliseconds between two retries of a read",
+      type = "long", defaultValue = "" + S3SettingsSchema.DEFAULT_READ_RETRY_MAX_DELAY)
+  public static final String EDC_OVHCLOUD_S3_READ_RETRY_MAX_DELAY =
+      "edc.ovhcloud.s3.read.retry.max.delay";
+
+  /**
+   * The directory of the file holding the high-watermarks of the incremental transfers, kept in
+   * memory only if not set.
+   */
+  @Setting(value = "The directory of the file holding the high-watermarks of the incremental "
+      + "transfers")
+  public static final String EDC_OVHCLOUD_S3_WATERMARK_DIRECTORY =
+      "edc.ovhcloud.s3.watermark.directory";
+
+  /**
+   * The duration in seconds subtracted from the current time to get the upper bound of the
+   * modification dates of an incremental transfer, when its source does not set one.
+   */
+  @Setting(value = "The duration in seconds subtracted from the current time to get the upper "
+      + "bound of the modification dates of an incremental transfer", type = "long",
+      defaultValue = "" + S3SettingsSchema.DEFAULT_WATERMARK_SAFETY_LAG)
+  public static final String EDC_OVHCLOUD_S3_WATERMARK_SAFETY_LAG =
+      "edc.ovhcloud.s3.watermark.safety.lag";
+
+  /**
+   * The maximum number of bytes of the transfer buffers kept for reuse, 0 to allocate a buffer for
+   * each chunk.
+   */
+  @Setting(value = "The maximum number of bytes of the transfer buffers kept for reuse, 0 to "
+      + "allocate a buffer for each chunk", type = "long",
+      defaultValue = "" + S3SettingsSchema.DEFAULT_BUFFER_POOL_MAX_SIZE)
+  public static final String EDC_OVHCLOUD_S3_BUFFER_POOL_MAX_SIZE =
+      "edc.ovhcloud.s3.buffer.pool.max.size";
+
+  /**
+   * The maximum LIST requests per second sent to an endpoint, 0 for no limit.
+   */
+  @Setting(value = "The maximum LIST requests per second sent to an endpoint, 0 for no limit",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_RATE_LIMIT)
+  public static final String EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_LIST =
+      "edc.ovhcloud.s3.rate.limit.endpoint.list";
+
+  /**
+   * The maximum HEAD requests per second sent to an endpoint, 0 for no limit.
+   */
+  @Setting(value = "The maximum HEAD requests per second sent to an endpoint, 0 for no limit",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_RATE_LIMIT)
+  public static final String EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_HEAD =
+      "edc.ovhcloud.s3.rate.limit.endpoint.head";
+
+  /**
+   * The maximum GET requests per second sent to an endpoint, 0 for no limit.
+   */
+  @Setting(value = "The maximum GET requests per second sent to an endpoint, 0 for no limit",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_RATE_LIMIT)
+  public static final String EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_GET =
+      "edc.ovhcloud.s3.rate.limit.endpoint.get";
+
+  /**
+   * The maximum PUT requests per second sent to an endpoint, 0 for no limit.
+   */
+  @Setting(value = "The maximum PUT requests per second sent to an endpoint, 0 for no limit",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_RATE_LIMIT)
+  public static final String EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_PUT =
+      "edc.ovhcloud.s3.rate.limit.endpoint.put";
+
+  /**
+   * The maximum DELETE requests per second sent to an endpoint, 0 for no limit.
+   */
+  @Setting(value = "The maximum DELETE requests per second sent to an endpoint, 0 for no limit",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_RATE_LIMIT)
+  public static final String EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_DELETE =
+      "edc.ovhcloud.s3.rate.limit.endpoint.delete";
+
+  /**
+   * The maximum bytes per second transferred with an endpoint, 0 for no limit.
+   */
+  @Setting(value = "The maximum bytes per second transferred with an endpoint, 0 for no limit",
+      type = "long", defaultValue = "" + S3SettingsSchema.DEFAULT_RATE_LIMIT)
+  public static final String EDC_OVHCLOUD_S3_RATE_LIMIT_ENDPOINT_BYTES =
+      "edc.ovhcloud.s3.rate.limit.endpoint.bytes";
+
+  /**
+   * The maximum LIST requests per second sent to a bucket, 0 for no limit.
+   */
+  @Setting(value = "The maximum LIST requests per second sent to a bucket, 0 for no limit",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_RATE_LIMIT)
+  public static final String EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_LIST =
+      "edc.ovhcloud.s3.rate.limit.bucket.list";
+
+  /**
+   * The maximum HEAD requests per second sent to a bucket, 0 for no limit.
+   */
+  @Setting(value = "The maximum HEAD requests per second sent to a bucket, 0 for no limit",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_RATE_LIMIT)
+  public static final String EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_HEAD =
+      "edc.ovhcloud.s3.rate.limit.bucket.head";
+
+  /**
+   * The maximum GET requests per second sent to a bucket, 0 for no limit.
+   */
+  @Setting(value = "The maximum GET requests per second sent to a bucket, 0 for no limit",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_RATE_LIMIT)
+  public static final String EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_GET =
+      "edc.ovhcloud.s3.rate.limit.bucket.get";
+
+  /**
+   * The maximum PUT requests per second sent to a bucket, 0 for no limit.
+   */
+  @Setting(value = "The maximum PUT requests per second sent to a bucket, 0 for no limit",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_RATE_LIMIT)
+  public static final String EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_PUT =
+      "edc.ovhcloud.s3.rate.limit.bucket.put";
+
+  /**
+   * The maximum DELETE requests per second sent to a bucket, 0 for no limit.
+   */
+  @Setting(value = "The maximum DELETE requests per second sent to a bucket, 0 for no limit",
+      type = "int", defaultValue = "" + S3SettingsSchema.DEFAULT_RATE_LIMIT)
+  public static final String EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_DELETE =
+      "edc.ovhcloud.s3.rate.limit.bucket.delete";
+
+  /**
+   * The maximum bytes per second transferred with a bucket, 0 for no limit.
+   */
+  @Setting(value = "The maximum bytes per second transferred with a bucket, 0 for no limit",
+      type = "long", defaultValue = "" + S3SettingsSchema.DEFAULT_RATE_LIMIT)
+  public static final String EDC_OVHCLOUD_S3_RATE_LIMIT_BUCKET_BYTES =
+      "edc.ovhcloud.s3.rate.limit.bucket.bytes";
+
+  /**
+   * Whether the metrics of the S3 requests are tagged with the name of their bucket. The tag
+   * multiplies the number of series by the number of buckets.
+   */
+  @Setting(value = "Whether the metrics of the S3 requests are tagged with their bucket",
+      type = "boolean", defaultValue = "" + S3SettingsSchema.DEFAULT_METRICS_BUCKET_TAG_ENABLED)
+  public static final String EDC_OVHCLOUD_S3_METRICS_BUCKET_TAG_ENABLED =
+      "edc.ovhcloud.s3.metrics.bucket.tag.enabled";
+
+  /**
+   * Default size of the chunks of a multipart upload: 16MB.
+   */
+  public static final long DEFAULT_MULTIPART_CHUNK_SIZE = 16L * 1024L * 1024L;
+
+  /**
+   * Default number of chunks of a multipart upload uploaded concurrently.
+   */
+  public static final int DEFAULT_MULTIPART_CONCURRENCY = 4;
+
+  /**
+   * Default size of the ranges of an object downloaded in parallel: 16MB.
+   */
+  public static final long DEFAULT_DOWNLOAD_CHUNK_SIZE = 16L * 1024L * 1024L;
+
+  /**
+   * Default number of ranges of an object downloaded concurrently.
+   */
+  public static final int DEFAULT_DOWNLOAD_CONCURRENCY = 4;
+
+  /**
+   * Default maximum number of bytes buffered by the ranges read ahead: 256MB.
+   */
+  public static final long DEFAULT_DOWNLOAD_MEMORY_LIMIT = 256L * 1024L * 1024L;
+
+  /**
+   * Default executor of the sinks: a pool of platform threads.
+   */
+  public static final String DEFAULT_SINK_EXECUTOR_TYPE = "fixed";
+
+  /**
+   * Default number of threads of the sink executor.
+   */
+  public static final int DEFAULT_SINK_EXECUTOR_THREADS = 10;
+
+  /**
+   * Default maximum number of partitions waiting for a thread of the sink executor.
+   */
+  public static final int DEFAULT_SINK_EXECUTOR_QUEUE_SIZE = 1000;
+
+  /**
+   * Default number of parts uploaded by the same partition of a sink.
+   */
+  public static final int DEFAULT_SINK_PARTITION_SIZE = 5;
+
+  /**
+   * Default maximum number of partitions of a transfer running at the same time: no bound.
+   */
+  public static final int DEFAULT_SINK_MAX_PARALLEL_PARTITIONS = 0;
+
+  /**
+   * Default maximum number of parts of a transfer read ahead and handed out by size.
+   */
+  public static final int DEFAULT_SINK_SCHEDULING_WINDOW = 1000;
+
+  /**
+   * Default time given to the transfers in progress to complete on shutdown: 30 seconds.
+   */
+  public static final long DEFAULT_EXECUTOR_SHUTDOWN_TIMEOUT = 30;
+
+  /**
+   * Default maximum number of cached S3 clients.
+   */
+  public static final int DEFAULT_CLIENT_CACHE_SIZE = 32;
+
+  /**
+   * Default idle timeout of the cached S3 clients: 10 minutes.
+   */
+  public static final long DEFAULT_CLIENT_CACHE_IDLE_TIMEOUT = 600L;
+
+  /**
+   * Default maximum number of idle HTTP connections.
+   */
+  public static final int DEFAULT_HTTP_MAX_IDLE_CONNECTIONS = 32;
+
+  /**
+   * Default keep-alive of the idle HTTP connections: 5 minutes.
+   */
+  public static final long DEFAULT_HTTP_KEEP_ALIVE = 300L;
+
+  /**
+   * Default maximum number of concurrent HTTP requests per endpoint. The OkHttp default of 5 makes
+   * parallel transfers queue behind each other.
+   */
+  public static final int DEFAULT_HTTP_MAX_REQUESTS_PER_HOST = 64;
+
+  /**
+   * Default HTTP timeouts: 5 minutes, as MinIO.
+   */
+  public static final long DEFAULT_HTTP_TIMEOUT = 300L;
+
+  /**
+   * HTTP/2 is disabled by default, as MinIO.
+   */
+  public static final boolean DEFAULT_HTTP2_ENABLED = false;
+
+  /**
+   * Default size of the socket buffers: the system default.
+   */
+  public static final int DEFAULT_HTTP_SOCKET_BUFFER_SIZE = 0;
+
+  /**
+   * Default maximum number of cached bucket and object metadata per client.
+   */
+  public static final int DEFAULT_METADATA_CACHE_SIZE = 10_000;
+
+  /**
+   * Default maximum number of sub-prefixes of a listing listed at the same time.
+   */
+  public static final int DEFAULT_LISTING_CONCURRENCY = 8;
+
+  /**
+   * Default time to live of the cached metadata: 30 seconds.
+   */
+  public static final long DEFAULT_METADATA_CACHE_TTL = 30L;
+
+  /**
+   * Default verification of the transferred data: enabled.
+   */
+  public static final boolean DEFAULT_INTEGRITY_CHECK_ENABLED = true;
+
+  /**
+   * Default maximum number of retries of a read.
+   */
+  public static final int DEFAULT_READ_RETRY_MAX = 5;
+
+  /**
+   * Default delay before the first retry of a read: 200 milliseconds.
+   */
+  public static final long DEFAULT_READ_RETRY_DELAY = 200L;
+
+  /**
+   * Default maximum delay between two retries of a read: 10 seconds.
+   */
+  public static final long DEFAULT_READ_RETRY_MAX_DELAY = 10_000L;
+
+  /**
+   * Default safety lag of the upper bound of the incremental transfers: 15 minutes.
+   */
+  public static final long DEFAULT_WATERMARK_SAFETY_LAG = 900L;
+
+  /**
+   * Default maximum number of bytes of the transfer buffers kept for reuse: 512MB.
+   */
+  public static final long DEFAULT_BUFFER_POOL_MAX_SIZE = 512L * 1024L * 1024L;
+
+  /**
+   * Default rate limit of the requests and bytes: no limit.
+   */
+  public static final int DEFAULT_RATE_LIMIT = 0;
+
+  /**
+   * Default tagging of the metrics with the bucket: enabled.
+   */
+  public static final boolean DEFAULT_METRICS_BUCKET_TAG_ENABLED = true;
+
   private S3SettingsSchema() {
   }
 }
@@ -0,0 +1,82 @@
+package com.ovhcloud.edc.extension.s3.utils;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import javax.net.SocketFactory;
+
+/**
+ * A SocketFactory setting the send and receive buffer sizes of the sockets it creates. A size lower
+ * than or equal to 0 keeps the system default. Larger buffers let a single connection fill the
+ * bandwidth of high-latency links.
+ */
+public class BufferedSocketFactory extends SocketFactory {
+
+  private final SocketFactory delegate;
+  private final int sendBufferSize;
+  private final int receiveBufferSize;
+
+  /**
+   * Creates a BufferedSocketFactory on top of the default SocketFactory.
+   *
+   * @param sendBufferSize    the size in bytes of the send buffers, 0 for the system default
+   * @param receiveBufferSize the size in bytes of the receive buffers, 0 for the system default
+   */
+  public BufferedSocketFactory(int sendBufferSize, int receiveBufferSize) {
+    this(SocketFactory.getDefault(), sendBufferSize, receiveBufferSize);
+  }
+
+  /**
+   * Creates a BufferedSocketFactory on top of another SocketFactory.
+   *
+   * @param delegate          the SocketFactory creating the sockets
+   * @param sendBufferSize    the size in bytes of the send buffers, 0 for the system default
+   * @param receiveBufferSize the size in bytes of the receive buffers, 0 for the system default
+   */
+  public BufferedSocketFactory(SocketFactory delegate, int sendBufferSize,
+      int receiveBufferSize) {
+    this.delegate = delegate;
+    this.sendBufferSize = sendBufferSize;
+    this.receiveBufferSize = receiveBufferSize;
+  }
+
+  @Override
+  public Socket createSocket() throws IOException {
+    // OkHttp creates unconnected sockets, so that the buffers are sized before the TCP handshake
+    // negotiates the window scaling.
+    return configure(delegate.createSocket());
+  }
+
+  @Override
+  public Socket createSocket(String host, int port) throws IOException {
+    return configure(delegate.createSocket(host, port));
+  }
+
+  @Override
+  public Socket createSocket(String host, int port, InetAddress localHost, int localPort)
+      throws IOException {
+    return configure(delegate.createSocket(host, port, localHost, localPort));
+  }
+
+  @Override
+  public Socket createSocket(InetAddress host, int port) throws IOException {
+    return configure(delegate.createSocket(host, port));
+  }
+
+  @Override
+  public Socket createSocket(InetAddress address, int port, InetAddress localAddress,
+      int localPort) throws IOException {
+    return configure(delegate.createSocket(address, port, localAddress, localPort));
+  }
+
+  private Socket configure(Socket socket) throws SocketException {
+    if (sendBufferSize > 0) {
+      socket.setSendBufferSize(sendBufferSize);
+    }
+    if (receiveBufferSize > 0) {
+      socket.setReceiveBufferSize(receiveBufferSize);
+    }
+    return socket;
+  }
+}
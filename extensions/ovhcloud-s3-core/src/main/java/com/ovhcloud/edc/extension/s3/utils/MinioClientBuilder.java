@@ -1,6 +1,10 @@
 package com.ovhcloud.edc.extension.s3.utils;
 
+import io.minio.MinioAsyncClient;
 import io.minio.MinioClient;
+import java.time.Duration;
+import java.util.Set;
+import okhttp3.OkHttpClient;
 
 /**
  * This interface defines methods to be able to build a MinioClient.
@@ -14,6 +18,13 @@ public interface MinioClientBuilder {
    */
   MinioClient build();
 
+  /**
+   * Build and return a MinioAsyncClient with the same configuration.
+   *
+   * @return a MinioAsyncClient
+   */
+  MinioAsyncClient buildAsync();
+
   /**
    * Set the endpoint of the OVHCloud S3 bucket.
    *
@@ -30,6 +41,16 @@ public interface MinioClientBuilder {
    */
   MinioClientBuilder region(String region);
 
+  /**
+   * Set the endpoints allowed besides the OVHCloud S3 ones, e.g. a local S3-compatible server used
+   * by tests. Any other endpoint is rejected, even when the region is set. When the region is not
+   * set, the allowed endpoints get the default region of S3-compatible servers.
+   *
+   * @param allowedEndpoints the allowed endpoints
+   * @return the MinioClientBuilder
+   */
+  MinioClientBuilder allowedEndpoints(Set<String> allowedEndpoints);
+
   /**
    * Set the credentials to be able to connect to the OVHCloud S3 bucket.
    *
@@ -38,4 +59,67 @@ public interface MinioClientBuilder {
    * @return the MinioClientBuilder
    */
   MinioClientBuilder credentials(String accessKey, String secretKey);
+
+  /**
+   * Set the HTTP client used to send the requests. Clients built with the same HTTP client share
+   * its connection pool, so that connections (and their TLS sessions) are reused across them.
+   *
+   * @param httpClient the HTTP client
+   * @return the MinioClientBuilder
+   */
+  MinioClientBuilder httpClient(OkHttpClient httpClient);
+
+  /**
+   * Set the connection pool of the HTTP client built by this builder.
+   *
+   * @param maxIdleConnections the maximum number of idle connections kept in the pool
+   * @param keepAlive          the duration an idle connection is kept in the pool
+   * @return the MinioClientBuilder
+   */
+  MinioClientBuilder connectionPool(int maxIdleConnections, Duration keepAlive);
+
+  /**
+   * Set the maximum number of concurrent requests to an endpoint of the HTTP client built by this
+   * builder. The OkHttp default of 5 makes parallel transfers queue behind each other.
+   *
+   * @param maxRequestsPerHost the maximum number of concurrent requests per host
+   * @return the MinioClientBuilder
+   */
+  MinioClientBuilder maxRequestsPerHost(int maxRequestsPerHost);
+
+  /**
+   * Set the timeouts of the HTTP client built by this builder.
+   *
+   * @param connectTimeout the connect timeout
+   * @param readTimeout    the read timeout
+   * @param writeTimeout   the write timeout
+   * @return the MinioClientBuilder
+   */
+  MinioClientBuilder timeouts(Duration connectTimeout, Duration readTimeout,
+      Duration writeTimeout);
+
+  /**
+   * Enable or disable the negotiation of HTTP/2 by the HTTP client built by this builder.
+   *
+   * @param enabled true to negotiate HTTP/2 with the endpoints supporting it
+   * @return the MinioClientBuilder
+   */
+  MinioClientBuilder http2(boolean enabled);
+
+  /**
+   * Set the socket buffer sizes of the HTTP client built by this builder.
+   *
+   * @param sendBufferSize    the size in bytes of the send buffers, 0 for the system default
+   * @param receiveBufferSize the size in bytes of the receive buffers, 0 for the system default
+   * @return the MinioClientBuilder
+   */
+  MinioClientBuilder socketBufferSizes(int sendBufferSize, int receiveBufferSize);
+
+  /**
+   * Build and return an HTTP client with the transport settings of this builder. It can be shared
+   * by several MinIO clients through {@link #httpClient(OkHttpClient)}.
+   *
+   * @return an OkHttpClient
+   */
+  OkHttpClient buildHttpClient();
 }
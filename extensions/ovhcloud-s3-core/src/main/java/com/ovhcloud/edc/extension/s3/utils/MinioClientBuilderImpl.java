@@ -1,12 +1,23 @@
 package com.ovhcloud.edc.extension.s3.utils;
 
-import io.minio.BucketExistsArgs.Builder;
+import com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema;
+import io.minio.MinioAsyncClient;
 import io.minio.MinioClient;
+import io.minio.http.HttpUtils;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static com.ovhcloud.edc.extension.s3.utils.S3Utils.extractRegionFromEndpoint;
+import static com.ovhcloud.edc.extension.s3.utils.S3Utils.validateEndpoint;
 
 /**
  * Default implementation of MinioClientBuilder interface. It is used to build MinioClient
@@ -18,6 +29,17 @@ public class MinioClientBuilderImpl implements MinioClientBuilder {
   private String secretKey = null;
   private String endpoint = null;
   private String region = null;
+  private Set<String> allowedEndpoints = Set.of();
+  private OkHttpClient httpClient = null;
+  private int maxIdleConnections = S3SettingsSchema.DEFAULT_HTTP_MAX_IDLE_CONNECTIONS;
+  private Duration keepAlive = Duration.ofSeconds(S3SettingsSchema.DEFAULT_HTTP_KEEP_ALIVE);
+  private int maxRequestsPerHost = S3SettingsSchema.DEFAULT_HTTP_MAX_REQUESTS_PER_HOST;
+  private Duration connectTimeout = Duration.ofSeconds(S3SettingsSchema.DEFAULT_HTTP_TIMEOUT);
+  private Duration readTimeout = Duration.ofSeconds(S3SettingsSchema.DEFAULT_HTTP_TIMEOUT);
+  private Duration writeTimeout = Duration.ofSeconds(S3SettingsSchema.DEFAULT_HTTP_TIMEOUT);
+  private boolean http2 = S3SettingsSchema.DEFAULT_HTTP2_ENABLED;
+  private int sendBufferSize = S3SettingsSchema.DEFAULT_HTTP_SOCKET_BUFFER_SIZE;
+  private int receiveBufferSize = S3SettingsSchema.DEFAULT_HTTP_SOCKET_BUFFER_SIZE;
 
   /**
    * Creates a new instance of MinioClientBuilderImpl.
@@ -51,6 +73,20 @@ public class MinioClientBuilderImpl implements MinioClientBuilder {
     return this;
   }
 
+  /**
+   * Set the endpoints allowed besides the OVHCloud S3 ones. The endpoint is checked against them
+   * whether the region is set or not. When the region is not set, the allowed endpoints get the
+   * default region of S3-compatible servers.
+   *
+   * @param allowedEndpoints the allowed endpoints
+   * @return the MinioClientBuilder
+   */
+  @Override
+  public MinioClientBuilder allowedEndpoints(Set<String> allowedEndpoints) {
+    this.allowedEndpoints = Set.copyOf(allowedEndpoints);
+    return this;
+  }
+
   /**
    * Set the credentials to be able to connect to the OVHCloud S3 bucket.
    *
@@ -65,6 +101,124 @@ public class MinioClientBuilderImpl implements MinioClientBuilder {
     return this;
   }
 
+  /**
+   * Set the HTTP client used to send the requests, to share its connection pool. If not set, each
+   * client creates its own with the transport settings of this builder.
+   *
+   * @param httpClient the HTTP client
+   * @return the MinioClientBuilder
+   */
+  @Override
+  public MinioClientBuilder httpClient(OkHttpClient httpClient) {
+    this.httpClient = httpClient;
+    return this;
+  }
+
+  /**
+   * Set the connection pool of the HTTP client built by this builder.
+   *
+   * @param maxIdleConnections the maximum number of idle connections kept in the pool
+   * @param keepAlive          the duration an idle connection is kept in the pool
+   * @return the MinioClientBuilder
+   */
+  @Override
+  public MinioClientBuilder connectionPool(int maxIdleConnections, Duration keepAlive) {
+    this.maxIdleConnections = maxIdleConnections;
+    this.keepAlive = keepAlive;
+    return this;
+  }
+
+  /**
+   * Set the maximum number of concurrent requests to an endpoint of the HTTP client built by this
+   * builder.
+   *
+   * @param maxRequestsPerHost the maximum number of concurrent requests per host
+   * @return the MinioClientBuilder
+   */
+  @Override
+  public MinioClientBuilder maxRequestsPerHost(int maxRequestsPerHost) {
+    this.maxRequestsPerHost = maxRequestsPerHost;
+    return this;
+  }
+
+  /**
+   * Set the timeouts of the HTTP client built by this builder.
+   *
+   * @param connectTimeout the connect timeout
+   * @param readTimeout    the read timeout
+   * @param writeTimeout   the write timeout
+   * @return the MinioClientBuilder
+   */
+  @Override
+  public MinioClientBuilder timeouts(Duration connectTimeout, Duration readTimeout,
+      Duration writeTimeout) {
+    this.connectTimeout = connectTimeout;
+    this.readTimeout = readTimeout;
+    this.writeTimeout = writeTimeout;
+    return this;
+  }
+
+  /**
+   * Enable or disable the negotiation of HTTP/2 by the HTTP client built by this builder.
+   *
+   * @param enabled true to negotiate HTTP/2 with the endpoints supporting it
+   * @return the MinioClientBuilder
+   */
+  @Override
+  public MinioClientBuilder http2(boolean enabled) {
+    this.http2 = enabled;
+    return this;
+  }
+
+  /**
+   * Set the socket buffer sizes of the HTTP client built by this builder.
+   *
+   * @param sendBufferSize    the size in bytes of the send buffers, 0 for the system default
+   * @param receiveBufferSize the size in bytes of the receive buffers, 0 for the system default
+   * @return the MinioClientBuilder
+   */
+  @Override
+  public MinioClientBuilder socketBufferSizes(int sendBufferSize, int receiveBufferSize) {
+    this.sendBufferSize = sendBufferSize;
+    this.receiveBufferSize = receiveBufferSize;
+    return this;
+  }
+
+  /**
+   * Build and return an HTTP client with the transport settings of this builder, on top of the
+   * MinIO default one.
+   *
+   * @return an OkHttpClient
+   */
+  @Override
+  public @NotNull OkHttpClient buildHttpClient() {
+    if (maxIdleConnections < 0 || maxRequestsPerHost < 1) {
+      throw new IllegalArgumentException(
+          "maxIdleConnections must be positive and maxRequestsPerHost greater than 0");
+    }
+
+    var dispatcher = new Dispatcher();
+    dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+    // The total limit must not be lower than the per host one, or the latter is never reached
+    dispatcher.setMaxRequests(Math.max(dispatcher.getMaxRequests(), maxRequestsPerHost));
+
+    var builder = HttpUtils.newDefaultHttpClient(connectTimeout.toMillis(),
+            writeTimeout.toMillis(), readTimeout.toMillis())
+        .newBuilder()
+        .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive.toMillis(),
+            TimeUnit.MILLISECONDS))
+        .dispatcher(dispatcher)
+        .protocols(http2
+            ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)
+            : List.of(Protocol.HTTP_1_1));
+
+    if (sendBufferSize > 0 || receiveBufferSize > 0) {
+      builder.socketFactory(new BufferedSocketFactory(sendBufferSize, receiveBufferSize));
+    }
+
+    return builder.build();
+  }
+
   /**
    * Build and return a MinioClient.
    *
@@ -72,11 +226,32 @@ public class MinioClientBuilderImpl implements MinioClientBuilder {
    */
   @Override
   public @NotNull MinioClient build() {
-    return MinioClient
+    validateEndpoint(endpoint, allowedEndpoints);
+    var builder = MinioClient
+        .builder()
+        .credentials(accessKey, secretKey)
+        .endpoint(endpoint)
+        .region(Optional.ofNullable(region)
+            .orElseGet(() -> extractRegionFromEndpoint(endpoint, allowedEndpoints)));
+    builder.httpClient(Optional.ofNullable(httpClient).orElseGet(this::buildHttpClient));
+    return builder.build();
+  }
+
+  /**
+   * Build and return a MinioAsyncClient.
+   *
+   * @return a MinioAsyncClient
+   */
+  @Override
+  public @NotNull MinioAsyncClient buildAsync() {
+    validateEndpoint(endpoint, allowedEndpoints);
+    var builder = MinioAsyncClient
         .builder()
         .credentials(accessKey, secretKey)
         .endpoint(endpoint)
-        .region(Optional.ofNullable(region).orElse(extractRegionFromEndpoint(endpoint)))
-        .build();
+        .region(Optional.ofNullable(region)
+            .orElseGet(() -> extractRegionFromEndpoint(endpoint, allowedEndpoints)));
+    builder.httpClient(Optional.ofNullable(httpClient).orElseGet(this::buildHttpClient));
+    return builder.build();
   }
 }
\ No newline at end of file
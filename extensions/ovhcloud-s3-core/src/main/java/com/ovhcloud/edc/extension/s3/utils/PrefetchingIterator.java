@@ -0,0 +1,127 @@
+package com.ovhcloud.edc.extension.s3.utils;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.eclipse.edc.spi.EdcException;
+
+/**
+ * An iterator reading a source iterator ahead of its consumer on a background thread. At most
+ * {@code capacity} elements are buffered, so that the background thread fetches the next elements
+ * (for instance the next page of a listing) while the consumer processes the current ones,
+ * without reading the whole source in memory.
+ * <p>
+ * Failures of the source iterator are rethrown to the consumer. The iterator must be closed when
+ * it is not fully consumed, to stop the background thread.
+ * </p>
+ *
+ * @param <T> the type of the elements
+ */
+public final class PrefetchingIterator<T> implements Iterator<T>, AutoCloseable {
+
+  private static final Object END = new Object();
+
+  private final BlockingQueue<Object> queue;
+  private final Future<?> producer;
+  private volatile boolean closed = false;
+  private Object next;
+
+  /**
+   * Creates a new PrefetchingIterator and starts reading the source iterator.
+   *
+   * @param source   the iterator to read ahead
+   * @param capacity the maximum number of elements read ahead
+   * @param executor the executor running the background reads
+   */
+  public PrefetchingIterator(Iterator<T> source, int capacity, ExecutorService executor) {
+    Objects.requireNonNull(source, "source must not be null");
+    Objects.requireNonNull(executor, "executor must not be null");
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be greater than 0");
+    }
+
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.producer = executor.submit(() -> produce(source));
+  }
+
+  private void produce(Iterator<T> source) {
+    try {
+      try {
+        while (!closed && source.hasNext()) {
+          queue.put(source.next());
+        }
+      } catch (RuntimeException e) {
+        queue.put(new Failure(e));
+        return;
+      }
+      queue.put(END);
+    } catch (InterruptedException e) {
+      // closed by the consumer
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Returns true if there are more elements, waiting for the background thread if needed.
+   *
+   * @return true if there are more elements
+   * @throws EdcException if the source iterator failed
+   */
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      if (closed) {
+        return false;
+      }
+      try {
+        next = queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new EdcException("Interrupted while waiting for the next element", e);
+      }
+    }
+
+    if (next instanceof Failure failure) {
+      throw failure.exception;
+    }
+
+    return next != END;
+  }
+
+  /**
+   * Returns the next element, waiting for the background thread if needed.
+   *
+   * @return the next element
+   * @throws NoSuchElementException if there are no more elements
+   * @throws EdcException           if the source iterator failed
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    var element = (T) next;
+    next = null;
+    return element;
+  }
+
+  /**
+   * Stops the background thread and releases the elements read ahead.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    producer.cancel(true);
+    queue.clear();
+  }
+
+  private record Failure(RuntimeException exception) {
+
+  }
+}
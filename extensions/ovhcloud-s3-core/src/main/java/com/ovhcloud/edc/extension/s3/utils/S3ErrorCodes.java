@@ -0,0 +1,58 @@
+package com.ovhcloud.edc.extension.s3.utils;
+
+import io.minio.errors.ErrorResponseException;
+import io.minio.errors.ServerException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import org.eclipse.edc.spi.EdcException;
+
+/**
+ * Utility class naming the error of a failed S3 request, so that the failures can be counted by
+ * cause. The errors answered by the endpoint are named by their S3 error code, e.g.
+ * {@code NoSuchKey} or {@code SlowDown}, the server errors without a body by their HTTP status, and
+ * the failures without a response, such as timeouts, by their type.
+ */
+public final class S3ErrorCodes {
+
+  private S3ErrorCodes() {
+  }
+
+  /**
+   * Returns the name of the error of a failure. The causes of the failure are inspected, so that
+   * the failures wrapped in an EdcException are named by their origin.
+   *
+   * @param failure the failure of a request
+   * @return the S3 error code, the HTTP status or the type of the failure
+   */
+  public static String of(Throwable failure) {
+    Throwable innermost = failure;
+    for (var cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ErrorResponseException errorResponseException) {
+        var errorResponse = errorResponseException.errorResponse();
+        if (errorResponse != null && errorResponse.code() != null) {
+          return errorResponse.code();
+        }
+        var response = errorResponseException.response();
+        if (response != null) {
+          return String.valueOf(response.code());
+        }
+      }
+      if (cause instanceof ServerException serverException) {
+        return String.valueOf(serverException.statusCode());
+      }
+      if (!isWrapper(cause)) {
+        innermost = cause;
+      }
+      if (cause.getCause() == cause) {
+        break;
+      }
+    }
+    return innermost == null ? "Unknown" : innermost.getClass().getSimpleName();
+  }
+
+  private static boolean isWrapper(Throwable cause) {
+    return cause.getClass() == EdcException.class
+        || cause instanceof CompletionException
+        || cause instanceof ExecutionException;
+  }
+}
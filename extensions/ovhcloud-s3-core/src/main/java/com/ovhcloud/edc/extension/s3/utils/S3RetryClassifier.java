@@ -0,0 +1,93 @@
+package com.ovhcloud.edc.extension.s3.utils;
+
+import io.minio.errors.ErrorResponseException;
+import io.minio.errors.ServerException;
+import java.io.EOFException;
+import java.net.ProtocolException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.Set;
+
+/**
+ * Utility class telling whether a failed S3 request is worth retrying. Throttling (503 SlowDown),
+ * server errors, timeouts and connections reset or closed before the end of the response are
+ * transient; client errors such as a missing object or denied access are not. A failed
+ * precondition (412 PreconditionFailed) means the object changed: it is never retried, whatever
+ * the failures it caused.
+ */
+public final class S3RetryClassifier {
+
+  private static final Set<String> RETRYABLE_ERROR_CODES = Set.of("SlowDown",
+      "ServiceUnavailable", "InternalError", "RequestTimeout");
+
+  private static final Set<Integer> RETRYABLE_STATUS_CODES = Set.of(500, 502, 503, 504);
+
+  private static final String PRECONDITION_FAILED = "PreconditionFailed";
+
+  private S3RetryClassifier() {
+  }
+
+  /**
+   * Tells whether a failure is transient. The causes of the failure are inspected, so that the
+   * failures wrapped in an EdcException are classified by their origin.
+   *
+   * @param failure the failure of a request
+   * @return true if the request may succeed when retried
+   */
+  public static boolean isRetryable(Throwable failure) {
+    if (isPreconditionFailed(failure)) {
+      return false;
+    }
+    for (var cause = failure; cause != null; cause = cause.getCause()) {
+      if (isRetryableCause(cause)) {
+        return true;
+      }
+      if (cause.getCause() == cause) {
+        break;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Tells whether a failure is caused by a failed precondition, an object no longer having the
+   * ETag a conditional request expected.
+   *
+   * @param failure the failure of a request
+   * @return true if the request failed with a 412 (PreconditionFailed) error
+   */
+  public static boolean isPreconditionFailed(Throwable failure) {
+    for (var cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ErrorResponseException errorResponseException) {
+        var errorResponse = errorResponseException.errorResponse();
+        var response = errorResponseException.response();
+        if (errorResponse != null && PRECONDITION_FAILED.equals(errorResponse.code())
+            || response != null && response.code() == 412) {
+          return true;
+        }
+      }
+      if (cause.getCause() == cause) {
+        break;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isRetryableCause(Throwable cause) {
+    if (cause instanceof ErrorResponseException errorResponseException) {
+      var errorResponse = errorResponseException.errorResponse();
+      var response = errorResponseException.response();
+      return errorResponse != null && RETRYABLE_ERROR_CODES.contains(errorResponse.code())
+          || response != null && RETRYABLE_STATUS_CODES.contains(response.code());
+    }
+    if (cause instanceof ServerException serverException) {
+      return RETRYABLE_STATUS_CODES.contains(serverException.statusCode());
+    }
+
+    // Timeouts, connections reset or refused, and responses cut before their end
+    return cause instanceof SocketTimeoutException
+        || cause instanceof SocketException
+        || cause instanceof EOFException
+        || cause instanceof ProtocolException;
+  }
+}
@@ -4,6 +4,7 @@ import org.jetbrains.annotations.NotNull;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Objects;
+import java.util.Set;
 
 
 /**
@@ -22,6 +23,13 @@ public final class S3Utils {
    */
   public static final String OVH_CLOUD_S3_ENDPOINT_REGEX = "^https://s3\\.([a-z]+)\\.io\\.cloud\\.ovh\\.net$";
 
+  /**
+   * Region of the endpoints explicitly allowed besides the OVH Cloud S3 ones, e.g. a local
+   * S3-compatible server used by integration tests. It is the default region of S3-compatible
+   * servers.
+   */
+  public static final String LOCAL_ENDPOINT_REGION = "us-east-1";
+
   /**
    * Checks if the endpoint is not null. If it is null, a NullPointerException is thrown.
    *
@@ -87,4 +95,87 @@ public final class S3Utils {
       throw new IllegalArgumentException("endpoint must be a valid OVH Cloud S3 endpoint.");
     }
   }
+
+  /**
+   * Tells whether an endpoint belongs to an allowlist. The endpoints are compared without their
+   * surrounding whitespaces and trailing slash.
+   *
+   * @param endpoint         the endpoint to check
+   * @param allowedEndpoints the endpoints allowed besides the OVH Cloud S3 ones
+   * @return true if the endpoint is in the allowlist
+   * @throws NullPointerException     if the endpoint is null
+   * @throws IllegalArgumentException if the endpoint is empty
+   */
+  public static boolean isAllowedEndpoint(String endpoint, @NotNull Set<String> allowedEndpoints) {
+    validateEndpointNotEmpty(endpoint);
+    var normalized = normalizeEndpoint(endpoint);
+    return allowedEndpoints.stream()
+        .map(S3Utils::normalizeEndpoint)
+        .anyMatch(normalized::equals);
+  }
+
+  /**
+   * Validates an endpoint, which must either be a valid OVH Cloud S3 endpoint or belong to an
+   * allowlist.
+   *
+   * @param endpoint         the endpoint to validate
+   * @param allowedEndpoints the endpoints allowed besides the OVH Cloud S3 ones
+   * @throws NullPointerException     if the endpoint is null
+   * @throws IllegalArgumentException if the endpoint is empty, not a valid OVH Cloud S3 endpoint
+   *                                  and not in the allowlist
+   */
+  public static void validateEndpoint(String endpoint, @NotNull Set<String> allowedEndpoints) {
+    if (!isAllowedEndpoint(endpoint, allowedEndpoints)) {
+      validateOVHEndpoint(endpoint);
+    }
+  }
+
+  /**
+   * Extracts the region from an endpoint, which must either be a valid OVH Cloud S3 endpoint or
+   * belong to an allowlist. The region of the allowed endpoints is {@link #LOCAL_ENDPOINT_REGION}.
+   *
+   * @param endpoint         the endpoint to extract the region from
+   * @param allowedEndpoints the endpoints allowed besides the OVH Cloud S3 ones
+   * @return the region of the endpoint
+   * @throws IllegalArgumentException if the endpoint is not a valid OVH Cloud S3 endpoint and not
+   *                                  in the allowlist
+   */
+  public static String extractRegionFromEndpoint(@NotNull String endpoint,
+      @NotNull Set<String> allowedEndpoints) {
+    return isAllowedEndpoint(endpoint, allowedEndpoints)
+        ? LOCAL_ENDPOINT_REGION
+        : extractRegionFromEndpoint(endpoint);
+  }
+
+  /**
+   * Compares two object keys in the order of a listing: the binary order of their UTF-8 encoding,
+   * which is the order of their code points, and differs from {@link String#compareTo(String)}
+   * for the characters beyond the basic multilingual plane.
+   *
+   * @param key   a key
+   * @param other another key
+   * @return a negative integer, zero, or a positive integer as the key is listed before, is equal
+   * to, or is listed after the other key
+   */
+  public static int compareKeys(@NotNull String key, @NotNull String other) {
+    var i = 0;
+    var j = 0;
+    while (i < key.length() && j < other.length()) {
+      var codePoint = key.codePointAt(i);
+      var otherCodePoint = other.codePointAt(j);
+      if (codePoint != otherCodePoint) {
+        return Integer.compare(codePoint, otherCodePoint);
+      }
+      i += Character.charCount(codePoint);
+      j += Character.charCount(otherCodePoint);
+    }
+    return Integer.compare(key.length() - i, other.length() - j);
+  }
+
+  private static String normalizeEndpoint(String endpoint) {
+    var normalized = endpoint.trim();
+    return normalized.endsWith("/")
+        ? normalized.substring(0, normalized.length() - 1)
+        : normalized;
+  }
 }
@@ -3,6 +3,8 @@ package com.ovhcloud.edc.extension.s3.validation;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -40,4 +42,114 @@ public abstract class S3DataAddressValidator implements Validator<DataAddress> {
 
     return ValidationResult.failure(violations);
   }
+
+  /**
+   * Validate that the given fields, when they are set, are positive integers. If a field is
+   * invalid, a violation is returned and the validation fails.
+   *
+   * @param dataAddress the data address to validate
+   * @param fields      the list of optional fields to check.
+   * @return the validation result. If the validation is successful, the result is a success. If the
+   * validation fails, the result is a failure with the list of violations.
+   */
+  public ValidationResult validatePositiveIntegers(DataAddress dataAddress, String... fields) {
+    var violations = Stream.of(fields)
+        .filter(dataAddress::hasProperty)
+        .map(it -> {
+          var value = String.valueOf(dataAddress.getProperty(it));
+          if (!isPositiveInteger(value)) {
+            return violation("The field " + it + " must be a positive integer", it, value);
+          }
+          return null;
+        })
+        .filter(Objects::nonNull)
+        .toList();
+
+    if (violations.isEmpty()) {
+      return ValidationResult.success();
+    }
+
+    return ValidationResult.failure(violations);
+  }
+
+  /**
+   * Validate that the given fields, when they are set, are booleans. If a field is invalid, a
+   * violation is returned and the validation fails.
+   *
+   * @param dataAddress the data address to validate
+   * @param fields      the list of optional fields to check.
+   * @return the validation result. If the validation is successful, the result is a success. If the
+   * validation fails, the result is a failure with the list of violations.
+   */
+  public ValidationResult validateBooleans(DataAddress dataAddress, String... fields) {
+    var violations = Stream.of(fields)
+        .filter(dataAddress::hasProperty)
+        .map(it -> {
+          var value = String.valueOf(dataAddress.getProperty(it)).trim();
+          if (!"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value)) {
+            return violation("The field " + it + " must be true or false", it, value);
+          }
+          return null;
+        })
+        .filter(Objects::nonNull)
+        .toList();
+
+    if (violations.isEmpty()) {
+      return ValidationResult.success();
+    }
+
+    return ValidationResult.failure(violations);
+  }
+
+  /**
+   * Validate that the given fields, when they are set, are ISO-8601 instants, e.g.
+   * {@code 2024-01-31T12:00:00Z}. If a field is invalid, a violation is returned and the
+   * validation fails.
+   *
+   * @param dataAddress the data address to validate
+   * @param fields      the list of optional fields to check.
+   * @return the validation result. If the validation is successful, the result is a success. If the
+   * validation fails, the result is a failure with the list of violations.
+   */
+  public ValidationResult validateInstants(DataAddress dataAddress, String... fields) {
+    var violations = Stream.of(fields)
+        .filter(dataAddress::hasProperty)
+        .map(it -> {
+          var value = String.valueOf(dataAddress.getProperty(it));
+          if (parseInstant(value) == null) {
+            return violation("The field " + it + " must be an ISO-8601 instant", it, value);
+          }
+          return null;
+        })
+        .filter(Objects::nonNull)
+        .toList();
+
+    if (violations.isEmpty()) {
+      return ValidationResult.success();
+    }
+
+    return ValidationResult.failure(violations);
+  }
+
+  /**
+   * Parses an ISO-8601 instant.
+   *
+   * @param value the value to parse
+   * @return the instant, null if the value is not an ISO-8601 instant
+   */
+  static Instant parseInstant(String value) {
+    try {
+      return Instant.parse(value.trim());
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  private static boolean isPositiveInteger(String value) {
+    try {
+      return Integer.parseInt(value.trim()) > 0;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
 }
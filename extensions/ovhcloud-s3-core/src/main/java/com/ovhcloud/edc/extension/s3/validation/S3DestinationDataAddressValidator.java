@@ -1,7 +1,11 @@
 package com.ovhcloud.edc.extension.s3.validation;
 
 import static com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema.BUCKET_NAME;
+import static com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema.MAX_PARALLEL_PARTITIONS;
+import static com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema.MULTIPART_CONCURRENCY;
+import static com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema.PARTITION_SIZE;
 import static com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema.REGION;
+import static com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema.SYNC;
 
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.validator.spi.ValidationResult;
@@ -9,20 +13,32 @@ import org.eclipse.edc.validator.spi.Validator;
 
 /**
  * Validator for S3 data addresses containing OVHcloud S3 destination data. This validator checks
- * that the required fields (bucket_name and region) are not null or empty.
+ * that the required fields (bucket_name and region) are not null or empty, and that the optional
+ * tuning of the sink (partition size, parallel partitions and multipart concurrency) is made of
+ * positive integers, and the sync mode a boolean.
  */
 public class S3DestinationDataAddressValidator extends S3DataAddressValidator implements
     Validator<DataAddress> {
 
   /**
-   * Validate the given data address. The fields to validate are the bucket_name and region. If one
-   * of these fields is invalid, a violation is returned and the validation fails.
+   * Validate the given data address. The fields to validate are the bucket_name and region, then
+   * the tuning of the sink. If one of these fields is invalid, a violation is returned and the
+   * validation fails.
    * @param dataAddress the data address to validate
    * @return the validation result. If the validation is successful, the result is a success. If the
    * validation fails, the result is a failure with the list of violations.
    */
   @Override
   public ValidationResult validate(DataAddress dataAddress) {
-    return validate(dataAddress, BUCKET_NAME, REGION);
+    var result = validate(dataAddress, BUCKET_NAME, REGION);
+    if (result.failed()) {
+      return result;
+    }
+    result = validatePositiveIntegers(dataAddress, PARTITION_SIZE, MAX_PARALLEL_PARTITIONS,
+        MULTIPART_CONCURRENCY);
+    if (result.failed()) {
+      return result;
+    }
+    return validateBooleans(dataAddress, SYNC);
   }
 }
\ No newline at end of file
@@ -1,17 +1,23 @@
 package com.ovhcloud.edc.extension.s3.validation;
 
 import static com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema.BUCKET_NAME;
+import static com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema.MODIFIED_AFTER;
+import static com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema.MODIFIED_BEFORE;
 import static com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema.OBJECT_NAME;
 import static com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema.OBJECT_PREFIX;
 import static com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema.REGION;
+import static org.eclipse.edc.validator.spi.Violation.violation;
 
+import java.util.List;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
 
 /**
  * Validator for S3 data addresses containing OVHcloud S3 source data. This validator checks that the
- * required fields (bucket_name, region, object_name and object_prefix) are not null or empty.
+ * required fields (bucket_name, region, object_name and object_prefix) are not null or empty, and
+ * that the optional bounds of the last modification dates of the objects are ISO-8601 instants,
+ * the lower one before the upper one.
  */
 public class S3SourceDataAddressValidator extends S3DataAddressValidator implements
         Validator<DataAddress> {
@@ -26,7 +32,22 @@ public class S3SourceDataAddressValidator extends S3DataAddressValidator impleme
      */
     @Override
     public ValidationResult validate(DataAddress dataAddress) {
-        return validate(dataAddress, BUCKET_NAME, OBJECT_NAME);
+        var result = validate(dataAddress, BUCKET_NAME, OBJECT_NAME);
+        if (result.failed()) {
+            return result;
+        }
+        result = validateInstants(dataAddress, MODIFIED_AFTER, MODIFIED_BEFORE);
+        if (result.failed() || !dataAddress.hasProperty(MODIFIED_AFTER)
+                || !dataAddress.hasProperty(MODIFIED_BEFORE)) {
+            return result;
+        }
 
+        var modifiedBefore = String.valueOf(dataAddress.getProperty(MODIFIED_BEFORE));
+        if (!parseInstant(String.valueOf(dataAddress.getProperty(MODIFIED_AFTER)))
+                .isBefore(parseInstant(modifiedBefore))) {
+            return ValidationResult.failure(List.of(violation("The field " + MODIFIED_BEFORE
+                    + " must be after " + MODIFIED_AFTER, MODIFIED_BEFORE, modifiedBefore)));
+        }
+        return result;
     }
 }
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.minio.DeleteObjectsResponse;
+import io.minio.ListObjectsV2Response;
+import io.minio.errors.ErrorResponseException;
+import io.minio.errors.MinioException;
+import io.minio.messages.Contents;
+import io.minio.messages.DeleteResult;
+import io.minio.messages.ErrorResponse;
+import io.minio.messages.ListBucketResultV2;
+import java.io.IOException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncS3ConnectorAPIImplTest {
+
+  private ExtendedMinioAsyncClient minioAsyncClient;
+  private AsyncS3ConnectorAPIImpl asyncS3ConnectorAPI;
+
+  @BeforeEach
+  public void setUp() {
+    minioAsyncClient = mock(ExtendedMinioAsyncClient.class);
+    asyncS3ConnectorAPI = new AsyncS3ConnectorAPIImpl(minioAsyncClient, mock(Monitor.class));
+  }
+
+  @Test
+  public void bucketExistsShouldCompleteWithClientResponse()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    when(minioAsyncClient.bucketExists(any())).thenReturn(CompletableFuture.completedFuture(true));
+
+    assertTrue(asyncS3ConnectorAPI.bucketExists("fake-bucket").join());
+  }
+
+  @Test
+  public void bucketExistsShouldCompleteExceptionallyWithEdcExceptionWhenRequestFails()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    when(minioAsyncClient.bucketExists(any())).thenReturn(
+        CompletableFuture.failedFuture(new IOException("connection reset")));
+
+    var exception = assertThrows(CompletionException.class,
+        () -> asyncS3ConnectorAPI.bucketExists("fake-bucket").join());
+    assertInstanceOf(EdcException.class, exception.getCause());
+  }
+
+  @Test
+  public void bucketExistsShouldCompleteExceptionallyWhenRequestCannotBeBuilt()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    when(minioAsyncClient.bucketExists(any())).thenThrow(new IOException("no network"));
+
+    var future = asyncS3ConnectorAPI.bucketExists("fake-bucket");
+
+    var exception = assertThrows(CompletionException.class, future::join);
+    assertInstanceOf(EdcException.class, exception.getCause());
+  }
+
+  @Test
+  public void createBucketShouldIgnoreBucketAlreadyOwned()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    when(minioAsyncClient.makeBucket(any())).thenReturn(CompletableFuture.failedFuture(
+        new ErrorResponseException(errorResponse("BucketAlreadyOwnedByYou"), null, null)));
+
+    asyncS3ConnectorAPI.createBucket("fake-bucket").join();
+
+    verify(minioAsyncClient, never()).bucketExists(any());
+  }
+
+  @Test
+  public void createBucketShouldCompleteExceptionallyOnOtherErrors()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    when(minioAsyncClient.makeBucket(any())).thenReturn(CompletableFuture.failedFuture(
+        new ErrorResponseException(errorResponse("AccessDenied"), null, null)));
+
+    var exception = assertThrows(CompletionException.class,
+        () -> asyncS3ConnectorAPI.createBucket("fake-bucket").join());
+    assertInstanceOf(EdcException.class, exception.getCause());
+  }
+
+  @Test
+  public void deleteBucketShouldIgnoreNoSuchBucket()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    when(minioAsyncClient.removeBucket(any())).thenReturn(CompletableFuture.failedFuture(
+        new ErrorResponseException(errorResponse("NoSuchBucket"), null, null)));
+
+    asyncS3ConnectorAPI.deleteBucket("fake-bucket").join();
+
+    verify(minioAsyncClient, never()).bucketExists(any());
+  }
+
+  @Test
+  public void listObjectsShouldFollowContinuationTokens()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    var firstPage = listObjectsResponse(List.of("object1", "object2"), "token");
+    var lastPage = listObjectsResponse(List.of("object3"), null);
+    when(minioAsyncClient.listObjectsPage(eq("fake-bucket"), eq("fake-prefix"), isNull(),
+        anyInt())).thenReturn(CompletableFuture.completedFuture(firstPage));
+    when(minioAsyncClient.listObjectsPage(eq("fake-bucket"), eq("fake-prefix"), eq("token"),
+        anyInt())).thenReturn(CompletableFuture.completedFuture(lastPage));
+
+    var objects = asyncS3ConnectorAPI.listObjects("fake-bucket", "fake-prefix").join();
+
+    assertEquals(List.of("object1", "object2", "object3"), objects);
+  }
+
+  @Test
+  public void deleteObjectsShouldDeleteObjectsByBatches()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    var deleteResult = mock(DeleteResult.class);
+    when(deleteResult.errorList()).thenReturn(Collections.emptyList());
+    var response = mock(DeleteObjectsResponse.class);
+    when(response.result()).thenReturn(deleteResult);
+    when(minioAsyncClient.removeObjects(eq("fake-bucket"), anyList()))
+        .thenReturn(CompletableFuture.completedFuture(response));
+
+    var keys = IntStream.range(0, 2500).mapToObj(i -> "object" + i).toList();
+    asyncS3ConnectorAPI.deleteObjects("fake-bucket", keys).join();
+
+    verify(minioAsyncClient, times(3)).removeObjects(eq("fake-bucket"), anyList());
+  }
+
+  @Test
+  public void uploadPartShouldCompleteWithPartETag()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    var data = new byte[16];
+    when(minioAsyncClient.uploadPart("fake-bucket", "fake-object", "uploadId", 1, data, 16, null))
+        .thenReturn(CompletableFuture.completedFuture("etag1"));
+
+    var etag = asyncS3ConnectorAPI.uploadPart("fake-bucket", "fake-object", "uploadId", 1, data,
+        16).join();
+
+    assertEquals("etag1", etag);
+  }
+
+  private static ErrorResponse errorResponse(String code) {
+    var errorResponse = mock(ErrorResponse.class);
+    when(errorResponse.code()).thenReturn(code);
+    return errorResponse;
+  }
+
+  private static ListObjectsV2Response listObjectsResponse(List<String> objectNames,
+      String continuationToken) {
+    var contents = objectNames.stream()
+        .map(objectName -> {
+          var item = mock(Contents.class);
+          when(item.objectName()).thenReturn(objectName);
+          return item;
+        })
+        .toList();
+
+    var result = mock(ListBucketResultV2.class);
+    when(result.contents()).thenReturn(contents);
+    when(result.isTruncated()).thenReturn(continuationToken != null);
+    when(result.nextContinuationToken()).thenReturn(continuationToken);
+
+    var response = mock(ListObjectsV2Response.class);
+    when(response.result()).thenReturn(result);
+    return response;
+  }
+}
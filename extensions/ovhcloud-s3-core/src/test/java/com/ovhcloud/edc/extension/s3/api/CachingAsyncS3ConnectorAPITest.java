@@ -0,0 +1,84 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.ErrorResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CachingAsyncS3ConnectorAPITest {
+
+  private AsyncS3ConnectorAPI delegate;
+  private CachingAsyncS3ConnectorAPI client;
+
+  @BeforeEach
+  public void setUp() {
+    delegate = mock(AsyncS3ConnectorAPI.class);
+    client = new CachingAsyncS3ConnectorAPI(delegate,
+        new S3MetadataCache(100, Duration.ofMinutes(1), Clock.systemUTC()));
+  }
+
+  @Test
+  public void bucketExistsShouldBeCached() {
+    when(delegate.bucketExists("bucket")).thenReturn(CompletableFuture.completedFuture(true));
+
+    assertTrue(client.bucketExists("bucket").join());
+    assertTrue(client.bucketExists("bucket").join());
+
+    verify(delegate, times(1)).bucketExists("bucket");
+  }
+
+  @Test
+  public void createBucketShouldBeForwardedEvenOnceBucketIsCreated() {
+    when(delegate.createBucket("bucket")).thenReturn(CompletableFuture.completedFuture(null));
+
+    client.createBucket("bucket").join();
+    client.createBucket("bucket").join();
+
+    verify(delegate, times(2)).createBucket("bucket");
+    assertTrue(client.bucketExists("bucket").join());
+    verify(delegate, never()).bucketExists(any());
+  }
+
+  @Test
+  public void putObjectShouldForgetBucketOnNoSuchBucket() {
+    when(delegate.bucketExists("bucket")).thenReturn(CompletableFuture.completedFuture(true));
+    client.bucketExists("bucket").join();
+    var errorResponse = mock(ErrorResponse.class);
+    when(errorResponse.code()).thenReturn("NoSuchBucket");
+    var data = new byte[0];
+    when(delegate.putObject("bucket", "object", data, 0, null)).thenReturn(
+        CompletableFuture.failedFuture(new EdcException("missing",
+            new ErrorResponseException(errorResponse, null, null))));
+
+    assertThrows(CompletionException.class,
+        () -> client.putObject("bucket", "object", data, 0).join());
+    client.bucketExists("bucket").join();
+
+    verify(delegate, times(2)).bucketExists("bucket");
+  }
+
+  @Test
+  public void deleteBucketShouldRecordThatBucketNoLongerExists() {
+    when(delegate.deleteBucket("bucket")).thenReturn(CompletableFuture.completedFuture(null));
+
+    client.deleteBucket("bucket").join();
+
+    assertFalse(client.bucketExists("bucket").join());
+    verify(delegate, never()).bucketExists(any());
+  }
+}
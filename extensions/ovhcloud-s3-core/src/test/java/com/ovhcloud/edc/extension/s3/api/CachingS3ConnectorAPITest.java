@@ -0,0 +1,125 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.ErrorResponse;
+import java.io.ByteArrayInputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CachingS3ConnectorAPITest {
+
+  private S3ConnectorAPI delegate;
+  private CachingS3ConnectorAPI client;
+
+  @BeforeEach
+  public void setUp() {
+    delegate = mock(S3ConnectorAPI.class);
+    client = new CachingS3ConnectorAPI(delegate,
+        new S3MetadataCache(100, Duration.ofMinutes(1), Clock.systemUTC()));
+  }
+
+  @Test
+  public void bucketExistsShouldBeCached() {
+    when(delegate.bucketExists("bucket")).thenReturn(true);
+
+    assertTrue(client.bucketExists("bucket"));
+    assertTrue(client.bucketExists("bucket"));
+
+    verify(delegate, times(1)).bucketExists("bucket");
+  }
+
+  @Test
+  public void createBucketShouldBeForwardedEvenWhenBucketIsKnownToExist() {
+    when(delegate.bucketExists("bucket")).thenReturn(true);
+    client.bucketExists("bucket");
+
+    client.createBucket("bucket");
+
+    verify(delegate, times(1)).createBucket("bucket");
+  }
+
+  @Test
+  public void deleteBucketShouldRecordThatBucketNoLongerExists() {
+    client.deleteBucket("bucket");
+
+    assertEquals(false, client.bucketExists("bucket"));
+    verify(delegate, never()).bucketExists(any());
+  }
+
+  @Test
+  public void getObjectSizeShouldUseCachedMetadata() {
+    when(delegate.statObject("bucket", "object"))
+        .thenReturn(new S3ObjectMetadata("object", 42L, "etag", null));
+
+    assertEquals(42L, client.getObjectSize("bucket", "object"));
+    assertEquals(42L, client.statObject("bucket", "object").size());
+
+    verify(delegate, times(1)).statObject("bucket", "object");
+  }
+
+  @Test
+  public void putObjectShouldInvalidateObjectMetadata() {
+    when(delegate.statObject("bucket", "object"))
+        .thenReturn(new S3ObjectMetadata("object", 42L, "etag", null));
+    client.statObject("bucket", "object");
+
+    client.putObject("bucket", "object", new ByteArrayInputStream(new byte[1]), 1L);
+    client.statObject("bucket", "object");
+
+    verify(delegate, times(2)).statObject("bucket", "object");
+  }
+
+  @Test
+  public void deleteObjectsShouldInvalidateObjectMetadataEvenWhenDeletionFails() {
+    when(delegate.statObject("bucket", "object"))
+        .thenReturn(new S3ObjectMetadata("object", 42L, "etag", null));
+    client.statObject("bucket", "object");
+    doThrow(EdcException.class).when(delegate)
+        .deleteObjects("bucket", List.of("object"));
+
+    assertThrows(EdcException.class, () -> client.deleteObjects("bucket", List.of("object")));
+    client.statObject("bucket", "object");
+
+    verify(delegate, times(2)).statObject("bucket", "object");
+  }
+
+  @Test
+  public void statObjectShouldForgetBucketOnNoSuchBucket() {
+    when(delegate.bucketExists("bucket")).thenReturn(true);
+    client.bucketExists("bucket");
+    var errorResponse = mock(ErrorResponse.class);
+    when(errorResponse.code()).thenReturn("NoSuchBucket");
+    when(delegate.statObject("bucket", "object")).thenThrow(new EdcException("missing",
+        new ErrorResponseException(errorResponse, null, null)));
+
+    assertThrows(EdcException.class, () -> client.statObject("bucket", "object"));
+    client.bucketExists("bucket");
+
+    verify(delegate, times(2)).bucketExists("bucket");
+  }
+
+  @Test
+  public void statObjectShouldNotCacheFailures() {
+    when(delegate.statObject("bucket", "object")).thenThrow(EdcException.class);
+
+    assertThrows(EdcException.class, () -> client.statObject("bucket", "object"));
+    assertThrows(EdcException.class, () -> client.statObject("bucket", "object"));
+
+    verify(delegate, times(2)).statObject("bucket", "object");
+  }
+}
@@ -0,0 +1,180 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.minio.MinioClient;
+import io.minio.StatObjectArgs;
+import io.minio.errors.MinioException;
+import io.minio.errors.ServerException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InstrumentedS3ConnectorAPITest {
+
+  private S3ConnectorAPI delegate;
+  private RecordingS3Metrics metrics;
+  private InstrumentedS3ConnectorAPI client;
+
+  @BeforeEach
+  public void setUp() {
+    delegate = mock(S3ConnectorAPI.class);
+    metrics = new RecordingS3Metrics();
+    client = new InstrumentedS3ConnectorAPI(delegate, metrics);
+  }
+
+  @Test
+  public void requestShouldBeRecordedAsSuccessful() {
+    when(delegate.bucketExists("bucket")).thenAnswer(invocation -> {
+      assertEquals(1, metrics.inFlight.get());
+      return true;
+    });
+
+    assertTrue(client.bucketExists("bucket"));
+    assertEquals(List.of("bucketExists bucket success"), metrics.requests);
+    assertEquals(0, metrics.inFlight.get());
+  }
+
+  @Test
+  public void requestShouldBeRecordedWithErrorCode() {
+    when(delegate.statObject("bucket", "object")).thenThrow(
+        new EdcException("timeout", new SocketTimeoutException("timeout")));
+
+    assertThrows(EdcException.class, () -> client.statObject("bucket", "object"));
+    assertEquals(List.of("statObject bucket SocketTimeoutException"), metrics.requests);
+    assertEquals(0, metrics.inFlight.get());
+  }
+
+  @Test
+  public void requestShouldBeRecordedWithErrorCodeOfTheClient()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    var minioClient = mock(MinioClient.class);
+    when(minioClient.statObject(any(StatObjectArgs.class)))
+        .thenThrow(new ServerException("SlowDown", 503, ""));
+    client = new InstrumentedS3ConnectorAPI(new S3ConnectorAPIImpl(minioClient, null), metrics);
+
+    assertThrows(EdcException.class, () -> client.getObjectSize("bucket", "object"));
+    assertEquals(List.of("getObjectSize bucket 503"), metrics.requests);
+  }
+
+  @Test
+  public void streamObjectsShouldRecordEachPageRequest() {
+    when(delegate.streamObjects(eq("bucket"), eq("prefix"), any())).thenAnswer(invocation -> {
+      S3ListingPageHook pageHook = invocation.getArgument(2);
+      pageHook.page("bucket", () -> CompletableFuture.completedFuture("page1")).join();
+      pageHook.page("bucket", () -> CompletableFuture.completedFuture("page2")).join();
+      pageHook.page("bucket", () -> CompletableFuture.failedFuture(
+          new EdcException("timeout", new SocketTimeoutException("timeout"))));
+      return Stream.empty();
+    });
+
+    try (var objects = client.streamObjects("bucket", "prefix")) {
+      assertEquals(0, objects.count());
+    }
+
+    assertEquals(List.of("listObjectsPage bucket success", "listObjectsPage bucket success",
+        "listObjectsPage bucket SocketTimeoutException"), metrics.requests);
+    assertEquals(0, metrics.inFlight.get());
+  }
+
+  @Test
+  public void getObjectStreamShouldRecordBytesAsTheyAreRead() throws IOException {
+    when(delegate.getObjectStream("bucket", "object", 2L, 4L, null))
+        .thenReturn(new ByteArrayInputStream(new byte[4]));
+
+    try (var inputStream = client.getObjectStream("bucket", "object", 2L, 4L)) {
+      assertEquals(0, metrics.bytesIn.get());
+      assertEquals(0, inputStream.read());
+      assertEquals(3, inputStream.read(new byte[8]));
+    }
+    assertEquals(4, metrics.bytesIn.get());
+    assertEquals(List.of("getObjectStream bucket success"), metrics.requests);
+  }
+
+  @Test
+  public void putObjectShouldRecordBytesSent() {
+    var data = new byte[] {1, 2, 3};
+    doAnswer(invocation -> {
+      assertArrayEquals(data, invocation.<InputStream>getArgument(2).readAllBytes());
+      return "etag";
+    }).when(delegate).putObject(eq("bucket"), eq("object"), any(InputStream.class), anyLong(),
+        any());
+
+    assertEquals("etag", client.putObject("bucket", "object", new ByteArrayInputStream(data), 3));
+    assertEquals(3, metrics.bytesOut.get());
+  }
+
+  @Test
+  public void uploadPartShouldRecordBytesSent() {
+    var data = new byte[8];
+    when(delegate.uploadPart("bucket", "object", "upload", 1, data, 5, null)).thenReturn("etag");
+
+    client.uploadPart("bucket", "object", "upload", 1, data, 5);
+    assertEquals(5, metrics.bytesOut.get());
+  }
+
+  @Test
+  public void getObjectShouldRecordBytesReceived() {
+    when(delegate.getObject("bucket", "object")).thenReturn(new ByteArrayInputStream(new byte[6]));
+
+    client.getObject("bucket", "object");
+    assertEquals(6, metrics.bytesIn.get());
+  }
+
+  private static class RecordingS3Metrics implements S3Metrics {
+
+    private final List<String> requests = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong bytesIn = new AtomicLong();
+    private final AtomicLong bytesOut = new AtomicLong();
+
+    @Override
+    public Sample start(String operation, String bucketName) {
+      inFlight.incrementAndGet();
+      return new Sample() {
+        @Override
+        public void success() {
+          inFlight.decrementAndGet();
+          requests.add(operation + " " + bucketName + " success");
+        }
+
+        @Override
+        public void failure(String errorCode) {
+          inFlight.decrementAndGet();
+          requests.add(operation + " " + bucketName + " " + errorCode);
+        }
+      };
+    }
+
+    @Override
+    public void bytesIn(String bucketName, long bytes) {
+      bytesIn.addAndGet(bytes);
+    }
+
+    @Override
+    public void bytesOut(String bucketName, long bytes) {
+      bytesOut.addAndGet(bytes);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RateLimitedAsyncS3ConnectorAPITest {
+
+  private AsyncS3ConnectorAPI delegate;
+  private RateLimitedAsyncS3ConnectorAPI client;
+
+  @BeforeEach
+  public void setUp() {
+    delegate = mock(AsyncS3ConnectorAPI.class);
+    when(delegate.bucketExists("bucket")).thenReturn(CompletableFuture.completedFuture(true));
+    client = new RateLimitedAsyncS3ConnectorAPI(delegate,
+        new S3RateLimiter(S3RateLimits.Builder.newInstance()
+            .endpointRequestsPerSecond(S3Operation.HEAD, 5)
+            .build()));
+  }
+
+  @Test
+  public void requestsOverLimitShouldBeDelayedWithoutBlockingCaller() {
+    for (var i = 0; i < 5; i++) {
+      assertTrue(client.bucketExists("bucket").join());
+    }
+
+    var delayed = client.bucketExists("bucket");
+
+    assertFalse(delayed.isDone());
+    assertTrue(delayed.join());
+    verify(delegate, times(6)).bucketExists("bucket");
+  }
+
+  @Test
+  public void requestsOfOtherOperationsShouldNotBeDelayed() {
+    when(delegate.deleteBucket("bucket")).thenReturn(CompletableFuture.completedFuture(null));
+    for (var i = 0; i < 5; i++) {
+      client.bucketExists("bucket");
+    }
+
+    client.deleteBucket("bucket");
+
+    verify(delegate).deleteBucket("bucket");
+  }
+}
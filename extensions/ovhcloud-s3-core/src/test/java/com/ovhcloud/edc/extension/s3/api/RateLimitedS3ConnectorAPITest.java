@@ -0,0 +1,75 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.minio.ListObjectsV2Response;
+import io.minio.MinioClient;
+import io.minio.messages.Contents;
+import io.minio.messages.ListBucketResultV2;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RateLimitedS3ConnectorAPITest {
+
+  private ExtendedMinioAsyncClient asyncClient;
+  private S3RateLimiter rateLimiter;
+
+  @BeforeEach
+  public void setUp() {
+    asyncClient = mock(ExtendedMinioAsyncClient.class);
+    rateLimiter = spy(new S3RateLimiter(S3RateLimits.Builder.newInstance()
+        .endpointRequestsPerSecond(S3Operation.LIST, 1000)
+        .build()));
+  }
+
+  @Test
+  public void streamObjectsShouldReserveARequestPerPage() throws Exception {
+    var firstPage = page(List.of("prefix/a", "prefix/b"), "token1");
+    var secondPage = page(List.of("prefix/c", "prefix/d"), "token2");
+    var lastPage = page(List.of("prefix/e"), null);
+    when(asyncClient.listObjectsPage(eq("bucket"), eq("prefix"), isNull(), isNull(), anyInt()))
+        .thenReturn(firstPage);
+    when(asyncClient.listObjectsPage(eq("bucket"), eq("prefix"), isNull(), eq("token1"),
+        anyInt())).thenReturn(secondPage);
+    when(asyncClient.listObjectsPage(eq("bucket"), eq("prefix"), isNull(), eq("token2"),
+        anyInt())).thenReturn(lastPage);
+    var client = new RateLimitedS3ConnectorAPI(
+        new S3ConnectorAPIImpl(mock(MinioClient.class), asyncClient, 1, null), rateLimiter);
+
+    try (var objects = client.streamObjects("bucket", "prefix")) {
+      assertEquals(5, objects.count());
+    }
+
+    verify(rateLimiter, times(3)).reserve("bucket", S3Operation.LIST);
+  }
+
+  private static CompletableFuture<ListObjectsV2Response> page(List<String> objectNames,
+      String continuationToken) {
+    var contents = objectNames.stream()
+        .map(objectName -> {
+          var item = mock(Contents.class);
+          when(item.objectName()).thenReturn(objectName);
+          return item;
+        })
+        .toList();
+
+    var result = mock(ListBucketResultV2.class);
+    when(result.contents()).thenReturn(contents);
+    when(result.isTruncated()).thenReturn(continuationToken != null);
+    when(result.nextContinuationToken()).thenReturn(continuationToken);
+
+    var response = mock(ListObjectsV2Response.class);
+    when(response.result()).thenReturn(result);
+    return CompletableFuture.completedFuture(response);
+  }
+}
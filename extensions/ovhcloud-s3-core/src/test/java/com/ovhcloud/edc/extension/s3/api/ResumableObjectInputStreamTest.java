@@ -0,0 +1,147 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ovhcloud.edc.extension.s3.utils.S3RetryClassifier;
+import dev.failsafe.RetryPolicy;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.ErrorResponse;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketException;
+import java.util.Arrays;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ResumableObjectInputStreamTest {
+
+  private static final byte[] DATA = "0123456789".getBytes();
+
+  private S3ConnectorAPI client;
+  private RetryPolicy<Object> retryPolicy;
+
+  @BeforeEach
+  public void setUp() {
+    client = mock(S3ConnectorAPI.class);
+    retryPolicy = RetryPolicy.builder()
+        .handleIf(S3RetryClassifier::isRetryable)
+        .withMaxRetries(2)
+        .build();
+  }
+
+  @Test
+  public void readShouldResumeFromLastDeliveredByteWhenConnectionIsReset() throws IOException {
+    when(client.getObjectStream("bucket", "object")).thenReturn(failingAfter(4));
+    when(client.statObject("bucket", "object"))
+        .thenReturn(new S3ObjectMetadata("object", DATA.length, "etag", null));
+    when(client.getObjectStream("bucket", "object", 4L, 6L, "etag"))
+        .thenReturn(new ByteArrayInputStream(Arrays.copyOfRange(DATA, 4, DATA.length)));
+
+    try (var inputStream = new ResumableObjectInputStream(client, "bucket", "object",
+        retryPolicy).connect()) {
+      assertArrayEquals(DATA, inputStream.readAllBytes());
+      assertEquals(DATA.length, inputStream.position());
+    }
+  }
+
+  @Test
+  public void readShouldResumeRangeWhenResponseEndsEarly() throws IOException {
+    when(client.getObjectStream("bucket", "object", 2L, 6L, null))
+        .thenReturn(new ByteArrayInputStream(Arrays.copyOfRange(DATA, 2, 5)));
+    when(client.getObjectStream("bucket", "object", 5L, 3L, null))
+        .thenReturn(new ByteArrayInputStream(Arrays.copyOfRange(DATA, 5, 8)));
+
+    try (var inputStream = new ResumableObjectInputStream(client, "bucket", "object", 2L, 6L,
+        retryPolicy).connect()) {
+      assertArrayEquals(Arrays.copyOfRange(DATA, 2, 8), inputStream.readAllBytes());
+    }
+    verify(client, never()).statObject("bucket", "object");
+  }
+
+  @Test
+  public void readShouldFailWhenRetriesAreExhausted() {
+    when(client.getObjectStream("bucket", "object", 0L, 10L, null)).thenReturn(failingAfter(0));
+
+    var inputStream = new ResumableObjectInputStream(client, "bucket", "object", 0L, 10L,
+        retryPolicy);
+
+    assertThrows(SocketException.class, inputStream::read);
+  }
+
+  @Test
+  public void readShouldReopenVersionFirstReadUpToItsContentLength() throws IOException {
+    when(client.getObjectStream("bucket", "object"))
+        .thenReturn(failingAfter(4, new S3ResponseHeaders("v1", DATA.length, false)));
+    when(client.getObjectStream("bucket", "object", 4L, 6L, "v1"))
+        .thenReturn(new ByteArrayInputStream(Arrays.copyOfRange(DATA, 4, DATA.length)));
+
+    try (var inputStream = new ResumableObjectInputStream(client, "bucket", "object",
+        retryPolicy).connect()) {
+      assertArrayEquals(DATA, inputStream.readAllBytes());
+      assertEquals("v1", inputStream.responseHeaders().etag());
+    }
+    verify(client, never()).statObject("bucket", "object");
+  }
+
+  @Test
+  public void readShouldNotRetryWhenObjectChangedSinceFirstResponse() {
+    var errorResponse = mock(ErrorResponse.class);
+    when(errorResponse.code()).thenReturn("PreconditionFailed");
+    when(client.getObjectStream("bucket", "object", 2L, 6L, null))
+        .thenReturn(failingAfter(1, new S3ResponseHeaders("v1", 6L, false)));
+    when(client.getObjectStream("bucket", "object", 3L, 5L, "v1")).thenThrow(new EdcException(
+        "changed", new ErrorResponseException(errorResponse, null, null)));
+
+    var inputStream = new ResumableObjectInputStream(client, "bucket", "object", 2L, 6L,
+        retryPolicy).connect();
+
+    var thrown = assertThrows(IOException.class, inputStream::readAllBytes);
+    assertTrue(S3RetryClassifier.isPreconditionFailed(thrown));
+    verify(client, times(1)).getObjectStream("bucket", "object", 3L, 5L, "v1");
+  }
+
+  private static InputStream failingAfter(int length) {
+    return new InputStream() {
+      private int position;
+
+      @Override
+      public int read() throws IOException {
+        if (position >= length) {
+          throw new SocketException("Connection reset");
+        }
+        return DATA[position++];
+      }
+    };
+  }
+
+  private static InputStream failingAfter(int length, S3ResponseHeaders responseHeaders) {
+    var failing = failingAfter(length);
+    return new FailingObjectStream(failing, responseHeaders);
+  }
+
+  private static class FailingObjectStream extends FilterInputStream implements S3ObjectStream {
+
+    private final S3ResponseHeaders responseHeaders;
+
+    FailingObjectStream(InputStream in, S3ResponseHeaders responseHeaders) {
+      super(in);
+      this.responseHeaders = responseHeaders;
+    }
+
+    @Override
+    public S3ResponseHeaders responseHeaders() {
+      return responseHeaders;
+    }
+  }
+}
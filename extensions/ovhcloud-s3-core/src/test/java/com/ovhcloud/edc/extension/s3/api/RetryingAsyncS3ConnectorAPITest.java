@@ -0,0 +1,73 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ovhcloud.edc.extension.s3.utils.S3RetryClassifier;
+import dev.failsafe.RetryPolicy;
+import io.minio.errors.ServerException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RetryingAsyncS3ConnectorAPITest {
+
+  private static final RetryPolicy<Object> RETRY_POLICY = RetryPolicy.builder()
+      .handleIf(S3RetryClassifier::isRetryable)
+      .withMaxRetries(2)
+      .build();
+
+  private AsyncS3ConnectorAPI delegate;
+  private RetryingAsyncS3ConnectorAPI client;
+
+  @BeforeEach
+  public void setUp() {
+    delegate = mock(AsyncS3ConnectorAPI.class);
+    client = new RetryingAsyncS3ConnectorAPI(delegate, RETRY_POLICY);
+  }
+
+  @Test
+  public void uploadPartShouldBeRetriedOnTransientError() {
+    var data = new byte[] {1, 2, 3, 4};
+    when(delegate.uploadPart("bucket", "object", "uploadId", 1, data, 4, null))
+        .thenReturn(CompletableFuture.failedFuture(
+            new EdcException("unavailable", new ServerException("SlowDown", 503, ""))))
+        .thenReturn(CompletableFuture.completedFuture("etag"));
+
+    assertEquals("etag",
+        client.uploadPart("bucket", "object", "uploadId", 1, data, 4).join());
+    verify(delegate, times(2)).uploadPart("bucket", "object", "uploadId", 1, data, 4, null);
+  }
+
+  @Test
+  public void uploadPartShouldNotBeRetriedOnPermanentError() {
+    var data = new byte[] {1, 2, 3, 4};
+    when(delegate.uploadPart("bucket", "object", "uploadId", 1, data, 4, null))
+        .thenReturn(CompletableFuture.failedFuture(new EdcException("denied")));
+
+    var future = client.uploadPart("bucket", "object", "uploadId", 1, data, 4);
+
+    var exception = assertThrows(CompletionException.class, future::join);
+    assertInstanceOf(EdcException.class, exception.getCause());
+    verify(delegate, times(1)).uploadPart("bucket", "object", "uploadId", 1, data, 4, null);
+  }
+
+  @Test
+  public void putObjectShouldBeRetriedOnTransientError() {
+    var data = new byte[] {1, 2, 3, 4};
+    when(delegate.putObject("bucket", "object", data, 4, null))
+        .thenReturn(CompletableFuture.failedFuture(
+            new EdcException("unavailable", new ServerException("SlowDown", 503, ""))))
+        .thenReturn(CompletableFuture.completedFuture("etag"));
+
+    assertEquals("etag", client.putObject("bucket", "object", data, 4).join());
+    verify(delegate, times(2)).putObject("bucket", "object", data, 4, null);
+  }
+}
@@ -0,0 +1,170 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ovhcloud.edc.extension.s3.utils.S3RetryClassifier;
+import dev.failsafe.RetryPolicy;
+import io.minio.BucketExistsArgs;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import io.minio.errors.ErrorResponseException;
+import io.minio.errors.MinioException;
+import io.minio.errors.ServerException;
+import io.minio.messages.ErrorResponse;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RetryingS3ConnectorAPITest {
+
+  private static final RetryPolicy<Object> RETRY_POLICY = RetryPolicy.builder()
+      .handleIf(S3RetryClassifier::isRetryable)
+      .withMaxRetries(2)
+      .build();
+
+  private S3ConnectorAPI delegate;
+  private RetryingS3ConnectorAPI client;
+
+  @BeforeEach
+  public void setUp() {
+    delegate = mock(S3ConnectorAPI.class);
+    client = new RetryingS3ConnectorAPI(delegate, RETRY_POLICY);
+  }
+
+  @Test
+  public void getObjectShouldBeRetriedOnTransientError() {
+    var data = new ByteArrayInputStream(new byte[4]);
+    when(delegate.getObject("bucket", "object", 0L, 4L))
+        .thenThrow(new EdcException("unavailable", new ServerException("SlowDown", 503, "")))
+        .thenReturn(data);
+
+    assertSame(data, client.getObject("bucket", "object", 0L, 4L));
+    verify(delegate, times(2)).getObject("bucket", "object", 0L, 4L);
+  }
+
+  @Test
+  public void getObjectShouldBeRetriedOnTransientErrorOfTheClient()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    var minioClient = mock(MinioClient.class);
+    when(minioClient.getObject(any(GetObjectArgs.class)))
+        .thenThrow(new ServerException("SlowDown", 503, ""))
+        .thenAnswer(invocation -> new GetObjectResponse(null, "bucket", "gra", "object",
+            new ByteArrayInputStream(new byte[] {1, 2, 3, 4})));
+    client = new RetryingS3ConnectorAPI(new S3ConnectorAPIImpl(minioClient, null), RETRY_POLICY);
+
+    assertArrayEquals(new byte[] {1, 2, 3, 4},
+        client.getObject("bucket", "object", 0L, 4L).readAllBytes());
+    verify(minioClient, times(2)).getObject(any(GetObjectArgs.class));
+  }
+
+  @Test
+  public void bucketExistsShouldBeRetriedOnThrottlingOfTheClient()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    var errorResponse = mock(ErrorResponse.class);
+    when(errorResponse.code()).thenReturn("SlowDown");
+    var minioClient = mock(MinioClient.class);
+    when(minioClient.bucketExists(any(BucketExistsArgs.class)))
+        .thenThrow(new ErrorResponseException(errorResponse, null, null))
+        .thenReturn(true);
+    client = new RetryingS3ConnectorAPI(new S3ConnectorAPIImpl(minioClient, null), RETRY_POLICY);
+
+    assertTrue(client.bucketExists("bucket"));
+    verify(minioClient, times(2)).bucketExists(any(BucketExistsArgs.class));
+  }
+
+  @Test
+  public void getObjectShouldNotBeRetriedOnPermanentError() {
+    when(delegate.getObject("bucket", "object")).thenThrow(new EdcException("denied"));
+
+    assertThrows(EdcException.class, () -> client.getObject("bucket", "object"));
+    verify(delegate, times(1)).getObject("bucket", "object");
+  }
+
+  @Test
+  public void getObjectStreamShouldOpenObjectEagerly() {
+    when(delegate.getObjectStream("bucket", "object")).thenThrow(new EdcException("missing"));
+
+    assertThrows(EdcException.class, () -> client.getObjectStream("bucket", "object"));
+  }
+
+  @Test
+  public void putObjectShouldNotBeRetriedWhenItsStreamIsNotInMemory() {
+    when(delegate.putObject(any(), any(), any(InputStream.class), anyLong(), any()))
+        .thenThrow(new EdcException("unavailable", new ServerException("SlowDown", 503, "")));
+    var data = new BufferedInputStream(new ByteArrayInputStream(new byte[4]));
+
+    assertThrows(EdcException.class, () -> client.putObject("bucket", "object", data, 4L));
+    verify(delegate, times(1)).putObject(any(), any(), any(InputStream.class), anyLong(), any());
+    verify(delegate, never()).getObject(any(), any());
+  }
+
+  @Test
+  public void putObjectShouldBeRetriedFromTheStartOfAByteArrayInputStream() {
+    var attempts = recordPutAttempts(2);
+
+    assertEquals("etag", client.putObject("bucket", "object",
+        new ByteArrayInputStream(new byte[] {1, 2, 3, 4}), 4L));
+    assertEquals(3, attempts.size());
+    attempts.forEach(attempt -> assertArrayEquals(new byte[] {1, 2, 3, 4}, attempt));
+  }
+
+  @Test
+  public void uploadPartShouldBeRetriedOnTransientError() {
+    var data = new byte[] {1, 2, 3, 4};
+    when(delegate.uploadPart("bucket", "object", "uploadId", 1, data, 4, null))
+        .thenThrow(new EdcException("unavailable", new ServerException("SlowDown", 503, "")))
+        .thenReturn("etag");
+
+    assertEquals("etag", client.uploadPart("bucket", "object", "uploadId", 1, data, 4));
+    verify(delegate, times(2)).uploadPart("bucket", "object", "uploadId", 1, data, 4, null);
+  }
+
+  @Test
+  public void uploadPartShouldNotBeRetriedOnPermanentError() {
+    var data = new byte[] {1, 2, 3, 4};
+    when(delegate.uploadPart("bucket", "object", "uploadId", 1, data, 4, null))
+        .thenThrow(new EdcException("denied"));
+
+    assertThrows(EdcException.class,
+        () -> client.uploadPart("bucket", "object", "uploadId", 1, data, 4));
+    verify(delegate, times(1)).uploadPart("bucket", "object", "uploadId", 1, data, 4, null);
+  }
+
+  private List<byte[]> recordPutAttempts(int failures) {
+    var attempts = new ArrayList<byte[]>();
+    when(delegate.putObject(any(), any(), any(InputStream.class), anyLong(), any()))
+        .thenAnswer(invocation -> {
+          try {
+            attempts.add(invocation.getArgument(2, InputStream.class).readAllBytes());
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          if (attempts.size() <= failures) {
+            throw new EdcException("unavailable", new ServerException("SlowDown", 503, ""));
+          }
+          return "etag";
+        });
+    return attempts;
+  }
+}
@@ -0,0 +1,144 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class S3BufferPoolTest {
+
+  private static final int MB = 1024 * 1024;
+
+  private S3Metrics metrics;
+  private Monitor monitor;
+
+  @BeforeEach
+  public void setUp() {
+    metrics = mock(S3Metrics.class);
+    monitor = mock(Monitor.class);
+  }
+
+  @Test
+  public void sizeClassShouldRoundUpToPowersOfTwoThenToMegabytes() {
+    assertEquals(64 * 1024, S3BufferPool.sizeClass(0));
+    assertEquals(64 * 1024, S3BufferPool.sizeClass(64 * 1024));
+    assertEquals(128 * 1024, S3BufferPool.sizeClass(64 * 1024 + 1));
+    assertEquals(MB, S3BufferPool.sizeClass(MB));
+    assertEquals(2 * MB, S3BufferPool.sizeClass(MB + 1));
+    assertEquals(5 * MB, S3BufferPool.sizeClass(5 * MB));
+    assertEquals(17 * MB, S3BufferPool.sizeClass(16 * MB + 1));
+  }
+
+  @Test
+  public void acquireShouldReuseReleasedBuffersOfTheSameSizeClass() {
+    var pool = new S3BufferPool(4 * MB, metrics, monitor);
+
+    var buffer = pool.acquire(3 * MB);
+    var array = buffer.array();
+    assertEquals(3 * MB, buffer.size());
+    buffer.close();
+    buffer.close();
+
+    try (var reused = pool.acquire(3 * MB - 1)) {
+      assertSame(array, reused.array());
+      assertEquals(3 * MB - 1, reused.size());
+      try (var other = pool.acquire(3 * MB)) {
+        assertNotSame(array, other.array());
+      }
+    }
+    verify(metrics, times(1)).bufferAllocated(3L * MB, true);
+    verify(metrics, times(1)).bufferAllocated(3L * MB, false);
+  }
+
+  @Test
+  public void acquireShouldAllocateOutsideOfThePoolWhenItIsFull() {
+    var pool = new S3BufferPool(2 * MB, metrics, monitor);
+
+    try (var first = pool.acquire(2 * MB); var second = pool.acquire(2 * MB)) {
+      assertNotSame(first.array(), second.array());
+      assertEquals(2L * MB, pool.pooledBytes());
+    }
+
+    verify(metrics).bufferAllocated(2L * MB, true);
+    verify(metrics).bufferAllocated(2L * MB, false);
+    assertEquals(2L * MB, pool.pooledBytes());
+  }
+
+  @Test
+  public void acquireShouldDropFreeBuffersOfOtherSizeClassesToStayUnderTheCap() {
+    var pool = new S3BufferPool(2 * MB, metrics, monitor);
+    pool.acquire(MB).close();
+    pool.acquire(MB / 2).close();
+
+    try (var buffer = pool.acquire(2 * MB)) {
+      assertEquals(2L * MB, pool.pooledBytes());
+    }
+    verify(metrics).bufferAllocated(2L * MB, true);
+  }
+
+  @Test
+  public void unpooledShouldAllocateEachBuffer() {
+    var pool = S3BufferPool.unpooled();
+
+    var buffer = pool.acquire(1024);
+    var array = buffer.array();
+    buffer.close();
+
+    try (var other = pool.acquire(1024)) {
+      assertNotSame(array, other.array());
+    }
+    assertEquals(0, pool.pooledBytes());
+  }
+
+  @Test
+  public void acquireShouldRejectNegativeSizes() {
+    var pool = new S3BufferPool(MB, metrics, monitor);
+
+    assertThrows(IllegalArgumentException.class, () -> pool.acquire(-1));
+  }
+
+  @Test
+  public void buffersGarbageCollectedWithoutBeingReleasedShouldBeReportedAsLeaks()
+      throws InterruptedException {
+    var pool = new S3BufferPool(MB, metrics, monitor);
+    leak(pool);
+
+    for (var i = 0; i < 50 && pool.pooledBytes() > 0; i++) {
+      System.gc();
+      Thread.sleep(100);
+    }
+
+    assertEquals(0, pool.pooledBytes());
+    verify(metrics, timeout(1000)).bufferLeaked(MB);
+    verify(monitor, timeout(1000)).warning(anyString());
+  }
+
+  @Test
+  public void releasedBuffersShouldNotBeReportedAsLeaks() throws InterruptedException {
+    var pool = new S3BufferPool(MB, metrics, monitor);
+    pool.acquire(MB).close();
+
+    System.gc();
+    Thread.sleep(100);
+
+    assertTrue(pool.pooledBytes() > 0);
+    verify(metrics, never()).bufferLeaked(anyLong());
+    verify(metrics).bufferAllocated(MB, true);
+  }
+
+  private static void leak(S3BufferPool pool) {
+    pool.acquire(MB);
+  }
+}
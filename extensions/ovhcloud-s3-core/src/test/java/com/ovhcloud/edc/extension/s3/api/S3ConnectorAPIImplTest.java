@@ -4,22 +4,29 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import io.minio.BucketExistsArgs;
+import io.minio.ComposeObjectArgs;
+import io.minio.CopyObjectArgs;
 import io.minio.GetObjectArgs;
 import io.minio.GetObjectResponse;
 import io.minio.ListObjectsArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
+import io.minio.ObjectWriteResponse;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveBucketArgs;
 import io.minio.RemoveObjectsArgs;
 import io.minio.Result;
 import io.minio.StatObjectArgs;
@@ -36,8 +43,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -55,6 +64,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 public class S3ConnectorAPIImplTest {
@@ -101,34 +111,54 @@ public class S3ConnectorAPIImplTest {
   }
 
   @Test
-  public void makeBucketShouldNotCreateBucketIfExists()
+  public void makeBucketShouldIgnoreBucketAlreadyOwned()
       throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
-    when(minioClient.bucketExists(any())).thenReturn(true);
+    doThrow(new ErrorResponseException(errorResponse("BucketAlreadyOwnedByYou"), null, null))
+        .when(minioClient).makeBucket(any(MakeBucketArgs.class));
 
     s3ConnectorAPI.createBucket("fake-bucket");
-    verify(minioClient, times(0)).makeBucket(any(MakeBucketArgs.class));
+    verify(minioClient, times(1)).makeBucket(any(MakeBucketArgs.class));
+    verify(minioClient, never()).bucketExists(any());
   }
 
   @Test
-  public void makeBucketShouldCreateBucketIfNotExists()
+  public void makeBucketShouldCreateBucketWithoutCheckingItExists()
       throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
-    when(minioClient.bucketExists(any())).thenReturn(false);
-
     s3ConnectorAPI.createBucket("fake-bucket");
     verify(minioClient, times(1)).makeBucket(any(MakeBucketArgs.class));
+    verify(minioClient, never()).bucketExists(any());
   }
 
   @ParameterizedTest
   @MethodSource("provideExceptions")
   public void makeBucketShouldThrowEdcException(Exception exception)
       throws ServerException, InsufficientDataException, ErrorResponseException, IOException, NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException, InternalException {
-    when(minioClient.bucketExists(any())).thenReturn(false);
     doThrow(exception).when(minioClient).makeBucket(any(MakeBucketArgs.class));
 
     assertThrows(EdcException.class, () -> s3ConnectorAPI.createBucket("throw-exception"));
     verify(minioClient, times(1)).makeBucket(any(MakeBucketArgs.class));
   }
 
+  @Test
+  public void deleteBucketShouldIgnoreNoSuchBucket()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    doThrow(new ErrorResponseException(errorResponse("NoSuchBucket"), null, null))
+        .when(minioClient).removeBucket(any(RemoveBucketArgs.class));
+
+    s3ConnectorAPI.deleteBucket("fake-bucket");
+    verify(minioClient, times(1)).removeBucket(any(RemoveBucketArgs.class));
+    verify(minioClient, never()).bucketExists(any());
+  }
+
+  @Test
+  public void deleteBucketShouldThrowEdcExceptionOnOtherErrors()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    doThrow(new ErrorResponseException(errorResponse("BucketNotEmpty"), null, null))
+        .when(minioClient).removeBucket(any(RemoveBucketArgs.class));
+
+    assertThrows(EdcException.class, () -> s3ConnectorAPI.deleteBucket("fake-bucket"));
+  }
+
   @Test
   public void listObjectsShouldReturnListOfObjects()
       throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
@@ -169,6 +199,59 @@ public class S3ConnectorAPIImplTest {
     verify(minioClient, times(1)).listObjects(any());
   }
 
+  @Test
+  public void listObjectsWithMetadataShouldReturnMetadataFromListing()
+      throws MinioException, IOException, InvalidKeyException, NoSuchAlgorithmException {
+    var lastModified = ZonedDateTime.parse("2024-06-07T13:30:45Z");
+    Item item = mock(Item.class);
+    when(item.objectName()).thenReturn("object1");
+    when(item.size()).thenReturn(42L);
+    when(item.etag()).thenReturn("\"d41d8cd98f00b204e9800998ecf8427e\"");
+    when(item.lastModified()).thenReturn(lastModified);
+    Item directory = mock(Item.class);
+    when(directory.isDir()).thenReturn(true);
+
+    when(minioClient.listObjects(any())).thenReturn(
+        List.of(new Result<>(item), new Result<>(directory)));
+
+    var objects = s3ConnectorAPI.listObjectsWithMetadata("fake-bucket", "fake-prefix");
+
+    assertEquals(
+        List.of(new S3ObjectMetadata("object1", 42L, "d41d8cd98f00b204e9800998ecf8427e",
+            lastModified)), objects);
+    verify(minioClient, times(1)).listObjects(any());
+    verify(minioClient, times(0)).statObject(any());
+  }
+
+  @Test
+  public void streamObjectsShouldStreamMetadataFromListing() {
+    Item item = mock(Item.class);
+    when(item.objectName()).thenReturn("object1");
+    when(item.size()).thenReturn(42L);
+    when(item.etag()).thenReturn("\"etag\"");
+    Item directory = mock(Item.class);
+    when(directory.isDir()).thenReturn(true);
+
+    when(minioClient.listObjects(any())).thenReturn(
+        List.of(new Result<>(item), new Result<>(directory)));
+
+    try (var objects = s3ConnectorAPI.streamObjects("fake-bucket", "fake-prefix")) {
+      assertEquals(List.of(new S3ObjectMetadata("object1", 42L, "etag", null)),
+          objects.toList());
+    }
+    verify(minioClient, times(1)).listObjects(any());
+  }
+
+  @Test
+  public void streamObjectsShouldThrowEdcExceptionWhenListingFails() {
+    when(minioClient.listObjects(any())).thenReturn(
+        List.of(new Result<Item>(new IOException("listing failed"))));
+
+    try (var objects = s3ConnectorAPI.streamObjects("fake-bucket", "fake-prefix")) {
+      assertThrows(EdcException.class, objects::toList);
+    }
+  }
+
   @Test
   public void getObjectShouldReturnObjectWhenBucketAndObjectAreValid()
       throws ServerException, InsufficientDataException, ErrorResponseException, IOException, NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException, InternalException {
@@ -211,6 +294,104 @@ public class S3ConnectorAPIImplTest {
     verify(minioClient, times(1)).getObject(getObjectArgs);
   }
 
+  @Test
+  public void getObjectStreamShouldReturnLiveResponseWithoutBuffering()
+      throws ServerException, InsufficientDataException, ErrorResponseException, IOException, NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException, InternalException {
+    String bucketName = "fake-bucket";
+    String objectName = "fake-object";
+    byte[] objectData = "fake-data".getBytes();
+
+    GetObjectArgs getObjectArgs = GetObjectArgs.builder().bucket(bucketName).object(objectName)
+        .build();
+    GetObjectResponse response = new GetObjectResponse(
+        Headers.of("ETag", "\"fake-etag\"", "Content-Length", "9"),
+        bucketName,
+        "gra",
+        objectName,
+        new ByteArrayInputStream(objectData)
+    );
+
+    when(minioClient.getObject(getObjectArgs)).thenReturn(response);
+
+    InputStream result = s3ConnectorAPI.getObjectStream(bucketName, objectName);
+
+    assertEquals(new S3ResponseHeaders("fake-etag", 9, false),
+        S3ObjectStream.responseHeaders(result).orElseThrow());
+    assertArrayEquals(objectData, result.readAllBytes());
+    verify(minioClient, times(1)).getObject(getObjectArgs);
+  }
+
+  @Test
+  public void getObjectStreamShouldReportObjectEncryptedByTheBucket() throws Exception {
+    GetObjectArgs getObjectArgs = GetObjectArgs.builder().bucket("fake-bucket")
+        .object("fake-object").build();
+    GetObjectResponse response = new GetObjectResponse(
+        Headers.of("ETag", "\"fake-etag\"", "x-amz-server-side-encryption", "AES256"),
+        "fake-bucket",
+        "gra",
+        "fake-object",
+        new ByteArrayInputStream("fake-data".getBytes())
+    );
+    when(minioClient.getObject(getObjectArgs)).thenReturn(response);
+
+    InputStream result = s3ConnectorAPI.getObjectStream("fake-bucket", "fake-object");
+
+    assertTrue(S3ObjectStream.responseHeaders(result).orElseThrow().serverSideEncrypted());
+  }
+
+  @Test
+  public void getObjectStreamWithRangeShouldRequestRange()
+      throws ServerException, InsufficientDataException, ErrorResponseException, IOException, NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException, InternalException {
+    String bucketName = "fake-bucket";
+    String objectName = "fake-object";
+
+    GetObjectArgs getObjectArgs = GetObjectArgs.builder().bucket(bucketName).object(objectName)
+        .offset(10L).length(5L).build();
+
+    when(minioClient.getObject(getObjectArgs)).thenAnswer(invocation -> new GetObjectResponse(
+        null,
+        bucketName,
+        "gra",
+        objectName,
+        new ByteArrayInputStream("12345".getBytes())
+    ));
+
+    InputStream result = s3ConnectorAPI.getObjectStream(bucketName, objectName, 10L, 5L);
+
+    assertArrayEquals("12345".getBytes(), result.readAllBytes());
+    verify(minioClient, times(1)).getObject(getObjectArgs);
+  }
+
+  @Test
+  public void getObjectStreamWithEtagShouldRequestRangeOnlyIfObjectMatches() throws Exception {
+    when(minioClient.getObject(any(GetObjectArgs.class))).thenAnswer(
+        invocation -> new GetObjectResponse(null, "fake-bucket", "gra", "fake-object",
+            new ByteArrayInputStream("12345".getBytes())));
+
+    s3ConnectorAPI.getObjectStream("fake-bucket", "fake-object", 10L, 5L, "fake-etag");
+
+    ArgumentCaptor<GetObjectArgs> args = ArgumentCaptor.forClass(GetObjectArgs.class);
+    verify(minioClient).getObject(args.capture());
+    assertEquals("\"fake-etag\"", args.getValue().matchETag());
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideExceptions")
+  public void getObjectStreamShouldThrowEdcExceptionWhenErrorOccurs(Exception exception)
+      throws ServerException, InsufficientDataException, ErrorResponseException, IOException, NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException, InternalException {
+    String bucketName = "fake-bucket";
+    String objectName = "fake-object";
+
+    GetObjectArgs getObjectArgs = GetObjectArgs.builder().bucket(bucketName).object(objectName)
+        .build();
+
+    when(minioClient.getObject(getObjectArgs)).thenThrow(exception);
+
+    var thrown = assertThrows(EdcException.class,
+        () -> s3ConnectorAPI.getObjectStream(bucketName, objectName));
+    assertSame(exception, thrown.getCause());
+  }
+
   @Test
   void deleteObjectsWithNonEmptyBucketShouldDeleteObjects() {
     String bucketName = "test-bucket";
@@ -293,6 +474,116 @@ public class S3ConnectorAPIImplTest {
     verify(minioClient, times(1)).statObject(statObjectArgs);
   }
 
+  @Test
+  void putObjectWithSizeShouldReturnEtag()
+      throws ServerException, InsufficientDataException, ErrorResponseException, IOException, NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException, InternalException {
+    ObjectWriteResponse response = mock(ObjectWriteResponse.class);
+    when(response.etag()).thenReturn("etag");
+    when(minioClient.putObject(any(PutObjectArgs.class))).thenReturn(response);
+
+    var etag = s3ConnectorAPI.putObject("fake-bucket", "fake-object",
+        new ByteArrayInputStream("fake-data".getBytes()), 9L);
+
+    assertEquals("etag", etag);
+    verify(minioClient, times(1)).putObject(any(PutObjectArgs.class));
+  }
+
+  @Test
+  void putObjectWithDigestShouldSendContentMd5() throws Exception {
+    ObjectWriteResponse response = mock(ObjectWriteResponse.class);
+    when(minioClient.putObject(any(PutObjectArgs.class))).thenReturn(response);
+    byte[] digest = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16};
+
+    s3ConnectorAPI.putObject("fake-bucket", "fake-object",
+        new ByteArrayInputStream("fake-data".getBytes()), 9L, digest);
+
+    ArgumentCaptor<PutObjectArgs> args = ArgumentCaptor.forClass(PutObjectArgs.class);
+    verify(minioClient).putObject(args.capture());
+    assertEquals(List.of(Base64.getEncoder().encodeToString(digest)),
+        List.copyOf(args.getValue().extraHeaders().get("Content-MD5")));
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideExceptions")
+  void putObjectWithSizeShouldThrowEdcExceptionWhenErrorOccurs(Exception exception)
+      throws ServerException, InsufficientDataException, ErrorResponseException, IOException, NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException, InternalException {
+    when(minioClient.putObject(any(PutObjectArgs.class))).thenThrow(exception);
+
+    assertThrows(EdcException.class, () -> s3ConnectorAPI.putObject("fake-bucket", "fake-object",
+        new ByteArrayInputStream("fake-data".getBytes()), 9L));
+  }
+
+  @Test
+  void multipartUploadShouldThrowEdcExceptionWhenAsyncClientIsNotInitialized() {
+    assertThrows(EdcException.class,
+        () -> s3ConnectorAPI.createMultipartUpload("fake-bucket", "fake-object"));
+    assertThrows(EdcException.class,
+        () -> s3ConnectorAPI.uploadPart("fake-bucket", "fake-object", "uploadId", 1, new byte[1],
+            1));
+    assertThrows(EdcException.class,
+        () -> s3ConnectorAPI.completeMultipartUpload("fake-bucket", "fake-object", "uploadId",
+            List.of(new S3CompletedPart(1, "etag"))));
+    assertThrows(EdcException.class,
+        () -> s3ConnectorAPI.abortMultipartUpload("fake-bucket", "fake-object", "uploadId"));
+  }
+
+  @Test
+  void copyObjectShouldCopyObjectServerSide()
+      throws ServerException, InsufficientDataException, ErrorResponseException, IOException, NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException, InternalException {
+    s3ConnectorAPI.copyObject("source-bucket", "source-object", "fake-bucket", "fake-object", 9L);
+
+    verify(minioClient, times(1)).copyObject(any(CopyObjectArgs.class));
+    verify(minioClient, never()).composeObject(any(ComposeObjectArgs.class));
+  }
+
+  @Test
+  void copyObjectShouldComposeObjectLargerThan5GB()
+      throws ServerException, InsufficientDataException, ErrorResponseException, IOException, NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException, InternalException {
+    s3ConnectorAPI.copyObject("source-bucket", "source-object", "fake-bucket", "fake-object",
+        6L * 1024L * 1024L * 1024L);
+
+    verify(minioClient, times(1)).composeObject(any(ComposeObjectArgs.class));
+    verify(minioClient, never()).copyObject(any(CopyObjectArgs.class));
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideExceptions")
+  void copyObjectShouldThrowEdcExceptionWhenErrorOccurs(Exception exception)
+      throws ServerException, InsufficientDataException, ErrorResponseException, IOException, NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException, InternalException {
+    when(minioClient.copyObject(any(CopyObjectArgs.class))).thenThrow(exception);
+
+    assertThrows(EdcException.class, () -> s3ConnectorAPI.copyObject("source-bucket",
+        "source-object", "fake-bucket", "fake-object", 9L));
+  }
+
+  @Test
+  void statObjectShouldReturnObjectMetadata()
+      throws ServerException, InsufficientDataException, ErrorResponseException, IOException, NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException, InternalException {
+    when(minioClient.statObject(any(StatObjectArgs.class))).thenAnswer(
+        invocation -> new StatObjectResponse(
+            Headers.of(
+                "Content-Length", "9",
+                "ETag", "\"fake-etag\"",
+                "Last-Modified", "Fri, 07 Jun 2024 13:30:45 GMT"
+            ),
+            "fake-bucket",
+            "gra",
+            "fake-object"
+        ));
+
+    S3ObjectMetadata metadata = s3ConnectorAPI.statObject("fake-bucket", "fake-object");
+
+    assertEquals("fake-object", metadata.objectName());
+    assertEquals(9L, metadata.size());
+    assertEquals("fake-etag", metadata.etag());
+  }
+
+  private static ErrorResponse errorResponse(String code) {
+    var errorResponse = Mockito.mock(ErrorResponse.class);
+    when(errorResponse.code()).thenReturn(code);
+    return errorResponse;
+  }
+
   private static @NotNull Stream<Exception> provideExceptions() {
     return Stream.of(
         new ServerException("Server error", 500, ""),
@@ -0,0 +1,197 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema;
+import com.ovhcloud.edc.extension.s3.utils.MinioClientBuilder;
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class S3ConnectorAPIRegistryImplTest {
+
+  private static final String DEFAULT_ENDPOINT = "https://s3.gra.io.cloud.ovh.net";
+  private static final String OTHER_ENDPOINT = "https://s3.sbg.io.cloud.ovh.net";
+
+  private MinioClientBuilder minioClientBuilder;
+  private Clock clock;
+  private S3ConnectorAPIRegistryImpl registry;
+
+  @BeforeEach
+  public void setUp() {
+    minioClientBuilder = mock(MinioClientBuilder.class);
+    when(minioClientBuilder.endpoint(any())).thenReturn(minioClientBuilder);
+    when(minioClientBuilder.region(any())).thenReturn(minioClientBuilder);
+    when(minioClientBuilder.allowedEndpoints(any())).thenReturn(minioClientBuilder);
+    when(minioClientBuilder.credentials(any(), any())).thenReturn(minioClientBuilder);
+    when(minioClientBuilder.httpClient(any())).thenReturn(minioClientBuilder);
+    when(minioClientBuilder.build()).thenAnswer(invocation -> mock(MinioClient.class));
+    when(minioClientBuilder.buildAsync()).thenAnswer(invocation -> mock(MinioAsyncClient.class));
+
+    clock = mock(Clock.class);
+    when(clock.instant()).thenReturn(Instant.EPOCH);
+
+    registry = S3ConnectorAPIRegistryImpl.Builder.newInstance()
+        .clientBuilderFactory(() -> minioClientBuilder)
+        .endpoint(DEFAULT_ENDPOINT)
+        .credentials("defaultAccessKey", "defaultSecretKey")
+        .maxSize(2)
+        .idleTimeout(Duration.ofMinutes(10))
+        .clock(clock)
+        .monitor(mock(Monitor.class))
+        .build();
+  }
+
+  @Test
+  public void resolveShouldReuseClientOfSameEndpointAndCredentials() {
+    var client = registry.resolve(address(OTHER_ENDPOINT, "accessKey", "secretKey"));
+
+    assertSame(client, registry.resolve(address(OTHER_ENDPOINT, "accessKey", "secretKey")));
+    assertEquals(1, registry.size());
+  }
+
+  @Test
+  public void resolveShouldCreateClientPerCredentials() {
+    var client = registry.resolve(address(OTHER_ENDPOINT, "accessKey", "secretKey"));
+
+    assertNotSame(client, registry.resolve(address(OTHER_ENDPOINT, "accessKey", "otherSecret")));
+    assertEquals(2, registry.size());
+  }
+
+  @Test
+  public void resolveShouldUseDefaultsWhenAddressDoesNotDefineThem() {
+    var address = DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.BUCKET_NAME, "bucketName")
+        .property(OVHCloudBucketSchema.ACCESS_KEY_ID, "accessKeyWithoutSecret")
+        .build();
+
+    assertSame(registry.resolve(null), registry.resolve(address));
+    verify(minioClientBuilder).endpoint(DEFAULT_ENDPOINT);
+    verify(minioClientBuilder).credentials("defaultAccessKey", "defaultSecretKey");
+  }
+
+  @Test
+  public void resolveShouldRejectNotAllowedEndpointEvenWithRegion() {
+    var address = DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.BUCKET_NAME, "bucketName")
+        .property(OVHCloudBucketSchema.ENDPOINT, "https://s3.attacker.example.com")
+        .property(OVHCloudBucketSchema.REGION, "gra")
+        .property(OVHCloudBucketSchema.ACCESS_KEY_ID, "accessKey")
+        .property(OVHCloudBucketSchema.SECRET_ACCESS_KEY, "secretKey")
+        .build();
+
+    assertThrows(EdcException.class, () -> registry.resolve(address));
+    assertThrows(EdcException.class, () -> registry.resolveAsync(address));
+    assertEquals(0, registry.size());
+  }
+
+  @Test
+  public void resolveShouldAcceptAllowedEndpoint() {
+    registry = S3ConnectorAPIRegistryImpl.Builder.newInstance()
+        .clientBuilderFactory(() -> minioClientBuilder)
+        .endpoint(DEFAULT_ENDPOINT)
+        .allowedEndpoints(Set.of("http://127.0.0.1:9000"))
+        .credentials("defaultAccessKey", "defaultSecretKey")
+        .clock(clock)
+        .build();
+
+    assertDoesNotThrow(() -> registry.resolve(address("http://127.0.0.1:9000/", "accessKey",
+        "secretKey")));
+  }
+
+  @Test
+  public void resolveShouldNotUseDefaultCredentialsWithAnotherEndpoint() {
+    var address = DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.BUCKET_NAME, "bucketName")
+        .property(OVHCloudBucketSchema.ENDPOINT, OTHER_ENDPOINT)
+        .property(OVHCloudBucketSchema.REGION, "sbg")
+        .build();
+
+    assertThrows(EdcException.class, () -> registry.resolve(address));
+    verify(minioClientBuilder, never()).credentials("defaultAccessKey", "defaultSecretKey");
+  }
+
+  @Test
+  public void resolveShouldUseDefaultCredentialsWithTheDefaultEndpoint() {
+    var address = DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.BUCKET_NAME, "bucketName")
+        .property(OVHCloudBucketSchema.ENDPOINT, DEFAULT_ENDPOINT + "/")
+        .build();
+
+    assertSame(registry.resolve(null), registry.resolve(address));
+  }
+
+  @Test
+  public void resolveShouldShareClientsWithResolveAsync() {
+    registry.resolve(null);
+    registry.resolveAsync(null);
+
+    assertEquals(1, registry.size());
+  }
+
+  @Test
+  public void resolveShouldEvictLeastRecentlyUsedClientWhenCacheIsFull() {
+    var first = registry.resolve(address(OTHER_ENDPOINT, "accessKey1", "secretKey"));
+    registry.resolve(address(OTHER_ENDPOINT, "accessKey2", "secretKey"));
+    registry.resolve(address(OTHER_ENDPOINT, "accessKey1", "secretKey"));
+    var third = registry.resolve(address(OTHER_ENDPOINT, "accessKey3", "secretKey"));
+
+    assertEquals(2, registry.size());
+    assertSame(first, registry.resolve(address(OTHER_ENDPOINT, "accessKey1", "secretKey")));
+    assertSame(third, registry.resolve(address(OTHER_ENDPOINT, "accessKey3", "secretKey")));
+  }
+
+  @Test
+  public void resolveShouldEvictIdleClients() {
+    var client = registry.resolve(address(OTHER_ENDPOINT, "accessKey", "secretKey"));
+
+    when(clock.instant()).thenReturn(Instant.EPOCH.plus(Duration.ofMinutes(11)));
+
+    assertNotSame(client, registry.resolve(address(OTHER_ENDPOINT, "accessKey", "secretKey")));
+    assertEquals(1, registry.size());
+  }
+
+  @Test
+  public void sameClientShouldCompareEndpointAndCredentials() {
+    assertTrue(registry.sameClient(address(OTHER_ENDPOINT, "accessKey", "secretKey"),
+        address(OTHER_ENDPOINT, "accessKey", "secretKey")));
+    assertFalse(registry.sameClient(address(OTHER_ENDPOINT, "accessKey", "secretKey"),
+        address(DEFAULT_ENDPOINT, "accessKey", "secretKey")));
+    assertFalse(registry.sameClient(address(OTHER_ENDPOINT, "accessKey", "secretKey"),
+        address(OTHER_ENDPOINT, "otherAccessKey", "secretKey")));
+    assertEquals(0, registry.size());
+  }
+
+  private static DataAddress address(String endpoint, String accessKey, String secretKey) {
+    return DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.BUCKET_NAME, "bucketName")
+        .property(OVHCloudBucketSchema.ENDPOINT, endpoint)
+        .property(OVHCloudBucketSchema.ACCESS_KEY_ID, accessKey)
+        .property(OVHCloudBucketSchema.SECRET_ACCESS_KEY, secretKey)
+        .build();
+  }
+}
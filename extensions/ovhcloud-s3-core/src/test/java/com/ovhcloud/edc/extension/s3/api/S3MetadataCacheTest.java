@@ -0,0 +1,72 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class S3MetadataCacheTest {
+
+  private Clock clock;
+  private S3MetadataCache cache;
+
+  @BeforeEach
+  public void setUp() {
+    clock = mock(Clock.class);
+    when(clock.instant()).thenReturn(Instant.EPOCH);
+    cache = new S3MetadataCache(2, Duration.ofSeconds(30), clock);
+  }
+
+  @Test
+  public void entriesShouldExpireAfterTtl() {
+    cache.putBucketExists("bucket", true);
+    assertEquals(Optional.of(true), cache.bucketExists("bucket"));
+
+    when(clock.instant()).thenReturn(Instant.EPOCH.plusSeconds(30));
+
+    assertTrue(cache.bucketExists("bucket").isEmpty());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void putObjectShouldEvictLeastRecentlyUsedObjectWhenFull() {
+    cache.putObject("bucket", metadata("object1"));
+    cache.putObject("bucket", metadata("object2"));
+    cache.object("bucket", "object1");
+    cache.putObject("bucket", metadata("object3"));
+
+    assertTrue(cache.object("bucket", "object1").isPresent());
+    assertTrue(cache.object("bucket", "object2").isEmpty());
+    assertTrue(cache.object("bucket", "object3").isPresent());
+  }
+
+  @Test
+  public void putObjectShouldRecordThatBucketExists() {
+    cache.putObject("bucket", metadata("object1"));
+
+    assertEquals(Optional.of(true), cache.bucketExists("bucket"));
+  }
+
+  @Test
+  public void invalidateBucketShouldForgetItsObjects() {
+    cache.putObject("bucket", metadata("object1"));
+    cache.putObject("other-bucket", metadata("object1"));
+
+    cache.invalidateBucket("bucket");
+
+    assertTrue(cache.bucketExists("bucket").isEmpty());
+    assertTrue(cache.object("bucket", "object1").isEmpty());
+    assertTrue(cache.object("other-bucket", "object1").isPresent());
+  }
+
+  private static S3ObjectMetadata metadata(String objectName) {
+    return new S3ObjectMetadata(objectName, 42L, "etag", null);
+  }
+}
@@ -0,0 +1,176 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ovhcloud.edc.extension.s3.api.S3ParallelLister.Page;
+import com.ovhcloud.edc.extension.s3.utils.S3Utils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class S3ParallelListerTest {
+
+  private static final int PAGE_SIZE = 2;
+
+  private ExecutorService executorService;
+
+  @BeforeEach
+  public void setUp() {
+    executorService = Executors.newFixedThreadPool(8);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void listerShouldReturnTheObjectsInTheOrderOfASingleListing() {
+    var bucket = new FakeBucket(List.of("data.txt", "data/2024/01/a", "data/2024/01/b",
+        "data/2024/02/a", "data/2025/01/a", "data/readme", "data0", "data/2024/03/a",
+        "data/2023/12/a"));
+
+    var keys = new ArrayList<String>();
+    try (var lister = new S3ParallelLister(bucket, "data", 4, 4)) {
+      lister.forEachRemaining(object -> keys.add(object.objectName()));
+    }
+
+    assertEquals(new ArrayList<>(bucket.keys), keys);
+  }
+
+  @Test
+  public void listerShouldListTheSubPrefixesConcurrently() {
+    var keys = IntStream.range(0, 40)
+        .mapToObj(i -> String.format("prefix/%02d/object-%d", i % 10, i))
+        .toList();
+    var bucket = new FakeBucket(keys);
+
+    try (var lister = new S3ParallelLister(bucket, "prefix/", 3, 4)) {
+      var count = 0;
+      while (lister.hasNext()) {
+        lister.next();
+        count++;
+      }
+      assertEquals(40, count);
+    }
+
+    assertTrue(bucket.maxInFlight.get() > 1);
+    assertTrue(bucket.maxInFlight.get() <= 3);
+  }
+
+  @Test
+  public void listerShouldListAPrefixWithoutSubPrefixesWithTheDelimitedListing() {
+    var bucket = new FakeBucket(List.of("flat/a", "flat/b", "flat/c"));
+
+    var keys = new ArrayList<String>();
+    try (var lister = new S3ParallelLister(bucket, "flat/", 4, 4)) {
+      lister.forEachRemaining(object -> keys.add(object.objectName()));
+    }
+
+    assertEquals(List.of("flat/a", "flat/b", "flat/c"), keys);
+    assertEquals(0, bucket.recursivePages.get());
+  }
+
+  @Test
+  public void listerShouldRethrowTheFailureOfASubPrefixListing() {
+    var bucket = new FakeBucket(List.of("prefix/a/1", "prefix/b/1"));
+    bucket.failingPrefix = "prefix/b/";
+
+    try (var lister = new S3ParallelLister(bucket, "prefix/", 4, 4)) {
+      assertEquals("prefix/a/1", lister.next().objectName());
+      assertThrows(EdcException.class, lister::hasNext);
+    }
+  }
+
+  @Test
+  public void closeShouldStopTheListing() {
+    var bucket = new FakeBucket(List.of("prefix/a/1", "prefix/b/1"));
+
+    var lister = new S3ParallelLister(bucket, "prefix/", 4, 4);
+    lister.close();
+
+    assertFalse(lister.hasNext());
+    assertEquals(0, bucket.recursivePages.get());
+  }
+
+  /**
+   * A bucket listed in pages of {@link #PAGE_SIZE} keys, completed in background.
+   */
+  private class FakeBucket implements S3ParallelLister.PageReader {
+
+    private final TreeSet<String> keys = new TreeSet<>(S3Utils::compareKeys);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger recursivePages = new AtomicInteger();
+    private volatile String failingPrefix;
+
+    private FakeBucket(List<String> keys) {
+      this.keys.addAll(keys);
+    }
+
+    @Override
+    public CompletableFuture<Page> read(String prefix, String delimiter,
+        String continuationToken) {
+      // Only the listings of the sub-prefixes are concurrent, the delimited one is read in turn
+      var subListing = delimiter == null;
+      if (subListing) {
+        recursivePages.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      }
+      return CompletableFuture.supplyAsync(() -> {
+        try {
+          Thread.sleep(5);
+          if (prefix.equals(failingPrefix)) {
+            throw new EdcException("listing failed");
+          }
+          return page(prefix, delimiter, continuationToken);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new EdcException("interrupted", e);
+        } finally {
+          if (subListing) {
+            inFlight.decrementAndGet();
+          }
+        }
+      }, executorService);
+    }
+
+    private Page page(String prefix, String delimiter, String continuationToken) {
+      var objects = new ArrayList<S3ObjectMetadata>();
+      var prefixes = new ArrayList<String>();
+      var after = continuationToken;
+      for (var key : keys) {
+        if (!key.startsWith(prefix) || (after != null && S3Utils.compareKeys(key, after) <= 0)) {
+          continue;
+        }
+        if (objects.size() + prefixes.size() == PAGE_SIZE) {
+          return new Page(objects, prefixes, after);
+        }
+
+        var delimiterIndex = delimiter == null ? -1 : key.indexOf(delimiter, prefix.length());
+        if (delimiterIndex < 0) {
+          objects.add(new S3ObjectMetadata(key, 1, "etag", null));
+          after = key;
+        } else {
+          var subPrefix = key.substring(0, delimiterIndex + 1);
+          prefixes.add(subPrefix);
+          // Skips the other keys of the sub-prefix
+          after = subPrefix + Character.MAX_VALUE;
+        }
+      }
+      return new Page(objects, prefixes, null);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class S3RateLimiterTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  @Test
+  public void reserveShouldLimitEachOperationSeparately() {
+    var rateLimiter = new S3RateLimiter(S3RateLimits.Builder.newInstance()
+        .endpointRequestsPerSecond(S3Operation.PUT, 1)
+        .build(), now::get);
+
+    assertEquals(0, rateLimiter.reserve("bucket", S3Operation.PUT));
+    assertTrue(rateLimiter.reserve("bucket", S3Operation.PUT) > 0);
+    assertEquals(0, rateLimiter.reserve("bucket", S3Operation.GET));
+  }
+
+  @Test
+  public void reserveShouldLimitEachBucketSeparately() {
+    var rateLimiter = new S3RateLimiter(S3RateLimits.Builder.newInstance()
+        .bucketRequestsPerSecond(S3Operation.HEAD, 1)
+        .build(), now::get);
+
+    assertEquals(0, rateLimiter.reserve("bucket1", S3Operation.HEAD));
+    assertEquals(0, rateLimiter.reserve("bucket2", S3Operation.HEAD));
+    assertTrue(rateLimiter.reserve("bucket1", S3Operation.HEAD) > 0);
+  }
+
+  @Test
+  public void reserveShouldWaitForTheMostRestrictiveScope() {
+    var rateLimiter = new S3RateLimiter(S3RateLimits.Builder.newInstance()
+        .endpointRequestsPerSecond(S3Operation.GET, 10)
+        .bucketRequestsPerSecond(S3Operation.GET, 1)
+        .build(), now::get);
+
+    rateLimiter.reserve("bucket", S3Operation.GET);
+
+    assertEquals(TimeUnit.SECONDS.toNanos(1), rateLimiter.reserve("bucket", S3Operation.GET));
+  }
+
+  @Test
+  public void reserveBytesShouldBeSharedByAllBucketsOfEndpoint() {
+    var rateLimiter = new S3RateLimiter(S3RateLimits.Builder.newInstance()
+        .endpointBytesPerSecond(1000)
+        .build(), now::get);
+
+    assertEquals(0, rateLimiter.reserveBytes("bucket1", 1000));
+    assertEquals(TimeUnit.SECONDS.toNanos(1), rateLimiter.reserveBytes("bucket2", 1000));
+  }
+
+  @Test
+  public void limitShouldReturnStreamItselfWhenBytesAreNotLimited() {
+    var rateLimiter = new S3RateLimiter(S3RateLimits.Builder.newInstance()
+        .endpointRequestsPerSecond(S3Operation.GET, 1)
+        .build(), now::get);
+    var inputStream = new ByteArrayInputStream(new byte[1]);
+
+    assertSame(inputStream, rateLimiter.limit("bucket", inputStream));
+  }
+
+  @Test
+  public void limitShouldChargeBytesReadThroughStream() throws Exception {
+    var rateLimiter = new S3RateLimiter(S3RateLimits.Builder.newInstance()
+        .bucketBytesPerSecond(1000)
+        .build(), now::get);
+
+    try (var inputStream = rateLimiter.limit("bucket", new ByteArrayInputStream(new byte[600]))) {
+      assertEquals(600, inputStream.readAllBytes().length);
+    }
+
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(200), rateLimiter.reserveBytes("bucket", 600));
+  }
+}
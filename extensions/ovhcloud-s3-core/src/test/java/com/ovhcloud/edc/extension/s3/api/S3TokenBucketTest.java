@@ -0,0 +1,55 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class S3TokenBucketTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  @Test
+  public void reserveShouldGrantTokensAvailableWithoutWaiting() {
+    var bucket = new S3TokenBucket(10, now::get);
+
+    for (var i = 0; i < 10; i++) {
+      assertEquals(0, bucket.reserve(1));
+    }
+  }
+
+  @Test
+  public void reserveShouldReturnTimeUntilBorrowedTokensAreRefilled() {
+    var bucket = new S3TokenBucket(10, now::get);
+    bucket.reserve(10);
+
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.reserve(1));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(200), bucket.reserve(1));
+
+    now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    assertEquals(0, bucket.reserve(1));
+  }
+
+  @Test
+  public void reserveShouldPaceReservationLargerThanCapacity() {
+    var bucket = new S3TokenBucket(1024, now::get);
+
+    assertEquals(TimeUnit.SECONDS.toNanos(3), bucket.reserve(4 * 1024));
+  }
+
+  @Test
+  public void refillShouldNotExceedOneSecondOfTokens() {
+    var bucket = new S3TokenBucket(10, now::get);
+    now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+    assertEquals(0, bucket.reserve(10));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.reserve(1));
+  }
+
+  @Test
+  public void constructorShouldRejectNonPositiveRate() {
+    assertThrows(IllegalArgumentException.class, () -> new S3TokenBucket(0, now::get));
+  }
+}
@@ -0,0 +1,89 @@
+package com.ovhcloud.edc.extension.s3.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class S3WatermarkStoreTest {
+
+  private static final Instant WATERMARK = Instant.parse("2024-01-01T10:00:00Z");
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void getShouldReturnTheWatermarkPutForAKey() {
+    var store = new S3WatermarkStore(null);
+
+    store.put("hourly", WATERMARK);
+
+    assertEquals(Optional.of(WATERMARK), store.get("hourly"));
+    assertTrue(store.get("daily").isEmpty());
+  }
+
+  @Test
+  public void putShouldNotMoveTheWatermarkBackwards() {
+    var store = new S3WatermarkStore(null);
+    store.put("hourly", WATERMARK);
+
+    store.put("hourly", WATERMARK.minusSeconds(3600));
+
+    assertEquals(Optional.of(WATERMARK), store.get("hourly"));
+  }
+
+  @Test
+  public void nextWatermarkShouldBeTheCurrentTimeMinusTheSafetyLag() {
+    var store = new S3WatermarkStore(null, Duration.ofMinutes(15),
+        Clock.fixed(WATERMARK, ZoneOffset.UTC));
+
+    assertEquals(Instant.parse("2024-01-01T09:45:00Z"), store.nextWatermark());
+  }
+
+  @Test
+  public void constructorShouldRejectANegativeSafetyLag() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new S3WatermarkStore(null, Duration.ofSeconds(-1), Clock.systemUTC()));
+  }
+
+  @Test
+  public void watermarksShouldBeReadBackFromTheDirectory() {
+    new S3WatermarkStore(directory).put("source/hourly", WATERMARK);
+
+    var store = new S3WatermarkStore(directory);
+
+    assertEquals(Optional.of(WATERMARK), store.get("source/hourly"));
+  }
+
+  @Test
+  public void putShouldDeleteTheTemporaryFileWhenTheWriteFails() throws IOException {
+    var store = new S3WatermarkStore(directory);
+    // A non-empty directory in place of the file makes the move fail
+    Files.createDirectories(directory.resolve(S3WatermarkStore.FILE_NAME).resolve("blocking"));
+
+    assertThrows(EdcException.class, () -> store.put("hourly", WATERMARK));
+
+    try (var files = Files.list(directory)) {
+      assertEquals(List.of(directory.resolve(S3WatermarkStore.FILE_NAME)), files.toList());
+    }
+  }
+
+  @Test
+  public void constructorShouldFailOnACorruptedFile() throws IOException {
+    Files.writeString(directory.resolve(S3WatermarkStore.FILE_NAME), "hourly=yesterday");
+
+    assertThrows(EdcException.class, () -> new S3WatermarkStore(directory));
+  }
+}
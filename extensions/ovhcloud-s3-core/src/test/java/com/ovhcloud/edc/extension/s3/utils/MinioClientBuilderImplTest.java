@@ -0,0 +1,79 @@
+package com.ovhcloud.edc.extension.s3.utils;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.Test;
+
+public class MinioClientBuilderImplTest {
+
+  @Test
+  public void buildHttpClientShouldRaiseDefaultMaxRequestsPerHost() {
+    var httpClient = MinioClientBuilderImpl.builder().buildHttpClient();
+
+    assertEquals(64, httpClient.dispatcher().getMaxRequestsPerHost());
+    assertEquals(List.of(Protocol.HTTP_1_1), httpClient.protocols());
+  }
+
+  @Test
+  public void buildHttpClientShouldApplyTransportSettings() {
+    var httpClient = MinioClientBuilderImpl.builder()
+        .maxRequestsPerHost(128)
+        .timeouts(Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(3))
+        .http2(true)
+        .socketBufferSizes(1024 * 1024, 1024 * 1024)
+        .buildHttpClient();
+
+    assertEquals(128, httpClient.dispatcher().getMaxRequestsPerHost());
+    assertEquals(128, httpClient.dispatcher().getMaxRequests());
+    assertEquals(1000, httpClient.connectTimeoutMillis());
+    assertEquals(2000, httpClient.readTimeoutMillis());
+    assertEquals(3000, httpClient.writeTimeoutMillis());
+    assertEquals(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1), httpClient.protocols());
+    assertInstanceOf(BufferedSocketFactory.class, httpClient.socketFactory());
+  }
+
+  @Test
+  public void buildHttpClientShouldThrowWhenMaxRequestsPerHostIsNotPositive() {
+    var builder = MinioClientBuilderImpl.builder().maxRequestsPerHost(0);
+
+    assertThrows(IllegalArgumentException.class, builder::buildHttpClient);
+  }
+
+  @Test
+  public void buildShouldAcceptAllowedEndpointWithoutRegion() {
+    var builder = MinioClientBuilderImpl.builder()
+        .endpoint("http://127.0.0.1:9000")
+        .allowedEndpoints(Set.of("http://127.0.0.1:9000"))
+        .credentials("accessKey", "secretKey");
+
+    assertDoesNotThrow(builder::build);
+    assertDoesNotThrow(builder::buildAsync);
+  }
+
+  @Test
+  public void buildShouldRejectNotAllowedEndpointWithoutRegion() {
+    var builder = MinioClientBuilderImpl.builder()
+        .endpoint("http://127.0.0.1:9000")
+        .credentials("accessKey", "secretKey");
+
+    assertThrows(IllegalArgumentException.class, builder::build);
+  }
+
+  @Test
+  public void buildShouldRejectNotAllowedEndpointWithRegion() {
+    var builder = MinioClientBuilderImpl.builder()
+        .endpoint("https://s3.example.com")
+        .region("gra")
+        .credentials("accessKey", "secretKey");
+
+    assertThrows(IllegalArgumentException.class, builder::build);
+    assertThrows(IllegalArgumentException.class, builder::buildAsync);
+  }
+}
@@ -0,0 +1,94 @@
+package com.ovhcloud.edc.extension.s3.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingIteratorTest {
+
+  private ExecutorService executorService;
+
+  @BeforeEach
+  public void setUp() {
+    executorService = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void iteratorShouldReturnAllElementsInOrder() {
+    var source = IntStream.range(0, 100).boxed().toList();
+
+    var elements = new ArrayList<Integer>();
+    try (var iterator = new PrefetchingIterator<>(source.iterator(), 10, executorService)) {
+      iterator.forEachRemaining(elements::add);
+      assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    assertEquals(source, elements);
+  }
+
+  @Test
+  public void iteratorShouldRethrowSourceFailureAfterPrefetchedElements() {
+    var source = new Iterator<Integer>() {
+      private int next = 0;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public Integer next() {
+        if (next == 2) {
+          throw new EdcException("listing failed");
+        }
+        return next++;
+      }
+    };
+
+    try (var iterator = new PrefetchingIterator<>(source, 10, executorService)) {
+      assertEquals(0, iterator.next());
+      assertEquals(1, iterator.next());
+      assertThrows(EdcException.class, iterator::hasNext);
+    }
+  }
+
+  @Test
+  public void closeShouldStopReadingSource() throws InterruptedException {
+    var source = IntStream.iterate(0, i -> i + 1).iterator();
+
+    var iterator = new PrefetchingIterator<>(source, 2, executorService);
+    assertEquals(0, iterator.next());
+    iterator.close();
+
+    assertFalse(iterator.hasNext());
+    executorService.shutdown();
+    assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void constructorShouldThrowExceptionIfCapacityIsNotPositive() {
+    var source = List.of(1).iterator();
+
+    assertThrows(IllegalArgumentException.class,
+        () -> new PrefetchingIterator<>(source, 0, executorService));
+  }
+}
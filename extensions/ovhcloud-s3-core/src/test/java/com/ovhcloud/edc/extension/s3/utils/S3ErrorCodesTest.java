@@ -0,0 +1,38 @@
+package com.ovhcloud.edc.extension.s3.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.minio.errors.ErrorResponseException;
+import io.minio.errors.ServerException;
+import io.minio.messages.ErrorResponse;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletionException;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.Test;
+
+public class S3ErrorCodesTest {
+
+  @Test
+  public void ofShouldReturnS3ErrorCode() {
+    var errorResponse = mock(ErrorResponse.class);
+    when(errorResponse.code()).thenReturn("NoSuchKey");
+
+    assertEquals("NoSuchKey", S3ErrorCodes.of(new CompletionException(
+        new EdcException("missing", new ErrorResponseException(errorResponse, null, null)))));
+  }
+
+  @Test
+  public void ofShouldReturnStatusOfServerErrors() {
+    assertEquals("503", S3ErrorCodes.of(
+        new EdcException("unavailable", new ServerException("unavailable", 503, ""))));
+  }
+
+  @Test
+  public void ofShouldReturnTypeOfFailuresWithoutResponse() {
+    assertEquals("SocketTimeoutException", S3ErrorCodes.of(
+        new EdcException("timeout", new SocketTimeoutException("timeout"))));
+    assertEquals("EdcException", S3ErrorCodes.of(new EdcException("failed")));
+  }
+}
@@ -0,0 +1,66 @@
+package com.ovhcloud.edc.extension.s3.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.minio.errors.ErrorResponseException;
+import io.minio.errors.ServerException;
+import io.minio.messages.ErrorResponse;
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.Test;
+
+public class S3RetryClassifierTest {
+
+  @Test
+  public void isRetryableShouldAcceptSlowDown() {
+    var errorResponse = mock(ErrorResponse.class);
+    when(errorResponse.code()).thenReturn("SlowDown");
+
+    assertTrue(S3RetryClassifier.isRetryable(
+        new EdcException("throttled", new ErrorResponseException(errorResponse, null, null))));
+  }
+
+  @Test
+  public void isRetryableShouldRejectClientErrors() {
+    var errorResponse = mock(ErrorResponse.class);
+    when(errorResponse.code()).thenReturn("NoSuchKey");
+
+    assertFalse(S3RetryClassifier.isRetryable(
+        new EdcException("missing", new ErrorResponseException(errorResponse, null, null))));
+  }
+
+  @Test
+  public void isRetryableShouldAcceptServerErrors() {
+    assertTrue(S3RetryClassifier.isRetryable(new ServerException("unavailable", 503, "")));
+    assertFalse(S3RetryClassifier.isRetryable(new ServerException("not implemented", 501, "")));
+  }
+
+  @Test
+  public void isRetryableShouldAcceptConnectionResetsAndTimeouts() {
+    assertTrue(S3RetryClassifier.isRetryable(
+        new EdcException("reset", new SocketException("Connection reset"))));
+    assertTrue(S3RetryClassifier.isRetryable(new SocketTimeoutException("Read timed out")));
+    assertFalse(S3RetryClassifier.isRetryable(new FileNotFoundException()));
+  }
+
+  @Test
+  public void isRetryableShouldRejectFailedPreconditionsWhateverTheirConsequences() {
+    var errorResponse = mock(ErrorResponse.class);
+    when(errorResponse.code()).thenReturn("PreconditionFailed");
+    var changed = new EdcException("changed",
+        new ErrorResponseException(errorResponse, null, null));
+    var cut = new EOFException("Response ended early");
+    cut.initCause(changed);
+
+    assertTrue(S3RetryClassifier.isPreconditionFailed(cut));
+    assertFalse(S3RetryClassifier.isRetryable(changed));
+    assertFalse(S3RetryClassifier.isRetryable(cut));
+    assertFalse(S3RetryClassifier.isPreconditionFailed(new SocketException("Connection reset")));
+  }
+}
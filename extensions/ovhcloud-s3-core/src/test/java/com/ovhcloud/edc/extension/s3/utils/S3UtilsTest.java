@@ -1,6 +1,7 @@
 package com.ovhcloud.edc.extension.s3.utils;
 
 import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EmptySource;
@@ -9,11 +10,14 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.internal.matchers.Null;
 
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class S3UtilsTest {
 
@@ -96,6 +100,39 @@ public class S3UtilsTest {
 
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = {"http://127.0.0.1:9000", "http://127.0.0.1:9000/",
+      " http://127.0.0.1:9000 "})
+  public void extractRegionFromEndpointShouldGiveLocalRegionIfAllowedEndpointSubmitted(
+      String endpoint) {
+    var allowedEndpoints = Set.of("http://127.0.0.1:9000/");
+
+    assertDoesNotThrow(() -> S3Utils.validateEndpoint(endpoint, allowedEndpoints));
+    assertEquals(S3Utils.LOCAL_ENDPOINT_REGION,
+        S3Utils.extractRegionFromEndpoint(endpoint, allowedEndpoints));
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideValidEndpoints")
+  public void extractRegionFromEndpointShouldGiveCorrectRegionIfNotAllowedOVHEndpointSubmitted(
+      String endpoint, String expected) {
+    var allowedEndpoints = Set.of("http://127.0.0.1:9000");
+
+    assertFalse(S3Utils.isAllowedEndpoint(endpoint, allowedEndpoints));
+    assertEquals(expected, S3Utils.extractRegionFromEndpoint(endpoint, allowedEndpoints));
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideInvalidEndpoints")
+  public void validateEndpointShouldThrowExceptionIfNotAllowedEndpointSubmitted(String endpoint) {
+    var allowedEndpoints = Set.of("http://127.0.0.1:9000");
+
+    assertThrows(IllegalArgumentException.class,
+        () -> S3Utils.validateEndpoint(endpoint, allowedEndpoints));
+    assertThrows(IllegalArgumentException.class,
+        () -> S3Utils.extractRegionFromEndpoint(endpoint, allowedEndpoints));
+  }
+
   private static @NotNull Stream<Arguments> provideValidEndpoints() {
     return Stream.of(
         Arguments.of("https://s3.region.io.cloud.ovh.net", "region"),
@@ -120,4 +157,13 @@ public class S3UtilsTest {
         "https://s3.us-east-2.amazonaws.com"
     );
   }
+
+  @Test
+  public void compareKeysShouldFollowTheOrderOfTheUtf8Encoding() {
+    // U+FFFD is encoded before the supplementary characters, but sorts after their surrogates
+    assertTrue(S3Utils.compareKeys("a\uFFFD", "a\uD83D\uDE00") < 0);
+    assertTrue(S3Utils.compareKeys("a/b", "a0") < 0);
+    assertTrue(S3Utils.compareKeys("ab", "abc") < 0);
+    assertEquals(0, S3Utils.compareKeys("abc", "abc"));
+  }
 }
@@ -78,4 +78,62 @@ public class S3DestinationDataAddressValidatorTest {
         )
     );
   }
+
+  @Test
+  public void destinationDataAddressValidatorShouldSucceedWhenSinkTuningIsPositive() {
+    S3DestinationDataAddressValidator validator = new S3DestinationDataAddressValidator();
+    DataAddress dataAddress = DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.BUCKET_NAME, "testBucket")
+        .property(OVHCloudBucketSchema.REGION, "testRegion")
+        .property(OVHCloudBucketSchema.PARTITION_SIZE, "20")
+        .property(OVHCloudBucketSchema.MAX_PARALLEL_PARTITIONS, " 2 ")
+        .property(OVHCloudBucketSchema.MULTIPART_CONCURRENCY, "1")
+        .build();
+
+    ValidationResult result = validator.validate(dataAddress);
+
+    assertTrue(result.succeeded());
+  }
+
+  @Test
+  public void destinationDataAddressValidatorShouldFailWhenSinkTuningIsNotPositive() {
+    S3DestinationDataAddressValidator validator = new S3DestinationDataAddressValidator();
+    DataAddress dataAddress = DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.BUCKET_NAME, "testBucket")
+        .property(OVHCloudBucketSchema.REGION, "testRegion")
+        .property(OVHCloudBucketSchema.PARTITION_SIZE, "0")
+        .property(OVHCloudBucketSchema.MULTIPART_CONCURRENCY, "many")
+        .build();
+
+    ValidationResult result = validator.validate(dataAddress);
+
+    assertTrue(result.failed());
+    assertIterableEquals(
+        result.getFailureMessages(),
+        List.of(
+            "The field " + OVHCloudBucketSchema.PARTITION_SIZE + " must be a positive integer",
+            "The field " + OVHCloudBucketSchema.MULTIPART_CONCURRENCY
+                + " must be a positive integer"
+        )
+    );
+  }
+
+  @Test
+  public void destinationDataAddressValidatorShouldFailWhenSyncIsNotABoolean() {
+    S3DestinationDataAddressValidator validator = new S3DestinationDataAddressValidator();
+    DataAddress dataAddress = DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.BUCKET_NAME, "testBucket")
+        .property(OVHCloudBucketSchema.REGION, "testRegion")
+        .property(OVHCloudBucketSchema.SYNC, "yes")
+        .build();
+
+    ValidationResult result = validator.validate(dataAddress);
+
+    assertTrue(result.failed());
+    assertIterableEquals(result.getFailureMessages(),
+        List.of("The field " + OVHCloudBucketSchema.SYNC + " must be true or false"));
+  }
 }
@@ -82,4 +82,56 @@ public class S3SourceDataAddressValidatorTest {
         )
     );
   }
+
+  @Test
+  public void sourceDataAddressValidatorShouldAcceptBoundsOfTheModificationDates() {
+    S3SourceDataAddressValidator validator = new S3SourceDataAddressValidator();
+    DataAddress dataAddress = DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.BUCKET_NAME, "testBucket")
+        .property(OVHCloudBucketSchema.OBJECT_NAME, "testObject")
+        .property(OVHCloudBucketSchema.MODIFIED_AFTER, "2024-01-01T00:00:00Z")
+        .property(OVHCloudBucketSchema.MODIFIED_BEFORE, "2024-01-02T00:00:00Z")
+        .build();
+
+    ValidationResult result = validator.validate(dataAddress);
+
+    assertTrue(result.succeeded());
+  }
+
+  @Test
+  public void sourceDataAddressValidatorShouldFailWhenModificationDatesAreInvalid() {
+    S3SourceDataAddressValidator validator = new S3SourceDataAddressValidator();
+    DataAddress dataAddress = DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.BUCKET_NAME, "testBucket")
+        .property(OVHCloudBucketSchema.OBJECT_NAME, "testObject")
+        .property(OVHCloudBucketSchema.MODIFIED_AFTER, "yesterday")
+        .build();
+
+    ValidationResult result = validator.validate(dataAddress);
+
+    assertTrue(result.failed());
+    assertIterableEquals(result.getFailureMessages(), List.of(
+        "The field " + OVHCloudBucketSchema.MODIFIED_AFTER + " must be an ISO-8601 instant"));
+  }
+
+  @Test
+  public void sourceDataAddressValidatorShouldFailWhenModificationDatesAreNotOrdered() {
+    S3SourceDataAddressValidator validator = new S3SourceDataAddressValidator();
+    DataAddress dataAddress = DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.BUCKET_NAME, "testBucket")
+        .property(OVHCloudBucketSchema.OBJECT_NAME, "testObject")
+        .property(OVHCloudBucketSchema.MODIFIED_AFTER, "2024-01-02T00:00:00Z")
+        .property(OVHCloudBucketSchema.MODIFIED_BEFORE, "2024-01-01T00:00:00Z")
+        .build();
+
+    ValidationResult result = validator.validate(dataAddress);
+
+    assertTrue(result.failed());
+    assertIterableEquals(result.getFailureMessages(), List.of("The field "
+        + OVHCloudBucketSchema.MODIFIED_BEFORE + " must be after "
+        + OVHCloudBucketSchema.MODIFIED_AFTER));
+  }
 }
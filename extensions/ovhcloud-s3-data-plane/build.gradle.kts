@@ -35,6 +35,7 @@ dependencies {
     testImplementation("${junitGroup}:junit-jupiter-engine:${junitVersion}")
     testImplementation("${junitGroup}:junit-jupiter-params:${junitVersion}")
     testImplementation("${mockitoGroup}:mockito-core:${mockitoVersion}")
+    testImplementation(project(":extensions:ovhcloud-s3-test-fixtures"))
 
 }
 
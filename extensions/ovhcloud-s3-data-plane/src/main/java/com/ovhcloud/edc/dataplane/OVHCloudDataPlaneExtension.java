@@ -1,8 +1,40 @@
 package com.ovhcloud.edc.dataplane;
 
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_DOWNLOAD_CHUNK_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_DOWNLOAD_CONCURRENCY;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_DOWNLOAD_MEMORY_LIMIT;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_EXECUTOR_SHUTDOWN_TIMEOUT;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_INTEGRITY_CHECK_ENABLED;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_MULTIPART_CHUNK_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_MULTIPART_CONCURRENCY;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_SINK_EXECUTOR_QUEUE_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_SINK_EXECUTOR_THREADS;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_SINK_EXECUTOR_TYPE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_SINK_MAX_PARALLEL_PARTITIONS;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_SINK_PARTITION_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_SINK_SCHEDULING_WINDOW;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_DOWNLOAD_CHUNK_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_DOWNLOAD_CONCURRENCY;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_DOWNLOAD_MEMORY_LIMIT;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_EXECUTOR_SHUTDOWN_TIMEOUT;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_INTEGRITY_CHECK_ENABLED;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_MULTIPART_CHUNK_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_MULTIPART_CONCURRENCY;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_SINK_EXECUTOR_QUEUE_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_SINK_EXECUTOR_THREADS;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_SINK_EXECUTOR_TYPE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_SINK_MAX_PARALLEL_PARTITIONS;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_SINK_PARTITION_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_SINK_SCHEDULING_WINDOW;
+
 import com.ovhcloud.edc.dataplane.s3.OVHCloudS3DataSinkFactory;
 import com.ovhcloud.edc.dataplane.s3.OVHCloudS3DataSourceFactory;
-import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
+import com.ovhcloud.edc.dataplane.s3.OVHCloudS3Executors;
+import com.ovhcloud.edc.dataplane.s3.OVHCloudS3MemoryBudget;
+import com.ovhcloud.edc.extension.s3.api.S3BufferPool;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIRegistry;
+import com.ovhcloud.edc.extension.s3.api.S3Metrics;
+import com.ovhcloud.edc.extension.s3.api.S3WatermarkStore;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -12,6 +44,9 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 @Extension(value = OVHCloudDataPlaneExtension.NAME)
@@ -23,7 +58,13 @@ public class OVHCloudDataPlaneExtension implements ServiceExtension {
   private PipelineService pipelineService;
 
   @Inject
-  private S3ConnectorAPI s3Client;
+  private S3ConnectorAPIRegistry s3ClientRegistry;
+
+  @Inject
+  private S3BufferPool bufferPool;
+
+  @Inject
+  private S3WatermarkStore watermarkStore;
 
   @Inject
   private DataTransferExecutorServiceContainer executorContainer;
@@ -37,6 +78,19 @@ public class OVHCloudDataPlaneExtension implements ServiceExtension {
   @Inject
   private Monitor monitor;
 
+  @Inject(required = false)
+  private S3Metrics metrics;
+
+  private ExecutorService downloadExecutor;
+
+  /**
+   * The executor of the sinks, null when it is the executor of the data plane, which is not shut
+   * down by this extension.
+   */
+  private ExecutorService sinkExecutor;
+
+  private Duration shutdownTimeout;
+
   @Override
   public String name() {
     return NAME;
@@ -45,11 +99,76 @@ public class OVHCloudDataPlaneExtension implements ServiceExtension {
   @Override
   public void initialize(ServiceExtensionContext context) {
     monitor.debug("Initializing OVHCloud Provision extension");
-    var sourceFactory = new OVHCloudS3DataSourceFactory(s3Client, monitor);
+    var downloadChunkSize = context.getSetting(EDC_OVHCLOUD_S3_DOWNLOAD_CHUNK_SIZE,
+        DEFAULT_DOWNLOAD_CHUNK_SIZE);
+    var downloadConcurrency = context.getSetting(EDC_OVHCLOUD_S3_DOWNLOAD_CONCURRENCY,
+        DEFAULT_DOWNLOAD_CONCURRENCY);
+    var downloadMemoryLimit = context.getSetting(EDC_OVHCLOUD_S3_DOWNLOAD_MEMORY_LIMIT,
+        DEFAULT_DOWNLOAD_MEMORY_LIMIT);
+    var integrityCheckEnabled = context.getConfig().getBoolean(
+        EDC_OVHCLOUD_S3_INTEGRITY_CHECK_ENABLED, DEFAULT_INTEGRITY_CHECK_ENABLED);
+
+    var s3Metrics = Optional.ofNullable(metrics).orElseGet(S3Metrics::noop);
+    shutdownTimeout = Duration.ofSeconds(context.getSetting(
+        EDC_OVHCLOUD_S3_EXECUTOR_SHUTDOWN_TIMEOUT, DEFAULT_EXECUTOR_SHUTDOWN_TIMEOUT));
+
+    // The ranges are downloaded by their own threads: the sink threads block while reading them
+    downloadExecutor = s3Metrics.monitorExecutor("download", Executors.newCachedThreadPool());
+    var sourceFactory = new OVHCloudS3DataSourceFactory(s3ClientRegistry, monitor,
+        downloadExecutor, downloadChunkSize, downloadConcurrency,
+        new OVHCloudS3MemoryBudget(downloadMemoryLimit), integrityCheckEnabled, bufferPool,
+        watermarkStore);
     pipelineService.registerFactory(sourceFactory);
 
-    var sinkFactory = new OVHCloudS3DataSinkFactory(s3Client, monitor, Executors.newFixedThreadPool(10));
+    var multipartChunkSize = context.getSetting(EDC_OVHCLOUD_S3_MULTIPART_CHUNK_SIZE,
+        DEFAULT_MULTIPART_CHUNK_SIZE);
+    var multipartConcurrency = context.getSetting(EDC_OVHCLOUD_S3_MULTIPART_CONCURRENCY,
+        DEFAULT_MULTIPART_CONCURRENCY);
+    var sinkPartitionSize = context.getSetting(EDC_OVHCLOUD_S3_SINK_PARTITION_SIZE,
+        DEFAULT_SINK_PARTITION_SIZE);
+    var sinkMaxParallelPartitions = context.getSetting(
+        EDC_OVHCLOUD_S3_SINK_MAX_PARALLEL_PARTITIONS, DEFAULT_SINK_MAX_PARALLEL_PARTITIONS);
+    var sinkSchedulingWindow = context.getSetting(EDC_OVHCLOUD_S3_SINK_SCHEDULING_WINDOW,
+        DEFAULT_SINK_SCHEDULING_WINDOW);
+
+    var sinkFactory = new OVHCloudS3DataSinkFactory(s3ClientRegistry, monitor,
+        sinkExecutor(context, s3Metrics), multipartChunkSize, multipartConcurrency,
+        integrityCheckEnabled, bufferPool, sinkPartitionSize, sinkMaxParallelPartitions,
+        sinkSchedulingWindow);
     pipelineService.registerFactory(sinkFactory);
     monitor.debug("OVHCloud Provision extension initialized");
   }
+
+  /**
+   * Shuts down the executors created by this extension, giving the transfers in progress the
+   * configured time to complete. The sinks are shut down first, as they read the ranges
+   * downloaded by the download executor.
+   */
+  @Override
+  public void shutdown() {
+    if (sinkExecutor != null) {
+      OVHCloudS3Executors.shutdown("sink", sinkExecutor, shutdownTimeout, monitor);
+    }
+    if (downloadExecutor != null) {
+      OVHCloudS3Executors.shutdown("download", downloadExecutor, shutdownTimeout, monitor);
+    }
+  }
+
+  private ExecutorService sinkExecutor(ServiceExtensionContext context, S3Metrics s3Metrics) {
+    var type = OVHCloudS3Executors.parseType(context.getSetting(
+        EDC_OVHCLOUD_S3_SINK_EXECUTOR_TYPE, DEFAULT_SINK_EXECUTOR_TYPE));
+    if (OVHCloudS3Executors.CONTAINER.equals(type)) {
+      return s3Metrics.monitorExecutor("sink", executorContainer.getExecutorService());
+    }
+
+    var threads = context.getSetting(EDC_OVHCLOUD_S3_SINK_EXECUTOR_THREADS,
+        DEFAULT_SINK_EXECUTOR_THREADS);
+    var queueSize = context.getSetting(EDC_OVHCLOUD_S3_SINK_EXECUTOR_QUEUE_SIZE,
+        DEFAULT_SINK_EXECUTOR_QUEUE_SIZE);
+    sinkExecutor = OVHCloudS3Executors.VIRTUAL.equals(type)
+        ? OVHCloudS3Executors.virtual("sink", threads, queueSize, s3Metrics, monitor)
+        : OVHCloudS3Executors.fixed("sink", threads, queueSize, s3Metrics);
+    monitor.debug(String.format("Sink executor: %s, %d threads", type, threads));
+    return sinkExecutor;
+  }
 }
@@ -0,0 +1,78 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import org.eclipse.edc.spi.EdcException;
+
+/**
+ * Computes and compares the ETags of OVHcloud S3 objects. The ETag of an object uploaded with a
+ * single request is the MD5 digest of its data, unless the object is encrypted by the bucket: its
+ * ETag then has the same form without being a digest of its data, which only the response headers
+ * tell. The other ETags, such as those of the objects uploaded as multipart uploads, cannot be
+ * verified from the data alone.
+ */
+final class OVHCloudS3Checksums {
+
+  private static final HexFormat HEX = HexFormat.of();
+  private static final Pattern SINGLE_PART_ETAG = Pattern.compile("[0-9a-f]{32}");
+
+  private OVHCloudS3Checksums() {
+  }
+
+  /**
+   * Creates a MD5 digest.
+   *
+   * @return a new MD5 digest.
+   * @throws EdcException if MD5 is not supported by the JVM
+   */
+  static MessageDigest md5() throws EdcException {
+    try {
+      return MessageDigest.getInstance("MD5");
+    } catch (NoSuchAlgorithmException e) {
+      throw new EdcException("MD5 is not supported", e);
+    }
+  }
+
+  /**
+   * Returns the ETag of an object uploaded with a single request.
+   *
+   * @param digest the MD5 digest of the data of the object
+   * @return the ETag of the object
+   */
+  static String etag(byte[] digest) {
+    return HEX.formatHex(digest);
+  }
+
+  /**
+   * Tells whether an ETag has the form of the MD5 digest of the data of an object. It is only the
+   * digest if the object is not encrypted by the bucket.
+   *
+   * @param etag the ETag returned by the bucket
+   * @return {@code true} if the ETag has the form of a MD5 digest
+   */
+  static boolean isSinglePartEtag(String etag) {
+    return etag != null && SINGLE_PART_ETAG.matcher(normalize(etag)).matches();
+  }
+
+  /**
+   * Compares an ETag returned by the bucket with an expected one, ignoring quotes and case.
+   *
+   * @param etag     the ETag returned by the bucket
+   * @param expected the expected ETag
+   * @return {@code true} if both ETags are equal
+   */
+  static boolean matches(String etag, String expected) {
+    return normalize(etag).equals(normalize(expected));
+  }
+
+  private static String normalize(String etag) {
+    var normalized = etag.toLowerCase(Locale.ROOT);
+    if (normalized.length() >= 2 && normalized.startsWith("\"") && normalized.endsWith("\"")) {
+      return normalized.substring(1, normalized.length() - 1);
+    }
+    return normalized;
+  }
+}
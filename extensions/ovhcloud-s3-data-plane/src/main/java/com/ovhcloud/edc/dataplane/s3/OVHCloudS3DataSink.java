@@ -1,11 +1,21 @@
 package com.ovhcloud.edc.dataplane.s3;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import com.ovhcloud.edc.dataplane.s3.OVHCloudS3DataSource.OVHCloudS3Part;
 import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.S3ObjectMetadata;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
+import org.eclipse.edc.spi.EdcException;
 import org.jetbrains.annotations.NotNull;
 
 public class OVHCloudS3DataSink extends ParallelSink {
@@ -14,16 +24,130 @@ public class OVHCloudS3DataSink extends ParallelSink {
   }
 
   private S3ConnectorAPI S3ConnectorAPI;
+  private OVHCloudS3MultipartUploader multipartUploader;
   private String bucketName;
   private String objectName;
   private String path;
+  private boolean serverSideCopy;
+  private int maxParallelPartitions;
+  private int schedulingWindow;
+  private boolean sync;
+
+  /**
+   * Transfers the parts of a source. In sync mode, the objects already at the destination,
+   * unchanged, are skipped. Unless the scheduling window is 0, the parts are handed out to the
+   * workers by size, the largest first, instead of being split in partitions of the same number of
+   * parts: one partition holding a large object would otherwise make the whole transfer wait for
+   * it. There are as many workers as partitions of the first window of parts, at most the maximum
+   * number of parallel partitions. Once all the parts of an OVHcloud S3 source are transferred,
+   * its watermark is committed.
+   *
+   * @param source the source of the parts
+   * @return the result of the transfer, failed with the first part which failed
+   */
+  @Override
+  public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+    var partSource = sync ? new SyncedDataSource(source) : source;
+    var result = schedulingWindow <= 0 ? super.transfer(partSource) : transferScheduled(partSource);
+    if (!(source instanceof OVHCloudS3DataSource s3Source)) {
+      return result;
+    }
+
+    return result.thenApply(transferResult -> {
+      if (transferResult.succeeded()) {
+        s3Source.commitWatermark();
+      }
+      return transferResult;
+    });
+  }
+
+  private CompletableFuture<StreamResult<Object>> transferScheduled(DataSource partSource) {
+    Stream<Part> parts = null;
+    try {
+      var partStream = partSource.openPartStream();
+      if (partStream.failed()) {
+        return CompletableFuture.completedFuture(StreamResult.failure(partStream.getFailure()));
+      }
+
+      parts = partStream.getContent();
+      var scheduler = new OVHCloudS3PartScheduler(parts.iterator(), schedulingWindow);
+      var partitionParts = Math.max(partitionSize, 1);
+      var partitions = (scheduler.prefetch() + partitionParts - 1) / partitionParts;
+      var workers = maxParallelPartitions > 0 ? Math.min(partitions, maxParallelPartitions)
+          : partitions;
+      monitor.debug(String.format("Transferring the parts of request %s with %d workers",
+          requestId, workers));
+
+      var futures = IntStream.range(0, workers)
+          .mapToObj(i -> CompletableFuture.supplyAsync(() -> transferScheduledParts(scheduler),
+              executorService))
+          .toList();
+      var partsToClose = parts;
+      return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+          .thenApply(done -> futures.stream()
+              .map(CompletableFuture::join)
+              .filter(StreamResult::failed)
+              .findFirst()
+              .orElseGet(StreamResult::success))
+          .exceptionally(throwable -> StreamResult.error(String.format(
+              "Error processing data transfer request - Request ID: %s: %s", requestId,
+              throwable.getMessage())))
+          .whenComplete((result, throwable) -> partsToClose.close());
+    } catch (Exception e) {
+      if (parts != null) {
+        parts.close();
+      }
+      var message = String.format("Error processing data transfer request - Request ID: %s",
+          requestId);
+      monitor.severe(message, e);
+      return CompletableFuture.completedFuture(StreamResult.error(message));
+    }
+  }
+
+  private StreamResult<Object> transferScheduledParts(OVHCloudS3PartScheduler scheduler) {
+    try {
+      for (var part = scheduler.next(); part != null; part = scheduler.next()) {
+        var result = transferParts(List.of(part));
+        if (result.failed()) {
+          scheduler.stop();
+          return result;
+        }
+      }
+      return StreamResult.success();
+    } catch (RuntimeException e) {
+      // The parts could not be read: the other workers stop too
+      scheduler.stop();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the prefix of the destination keys of the parts, listed to compare the objects of the
+   * destination with the parts in sync mode.
+   *
+   * @return the prefix of the destination keys
+   */
+  String destinationPrefix() {
+    if (objectName != null) {
+      // All the parts are written to the same key
+      return determineDestinationName(null);
+    }
+    if (path == null) {
+      return "";
+    }
+    return !path.isEmpty() && !path.endsWith("/") ? path + "/" : path;
+  }
 
   @Override
   protected StreamResult<Object> transferParts(List<Part> parts) {
     for (Part part : parts) {
       String destination = determineDestinationName(part);
       try {
-        uploadPartToOVHCloudS3(part, destination);
+        if (serverSideCopy && part instanceof OVHCloudS3Part s3Part) {
+          copyPartToOVHCloudS3(s3Part, destination);
+        } else {
+          uploadPartToOVHCloudS3(part, destination);
+        }
       } catch (Exception e) {
         return handleUploadException(part, e);
       }
@@ -39,8 +163,16 @@ public class OVHCloudS3DataSink extends ParallelSink {
     return StreamResult.error(message);
   }
 
-  private void uploadPartToOVHCloudS3(Part part, String destination) {
-    S3ConnectorAPI.putObject(bucketName, destination, part.openStream());
+  private void uploadPartToOVHCloudS3(Part part, String destination) throws IOException {
+    try (var inputStream = part.openStream()) {
+      multipartUploader.upload(bucketName, destination, inputStream, part.size());
+    }
+  }
+
+  private void copyPartToOVHCloudS3(OVHCloudS3Part part, String destination) {
+    // The source object is copied by the storage itself: no payload goes through the data plane
+    S3ConnectorAPI.copyObject(part.bucketName(), part.name(), bucketName, destination,
+        part.size());
   }
 
   String determineDestinationName(Part part) {
@@ -63,6 +195,51 @@ public class OVHCloudS3DataSink extends ParallelSink {
     return destination;
   }
 
+  /**
+   * A source whose parts are filtered by a {@link OVHCloudS3SyncFilter} reading the listing of the
+   * destination, closed with the part stream.
+   */
+  private class SyncedDataSource implements DataSource {
+
+    private final DataSource source;
+
+    private SyncedDataSource(DataSource source) {
+      this.source = source;
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+      var partStream = source.openPartStream();
+      if (partStream.failed()) {
+        return partStream;
+      }
+
+      Stream<S3ObjectMetadata> destinationObjects;
+      try {
+        destinationObjects = S3ConnectorAPI.streamObjects(bucketName, destinationPrefix());
+      } catch (EdcException e) {
+        partStream.getContent().close();
+        return StreamResult.failure(new StreamFailure(List.of(String.format(
+            "Error listing the OVHCloudS3 objects of the destination %s/%s: %s", bucketName,
+            destinationPrefix(), e.getMessage())), Reason.GENERAL_ERROR));
+      }
+      var filter = new OVHCloudS3SyncFilter(destinationObjects.iterator(),
+          OVHCloudS3DataSink.this::determineDestinationName);
+      return StreamResult.success(partStream.getContent()
+          .filter(filter)
+          .onClose(() -> {
+            destinationObjects.close();
+            monitor.info(String.format("Skipped %d unchanged objects of request %s",
+                filter.skipped(), requestId));
+          }));
+    }
+
+    @Override
+    public void close() throws Exception {
+      source.close();
+    }
+  }
+
   public static class Builder extends ParallelSink.Builder<Builder, OVHCloudS3DataSink> {
 
     private Builder() {
@@ -78,6 +255,11 @@ public class OVHCloudS3DataSink extends ParallelSink {
       return this;
     }
 
+    public Builder multipartUploader(OVHCloudS3MultipartUploader multipartUploader) {
+      sink.multipartUploader = multipartUploader;
+      return this;
+    }
+
     public Builder bucketName(String bucketName) {
       sink.bucketName = bucketName;
       return this;
@@ -93,10 +275,74 @@ public class OVHCloudS3DataSink extends ParallelSink {
       return this;
     }
 
+    /**
+     * Copies the parts read from an OVHcloud S3 source server-side instead of uploading them. The
+     * source must be readable with the credentials of the destination.
+     *
+     * @param serverSideCopy whether the OVHcloud S3 parts are copied server-side.
+     * @return the builder.
+     */
+    public Builder serverSideCopy(boolean serverSideCopy) {
+      sink.serverSideCopy = serverSideCopy;
+      return this;
+    }
+
+    /**
+     * Limits the number of partitions of the transfer running at the same time on the executor,
+     * so that a transfer of many parts does not take all its threads. The other partitions are
+     * queued until a running one completes.
+     *
+     * @param maxParallelPartitions the maximum number of partitions running at the same time, 0
+     *                              for no limit but the executor.
+     * @return the builder.
+     */
+    public Builder maxParallelPartitions(int maxParallelPartitions) {
+      sink.maxParallelPartitions = maxParallelPartitions;
+      return this;
+    }
+
+    /**
+     * Hands out the parts to the workers by size, the largest first, reading at most the given
+     * number of parts ahead of them.
+     *
+     * @param schedulingWindow the maximum number of parts read ahead of the workers, 0 to split
+     *                         the parts in partitions of the same number of parts.
+     * @return the builder.
+     */
+    public Builder schedulingWindow(int schedulingWindow) {
+      sink.schedulingWindow = schedulingWindow;
+      return this;
+    }
+
+    /**
+     * Skips the objects already at the destination with the same size and ETag, or the same size
+     * and a later modification date when the ETags cannot be compared. The destination prefix is
+     * listed once, alongside the parts.
+     *
+     * @param sync whether the unchanged objects are skipped.
+     * @return the builder.
+     */
+    public Builder sync(boolean sync) {
+      sink.sync = sync;
+      return this;
+    }
+
     @Override
     protected void validate() {
       Objects.requireNonNull(sink.S3ConnectorAPI, "OVHCloudS3 client is required");
       Objects.requireNonNull(sink.bucketName, "Bucket Name is required");
+
+      if (sink.multipartUploader == null) {
+        sink.multipartUploader = OVHCloudS3MultipartUploader.Builder.newInstance()
+            .client(sink.S3ConnectorAPI)
+            .monitor(sink.monitor)
+            .build();
+      }
+
+      if (sink.maxParallelPartitions > 0) {
+        sink.executorService = OVHCloudS3Executors.limit(sink.executorService,
+            sink.maxParallelPartitions);
+      }
     }
   }
 }
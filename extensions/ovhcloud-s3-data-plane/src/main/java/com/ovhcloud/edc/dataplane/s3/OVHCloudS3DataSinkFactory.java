@@ -1,6 +1,14 @@
 package com.ovhcloud.edc.dataplane.s3;
 
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_MULTIPART_CHUNK_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_SINK_MAX_PARALLEL_PARTITIONS;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_SINK_PARTITION_SIZE;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_SINK_SCHEDULING_WINDOW;
+
+import com.ovhcloud.edc.extension.s3.api.AsyncS3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.S3BufferPool;
 import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIRegistry;
 import com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema;
 import com.ovhcloud.edc.extension.s3.validation.S3DestinationDataAddressValidator;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
@@ -8,25 +16,94 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.validator.spi.ValidationResult;
 import org.jetbrains.annotations.NotNull;
 import java.util.concurrent.ExecutorService;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 /**
  * A {@link DataSinkFactory} implementation for S3 S3 buckets.
  */
 public class OVHCloudS3DataSinkFactory implements DataSinkFactory {
 
-  private final S3ConnectorAPI s3ConnectorAPI;
+  private final Function<DataAddress, S3ConnectorAPI> s3Clients;
+  private final Function<DataAddress, AsyncS3ConnectorAPI> asyncS3Clients;
+  private final BiPredicate<DataAddress, DataAddress> sameClient;
   private final Monitor monitor;
   private final S3DestinationDataAddressValidator validator = new S3DestinationDataAddressValidator();
   private final ExecutorService executorService;
+  private final long multipartChunkSize;
+  private final int multipartConcurrency;
+  private final boolean verifyIntegrity;
+  private final S3BufferPool bufferPool;
+  private final int partitionSize;
+  private final int maxParallelPartitions;
+  private final int schedulingWindow;
 
   public OVHCloudS3DataSinkFactory(S3ConnectorAPI s3ConnectorAPI, Monitor monitor, ExecutorService executorService) {
-    this.s3ConnectorAPI = s3ConnectorAPI;
+    this(dataAddress -> s3ConnectorAPI, dataAddress -> null, (source, destination) -> false,
+        monitor, executorService, DEFAULT_MULTIPART_CHUNK_SIZE, 1, false, null,
+        DEFAULT_SINK_PARTITION_SIZE, DEFAULT_SINK_MAX_PARALLEL_PARTITIONS,
+        DEFAULT_SINK_SCHEDULING_WINDOW);
+  }
+
+  /**
+   * Creates a new {@link OVHCloudS3DataSinkFactory}.
+   *
+   * Each destination is written with the clients of its endpoint and credentials, the chunks of
+   * multipart uploads being uploaded by the non-blocking client. The objects of an OVHcloud S3
+   * source of the same endpoint and credentials are copied server-side. The uploaded data can be
+   * verified against the ETags returned by the bucket. The chunks are read into buffers of the
+   * pool. The parts of a transfer are uploaded by partitions, at most a given number of them
+   * running at the same time; the destination of a transfer can lower the multipart concurrency
+   * and the parallel partitions, and change the partition size. The parts are handed out to the
+   * partitions by size, the largest first, unless the scheduling window is 0. In sync mode, set on
+   * the destination, the objects already at the destination, unchanged, are skipped.
+   *
+   * @param registry              the {@link S3ConnectorAPIRegistry} resolving the clients.
+   * @param monitor               the {@link Monitor} to use.
+   * @param executorService       the executor transferring the parts.
+   * @param multipartChunkSize    the size in bytes of the chunks of multipart uploads.
+   * @param multipartConcurrency  the maximum number of chunks of an upload in flight.
+   * @param verifyIntegrity       whether the uploaded data is verified against the ETags.
+   * @param bufferPool            the pool of the buffers holding the chunks, null to allocate a
+   *                              buffer for each chunk.
+   * @param partitionSize         the number of parts uploaded by the same partition.
+   * @param maxParallelPartitions the maximum number of partitions of a transfer running at the
+   *                              same time, 0 for no limit but the executor.
+   * @param schedulingWindow      the maximum number of parts read ahead and handed out by size, 0
+   *                              to split the parts in partitions of the same number of parts.
+   */
+  public OVHCloudS3DataSinkFactory(S3ConnectorAPIRegistry registry, Monitor monitor,
+      ExecutorService executorService, long multipartChunkSize, int multipartConcurrency,
+      boolean verifyIntegrity, S3BufferPool bufferPool, int partitionSize,
+      int maxParallelPartitions, int schedulingWindow) {
+    this(registry::resolve, registry::resolveAsync, registry::sameClient, monitor, executorService,
+        multipartChunkSize, multipartConcurrency, verifyIntegrity, bufferPool, partitionSize,
+        maxParallelPartitions, schedulingWindow);
+  }
+
+  private OVHCloudS3DataSinkFactory(Function<DataAddress, S3ConnectorAPI> s3Clients,
+      Function<DataAddress, AsyncS3ConnectorAPI> asyncS3Clients,
+      BiPredicate<DataAddress, DataAddress> sameClient, Monitor monitor,
+      ExecutorService executorService, long multipartChunkSize, int multipartConcurrency,
+      boolean verifyIntegrity, S3BufferPool bufferPool, int partitionSize,
+      int maxParallelPartitions, int schedulingWindow) {
+    this.s3Clients = s3Clients;
+    this.asyncS3Clients = asyncS3Clients;
+    this.sameClient = sameClient;
     this.monitor = monitor;
     this.executorService = executorService;
+    this.multipartChunkSize = multipartChunkSize;
+    this.multipartConcurrency = multipartConcurrency;
+    this.verifyIntegrity = verifyIntegrity;
+    this.bufferPool = bufferPool;
+    this.partitionSize = partitionSize;
+    this.maxParallelPartitions = maxParallelPartitions;
+    this.schedulingWindow = schedulingWindow;
   }
 
   /**
@@ -53,11 +130,32 @@ public class OVHCloudS3DataSinkFactory implements DataSinkFactory {
     }
 
     var destination = dataFlowStartMessage.getDestinationDataAddress();
+    var s3ConnectorAPI = s3Clients.apply(destination);
     var builder = OVHCloudS3DataSink.Builder.newInstance()
         .requestId(dataFlowStartMessage.getId())
         .monitor(monitor)
         .s3ConnectorAPI(s3ConnectorAPI)
+        .multipartUploader(OVHCloudS3MultipartUploader.Builder.newInstance()
+            .client(s3ConnectorAPI)
+            .monitor(monitor)
+            .asyncClient(asyncS3Clients.apply(destination))
+            .chunkSize(multipartChunkSize)
+            .maxConcurrentChunks(transferSetting(destination,
+                OVHCloudBucketSchema.MULTIPART_CONCURRENCY, multipartConcurrency,
+                multipartConcurrency))
+            .verifyIntegrity(verifyIntegrity)
+            .bufferPool(bufferPool)
+            .build())
         .executorService(executorService)
+        .partitionSize(transferSetting(destination, OVHCloudBucketSchema.PARTITION_SIZE,
+            partitionSize, 0))
+        .maxParallelPartitions(transferSetting(destination,
+            OVHCloudBucketSchema.MAX_PARALLEL_PARTITIONS, maxParallelPartitions,
+            maxParallelPartitions))
+        .schedulingWindow(schedulingWindow)
+        .sync(destination.hasProperty(OVHCloudBucketSchema.SYNC) && Boolean.parseBoolean(
+            String.valueOf(destination.getProperty(OVHCloudBucketSchema.SYNC)).trim()))
+        .serverSideCopy(isServerSideCopy(dataFlowStartMessage))
         .bucketName(destination.getStringProperty(OVHCloudBucketSchema.BUCKET_NAME));
 
     if (destination.hasProperty(OVHCloudBucketSchema.PATH)) {
@@ -72,6 +170,43 @@ public class OVHCloudS3DataSinkFactory implements DataSinkFactory {
         .build();
   }
 
+  /**
+   * Returns a setting of a transfer: the value of a property of its destination, already
+   * validated as a positive integer, or else the configured value.
+   *
+   * @param destination the destination of the transfer.
+   * @param property    the property overriding the setting.
+   * @param configured  the configured value of the setting.
+   * @param max         the maximum value of the property, 0 for no maximum.
+   * @return the setting of the transfer.
+   */
+  static int transferSetting(DataAddress destination, String property, int configured, int max) {
+    if (!destination.hasProperty(property)) {
+      return configured;
+    }
+
+    var value = Integer.parseInt(String.valueOf(destination.getProperty(property)).trim());
+    return max > 0 ? Math.min(value, max) : value;
+  }
+
+  /**
+   * Tells whether the objects of the source of a request can be copied server-side: the source
+   * must be an OVHcloud S3 bucket of the same endpoint, readable with the same credentials.
+   *
+   * @param dataFlowStartMessage the {@link DataFlowStartMessage} to check.
+   * @return {@code true} if the objects can be copied server-side.
+   */
+  private boolean isServerSideCopy(DataFlowStartMessage dataFlowStartMessage) {
+    var source = dataFlowStartMessage.getSourceDataAddress();
+    var destination = dataFlowStartMessage.getDestinationDataAddress();
+    var serverSideCopy = source != null && OVHCloudBucketSchema.TYPE.equals(source.getType())
+        && sameClient.test(source, destination);
+    if (serverSideCopy) {
+      monitor.debug("Copying objects server-side for request " + dataFlowStartMessage.getId());
+    }
+    return serverSideCopy;
+  }
+
   /**
    * Validates the request.
    *
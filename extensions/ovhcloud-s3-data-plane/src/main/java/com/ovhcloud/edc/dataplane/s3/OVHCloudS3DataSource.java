@@ -2,11 +2,22 @@ package com.ovhcloud.edc.dataplane.s3;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Instant;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import com.ovhcloud.edc.extension.s3.api.S3BufferPool;
 import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.S3ObjectMetadata;
+import com.ovhcloud.edc.extension.s3.api.S3WatermarkStore;
+import com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason;
@@ -18,6 +29,19 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * A {@link DataSource} implementation for OVHCloudS3 S3 buckets.
+ * <p>
+ * The objects can be filtered by their last modification date while being listed. With a
+ * watermark key, only the objects modified since the last completed flow of the same key are
+ * transferred: the upper bound of the dates of a flow is committed to the {@link S3WatermarkStore}
+ * once the sink completed the flow, and becomes the lower bound of the next one. If not set, the
+ * upper bound is the {@link S3WatermarkStore#nextWatermark() next watermark} of the store, the time
+ * the listing started minus a safety lag, so that the objects dated behind the time they became
+ * visible are left to the next flow instead of being skipped.
+ * </p>
+ * <p>
+ * The objects listed without a modification date cannot be compared to the bounds: they are
+ * transferred by every flow, including the incremental ones.
+ * </p>
  */
 public class OVHCloudS3DataSource implements DataSource {
 
@@ -26,6 +50,17 @@ public class OVHCloudS3DataSource implements DataSource {
   private final String bucketName;
   private final Optional<String> objectName;
   private final Optional<String> objectPrefix;
+  private final Executor executor;
+  private final long chunkSize;
+  private final int maxConcurrentChunks;
+  private final OVHCloudS3MemoryBudget memoryBudget;
+  private final boolean verifyIntegrity;
+  private final S3BufferPool bufferPool;
+  private final Instant modifiedAfter;
+  private final Instant modifiedBefore;
+  private final String watermarkKey;
+  private final S3WatermarkStore watermarkStore;
+  private volatile Instant watermark;
 
   private OVHCloudS3DataSource(Builder builder) {
     this.client = builder.client;
@@ -33,10 +68,22 @@ public class OVHCloudS3DataSource implements DataSource {
     this.bucketName = builder.bucketName;
     this.objectName = builder.objectName;
     this.objectPrefix = builder.objectPrefix;
+    this.executor = builder.executor;
+    this.chunkSize = builder.chunkSize;
+    this.maxConcurrentChunks = builder.maxConcurrentChunks;
+    this.memoryBudget = builder.memoryBudget;
+    this.verifyIntegrity = builder.verifyIntegrity;
+    this.bufferPool = builder.bufferPool;
+    this.modifiedAfter = builder.modifiedAfter;
+    this.modifiedBefore = builder.modifiedBefore;
+    this.watermarkKey = builder.watermarkKey;
+    this.watermarkStore = builder.watermarkStore;
   }
 
   /**
-   * Opens a stream of parts for the data source.
+   * Opens a stream of parts for the data source. The objects last modified out of the bounds of
+   * the source are filtered out while being listed; the objects without a modification date are
+   * always transferred.
    *
    * @return a stream of parts for the data source.
    */
@@ -45,9 +92,29 @@ public class OVHCloudS3DataSource implements DataSource {
     monitor.debug(
         String.format("Opening part stream for OVHCloudS3 data source %s/%s", bucketName, objectPrefix));
 
+    var lowerBound = modifiedAfter;
+    if (lowerBound == null && watermarkKey != null) {
+      lowerBound = watermarkStore.get(watermarkKey).orElse(null);
+    }
+    var upperBound = modifiedBefore;
+    if (upperBound == null && watermarkKey != null) {
+      // The objects written from now on, or dated within the safety lag, are left to the next flow
+      upperBound = watermarkStore.nextWatermark();
+    }
+    watermark = watermarkKey != null ? upperBound : null;
+    if (lowerBound != null || upperBound != null) {
+      monitor.debug(String.format("Listing the objects of %s/%s modified from %s to %s",
+          bucketName, objectPrefix, lowerBound, upperBound));
+    }
+
     try {
-      var objects = client.listObjects(bucketName, objectPrefix.orElse(objectName.orElse(null)));
-      if (objects.isEmpty()) {
+      // The listing is consumed lazily, while the parts are transferred: only its first page is
+      // awaited here, to report a missing object.
+      var objects = client.streamObjects(bucketName,
+          objectPrefix.orElse(objectName.orElse(null)));
+      var iterator = objects.iterator();
+      if (!iterator.hasNext()) {
+        objects.close();
         return StreamResult.failure(new StreamFailure(
             List.of(String.format(
                 "Error listing OVHCloudS3 objects in the bucket %s: Object not found with prefix %s",
@@ -56,12 +123,12 @@ public class OVHCloudS3DataSource implements DataSource {
       }
 
       return StreamResult.success(
-          objects.stream().map(
-              objectName -> {
-                long objectSize = client.getObjectSize(bucketName, objectName);
-                return new OVHCloudS3Part(client, bucketName, objectName, 0, objectSize);
-              }
-          )
+          StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED),
+                  false)
+              .onClose(objects::close)
+              .filter(isModifiedWithin(lowerBound, upperBound))
+              .map(object -> new OVHCloudS3Part(client, bucketName, object, executor, chunkSize,
+                  maxConcurrentChunks, memoryBudget, verifyIntegrity, bufferPool))
       );
 
     } catch (EdcException e) {
@@ -74,6 +141,50 @@ public class OVHCloudS3DataSource implements DataSource {
 
   }
 
+  /**
+   * Returns the watermark of the flow, the upper bound of the modification dates of its objects,
+   * committed to the {@link S3WatermarkStore} once the flow completed.
+   *
+   * @return the watermark, empty without a watermark key or before the part stream is opened.
+   */
+  public Optional<Instant> watermark() {
+    return Optional.ofNullable(watermark);
+  }
+
+  /**
+   * Commits the upper bound of the modification dates of the listed objects as the watermark of
+   * the source, once all of them were transferred. Nothing is committed without a watermark key.
+   * If the watermark cannot be written, the next flow transfers the same objects again.
+   */
+  void commitWatermark() {
+    var committed = watermark;
+    if (committed == null) {
+      return;
+    }
+
+    try {
+      watermarkStore.put(watermarkKey, committed);
+      monitor.info(String.format("Committed the watermark %s of %s/%s to %s", watermarkKey,
+          bucketName, objectPrefix, committed));
+    } catch (EdcException e) {
+      monitor.severe(String.format("Error committing the watermark %s of %s/%s", watermarkKey,
+          bucketName, objectPrefix), e);
+    }
+  }
+
+  private static Predicate<S3ObjectMetadata> isModifiedWithin(Instant lowerBound,
+      Instant upperBound) {
+    return object -> {
+      // Undated objects cannot be placed relative to the bounds: they are always transferred
+      if (object.lastModified() == null) {
+        return true;
+      }
+      var lastModified = object.lastModified().toInstant();
+      return (lowerBound == null || !lastModified.isBefore(lowerBound))
+          && (upperBound == null || lastModified.isBefore(upperBound));
+    };
+  }
+
   /**
    * Closes the data source.
    *
@@ -86,8 +197,6 @@ public class OVHCloudS3DataSource implements DataSource {
 
   public static final class OVHCloudS3Part implements Part {
 
-    private static final long MEGA_BYTE = 1024L * 1024L;
-    private static final long DEFAULT_CHUNK_SIZE = 5L * MEGA_BYTE; // 5MB
     private static final String PART_CLOSED_ERROR = "Part is already closed";
     private static final String READ_ERROR = "Error when reading %s from bucket %s";
 
@@ -95,12 +204,60 @@ public class OVHCloudS3DataSource implements DataSource {
     private final String bucketName;
     private final String objectName;
     private final long size;
+    private final Executor executor;
+    private final long chunkSize;
+    private final int maxConcurrentChunks;
+    private final OVHCloudS3MemoryBudget memoryBudget;
+    private final String etag;
+    private final boolean verifyIntegrity;
+    private final ZonedDateTime lastModified;
+    private final S3BufferPool bufferPool;
 
     private boolean closed = false;
     private long offset;
 
     OVHCloudS3Part(S3ConnectorAPI client, String bucketName, String objectName, long offset,
         long size) {
+      this(client, bucketName, objectName, offset, size, null, size, 1, null);
+    }
+
+    OVHCloudS3Part(S3ConnectorAPI client, String bucketName, String objectName, long offset,
+        long size, Executor executor, long chunkSize, int maxConcurrentChunks,
+        OVHCloudS3MemoryBudget memoryBudget) {
+      this(client, bucketName, objectName, offset, size, executor, chunkSize, maxConcurrentChunks,
+          memoryBudget, null);
+    }
+
+    OVHCloudS3Part(S3ConnectorAPI client, String bucketName, String objectName, long offset,
+        long size, Executor executor, long chunkSize, int maxConcurrentChunks,
+        OVHCloudS3MemoryBudget memoryBudget, String etag) {
+      this(client, bucketName, objectName, offset, size, executor, chunkSize, maxConcurrentChunks,
+          memoryBudget, etag, null);
+    }
+
+    OVHCloudS3Part(S3ConnectorAPI client, String bucketName, String objectName, long offset,
+        long size, Executor executor, long chunkSize, int maxConcurrentChunks,
+        OVHCloudS3MemoryBudget memoryBudget, String etag, S3BufferPool bufferPool) {
+      this(client, bucketName, objectName, offset, size, executor, chunkSize, maxConcurrentChunks,
+          memoryBudget, etag, etag != null, null, bufferPool);
+    }
+
+    /**
+     * Creates the part of a listed object, keeping its ETag and last modification date so that it
+     * can be compared to the object at the destination.
+     */
+    OVHCloudS3Part(S3ConnectorAPI client, String bucketName, S3ObjectMetadata object,
+        Executor executor, long chunkSize, int maxConcurrentChunks,
+        OVHCloudS3MemoryBudget memoryBudget, boolean verifyIntegrity, S3BufferPool bufferPool) {
+      this(client, bucketName, object.objectName(), 0, object.size(), executor, chunkSize,
+          maxConcurrentChunks, memoryBudget, object.etag(), verifyIntegrity, object.lastModified(),
+          bufferPool);
+    }
+
+    private OVHCloudS3Part(S3ConnectorAPI client, String bucketName, String objectName,
+        long offset, long size, Executor executor, long chunkSize, int maxConcurrentChunks,
+        OVHCloudS3MemoryBudget memoryBudget, String etag, boolean verifyIntegrity,
+        ZonedDateTime lastModified, S3BufferPool bufferPool) {
 
       validateClient(client);
       validateBucketName(bucketName);
@@ -113,6 +270,14 @@ public class OVHCloudS3DataSource implements DataSource {
       this.objectName = objectName;
       this.offset = offset;
       this.size = size;
+      this.executor = executor;
+      this.chunkSize = chunkSize;
+      this.maxConcurrentChunks = maxConcurrentChunks;
+      this.memoryBudget = memoryBudget;
+      this.etag = etag;
+      this.verifyIntegrity = verifyIntegrity;
+      this.lastModified = lastModified;
+      this.bufferPool = bufferPool;
     }
 
     private static void validateSize(long offset, long size) {
@@ -153,6 +318,15 @@ public class OVHCloudS3DataSource implements DataSource {
       return objectName;
     }
 
+    /**
+     * Returns the name of the bucket of the part.
+     *
+     * @return the name of the bucket of the part.
+     */
+    public String bucketName() {
+      return bucketName;
+    }
+
     /**
      * Returns the size of the part.
      *
@@ -163,6 +337,24 @@ public class OVHCloudS3DataSource implements DataSource {
       return size;
     }
 
+    /**
+     * Returns the ETag of the object of the part, as listed.
+     *
+     * @return the ETag of the object, without the surrounding quotes, may be null.
+     */
+    public String etag() {
+      return etag;
+    }
+
+    /**
+     * Returns the date of the last modification of the object of the part, as listed.
+     *
+     * @return the date of the last modification, may be null.
+     */
+    public ZonedDateTime lastModified() {
+      return lastModified;
+    }
+
     public boolean isClosed() {
       return closed;
     }
@@ -171,10 +363,38 @@ public class OVHCloudS3DataSource implements DataSource {
       return offset;
     }
 
+    /**
+     * Opens a stream on the whole object. The data is streamed from the bucket and is never fully
+     * held in memory; closing the returned stream releases the underlying connection. When an
+     * executor is set, objects larger than a chunk are read as byte ranges downloaded
+     * concurrently. When the ETag of the object is its MD5 digest, the data is verified against
+     * it while being read, the end of the stream failing on a mismatch. It is not when the response
+     * reports that the object is encrypted by the bucket, its ETag having the same form.
+     *
+     * @return a stream reading the object data.
+     */
     @Override
     public InputStream openStream() {
       checkIfPartIsClosed();
-      var inputStream = client.getObject(bucketName, objectName);
+      InputStream inputStream;
+      if (executor != null && size > chunkSize) {
+        inputStream = OVHCloudS3RangedInputStream.Builder.newInstance()
+            .client(client)
+            .bucketName(bucketName)
+            .objectName(objectName)
+            .size(size)
+            .chunkSize(chunkSize)
+            .maxConcurrentChunks(maxConcurrentChunks)
+            .executor(executor)
+            .memoryBudget(memoryBudget)
+            .bufferPool(bufferPool)
+            .build();
+      } else {
+        inputStream = client.getObjectStream(bucketName, objectName);
+      }
+      if (verifyIntegrity && OVHCloudS3Checksums.isSinglePartEtag(etag)) {
+        inputStream = new OVHCloudS3VerifyingInputStream(inputStream, objectName, etag);
+      }
       closed = true;
 
       return inputStream;
@@ -222,6 +442,16 @@ public class OVHCloudS3DataSource implements DataSource {
     private String bucketName;
     private Optional<String> objectName = Optional.empty();
     private Optional<String> objectPrefix = Optional.empty();
+    private Executor executor;
+    private long chunkSize = S3SettingsSchema.DEFAULT_DOWNLOAD_CHUNK_SIZE;
+    private int maxConcurrentChunks = 1;
+    private OVHCloudS3MemoryBudget memoryBudget;
+    private boolean verifyIntegrity;
+    private S3BufferPool bufferPool;
+    private Instant modifiedAfter;
+    private Instant modifiedBefore;
+    private String watermarkKey;
+    private S3WatermarkStore watermarkStore;
 
     private Builder(S3ConnectorAPI client) {
       this.client = client;
@@ -287,6 +517,113 @@ public class OVHCloudS3DataSource implements DataSource {
       return this;
     }
 
+    /**
+     * Sets the executor downloading the ranges of the objects larger than a chunk. If not set,
+     * each object is read with a single request.
+     *
+     * @param executor the executor.
+     * @return the builder.
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Sets the size of the ranges of an object downloaded by a single request.
+     *
+     * @param chunkSize the size of the ranges in bytes.
+     * @return the builder.
+     */
+    public Builder chunkSize(long chunkSize) {
+      this.chunkSize = chunkSize;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of ranges of an object downloaded at the same time.
+     *
+     * @param maxConcurrentChunks the maximum number of ranges in flight.
+     * @return the builder.
+     */
+    public Builder maxConcurrentChunks(int maxConcurrentChunks) {
+      this.maxConcurrentChunks = maxConcurrentChunks;
+      return this;
+    }
+
+    /**
+     * Sets the memory budget shared by the downloads of the ranges read ahead.
+     *
+     * @param memoryBudget the memory budget.
+     * @return the builder.
+     */
+    public Builder memoryBudget(OVHCloudS3MemoryBudget memoryBudget) {
+      this.memoryBudget = memoryBudget;
+      return this;
+    }
+
+    /**
+     * Sets whether the data of the objects is verified against their ETag while being read. Only
+     * the objects whose ETag is the MD5 digest of their data, those not uploaded as a multipart
+     * upload nor encrypted, can be verified.
+     *
+     * @param verifyIntegrity whether the data of the objects is verified.
+     * @return the builder.
+     */
+    public Builder verifyIntegrity(boolean verifyIntegrity) {
+      this.verifyIntegrity = verifyIntegrity;
+      return this;
+    }
+
+    /**
+     * Sets the pool of the buffers holding the ranges downloaded ahead. If not set, a buffer is
+     * allocated for each range.
+     *
+     * @param bufferPool the buffer pool.
+     * @return the builder.
+     */
+    public Builder bufferPool(S3BufferPool bufferPool) {
+      this.bufferPool = bufferPool;
+      return this;
+    }
+
+    /**
+     * Transfers only the objects last modified at or after a date.
+     *
+     * @param modifiedAfter the lower bound of the modification dates, inclusive, null for none.
+     * @return the builder.
+     */
+    public Builder modifiedAfter(Instant modifiedAfter) {
+      this.modifiedAfter = modifiedAfter;
+      return this;
+    }
+
+    /**
+     * Transfers only the objects last modified before a date.
+     *
+     * @param modifiedBefore the upper bound of the modification dates, exclusive, null for none.
+     * @return the builder.
+     */
+    public Builder modifiedBefore(Instant modifiedBefore) {
+      this.modifiedBefore = modifiedBefore;
+      return this;
+    }
+
+    /**
+     * Transfers only the objects modified since the last completed flow of a key, unless a lower
+     * bound is set, and commits the upper bound of the flow as the watermark of the key once
+     * completed.
+     *
+     * @param watermarkKey   the key of the incremental transfers, null for none.
+     * @param watermarkStore the store of the watermarks.
+     * @return the builder.
+     */
+    public Builder watermark(String watermarkKey, S3WatermarkStore watermarkStore) {
+      this.watermarkKey = watermarkKey;
+      this.watermarkStore = watermarkStore;
+      return this;
+    }
+
     /**
      * Builds the {@link OVHCloudS3DataSource}.
      *
@@ -296,6 +633,9 @@ public class OVHCloudS3DataSource implements DataSource {
       Objects.requireNonNull(client, "OVHCloudS3ConnectorAPIClient must not be null");
       Objects.requireNonNull(monitor, "monitor must not be null");
       Objects.requireNonNull(bucketName, "bucketName must not be null");
+      if (watermarkKey != null) {
+        Objects.requireNonNull(watermarkStore, "watermarkStore must not be null");
+      }
 
       return new OVHCloudS3DataSource(this);
     }
@@ -1,15 +1,23 @@
 package com.ovhcloud.edc.dataplane.s3;
 
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_DOWNLOAD_CHUNK_SIZE;
 
+import com.ovhcloud.edc.extension.s3.api.S3BufferPool;
 import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIRegistry;
+import com.ovhcloud.edc.extension.s3.api.S3WatermarkStore;
 import com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema;
 import com.ovhcloud.edc.extension.s3.validation.S3SourceDataAddressValidator;
+import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.validator.spi.ValidationResult;
 import org.jetbrains.annotations.NotNull;
@@ -19,15 +27,79 @@ import org.jetbrains.annotations.NotNull;
  */
 public class OVHCloudS3DataSourceFactory implements DataSourceFactory {
 
-  private final S3ConnectorAPI s3Client;
+  private final Function<DataAddress, S3ConnectorAPI> s3Clients;
   private final S3SourceDataAddressValidator validator = new S3SourceDataAddressValidator();
   private final Monitor monitor;
+  private final Executor executor;
+  private final long downloadChunkSize;
+  private final int downloadConcurrency;
+  private final OVHCloudS3MemoryBudget memoryBudget;
+  private final boolean verifyIntegrity;
+  private final S3BufferPool bufferPool;
+  private final S3WatermarkStore watermarkStore;
 
   public OVHCloudS3DataSourceFactory(S3ConnectorAPI s3Client, Monitor monitor) {
+    this(dataAddress -> s3Client, monitor, null, DEFAULT_DOWNLOAD_CHUNK_SIZE, 1, null, false,
+        null, new S3WatermarkStore(null));
     Objects.requireNonNull(s3Client, "s3Client must not be null");
+  }
+
+  /**
+   * Creates a new {@link OVHCloudS3DataSourceFactory} reading each source with the client of its
+   * endpoint and credentials.
+   *
+   * @param registry the {@link S3ConnectorAPIRegistry} resolving the clients.
+   * @param monitor  the {@link Monitor} to use.
+   */
+  public OVHCloudS3DataSourceFactory(S3ConnectorAPIRegistry registry, Monitor monitor) {
+    this(registry, monitor, null, DEFAULT_DOWNLOAD_CHUNK_SIZE, 1, null, false, null,
+        new S3WatermarkStore(null));
+  }
+
+  /**
+   * Creates a new {@link OVHCloudS3DataSourceFactory} reading each source with the client of its
+   * endpoint and credentials. The objects larger than a chunk are read as byte ranges downloaded
+   * concurrently by the executor, ahead of the sink while the memory budget allows it. The data
+   * of the objects whose ETag is their MD5 digest can be verified while being read. The ranges are
+   * downloaded into buffers of the pool. The watermarks of the incremental transfers are read
+   * from and committed to the store.
+   *
+   * @param registry            the {@link S3ConnectorAPIRegistry} resolving the clients.
+   * @param monitor             the {@link Monitor} to use.
+   * @param executor            the executor downloading the ranges, null to read each object
+   *                            with a single request.
+   * @param downloadChunkSize   the size in bytes of the ranges.
+   * @param downloadConcurrency the maximum number of ranges of an object in flight.
+   * @param memoryBudget        the memory budget shared by the downloads, null for none.
+   * @param verifyIntegrity     whether the data of the objects is verified against their ETag.
+   * @param bufferPool          the pool of the buffers holding the ranges, null to allocate a
+   *                            buffer for each range.
+   * @param watermarkStore      the store of the watermarks of the incremental transfers.
+   */
+  public OVHCloudS3DataSourceFactory(S3ConnectorAPIRegistry registry, Monitor monitor,
+      Executor executor, long downloadChunkSize, int downloadConcurrency,
+      OVHCloudS3MemoryBudget memoryBudget, boolean verifyIntegrity, S3BufferPool bufferPool,
+      S3WatermarkStore watermarkStore) {
+    this(Objects.requireNonNull(registry, "registry must not be null")::resolve, monitor,
+        executor, downloadChunkSize, downloadConcurrency, memoryBudget, verifyIntegrity,
+        bufferPool, watermarkStore);
+  }
+
+  private OVHCloudS3DataSourceFactory(Function<DataAddress, S3ConnectorAPI> s3Clients,
+      Monitor monitor, Executor executor, long downloadChunkSize, int downloadConcurrency,
+      OVHCloudS3MemoryBudget memoryBudget, boolean verifyIntegrity, S3BufferPool bufferPool,
+      S3WatermarkStore watermarkStore) {
     Objects.requireNonNull(monitor, "monitor must not be null");
-    this.s3Client = s3Client;
+    Objects.requireNonNull(watermarkStore, "watermarkStore must not be null");
+    this.s3Clients = s3Clients;
     this.monitor = monitor;
+    this.executor = executor;
+    this.downloadChunkSize = downloadChunkSize;
+    this.downloadConcurrency = downloadConcurrency;
+    this.memoryBudget = memoryBudget;
+    this.verifyIntegrity = verifyIntegrity;
+    this.bufferPool = bufferPool;
+    this.watermarkStore = watermarkStore;
   }
 
   /**
@@ -70,14 +142,39 @@ public class OVHCloudS3DataSourceFactory implements DataSourceFactory {
 
     var source = dataFlowStartMessage.getSourceDataAddress();
 
-    return OVHCloudS3DataSource.Builder.newInstance(this.s3Client)
+    return OVHCloudS3DataSource.Builder.newInstance(this.s3Clients.apply(source))
         .monitor(this.monitor)
         .bucketName(source.getStringProperty(OVHCloudBucketSchema.BUCKET_NAME))
         .objectName(source.getStringProperty(OVHCloudBucketSchema.OBJECT_NAME))
         .objectPrefix(source.getStringProperty(OVHCloudBucketSchema.OBJECT_PREFIX))
+        .executor(this.executor)
+        .chunkSize(this.downloadChunkSize)
+        .maxConcurrentChunks(this.downloadConcurrency)
+        .memoryBudget(this.memoryBudget)
+        .verifyIntegrity(this.verifyIntegrity)
+        .bufferPool(this.bufferPool)
+        .modifiedAfter(instantProperty(source, OVHCloudBucketSchema.MODIFIED_AFTER))
+        .modifiedBefore(instantProperty(source, OVHCloudBucketSchema.MODIFIED_BEFORE))
+        .watermark(source.getStringProperty(OVHCloudBucketSchema.WATERMARK_KEY),
+            this.watermarkStore)
         .build();
   }
 
+  /**
+   * Returns a date property of a source, already validated as an ISO-8601 instant.
+   *
+   * @param source   the source of the transfer.
+   * @param property the property of the date.
+   * @return the date, null if the property is not set.
+   */
+  private static Instant instantProperty(DataAddress source, String property) {
+    if (!source.hasProperty(property)) {
+      return null;
+    }
+
+    return Instant.parse(String.valueOf(source.getProperty(property)).trim());
+  }
+
   /**
    * Validates a {@link DataFlowStartMessage}.
    *
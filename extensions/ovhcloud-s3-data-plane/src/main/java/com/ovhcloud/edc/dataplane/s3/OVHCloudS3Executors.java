@@ -0,0 +1,387 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import com.ovhcloud.edc.extension.s3.api.S3Metrics;
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+/**
+ * Creates and shuts down the executors running the transfers of the data plane. The executors are
+ * bounded: a fixed pool of platform threads has a bounded queue, the tasks submitted when it is
+ * full being run by the submitting thread; a virtual-thread-per-task executor bounds the tasks
+ * running at the same time, the submitting thread waiting for one of them to complete. In both
+ * cases, the saturation is recorded by the {@link S3Metrics}, which also instrument the executors.
+ * The tasks of a single transfer can be further limited by a view of the shared executor.
+ */
+public final class OVHCloudS3Executors {
+
+  /**
+   * A pool of a fixed number of platform threads.
+   */
+  public static final String FIXED = "fixed";
+
+  /**
+   * The executor of the data plane, shared with the other transfers.
+   */
+  public static final String CONTAINER = "container";
+
+  /**
+   * A virtual thread per task, on Java 21 and later.
+   */
+  public static final String VIRTUAL = "virtual";
+
+  private static final List<String> TYPES = List.of(FIXED, CONTAINER, VIRTUAL);
+
+  private OVHCloudS3Executors() {
+  }
+
+  /**
+   * Parses the type of an executor.
+   *
+   * @param type the type, case-insensitive
+   * @return the type in lower case
+   * @throws EdcException if the type is unknown
+   */
+  public static String parseType(String type) throws EdcException {
+    var normalized = type == null ? FIXED : type.trim().toLowerCase(Locale.ROOT);
+    if (!TYPES.contains(normalized)) {
+      throw new EdcException(String.format("Unknown executor type %s, expected one of %s", type,
+          TYPES));
+    }
+    return normalized;
+  }
+
+  /**
+   * Creates a pool of a fixed number of platform threads. When its queue is full, the tasks are run
+   * by the submitting thread, which slows down the submission of new tasks.
+   *
+   * @param name      the name of the executor, used by its threads and metrics
+   * @param threads   the number of threads
+   * @param queueSize the maximum number of tasks waiting for a thread, 0 for no bound
+   * @param metrics   the metrics instrumenting the executor
+   * @return the executor
+   */
+  public static ExecutorService fixed(String name, int threads, int queueSize,
+      S3Metrics metrics) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("threads must be greater than 0");
+    }
+
+    var executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        queueSize > 0 ? new ArrayBlockingQueue<>(queueSize) : new LinkedBlockingQueue<>(),
+        threadFactory(name), (task, pool) -> {
+          if (pool.isShutdown()) {
+            throw new RejectedExecutionException("Executor " + name + " is shut down");
+          }
+          metrics.executorSaturated(name);
+          task.run();
+        });
+    return metrics.monitorExecutor(name, executor);
+  }
+
+  /**
+   * Creates an executor running each task in a new virtual thread, at most
+   * {@code maxConcurrentTasks} at the same time. Virtual threads do not hold a platform thread
+   * while blocked on the network, so that many more S3 requests can be in flight than with a pool.
+   * Before Java 21, a pool of {@code maxConcurrentTasks} platform threads is created instead.
+   *
+   * @param name               the name of the executor, used by its metrics
+   * @param maxConcurrentTasks the maximum number of tasks running at the same time
+   * @param queueSize          the queue size of the pool created before Java 21
+   * @param metrics            the metrics instrumenting the executor
+   * @param monitor            the monitor warning when virtual threads are not available
+   * @return the executor
+   */
+  public static ExecutorService virtual(String name, int maxConcurrentTasks, int queueSize,
+      S3Metrics metrics, Monitor monitor) {
+    if (maxConcurrentTasks <= 0) {
+      throw new IllegalArgumentException("maxConcurrentTasks must be greater than 0");
+    }
+
+    ExecutorService virtualThreads;
+    try {
+      // Looked up at runtime: the extension is compiled for Java 17
+      virtualThreads = (ExecutorService) Executors.class
+          .getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      monitor.warning(String.format(
+          "Virtual threads are not available on Java %s, executor %s uses a pool of %d threads",
+          Runtime.version().feature(), name, maxConcurrentTasks));
+      return fixed(name, maxConcurrentTasks, queueSize, metrics);
+    }
+
+    return metrics.monitorExecutor(name,
+        new BoundedExecutorService(virtualThreads, maxConcurrentTasks, name, metrics));
+  }
+
+  /**
+   * Returns a view of a shared executor running at most {@code maxConcurrentTasks} of the tasks
+   * submitted to the view at the same time, e.g. the partitions of a transfer. The other tasks are
+   * queued by the view without blocking the submitting thread, and submitted to the shared executor
+   * as the running ones complete. Shutting down the view does not shut down the shared executor.
+   *
+   * @param executor           the shared executor
+   * @param maxConcurrentTasks the maximum number of tasks of the view running at the same time
+   * @return the view
+   */
+  public static ExecutorService limit(ExecutorService executor, int maxConcurrentTasks) {
+    if (maxConcurrentTasks <= 0) {
+      throw new IllegalArgumentException("maxConcurrentTasks must be greater than 0");
+    }
+    return new LimitedExecutorService(executor, maxConcurrentTasks);
+  }
+
+  /**
+   * Shuts down an executor, letting the tasks it runs complete for at most a timeout before
+   * interrupting them.
+   *
+   * @param name     the name of the executor
+   * @param executor the executor
+   * @param timeout  the maximum time to wait for the tasks to complete
+   * @param monitor  the monitor reporting the interrupted tasks
+   */
+  public static void shutdown(String name, ExecutorService executor, Duration timeout,
+      Monitor monitor) {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        var pending = executor.shutdownNow();
+        monitor.warning(String.format(
+            "Executor %s did not complete its tasks within %s, interrupted them (%d not started)",
+            name, timeout, pending.size()));
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static ThreadFactory threadFactory(String name) {
+    var counter = new AtomicInteger();
+    var defaultFactory = Executors.defaultThreadFactory();
+    return task -> {
+      var thread = defaultFactory.newThread(task);
+      thread.setName("edc-ovhcloud-s3-" + name + "-" + counter.incrementAndGet());
+      return thread;
+    };
+  }
+
+  /**
+   * Bounds the tasks running at the same time on an executor creating a thread per task: the
+   * submitting thread waits for a task to complete when the bound is reached.
+   */
+  static final class BoundedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final String name;
+    private final S3Metrics metrics;
+
+    BoundedExecutorService(ExecutorService delegate, int maxConcurrentTasks, String name,
+        S3Metrics metrics) {
+      this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+      this.permits = new Semaphore(maxConcurrentTasks);
+      this.name = name;
+      this.metrics = metrics;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      Objects.requireNonNull(command, "command must not be null");
+      if (delegate.isShutdown()) {
+        throw new RejectedExecutionException("Executor " + name + " is shut down");
+      }
+
+      if (!permits.tryAcquire()) {
+        metrics.executorSaturated(name);
+        try {
+          permits.acquire();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new RejectedExecutionException("Interrupted while waiting for executor " + name,
+              e);
+        }
+      }
+
+      try {
+        delegate.execute(() -> {
+          try {
+            command.run();
+          } finally {
+            permits.release();
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        permits.release();
+        throw e;
+      }
+    }
+
+    @Override
+    public void shutdown() {
+      delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      return delegate.awaitTermination(timeout, unit);
+    }
+  }
+
+  /**
+   * Limits the tasks of a shared executor submitted through it: the tasks beyond the limit are
+   * queued, and submitted by the thread completing a running task.
+   */
+  static final class LimitedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final int maxConcurrentTasks;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private volatile boolean shutdown;
+
+    LimitedExecutorService(ExecutorService delegate, int maxConcurrentTasks) {
+      this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+      this.maxConcurrentTasks = maxConcurrentTasks;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      Objects.requireNonNull(command, "command must not be null");
+      if (shutdown) {
+        throw new RejectedExecutionException("Executor is shut down");
+      }
+
+      queue.add(command);
+      drain();
+    }
+
+    /**
+     * Submits the queued tasks to the shared executor while fewer than the limit are running.
+     */
+    private void drain() {
+      while (!queue.isEmpty()) {
+        var current = running.get();
+        if (current >= maxConcurrentTasks) {
+          return;
+        }
+        if (!running.compareAndSet(current, current + 1)) {
+          continue;
+        }
+
+        var task = queue.poll();
+        if (task == null) {
+          completed();
+          continue;
+        }
+
+        try {
+          delegate.execute(() -> {
+            try {
+              task.run();
+            } finally {
+              completed();
+              drain();
+            }
+          });
+        } catch (RejectedExecutionException e) {
+          // The shared executor is shut down: the task is run here so that its future completes
+          try {
+            task.run();
+          } finally {
+            completed();
+          }
+        }
+      }
+    }
+
+    private void completed() {
+      running.decrementAndGet();
+      if (isTerminated()) {
+        synchronized (this) {
+          notifyAll();
+        }
+      }
+    }
+
+    @Override
+    public void shutdown() {
+      shutdown = true;
+      if (isTerminated()) {
+        synchronized (this) {
+          notifyAll();
+        }
+      }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      shutdown = true;
+      var pending = new ArrayList<Runnable>();
+      for (var task = queue.poll(); task != null; task = queue.poll()) {
+        pending.add(task);
+      }
+      shutdown();
+      return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return shutdown && queue.isEmpty() && running.get() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      var deadline = System.nanoTime() + unit.toNanos(timeout);
+      synchronized (this) {
+        while (!isTerminated()) {
+          var remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            return false;
+          }
+          TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+      }
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bounds the memory used by the chunks buffered by the downloads sharing it. The budget is
+ * accounted in units of 1KB, a reservation larger than the whole budget being capped to it so that
+ * it can always be granted eventually.
+ */
+public class OVHCloudS3MemoryBudget {
+
+  private static final long UNIT = 1024L;
+
+  private final Semaphore permits;
+  private final int maxPermits;
+
+  /**
+   * Creates a budget.
+   *
+   * @param maxBytes the maximum number of bytes reserved at the same time
+   */
+  public OVHCloudS3MemoryBudget(long maxBytes) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("maxBytes must be greater than 0");
+    }
+
+    this.maxPermits = (int) Math.min(Integer.MAX_VALUE, (maxBytes + UNIT - 1) / UNIT);
+    this.permits = new Semaphore(maxPermits);
+  }
+
+  /**
+   * Reserves memory without waiting.
+   *
+   * @param bytes the number of bytes to reserve
+   * @return true if the memory is reserved, false if the budget is exhausted
+   */
+  public boolean tryReserve(long bytes) {
+    return permits.tryAcquire(permitsFor(bytes));
+  }
+
+  /**
+   * Reserves memory, waiting for other reservations to be released if needed.
+   *
+   * @param bytes the number of bytes to reserve
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public void reserve(long bytes) throws InterruptedException {
+    permits.acquire(permitsFor(bytes));
+  }
+
+  /**
+   * Releases memory previously reserved.
+   *
+   * @param bytes the number of bytes reserved
+   */
+  public void release(long bytes) {
+    permits.release(permitsFor(bytes));
+  }
+
+  /**
+   * Returns the number of bytes that can currently be reserved.
+   *
+   * @return the number of available bytes
+   */
+  public long available() {
+    return permits.availablePermits() * UNIT;
+  }
+
+  private int permitsFor(long bytes) {
+    return (int) Math.min(maxPermits, (Math.max(bytes, 0) + UNIT - 1) / UNIT);
+  }
+}
@@ -0,0 +1,413 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import com.ovhcloud.edc.extension.s3.api.AsyncS3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.S3Buffer;
+import com.ovhcloud.edc.extension.s3.api.S3BufferPool;
+import com.ovhcloud.edc.extension.s3.api.S3CompletedPart;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Uploads a stream to an OVHcloud S3 bucket. Streams shorter than a chunk are uploaded with a
+ * single request, longer ones are split into chunks uploaded concurrently as a multipart upload.
+ * At most {@code maxConcurrentChunks} chunks are in flight at any time, which bounds the memory
+ * used by an upload. When an {@link AsyncS3ConnectorAPI} is set, the chunks are sent without
+ * blocking a thread while waiting for their responses. On failure, the multipart upload is aborted
+ * so that no orphan parts are left in the bucket. The chunks are read into buffers of a
+ * {@link S3BufferPool}, released once their upload completes.
+ *
+ * <p>When the integrity check is enabled, the MD5 digest of each chunk is computed while it is
+ * read from the stream and sent as its Content-MD5, so that the bucket rejects a chunk whose data
+ * it received differs. Unlike a comparison with the returned ETags, this also holds for the objects
+ * encrypted by the bucket, whose ETags are not digests of their data.
+ */
+public class OVHCloudS3MultipartUploader {
+
+  /**
+   * Minimum size of a part of a multipart upload accepted by S3 (except for the last one).
+   */
+  static final long MIN_CHUNK_SIZE = 5L * 1024L * 1024L;
+
+  /**
+   * Maximum size of a chunk. It is bound by the maximum size of a Java array.
+   */
+  static final long MAX_CHUNK_SIZE = 1024L * 1024L * 1024L;
+
+  /**
+   * Maximum number of parts of a multipart upload accepted by S3.
+   */
+  static final int MAX_PARTS = 10_000;
+
+  private static final Executor CALLER_RUNS = Runnable::run;
+
+  private final S3ConnectorAPI client;
+  private final AsyncS3ConnectorAPI asyncClient;
+  private final Monitor monitor;
+  private final Executor executor;
+  private final long chunkSize;
+  private final int maxConcurrentChunks;
+  private final boolean verifyIntegrity;
+  private final S3BufferPool bufferPool;
+
+  private OVHCloudS3MultipartUploader(Builder builder) {
+    this.client = builder.client;
+    this.asyncClient = builder.asyncClient;
+    this.monitor = builder.monitor;
+    this.executor = builder.executor == null ? CALLER_RUNS : builder.executor;
+    this.chunkSize = Math.min(Math.max(builder.chunkSize, MIN_CHUNK_SIZE), MAX_CHUNK_SIZE);
+    this.maxConcurrentChunks = Math.max(builder.maxConcurrentChunks, 1);
+    this.verifyIntegrity = builder.verifyIntegrity;
+    this.bufferPool = builder.bufferPool == null ? S3BufferPool.unpooled() : builder.bufferPool;
+  }
+
+  /**
+   * Uploads a stream to a bucket.
+   *
+   * @param bucketName  the name of the bucket
+   * @param objectName  the name of the object
+   * @param inputStream the stream to upload, it is not closed by this method
+   * @param size        the size of the stream if known, a negative value otherwise
+   * @throws EdcException if the upload fails, or if the bucket received data not matching its
+   *                      digest
+   */
+  public void upload(String bucketName, String objectName, InputStream inputStream, long size)
+      throws EdcException {
+    var effectiveChunkSize = chunkSizeFor(size);
+
+    // The digest is updated while the chunks are read: the data is only read once
+    var digest = verifyIntegrity ? OVHCloudS3Checksums.md5() : null;
+    var source = digest == null ? inputStream : new DigestInputStream(inputStream, digest);
+
+    var firstChunk = readFirstChunk(source, effectiveChunkSize, size, objectName);
+    if (firstChunk.length() < effectiveChunkSize) {
+      try (var buffer = firstChunk.buffer()) {
+        client.putObject(bucketName, objectName,
+            new ByteArrayInputStream(buffer.array(), 0, firstChunk.length()),
+            firstChunk.length(), digest == null ? null : digest.digest());
+      }
+      return;
+    }
+
+    String uploadId;
+    try {
+      uploadId = client.createMultipartUpload(bucketName, objectName);
+    } catch (RuntimeException e) {
+      close(firstChunk);
+      throw e;
+    }
+    monitor.debug(String.format(
+        "Started multipart upload %s of %s in bucket %s with chunks of %d bytes",
+        uploadId, objectName, bucketName, effectiveChunkSize));
+
+    var inFlight = new Semaphore(maxConcurrentChunks);
+    var failure = new AtomicReference<Throwable>();
+    var futures = new ArrayList<CompletableFuture<S3CompletedPart>>();
+
+    var chunk = firstChunk;
+    try {
+      var partNumber = 1;
+      while (chunk.length() > 0 && failure.get() == null) {
+        if (partNumber > MAX_PARTS) {
+          throw new EdcException(String.format(
+              "Object %s exceeds the maximum of %d parts of %d bytes", objectName, MAX_PARTS,
+              effectiveChunkSize));
+        }
+
+        var partDigest = digest == null ? null : digest.digest();
+
+        inFlight.acquire();
+        var buffer = chunk.buffer();
+        var length = chunk.length();
+        // The chunk now belongs to its upload, which releases its buffer once completed
+        chunk = null;
+        futures.add(uploadChunk(bucketName, objectName, uploadId, partNumber++, buffer.array(),
+            length, partDigest)
+            .whenComplete((part, throwable) -> {
+              buffer.close();
+              if (throwable != null) {
+                failure.compareAndSet(null, throwable);
+              }
+              inFlight.release();
+            }));
+
+        chunk = readChunk(source, effectiveChunkSize, objectName);
+      }
+      close(chunk);
+      chunk = null;
+
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+      var parts = futures.stream().map(CompletableFuture::join).toList();
+      client.completeMultipartUpload(bucketName, objectName, uploadId, parts);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close(chunk);
+      abort(bucketName, objectName, uploadId, futures);
+      throw new EdcException("Interrupted while uploading " + objectName, e);
+    } catch (CompletionException e) {
+      close(chunk);
+      abort(bucketName, objectName, uploadId, futures);
+      throw e.getCause() instanceof EdcException edcException ? edcException
+          : new EdcException(e.getCause());
+    } catch (RuntimeException e) {
+      close(chunk);
+      abort(bucketName, objectName, uploadId, futures);
+      throw e;
+    }
+  }
+
+  private CompletableFuture<S3CompletedPart> uploadChunk(String bucketName, String objectName,
+      String uploadId, int partNumber, byte[] chunk, int length, byte[] partDigest) {
+    if (asyncClient != null) {
+      try {
+        return asyncClient.uploadPart(bucketName, objectName, uploadId, partNumber, chunk, length,
+                partDigest)
+            .thenApply(etag -> new S3CompletedPart(partNumber, etag));
+      } catch (RuntimeException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+
+    return CompletableFuture.supplyAsync(() -> {
+      var etag = client.uploadPart(bucketName, objectName, uploadId, partNumber, chunk, length,
+          partDigest);
+      return new S3CompletedPart(partNumber, etag);
+    }, executor);
+  }
+
+  private void abort(String bucketName, String objectName, String uploadId,
+      List<CompletableFuture<S3CompletedPart>> futures) {
+    // Wait for the chunks still being uploaded: a part completing after the abort would otherwise
+    // be kept (and billed) by the bucket.
+    futures.forEach(future -> {
+      try {
+        future.join();
+      } catch (RuntimeException ignored) {
+        // the failure has already been reported
+      }
+    });
+
+    try {
+      client.abortMultipartUpload(bucketName, objectName, uploadId);
+    } catch (EdcException e) {
+      monitor.warning(String.format("Failed to abort multipart upload %s of %s in bucket %s",
+          uploadId, objectName, bucketName), e);
+    }
+  }
+
+  /**
+   * Returns the chunk size to use for an object. When the size is known, the chunk size is grown
+   * if needed so that the object fits in the maximum number of parts.
+   */
+  long chunkSizeFor(long size) {
+    if (size <= 0) {
+      return chunkSize;
+    }
+
+    var minimumChunkSize = (size + MAX_PARTS - 1) / MAX_PARTS;
+    return Math.min(Math.max(chunkSize, minimumChunkSize), MAX_CHUNK_SIZE);
+  }
+
+  /**
+   * Reads the first chunk of a stream. A stream whose known size is smaller than a chunk only
+   * takes a buffer of its size, plus one byte to detect a stream longer than announced: the buffer
+   * is then grown to a full chunk, which is only needed by a multipart upload.
+   */
+  private Chunk readFirstChunk(InputStream inputStream, long chunkSize, long size,
+      String objectName) {
+    if (size < 0 || size >= chunkSize) {
+      return readChunk(inputStream, chunkSize, objectName);
+    }
+
+    var chunk = readChunk(inputStream, size + 1, objectName);
+    if (chunk.length() <= size) {
+      return chunk;
+    }
+
+    try (var smallBuffer = chunk.buffer()) {
+      var buffer = bufferPool.acquire((int) chunkSize);
+      System.arraycopy(smallBuffer.array(), 0, buffer.array(), 0, chunk.length());
+      return fill(inputStream, buffer, chunk.length(), chunkSize, objectName);
+    }
+  }
+
+  private Chunk readChunk(InputStream inputStream, long chunkSize, String objectName) {
+    return fill(inputStream, bufferPool.acquire((int) chunkSize), 0, chunkSize, objectName);
+  }
+
+  /**
+   * Reads a stream into a buffer already holding {@code offset} bytes, until it holds
+   * {@code chunkSize} bytes or the end of the stream is reached. The buffer is released on failure.
+   */
+  private Chunk fill(InputStream inputStream, S3Buffer buffer, int offset, long chunkSize,
+      String objectName) {
+    try {
+      var length = inputStream.readNBytes(buffer.array(), offset, (int) chunkSize - offset);
+      return new Chunk(buffer, offset + length);
+    } catch (IOException e) {
+      buffer.close();
+      throw new EdcException("Error reading data of " + objectName, e);
+    } catch (RuntimeException e) {
+      buffer.close();
+      throw e;
+    }
+  }
+
+  private static void close(Chunk chunk) {
+    if (chunk != null) {
+      chunk.buffer().close();
+    }
+  }
+
+  /**
+   * A chunk read from the stream: the first {@code length} bytes of its buffer.
+   */
+  private record Chunk(S3Buffer buffer, int length) {
+  }
+
+  /**
+   * A builder for {@link OVHCloudS3MultipartUploader}.
+   */
+  public static class Builder {
+
+    private S3ConnectorAPI client;
+    private AsyncS3ConnectorAPI asyncClient;
+    private Monitor monitor;
+    private Executor executor;
+    private long chunkSize = MIN_CHUNK_SIZE;
+    private int maxConcurrentChunks = 1;
+    private boolean verifyIntegrity;
+    private S3BufferPool bufferPool;
+
+    private Builder() {
+    }
+
+    /**
+     * Creates a new instance of {@link Builder}.
+     *
+     * @return a new instance of {@link Builder}.
+     */
+    @Contract(value = " -> new", pure = true)
+    public static @NotNull Builder newInstance() {
+      return new Builder();
+    }
+
+    /**
+     * Sets the S3 client.
+     *
+     * @param client the S3 client.
+     * @return the builder.
+     */
+    public Builder client(S3ConnectorAPI client) {
+      this.client = client;
+      return this;
+    }
+
+    /**
+     * Sets the async S3 client. If set, it uploads the chunks instead of the executor.
+     *
+     * @param asyncClient the async S3 client.
+     * @return the builder.
+     */
+    public Builder asyncClient(AsyncS3ConnectorAPI asyncClient) {
+      this.asyncClient = asyncClient;
+      return this;
+    }
+
+    /**
+     * Sets the monitor.
+     *
+     * @param monitor the monitor.
+     * @return the builder.
+     */
+    public Builder monitor(Monitor monitor) {
+      this.monitor = monitor;
+      return this;
+    }
+
+    /**
+     * Sets the executor running the chunk uploads. If not set, the chunks are uploaded by the
+     * calling thread, one after the other. It must not be the executor running the calling thread
+     * when this one is bounded, otherwise the upload may wait for itself.
+     *
+     * @param executor the executor.
+     * @return the builder.
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Sets the size of the chunks. It is at least 5MB, the minimum part size accepted by S3.
+     *
+     * @param chunkSize the size of the chunks in bytes.
+     * @return the builder.
+     */
+    public Builder chunkSize(long chunkSize) {
+      this.chunkSize = chunkSize;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of chunks of an upload in flight at the same time.
+     *
+     * @param maxConcurrentChunks the maximum number of chunks in flight.
+     * @return the builder.
+     */
+    public Builder maxConcurrentChunks(int maxConcurrentChunks) {
+      this.maxConcurrentChunks = maxConcurrentChunks;
+      return this;
+    }
+
+    /**
+     * Sets whether the bucket verifies the uploaded data against its MD5 digests.
+     *
+     * @param verifyIntegrity whether the uploaded data is verified.
+     * @return the builder.
+     */
+    public Builder verifyIntegrity(boolean verifyIntegrity) {
+      this.verifyIntegrity = verifyIntegrity;
+      return this;
+    }
+
+    /**
+     * Sets the pool of the buffers holding the chunks. If not set, a buffer is allocated for each
+     * chunk.
+     *
+     * @param bufferPool the buffer pool.
+     * @return the builder.
+     */
+    public Builder bufferPool(S3BufferPool bufferPool) {
+      this.bufferPool = bufferPool;
+      return this;
+    }
+
+    /**
+     * Builds the {@link OVHCloudS3MultipartUploader}.
+     *
+     * @return the {@link OVHCloudS3MultipartUploader}.
+     */
+    public OVHCloudS3MultipartUploader build() {
+      Objects.requireNonNull(client, "S3ConnectorAPI must not be null");
+      Objects.requireNonNull(monitor, "monitor must not be null");
+
+      return new OVHCloudS3MultipartUploader(this);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part;
+
+/**
+ * Hands out the parts of a transfer to the workers uploading them, the largest first. The parts
+ * are read from their stream a window at a time, so that a transfer of millions of objects does
+ * not hold all of them. Each worker takes the largest part of the window as soon as it is done
+ * with the previous one: the large parts start early instead of being left to a single worker at
+ * the end of the transfer, and the workers done with the small parts keep taking the next ones
+ * instead of waiting for the others. The parts whose size is unknown are handed out first, as they
+ * may be the largest.
+ */
+public class OVHCloudS3PartScheduler {
+
+  private static final Comparator<Part> LARGEST_FIRST = Comparator.comparingLong(
+      OVHCloudS3PartScheduler::sortingSize).reversed();
+
+  private final Iterator<Part> parts;
+  private final int window;
+  private final PriorityQueue<Part> queue;
+  private boolean stopped;
+
+  /**
+   * Creates a scheduler.
+   *
+   * @param parts  the parts of the transfer
+   * @param window the maximum number of parts read ahead of the workers
+   */
+  public OVHCloudS3PartScheduler(Iterator<Part> parts, int window) {
+    if (window <= 0) {
+      throw new IllegalArgumentException("window must be greater than 0");
+    }
+
+    this.parts = Objects.requireNonNull(parts, "parts must not be null");
+    this.window = window;
+    this.queue = new PriorityQueue<>(window, LARGEST_FIRST);
+  }
+
+  /**
+   * Reads the first window of parts, to size the pool of workers before starting them.
+   *
+   * @return the number of parts read, the window size if there may be more parts
+   */
+  public synchronized int prefetch() {
+    fill();
+    return parts.hasNext() ? window : queue.size();
+  }
+
+  /**
+   * Returns the largest part not handed out yet, reading the next parts of the transfer once half
+   * of the window is handed out.
+   *
+   * @return the part, null once all the parts are handed out or the scheduler is stopped
+   */
+  public synchronized Part next() {
+    if (stopped) {
+      return null;
+    }
+    if (queue.size() <= window / 2) {
+      fill();
+    }
+    return queue.poll();
+  }
+
+  /**
+   * Stops handing out parts, e.g. when one of them failed.
+   */
+  public synchronized void stop() {
+    stopped = true;
+    queue.clear();
+  }
+
+  private void fill() {
+    while (queue.size() < window && parts.hasNext()) {
+      queue.add(parts.next());
+    }
+  }
+
+  private static long sortingSize(Part part) {
+    var size = part.size();
+    return size < 0 ? Long.MAX_VALUE : size;
+  }
+}
@@ -0,0 +1,467 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import com.ovhcloud.edc.extension.s3.api.S3Buffer;
+import com.ovhcloud.edc.extension.s3.api.S3BufferPool;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.S3ObjectStream;
+import com.ovhcloud.edc.extension.s3.api.S3ResponseHeaders;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reads an object of an OVHcloud S3 bucket as consecutive byte ranges downloaded concurrently, and
+ * presents them as a single ordered stream. At most {@code maxConcurrentChunks} ranges are read
+ * ahead of the one being consumed: when the consumer is done with a range, the download of the
+ * next one is started, so that the network stays busy while the consumer processes the data. The
+ * memory used by the stream is thus bounded by {@code maxConcurrentChunks + 1} chunks. When a
+ * {@link OVHCloudS3MemoryBudget} is shared by several streams, ranges are only read ahead while it
+ * is not exhausted. The ranges are downloaded into buffers of a {@link S3BufferPool}, released once
+ * consumed or when the stream is closed. The buffer and the share of the budget of a range still
+ * downloading when the stream is closed are only released once its download ends, so that the
+ * memory in use never exceeds the budget. The response headers it exposes are those of the first
+ * range downloaded.
+ */
+public class OVHCloudS3RangedInputStream extends InputStream implements S3ObjectStream {
+
+  /**
+   * Maximum size of a chunk. It is bound by the maximum size of a Java array.
+   */
+  static final long MAX_CHUNK_SIZE = 1024L * 1024L * 1024L;
+
+  private static final Executor CALLER_RUNS = Runnable::run;
+
+  private final S3ConnectorAPI client;
+  private final String bucketName;
+  private final String objectName;
+  private final long size;
+  private final long chunkSize;
+  private final int maxConcurrentChunks;
+  private final Executor executor;
+  private final OVHCloudS3MemoryBudget memoryBudget;
+  private final S3BufferPool bufferPool;
+  private final Deque<Chunk> chunks = new ArrayDeque<>();
+
+  private long nextOffset;
+  private Chunk currentChunk;
+  private byte[] current;
+  private int length;
+  private int position;
+  private boolean closed;
+  private volatile S3ResponseHeaders responseHeaders;
+
+  private OVHCloudS3RangedInputStream(Builder builder) {
+    this.client = builder.client;
+    this.bucketName = builder.bucketName;
+    this.objectName = builder.objectName;
+    this.size = builder.size;
+    this.chunkSize = Math.min(Math.max(builder.chunkSize, 1), MAX_CHUNK_SIZE);
+    this.maxConcurrentChunks = Math.max(builder.maxConcurrentChunks, 1);
+    this.executor = builder.executor == null ? CALLER_RUNS : builder.executor;
+    this.memoryBudget = builder.memoryBudget;
+    this.bufferPool = builder.bufferPool == null ? S3BufferPool.unpooled() : builder.bufferPool;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!nextChunkIfNeeded()) {
+      return -1;
+    }
+
+    return current[position++] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    if (len == 0) {
+      return 0;
+    }
+    if (!nextChunkIfNeeded()) {
+      return -1;
+    }
+
+    var read = Math.min(len, length - position);
+    System.arraycopy(current, position, b, off, read);
+    position += read;
+    return read;
+  }
+
+  @Override
+  public int available() throws IOException {
+    ensureOpen();
+    return current == null ? 0 : length - position;
+  }
+
+  @Override
+  public S3ResponseHeaders responseHeaders() {
+    return responseHeaders;
+  }
+
+  /**
+   * Closes the stream and abandons the downloads in flight, whose memory is released as they end.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    chunks.forEach(Chunk::abandon);
+    chunks.clear();
+    releaseCurrent();
+  }
+
+  /**
+   * Makes the next chunk current once the current one is consumed.
+   *
+   * @return false if the end of the object is reached
+   */
+  private boolean nextChunkIfNeeded() throws IOException {
+    ensureOpen();
+
+    while (current == null || position >= length) {
+      releaseCurrent();
+      scheduleChunks();
+      if (chunks.isEmpty()) {
+        return false;
+      }
+
+      currentChunk = chunks.poll();
+      current = await(currentChunk).array();
+      length = (int) currentChunk.length();
+      position = 0;
+      // Read ahead while the consumer processes the current chunk
+      scheduleChunks();
+    }
+
+    return true;
+  }
+
+  private void scheduleChunks() throws IOException {
+    while (chunks.size() < maxConcurrentChunks && nextOffset < size) {
+      var offset = nextOffset;
+      var length = Math.min(chunkSize, size - offset);
+      if (!reserve(length)) {
+        return;
+      }
+      nextOffset += length;
+
+      var chunk = new Chunk(length);
+      chunk.data = CompletableFuture.supplyAsync(() -> downloadChunk(chunk, offset), executor);
+      chunks.add(chunk);
+    }
+  }
+
+  /**
+   * Reserves the memory of a chunk. The stream only waits for the budget when it has nothing else
+   * to read, otherwise the chunk is read later.
+   */
+  private boolean reserve(long length) throws IOException {
+    if (memoryBudget == null) {
+      return true;
+    }
+    if (current != null || !chunks.isEmpty()) {
+      return memoryBudget.tryReserve(length);
+    }
+
+    try {
+      memoryBudget.reserve(length);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new InterruptedIOException("Interrupted while reading " + objectName);
+    }
+  }
+
+  private void releaseCurrent() {
+    if (currentChunk != null) {
+      currentChunk.abandon();
+    }
+    currentChunk = null;
+    current = null;
+  }
+
+  /**
+   * Downloads a range, unless it was abandoned before its download started.
+   */
+  private S3Buffer downloadChunk(Chunk chunk, long offset) {
+    S3Buffer buffer = null;
+    try {
+      if (!chunk.isAbandoned()) {
+        buffer = download((int) chunk.length(), offset);
+      }
+    } finally {
+      chunk.settle(buffer);
+    }
+    return buffer;
+  }
+
+  /**
+   * Downloads a range straight into a buffer of the pool: the response is streamed, so that no
+   * other array of the size of the range is allocated, and a retrying client resumes it where it
+   * failed.
+   */
+  private S3Buffer download(int length, long offset) {
+    var buffer = bufferPool.acquire(length);
+    try (var inputStream = client.getObjectStream(bucketName, objectName, offset, length)) {
+      if (responseHeaders == null) {
+        responseHeaders = S3ObjectStream.responseHeaders(inputStream).orElse(null);
+      }
+      var read = inputStream.readNBytes(buffer.array(), 0, length);
+      if (read != length || inputStream.read() >= 0) {
+        throw new EdcException(String.format(
+            "Expected %d bytes at offset %d of %s in bucket %s but got %s", length, offset,
+            objectName, bucketName, read != length ? read : "more"));
+      }
+    } catch (IOException e) {
+      buffer.close();
+      throw new EdcException("Error reading " + objectName + " from bucket " + bucketName, e);
+    } catch (RuntimeException e) {
+      buffer.close();
+      throw e;
+    }
+    return buffer;
+  }
+
+  private S3Buffer await(Chunk chunk) throws IOException {
+    try {
+      return chunk.data.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new InterruptedIOException("Interrupted while reading " + objectName);
+    } catch (ExecutionException e) {
+      close();
+      throw new IOException(
+          "Error reading " + objectName + " from bucket " + bucketName, e.getCause());
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+  }
+
+  /**
+   * A range being downloaded. Its buffer and its share of the memory budget are released exactly
+   * once, when the range is both abandoned and settled: by the reader abandoning it if its download
+   * has ended, or by its download otherwise. A download is never cancelled, so that it always
+   * settles its range.
+   */
+  private final class Chunk {
+
+    private final long length;
+    private CompletableFuture<S3Buffer> data;
+    private S3Buffer buffer;
+    private boolean settled;
+    private boolean abandoned;
+
+    private Chunk(long length) {
+      this.length = length;
+    }
+
+    long length() {
+      return length;
+    }
+
+    synchronized boolean isAbandoned() {
+      return abandoned;
+    }
+
+    /**
+     * Records the end of the download, with the downloaded buffer or null if it failed.
+     *
+     * @throws CancellationException if the range was abandoned meanwhile
+     */
+    synchronized void settle(S3Buffer buffer) {
+      this.buffer = buffer;
+      settled = true;
+      if (abandoned) {
+        free();
+        throw new CancellationException();
+      }
+    }
+
+    synchronized void abandon() {
+      if (abandoned) {
+        return;
+      }
+      abandoned = true;
+      if (settled) {
+        free();
+      }
+    }
+
+    private void free() {
+      if (buffer != null) {
+        buffer.close();
+        buffer = null;
+      }
+      if (memoryBudget != null) {
+        memoryBudget.release(length);
+      }
+    }
+  }
+
+  /**
+   * A builder for {@link OVHCloudS3RangedInputStream}.
+   */
+  public static class Builder {
+
+    private S3ConnectorAPI client;
+    private String bucketName;
+    private String objectName;
+    private long size = -1;
+    private long chunkSize = MAX_CHUNK_SIZE;
+    private int maxConcurrentChunks = 1;
+    private Executor executor;
+    private OVHCloudS3MemoryBudget memoryBudget;
+    private S3BufferPool bufferPool;
+
+    private Builder() {
+    }
+
+    /**
+     * Creates a new instance of {@link Builder}.
+     *
+     * @return a new instance of {@link Builder}.
+     */
+    @Contract(value = " -> new", pure = true)
+    public static @NotNull Builder newInstance() {
+      return new Builder();
+    }
+
+    /**
+     * Sets the S3 client.
+     *
+     * @param client the S3 client.
+     * @return the builder.
+     */
+    public Builder client(S3ConnectorAPI client) {
+      this.client = client;
+      return this;
+    }
+
+    /**
+     * Sets the bucket name.
+     *
+     * @param bucketName the bucket name.
+     * @return the builder.
+     */
+    public Builder bucketName(String bucketName) {
+      this.bucketName = bucketName;
+      return this;
+    }
+
+    /**
+     * Sets the object name.
+     *
+     * @param objectName the object name.
+     * @return the builder.
+     */
+    public Builder objectName(String objectName) {
+      this.objectName = objectName;
+      return this;
+    }
+
+    /**
+     * Sets the size of the object.
+     *
+     * @param size the size of the object in bytes.
+     * @return the builder.
+     */
+    public Builder size(long size) {
+      this.size = size;
+      return this;
+    }
+
+    /**
+     * Sets the size of the ranges downloaded by a single request.
+     *
+     * @param chunkSize the size of the ranges in bytes.
+     * @return the builder.
+     */
+    public Builder chunkSize(long chunkSize) {
+      this.chunkSize = chunkSize;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of ranges downloaded at the same time.
+     *
+     * @param maxConcurrentChunks the maximum number of ranges in flight.
+     * @return the builder.
+     */
+    public Builder maxConcurrentChunks(int maxConcurrentChunks) {
+      this.maxConcurrentChunks = maxConcurrentChunks;
+      return this;
+    }
+
+    /**
+     * Sets the executor running the downloads. If not set, the ranges are downloaded by the
+     * reading thread, one after the other. It must not be the executor running the reading thread
+     * when this one is bounded, otherwise the read may wait for itself.
+     *
+     * @param executor the executor.
+     * @return the builder.
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Sets the memory budget shared with other streams. If not set, the memory is only bounded by
+     * the number of ranges in flight.
+     *
+     * @param memoryBudget the memory budget.
+     * @return the builder.
+     */
+    public Builder memoryBudget(OVHCloudS3MemoryBudget memoryBudget) {
+      this.memoryBudget = memoryBudget;
+      return this;
+    }
+
+    /**
+     * Sets the pool of the buffers holding the ranges. If not set, a buffer is allocated for each
+     * range.
+     *
+     * @param bufferPool the buffer pool.
+     * @return the builder.
+     */
+    public Builder bufferPool(S3BufferPool bufferPool) {
+      this.bufferPool = bufferPool;
+      return this;
+    }
+
+    /**
+     * Builds the {@link OVHCloudS3RangedInputStream}.
+     *
+     * @return the {@link OVHCloudS3RangedInputStream}.
+     */
+    public OVHCloudS3RangedInputStream build() {
+      Objects.requireNonNull(client, "S3ConnectorAPI must not be null");
+      Objects.requireNonNull(bucketName, "bucketName must not be null");
+      Objects.requireNonNull(objectName, "objectName must not be null");
+      if (size < 0) {
+        throw new IllegalArgumentException("size must be greater than or equal to 0");
+      }
+
+      return new OVHCloudS3RangedInputStream(this);
+    }
+  }
+}
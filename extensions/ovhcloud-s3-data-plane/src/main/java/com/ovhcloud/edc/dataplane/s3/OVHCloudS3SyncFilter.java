@@ -0,0 +1,119 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import com.ovhcloud.edc.dataplane.s3.OVHCloudS3DataSource.OVHCloudS3Part;
+import com.ovhcloud.edc.extension.s3.api.S3ObjectMetadata;
+import com.ovhcloud.edc.extension.s3.utils.S3Utils;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part;
+
+/**
+ * Filters out the parts of a transfer whose object is already at the destination, unchanged. The
+ * destination objects are read from a listing of the destination prefix, joined with the parts as
+ * both are sorted by key: a bucket lists its objects in the binary order of the UTF-8 encoding of
+ * their keys, and the destination key of a part is its key after the same prefix. Memory and
+ * requests do not depend on the number of objects, unlike a request per part or a map of the whole
+ * destination. Parts out of order, or not read from an OVHcloud S3 bucket, are always transferred:
+ * the filter may transfer unchanged objects, never skip changed ones.
+ * <p>
+ * An object is unchanged when it has the same size and ETag at the destination. The ETag of an
+ * object uploaded as a multipart upload depends on the size of its chunks, so that the same data
+ * may have different ETags in both buckets: when one of them is not the MD5 digest of the data,
+ * the object is unchanged if it has the same size and was modified at the destination after the
+ * source.
+ * </p>
+ * <p>
+ * The filter keeps the position of the listing: it must be used by a single thread, on the parts
+ * in their order.
+ * </p>
+ */
+public class OVHCloudS3SyncFilter implements Predicate<Part> {
+
+  private final Iterator<S3ObjectMetadata> destinationObjects;
+  private final Function<Part, String> destinationName;
+  private S3ObjectMetadata current;
+  private long skipped;
+
+  /**
+   * Creates a filter.
+   *
+   * @param destinationObjects the objects of the destination prefix, in the order of the listing
+   * @param destinationName    the destination key of a part
+   */
+  public OVHCloudS3SyncFilter(Iterator<S3ObjectMetadata> destinationObjects,
+      Function<Part, String> destinationName) {
+    this.destinationObjects = Objects.requireNonNull(destinationObjects,
+        "destinationObjects must not be null");
+    this.destinationName = Objects.requireNonNull(destinationName,
+        "destinationName must not be null");
+  }
+
+  /**
+   * Tells whether a part must be transferred.
+   *
+   * @param part the part
+   * @return false if its object is already at the destination, unchanged
+   */
+  @Override
+  public boolean test(Part part) {
+    if (!(part instanceof OVHCloudS3Part s3Part)) {
+      return true;
+    }
+
+    var key = destinationName.apply(part);
+    while (current == null || compareKeys(current.objectName(), key) < 0) {
+      if (!destinationObjects.hasNext()) {
+        current = null;
+        return true;
+      }
+      current = destinationObjects.next();
+    }
+
+    if (current.objectName().equals(key) && isUnchanged(s3Part, current)) {
+      skipped++;
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the number of parts filtered out so far.
+   *
+   * @return the number of unchanged objects skipped
+   */
+  public long skipped() {
+    return skipped;
+  }
+
+  /**
+   * Tells whether the object of a part is unchanged at the destination.
+   *
+   * @param source      the part
+   * @param destination the object of the same key at the destination
+   * @return true if the object does not need to be transferred again
+   */
+  static boolean isUnchanged(OVHCloudS3Part source, S3ObjectMetadata destination) {
+    if (source.size() != destination.size()) {
+      return false;
+    }
+    if (OVHCloudS3Checksums.isSinglePartEtag(source.etag())
+        && OVHCloudS3Checksums.isSinglePartEtag(destination.etag())) {
+      return OVHCloudS3Checksums.matches(destination.etag(), source.etag());
+    }
+    if (source.etag() != null && destination.etag() != null
+        && OVHCloudS3Checksums.matches(destination.etag(), source.etag())) {
+      return true;
+    }
+    return source.lastModified() != null && destination.lastModified() != null
+        && !destination.lastModified().isBefore(source.lastModified());
+  }
+
+  /**
+   * Compares two keys in the order of a listing.
+   */
+  static int compareKeys(String key, String other) {
+    return S3Utils.compareKeys(key, other);
+  }
+}
@@ -0,0 +1,118 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import com.ovhcloud.edc.extension.s3.api.S3ObjectStream;
+import com.ovhcloud.edc.extension.s3.api.S3ResponseHeaders;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+
+/**
+ * An input stream computing the MD5 digest of the data read through it and comparing it with the
+ * ETag of the object at the end of the stream. The digest is updated in place as the data is read,
+ * so that the object is verified in a single pass without being buffered. A mismatch is reported
+ * as an {@link IOException} by the read reaching the end of the stream. When the response headers
+ * report that the object is encrypted by the bucket, its ETag is not the MD5 digest of its data:
+ * the data is then neither digested nor verified.
+ */
+class OVHCloudS3VerifyingInputStream extends FilterInputStream {
+
+  private static final int SKIP_BUFFER_SIZE = 8192;
+
+  private final MessageDigest digest = OVHCloudS3Checksums.md5();
+  private final String objectName;
+  private final String etag;
+  private boolean encrypted;
+  private boolean verified;
+
+  /**
+   * Creates a stream verifying the data of an object.
+   *
+   * @param in         the stream reading the whole object
+   * @param objectName the name of the object, for the error message
+   * @param etag       the ETag of the object, the MD5 digest of its data
+   */
+  OVHCloudS3VerifyingInputStream(InputStream in, String objectName, String etag) {
+    super(in);
+    this.objectName = objectName;
+    this.etag = etag;
+  }
+
+  @Override
+  public int read() throws IOException {
+    var b = in.read();
+    if (b == -1) {
+      verify();
+    } else if (!isEncrypted()) {
+      digest.update((byte) b);
+    }
+    return b;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    var read = in.read(b, off, len);
+    if (read == -1) {
+      verify();
+    } else if (!isEncrypted()) {
+      digest.update(b, off, read);
+    }
+    return read;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    // The skipped data must be digested as well
+    var buffer = new byte[(int) Math.min(Math.max(n, 0), SKIP_BUFFER_SIZE)];
+    var skipped = 0L;
+    while (skipped < n) {
+      var read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+      if (read == -1) {
+        break;
+      }
+      skipped += read;
+    }
+    return skipped;
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  @Override
+  public synchronized void mark(int readlimit) {
+  }
+
+  @Override
+  public synchronized void reset() throws IOException {
+    throw new IOException("mark/reset not supported");
+  }
+
+  /**
+   * Tells whether the response headers report that the object is encrypted by the bucket. The
+   * headers of a stream downloading ranges are only known once its first range is downloaded.
+   */
+  private boolean isEncrypted() {
+    if (!encrypted) {
+      encrypted = S3ObjectStream.responseHeaders(in)
+          .map(S3ResponseHeaders::serverSideEncrypted)
+          .orElse(false);
+    }
+    return encrypted;
+  }
+
+  private void verify() throws IOException {
+    if (verified || isEncrypted()) {
+      return;
+    }
+    verified = true;
+
+    var actual = OVHCloudS3Checksums.etag(digest.digest());
+    if (!OVHCloudS3Checksums.matches(etag, actual)) {
+      throw new IOException(String.format(
+          "Integrity check failed for %s: expected ETag %s, read data with MD5 %s", objectName,
+          etag, actual));
+    }
+  }
+}
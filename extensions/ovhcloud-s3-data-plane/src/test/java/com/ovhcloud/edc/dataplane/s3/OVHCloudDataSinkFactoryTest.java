@@ -1,14 +1,19 @@
 package com.ovhcloud.edc.dataplane.s3;
 
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_MULTIPART_CHUNK_SIZE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.concurrent.ExecutorService;
 import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIImpl;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIRegistry;
 import com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema;
 import com.ovhcloud.edc.extension.s3.schemas.OVHCloudRegions;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
@@ -431,4 +436,75 @@ class OVHCloudDataSinkFactoryTest {
     assertNotNull(result);
   }
 
+  @Test
+  void createSinkShouldCopyServerSideWhenSourceSharesTheDestinationClient() {
+    // Given
+    var registry = mock(S3ConnectorAPIRegistry.class);
+    when(registry.resolve(any())).thenReturn(S3ConnectorAPI);
+    when(registry.sameClient(any(), any())).thenReturn(true);
+    OVHCloudS3DataSinkFactory factory = new OVHCloudS3DataSinkFactory(registry, monitor,
+        executorService, DEFAULT_MULTIPART_CHUNK_SIZE, 1, false, null, 5, 0, 1000);
+
+    var source = DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.BUCKET_NAME, "bucketName")
+        .build();
+    var destination = DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.BUCKET_NAME, "destinationBucketName")
+        .property(OVHCloudBucketSchema.REGION, OVHCloudRegions.DEFAULT_REGION)
+        .build();
+    DataFlowStartMessage dataFlowStartMessage = DataFlowStartMessage.Builder.newInstance()
+        .processId("processId")
+        .sourceDataAddress(source)
+        .destinationDataAddress(destination)
+        .build();
+
+    // When
+    DataSink result = factory.createSink(dataFlowStartMessage);
+
+    // Then
+    assertNotNull(result);
+    verify(registry).sameClient(source, destination);
+  }
+
+  @Test
+  void transferSettingShouldBeOverriddenByTheDestinationUpToItsMaximum() {
+    var destination = DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.PARTITION_SIZE, "50")
+        .property(OVHCloudBucketSchema.MULTIPART_CONCURRENCY, "8")
+        .build();
+
+    assertEquals(50, OVHCloudS3DataSinkFactory.transferSetting(destination,
+        OVHCloudBucketSchema.PARTITION_SIZE, 5, 0));
+    assertEquals(4, OVHCloudS3DataSinkFactory.transferSetting(destination,
+        OVHCloudBucketSchema.MULTIPART_CONCURRENCY, 4, 4));
+    assertEquals(3, OVHCloudS3DataSinkFactory.transferSetting(destination,
+        OVHCloudBucketSchema.MAX_PARALLEL_PARTITIONS, 3, 3));
+  }
+
+  @Test
+  void validateRequestShouldReturnFailureResultWhenDestinationSinkTuningIsInvalid() {
+    OVHCloudS3DataSinkFactory factory = new OVHCloudS3DataSinkFactory(S3ConnectorAPI,
+        monitor, executorService);
+
+    DataFlowStartMessage dataFlowStartMessage = DataFlowStartMessage.Builder.newInstance()
+        .processId("processId")
+        .sourceDataAddress(DataAddress.Builder.newInstance()
+            .type("sourceType")
+            .build())
+        .destinationDataAddress(DataAddress.Builder.newInstance()
+            .type(OVHCloudBucketSchema.TYPE)
+            .property(OVHCloudBucketSchema.BUCKET_NAME, "destinationBucketName")
+            .property(OVHCloudBucketSchema.REGION, OVHCloudRegions.DEFAULT_REGION)
+            .property(OVHCloudBucketSchema.MAX_PARALLEL_PARTITIONS, "-1")
+            .build())
+        .build();
+
+    var result = factory.validateRequest(dataFlowStartMessage);
+
+    assertTrue(result.failed());
+    assertEquals(1, result.getFailureMessages().size());
+  }
 }
@@ -2,13 +2,35 @@ package com.ovhcloud.edc.dataplane.s3;
 
 import com.ovhcloud.edc.dataplane.s3.OVHCloudS3DataSource.OVHCloudS3Part;
 import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIImpl;
+import com.ovhcloud.edc.extension.s3.api.S3ObjectMetadata;
+import com.ovhcloud.edc.extension.s3.api.S3WatermarkStore;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class OVHCloudDataSinkTest {
@@ -223,4 +245,241 @@ class OVHCloudDataSinkTest {
     String destination = dataSink.determineDestinationName(part);
     assertEquals("partName#%$&", destination);
   }
+
+  @Test
+  void transferPartsShouldCopyOVHCloudS3PartsServerSideWhenEnabled() {
+    OVHCloudS3DataSink dataSink = OVHCloudS3DataSink.Builder.newInstance()
+        .monitor(monitor)
+        .requestId("requestId")
+        .executorService(executorService)
+        .s3ConnectorAPI(s3ConnectorAPI)
+        .bucketName("bucketName")
+        .path("path/")
+        .serverSideCopy(true)
+        .build();
+    when(part.bucketName()).thenReturn("sourceBucketName");
+    when(part.size()).thenReturn(42L);
+
+    var result = dataSink.transferParts(List.of(part));
+
+    assertTrue(result.succeeded());
+    verify(s3ConnectorAPI).copyObject("sourceBucketName", "partName", "bucketName",
+        "path/partName", 42L);
+    verify(part, never()).openStream();
+  }
+
+  @Test
+  void transferShouldRunAtMostTheMaxParallelPartitionsOfTheTransferAtTheSameTime()
+      throws Exception {
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      OVHCloudS3DataSink dataSink = OVHCloudS3DataSink.Builder.newInstance()
+          .monitor(monitor)
+          .requestId("requestId")
+          .executorService(executor)
+          .partitionSize(1)
+          .maxParallelPartitions(2)
+          .s3ConnectorAPI(s3ConnectorAPI)
+          .bucketName("bucketName")
+          .serverSideCopy(true)
+          .build();
+      var running = new AtomicInteger();
+      var maxRunning = new AtomicInteger();
+      doAnswer(invocation -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        Thread.sleep(20);
+        running.decrementAndGet();
+        return null;
+      }).when(s3ConnectorAPI).copyObject(anyString(), anyString(), anyString(), anyString(),
+          anyLong());
+      var parts = IntStream.range(0, 8).mapToObj(i -> {
+        var s3Part = mock(OVHCloudS3Part.class);
+        when(s3Part.name()).thenReturn("part" + i);
+        when(s3Part.bucketName()).thenReturn("sourceBucketName");
+        return (DataSource.Part) s3Part;
+      }).toList();
+      var source = mock(DataSource.class);
+      when(source.openPartStream()).thenReturn(StreamResult.success(parts.stream()));
+
+      var result = dataSink.transfer(source).get(10, TimeUnit.SECONDS);
+
+      assertTrue(result.succeeded());
+      assertTrue(maxRunning.get() <= 2);
+      verify(s3ConnectorAPI, times(8)).copyObject(anyString(), anyString(), anyString(),
+          anyString(), anyLong());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void transferShouldUploadTheLargestPartsFirstWhenScheduledBySize() throws Exception {
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      OVHCloudS3DataSink dataSink = OVHCloudS3DataSink.Builder.newInstance()
+          .monitor(monitor)
+          .requestId("requestId")
+          .executorService(executor)
+          .partitionSize(1)
+          .maxParallelPartitions(1)
+          .schedulingWindow(10)
+          .s3ConnectorAPI(s3ConnectorAPI)
+          .bucketName("bucketName")
+          .serverSideCopy(true)
+          .build();
+      var sizes = List.of(10L, 5000L, 1L, 300L);
+      var parts = sizes.stream().map(size -> {
+        var s3Part = mock(OVHCloudS3Part.class);
+        when(s3Part.name()).thenReturn("part" + size);
+        when(s3Part.bucketName()).thenReturn("sourceBucketName");
+        when(s3Part.size()).thenReturn(size);
+        return (DataSource.Part) s3Part;
+      }).toList();
+      var source = mock(DataSource.class);
+      when(source.openPartStream()).thenReturn(StreamResult.success(parts.stream()));
+
+      var result = dataSink.transfer(source).get(10, TimeUnit.SECONDS);
+
+      assertTrue(result.succeeded());
+      var inOrder = inOrder(s3ConnectorAPI);
+      for (var size : List.of(5000L, 300L, 10L, 1L)) {
+        inOrder.verify(s3ConnectorAPI).copyObject("sourceBucketName", "part" + size, "bucketName",
+            "part" + size, size);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void transferShouldFailWithTheFirstPartFailingWhenScheduledBySize() throws Exception {
+    var executor = Executors.newFixedThreadPool(2);
+    try {
+      OVHCloudS3DataSink dataSink = OVHCloudS3DataSink.Builder.newInstance()
+          .monitor(monitor)
+          .requestId("requestId")
+          .executorService(executor)
+          .partitionSize(1)
+          .schedulingWindow(10)
+          .s3ConnectorAPI(s3ConnectorAPI)
+          .bucketName("bucketName")
+          .serverSideCopy(true)
+          .build();
+      when(part.bucketName()).thenReturn("sourceBucketName");
+      when(part.size()).thenReturn(42L);
+      doAnswer(invocation -> {
+        throw new IllegalStateException("copy failed");
+      }).when(s3ConnectorAPI).copyObject(anyString(), anyString(), anyString(), anyString(),
+          anyLong());
+      var source = mock(DataSource.class);
+      when(source.openPartStream()).thenReturn(StreamResult.success(
+          List.<DataSource.Part>of(part).stream()));
+
+      var result = dataSink.transfer(source).get(10, TimeUnit.SECONDS);
+
+      assertTrue(result.failed());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void transferShouldSkipTheObjectsUnchangedAtTheDestinationInSyncMode() throws Exception {
+    var executor = Executors.newFixedThreadPool(2);
+    try {
+      OVHCloudS3DataSink dataSink = OVHCloudS3DataSink.Builder.newInstance()
+          .monitor(monitor)
+          .requestId("requestId")
+          .executorService(executor)
+          .schedulingWindow(10)
+          .sync(true)
+          .s3ConnectorAPI(s3ConnectorAPI)
+          .bucketName("bucketName")
+          .path("backup")
+          .serverSideCopy(true)
+          .build();
+      var etag = "0123456789abcdef0123456789abcdef";
+      when(s3ConnectorAPI.streamObjects("bucketName", "backup/")).thenReturn(Stream.of(
+          new S3ObjectMetadata("backup/changed", 10, etag, null),
+          new S3ObjectMetadata("backup/unchanged", 10, etag, null)));
+      var source = mock(DataSource.class);
+      when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(
+          new OVHCloudS3Part(s3ConnectorAPI, "sourceBucketName",
+              new S3ObjectMetadata("changed", 20, etag, null), null, 20, 1, null, false, null),
+          new OVHCloudS3Part(s3ConnectorAPI, "sourceBucketName",
+              new S3ObjectMetadata("new", 10, etag, null), null, 10, 1, null, false, null),
+          new OVHCloudS3Part(s3ConnectorAPI, "sourceBucketName",
+              new S3ObjectMetadata("unchanged", 10, etag, null), null, 10, 1, null, false,
+              null))));
+
+      var result = dataSink.transfer(source).get(10, TimeUnit.SECONDS);
+
+      assertTrue(result.succeeded());
+      verify(s3ConnectorAPI).copyObject("sourceBucketName", "changed", "bucketName",
+          "backup/changed", 20L);
+      verify(s3ConnectorAPI).copyObject("sourceBucketName", "new", "bucketName", "backup/new",
+          10L);
+      verify(s3ConnectorAPI, never()).copyObject("sourceBucketName", "unchanged", "bucketName",
+          "backup/unchanged", 10L);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void transferShouldCommitTheWatermarkOfTheSourceOnlyOnceAllItsPartsAreTransferred()
+      throws Exception {
+    var executor = Executors.newFixedThreadPool(2);
+    try {
+      OVHCloudS3DataSink dataSink = OVHCloudS3DataSink.Builder.newInstance()
+          .monitor(monitor)
+          .requestId("requestId")
+          .executorService(executor)
+          .schedulingWindow(10)
+          .s3ConnectorAPI(s3ConnectorAPI)
+          .bucketName("bucketName")
+          .serverSideCopy(true)
+          .build();
+      var watermarkStore = new S3WatermarkStore(null);
+      var modified = ZonedDateTime.parse("2024-01-01T10:00:00Z");
+      when(s3ConnectorAPI.streamObjects("sourceBucketName", "prefix")).thenAnswer(
+          invocation -> Stream.of(new S3ObjectMetadata("prefix/object", 10, "etag", modified)));
+      var source = OVHCloudS3DataSource.Builder.newInstance(s3ConnectorAPI)
+          .monitor(monitor)
+          .bucketName("sourceBucketName")
+          .objectPrefix("prefix")
+          .modifiedBefore(Instant.parse("2024-01-01T11:00:00Z"))
+          .watermark("hourly", watermarkStore);
+      doThrow(new EdcException("copy failed")).when(s3ConnectorAPI)
+          .copyObject("sourceBucketName", "prefix/object", "bucketName", "prefix/object", 10L);
+
+      var failed = dataSink.transfer(source.build()).get(10, TimeUnit.SECONDS);
+
+      assertTrue(failed.failed());
+      assertTrue(watermarkStore.get("hourly").isEmpty());
+
+      doNothing().when(s3ConnectorAPI)
+          .copyObject("sourceBucketName", "prefix/object", "bucketName", "prefix/object", 10L);
+      var succeeded = dataSink.transfer(source.build()).get(10, TimeUnit.SECONDS);
+
+      assertTrue(succeeded.succeeded());
+      assertEquals(Instant.parse("2024-01-01T11:00:00Z"), watermarkStore.get("hourly").get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void destinationPrefixShouldEndWithASlashWhenPathIsSet() {
+    OVHCloudS3DataSink dataSink = OVHCloudS3DataSink.Builder.newInstance()
+        .monitor(monitor)
+        .requestId("requestId")
+        .executorService(executorService)
+        .s3ConnectorAPI(s3ConnectorAPI)
+        .bucketName("bucketName")
+        .path("path")
+        .build();
+
+    assertEquals("path/", dataSink.destinationPrefix());
+  }
 }
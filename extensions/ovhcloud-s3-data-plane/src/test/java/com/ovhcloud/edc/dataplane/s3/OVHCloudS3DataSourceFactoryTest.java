@@ -7,8 +7,12 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
 import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIImpl;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIRegistry;
 import com.ovhcloud.edc.extension.s3.schemas.OVHCloudBucketSchema;
 import com.ovhcloud.edc.extension.s3.schemas.OVHCloudRegions;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
@@ -32,7 +36,8 @@ class OVHCloudS3DataSourceFactoryTest {
 
   @Test
   void constructorShouldThrowNullPointerExceptionWhenOVHCloudClientIsNull() {
-    assertThrows(NullPointerException.class, () -> new OVHCloudS3DataSourceFactory(null, monitor));
+    assertThrows(NullPointerException.class,
+        () -> new OVHCloudS3DataSourceFactory((S3ConnectorAPI) null, monitor));
   }
 
   @Test
@@ -383,4 +388,35 @@ class OVHCloudS3DataSourceFactoryTest {
     assertNotNull(result);
   }
 
+  @Test
+  void createSourceShouldResolveClientOfSourceDataAddress() {
+    // Given
+    var registry = mock(S3ConnectorAPIRegistry.class);
+    OVHCloudS3DataSourceFactory OVHCloudS3DataSourceFactory = new OVHCloudS3DataSourceFactory(
+        registry, monitor);
+
+    var sourceDataAddress = DataAddress.Builder.newInstance()
+        .type(OVHCloudBucketSchema.TYPE)
+        .property(OVHCloudBucketSchema.BUCKET_NAME, "bucketName")
+        .property(OVHCloudBucketSchema.OBJECT_NAME, "objectName")
+        .property(OVHCloudBucketSchema.ENDPOINT, "https://s3.sbg.io.cloud.ovh.net")
+        .build();
+    when(registry.resolve(sourceDataAddress)).thenReturn(OVHCloudConnectorAPI);
+
+    DataFlowStartMessage dataFlowStartMessage = DataFlowStartMessage.Builder.newInstance()
+        .processId("processId")
+        .sourceDataAddress(sourceDataAddress)
+        .destinationDataAddress(DataAddress.Builder.newInstance()
+            .type("destinationType")
+            .build())
+        .build();
+
+    // When
+    DataSource result = OVHCloudS3DataSourceFactory.createSource(dataFlowStartMessage);
+
+    // Then
+    assertNotNull(result);
+    verify(registry).resolve(sourceDataAddress);
+  }
+
 }
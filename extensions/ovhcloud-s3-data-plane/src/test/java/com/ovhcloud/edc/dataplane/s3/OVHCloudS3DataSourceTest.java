@@ -8,12 +8,18 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.ovhcloud.edc.dataplane.s3.OVHCloudS3DataSource.Builder;
 import com.ovhcloud.edc.dataplane.s3.OVHCloudS3DataSource.OVHCloudS3Part;
 import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIImpl;
+import com.ovhcloud.edc.extension.s3.api.S3ObjectMetadata;
+import com.ovhcloud.edc.extension.s3.api.S3WatermarkStore;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -21,8 +27,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.Collections;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 class OVHCloudS3DataSourceTest {
 
@@ -78,8 +92,8 @@ class OVHCloudS3DataSourceTest {
   @Test
   void openPartShouldFailsIfNoObjectFoundWithGivenPrefix() {
     // Given
-    when(S3ConnectorAPI.listObjects("bucketName", "objectPrefix")).thenReturn(
-        Collections.emptyList());
+    when(S3ConnectorAPI.streamObjects("bucketName", "objectPrefix")).thenReturn(
+        Stream.empty());
 
     OVHCloudS3DataSource OVHCloudS3DataSource = Builder.newInstance(S3ConnectorAPI)
         .monitor(monitor)
@@ -98,13 +112,10 @@ class OVHCloudS3DataSourceTest {
   @Test
   void openPartShouldSucceededIfObjectFoundWithGivenPrefix() {
     // Given
-    when(S3ConnectorAPI.listObjects("bucketName", "objectPrefix")).thenReturn(
-        List.of("objectPrefix/object1.txt", "objectPrefix/object2.txt"));
-
-    when(S3ConnectorAPI.getObjectSize("bucketName", "objectPrefix/object1.txt")).thenReturn(
-        MEGABYTES);
-    when(S3ConnectorAPI.getObjectSize("bucketName", "objectPrefix/object2.txt")).thenReturn(
-        10 * MEGABYTES);
+    when(S3ConnectorAPI.streamObjects("bucketName", "objectPrefix")).thenReturn(
+        Stream.of(
+            new S3ObjectMetadata("objectPrefix/object1.txt", MEGABYTES, "etag1", null),
+            new S3ObjectMetadata("objectPrefix/object2.txt", 10 * MEGABYTES, "etag2", null)));
 
     OVHCloudS3DataSource OVHCloudS3DataSource = Builder.newInstance(S3ConnectorAPI)
         .monitor(monitor)
@@ -117,13 +128,40 @@ class OVHCloudS3DataSourceTest {
 
     // Then
     assertTrue(result.succeeded());
-    result.getContent().forEach(part -> assertTrue(part.name().startsWith("objectPrefix")));
+    var parts = result.getContent().toList();
+    assertEquals(2, parts.size());
+    assertEquals(MEGABYTES, parts.get(0).size());
+    assertEquals(10 * MEGABYTES, parts.get(1).size());
+    parts.forEach(part -> assertTrue(part.name().startsWith("objectPrefix")));
+    verify(S3ConnectorAPI, never()).getObjectSize(any(), any());
+  }
+
+  @Test
+  void openPartShouldCloseListingWhenPartStreamIsClosed() {
+    // Given
+    var listingClosed = new AtomicBoolean(false);
+    when(S3ConnectorAPI.streamObjects("bucketName", "objectPrefix")).thenReturn(
+        Stream.of(new S3ObjectMetadata("objectPrefix/object1.txt", MEGABYTES, "etag1", null))
+            .onClose(() -> listingClosed.set(true)));
+
+    OVHCloudS3DataSource OVHCloudS3DataSource = Builder.newInstance(S3ConnectorAPI)
+        .monitor(monitor)
+        .bucketName("bucketName")
+        .objectPrefix("objectPrefix")
+        .build();
+
+    // When
+    var result = OVHCloudS3DataSource.openPartStream();
+    result.getContent().close();
+
+    // Then
+    assertTrue(listingClosed.get());
   }
 
   @Test
   void openPartShouldFailsIfListObjectThrowEdcException() {
     // Given
-    when(S3ConnectorAPI.listObjects("bucketName", "objectName"))
+    when(S3ConnectorAPI.streamObjects("bucketName", "objectName"))
         .thenThrow(EdcException.class);
 
     OVHCloudS3DataSource OVHCloudS3DataSource = Builder.newInstance(S3ConnectorAPI)
@@ -143,8 +181,8 @@ class OVHCloudS3DataSourceTest {
   @Test
   void openPartShouldFailsIfNoObjectFound() {
     // Given
-    when(S3ConnectorAPI.listObjects("bucketName", "objectName")).thenReturn(
-        Collections.emptyList());
+    when(S3ConnectorAPI.streamObjects("bucketName", "objectName")).thenReturn(
+        Stream.empty());
     OVHCloudS3DataSource OVHCloudS3DataSource = Builder.newInstance(S3ConnectorAPI)
         .monitor(monitor)
         .bucketName("bucketName")
@@ -162,11 +200,8 @@ class OVHCloudS3DataSourceTest {
   @Test
   void openPartShouldSucceededIfObjectFoundWithoutPrefix() {
     // Given
-    when(S3ConnectorAPI.listObjects("bucketName", "objectName")).thenReturn(
-        List.of("objectName"));
-
-    when(S3ConnectorAPI.getObjectSize("bucketName", "objectName")).thenReturn(
-        1024L * 1024L);
+    when(S3ConnectorAPI.streamObjects("bucketName", "objectName")).thenReturn(
+        Stream.of(new S3ObjectMetadata("objectName", 1024L * 1024L, "etag", null)));
 
     OVHCloudS3DataSource OVHCloudS3DataSource = Builder.newInstance(S3ConnectorAPI)
         .monitor(monitor)
@@ -182,6 +217,115 @@ class OVHCloudS3DataSourceTest {
     result.getContent().forEach(part -> assertEquals("objectName", part.name()));
   }
 
+  @Test
+  void openPartShouldFilterObjectsModifiedOutOfTheBounds() {
+    // Given
+    when(S3ConnectorAPI.streamObjects("bucketName", "objectPrefix")).thenReturn(Stream.of(
+        new S3ObjectMetadata("objectPrefix/before", 1, "etag", modifiedAt("2024-01-01T09:59:59Z")),
+        new S3ObjectMetadata("objectPrefix/first", 1, "etag", modifiedAt("2024-01-01T10:00:00Z")),
+        new S3ObjectMetadata("objectPrefix/undated", 1, "etag", null),
+        new S3ObjectMetadata("objectPrefix/after", 1, "etag", modifiedAt("2024-01-01T11:00:00Z"))));
+
+    OVHCloudS3DataSource OVHCloudS3DataSource = Builder.newInstance(S3ConnectorAPI)
+        .monitor(monitor)
+        .bucketName("bucketName")
+        .objectPrefix("objectPrefix")
+        .modifiedAfter(Instant.parse("2024-01-01T10:00:00Z"))
+        .modifiedBefore(Instant.parse("2024-01-01T11:00:00Z"))
+        .build();
+
+    // When
+    var result = OVHCloudS3DataSource.openPartStream();
+
+    // Then
+    assertTrue(result.succeeded());
+    assertEquals(List.of("objectPrefix/first", "objectPrefix/undated"),
+        result.getContent().map(Part::name).toList());
+  }
+
+  @Test
+  void openPartShouldStartFromTheWatermarkAndCommitTheUpperBound() {
+    // Given
+    var watermarkStore = new S3WatermarkStore(null);
+    watermarkStore.put("hourly", Instant.parse("2024-01-01T10:00:00Z"));
+    when(S3ConnectorAPI.streamObjects("bucketName", "objectPrefix")).thenReturn(Stream.of(
+        new S3ObjectMetadata("objectPrefix/old", 1, "etag", modifiedAt("2024-01-01T09:00:00Z")),
+        new S3ObjectMetadata("objectPrefix/new", 1, "etag", modifiedAt("2024-01-01T10:30:00Z"))));
+
+    OVHCloudS3DataSource OVHCloudS3DataSource = Builder.newInstance(S3ConnectorAPI)
+        .monitor(monitor)
+        .bucketName("bucketName")
+        .objectPrefix("objectPrefix")
+        .modifiedBefore(Instant.parse("2024-01-01T11:00:00Z"))
+        .watermark("hourly", watermarkStore)
+        .build();
+
+    // When
+    var result = OVHCloudS3DataSource.openPartStream();
+
+    // Then
+    assertEquals(List.of("objectPrefix/new"), result.getContent().map(Part::name).toList());
+    assertEquals(Optional.of(Instant.parse("2024-01-01T10:00:00Z")), watermarkStore.get("hourly"));
+    OVHCloudS3DataSource.commitWatermark();
+    assertEquals(Optional.of(Instant.parse("2024-01-01T11:00:00Z")), watermarkStore.get("hourly"));
+  }
+
+  @Test
+  void openPartShouldLeaveTheObjectsModifiedWithinTheSafetyLagToTheNextFlow() {
+    // Given
+    var watermarkStore = new S3WatermarkStore(null, Duration.ofMinutes(15),
+        Clock.fixed(Instant.parse("2024-01-01T12:00:00Z"), ZoneOffset.UTC));
+    when(S3ConnectorAPI.streamObjects("bucketName", "objectPrefix")).thenReturn(Stream.of(
+        new S3ObjectMetadata("objectPrefix/old", 1, "etag", modifiedAt("2024-01-01T11:40:00Z")),
+        new S3ObjectMetadata("objectPrefix/undated", 1, "etag", null),
+        new S3ObjectMetadata("objectPrefix/new", 1, "etag", modifiedAt("2024-01-01T11:50:00Z"))));
+
+    OVHCloudS3DataSource OVHCloudS3DataSource = Builder.newInstance(S3ConnectorAPI)
+        .monitor(monitor)
+        .bucketName("bucketName")
+        .objectPrefix("objectPrefix")
+        .watermark("hourly", watermarkStore)
+        .build();
+
+    // When
+    assertTrue(OVHCloudS3DataSource.watermark().isEmpty());
+    var result = OVHCloudS3DataSource.openPartStream();
+
+    // Then
+    assertEquals(List.of("objectPrefix/old", "objectPrefix/undated"),
+        result.getContent().map(Part::name).toList());
+    assertEquals(Optional.of(Instant.parse("2024-01-01T11:45:00Z")),
+        OVHCloudS3DataSource.watermark());
+    OVHCloudS3DataSource.commitWatermark();
+    assertEquals(Optional.of(Instant.parse("2024-01-01T11:45:00Z")), watermarkStore.get("hourly"));
+  }
+
+  @Test
+  void openPartShouldSucceedWithNoPartWhenNoObjectWasModifiedSinceTheWatermark() {
+    // Given
+    var watermarkStore = new S3WatermarkStore(null);
+    watermarkStore.put("hourly", Instant.parse("2024-01-01T10:00:00Z"));
+    when(S3ConnectorAPI.streamObjects("bucketName", "objectPrefix")).thenReturn(Stream.of(
+        new S3ObjectMetadata("objectPrefix/old", 1, "etag", modifiedAt("2024-01-01T09:00:00Z"))));
+
+    OVHCloudS3DataSource OVHCloudS3DataSource = Builder.newInstance(S3ConnectorAPI)
+        .monitor(monitor)
+        .bucketName("bucketName")
+        .objectPrefix("objectPrefix")
+        .watermark("hourly", watermarkStore)
+        .build();
+
+    // When
+    var result = OVHCloudS3DataSource.openPartStream();
+
+    // Then
+    assertTrue(result.succeeded());
+    assertEquals(0, result.getContent().count());
+  }
+
+  private static ZonedDateTime modifiedAt(String instant) {
+    return ZonedDateTime.ofInstant(Instant.parse(instant), ZoneOffset.UTC);
+  }
 }
 
 class OVHCloudS3PartTest {
@@ -260,7 +404,7 @@ class OVHCloudS3PartTest {
   @Test
   void openStreamShouldReturnValidInputStreamIfObjectSizeIsLowerThanChunkSize() {
     // Given
-    when(S3ConnectorAPI.getObject("bucketName", "objectName"))
+    when(S3ConnectorAPI.getObjectStream("bucketName", "objectName"))
         .thenReturn(mock(ByteArrayInputStream.class));
 
     // When
@@ -275,7 +419,7 @@ class OVHCloudS3PartTest {
   @Test
   void openStreamShouldReturnValidInputStreamIfObjectSizeIsGreaterThanChunkSize() {
     // Given
-    when(S3ConnectorAPI.getObject("bucketName", "objectName"))
+    when(S3ConnectorAPI.getObjectStream("bucketName", "objectName"))
         .thenReturn(mock(ByteArrayInputStream.class));
 
     var OVHCloudS3Part2 = new OVHCloudS3Part(S3ConnectorAPI, "bucketName", "objectName", 0,
@@ -289,6 +433,52 @@ class OVHCloudS3PartTest {
     assertTrue(OVHCloudS3Part2.isClosed());
   }
 
+  @Test
+  void openStreamShouldReadRangesConcurrentlyWhenObjectIsLargerThanChunkSize() {
+    // Given
+    Executor executor = Runnable::run;
+    var part = new OVHCloudS3Part(S3ConnectorAPI, "bucketName", "objectName", 0, 2048L, executor,
+        1024L, 2, null);
+
+    // When
+    var result = part.openStream();
+
+    // Then
+    assertInstanceOf(OVHCloudS3RangedInputStream.class, result);
+    assertTrue(part.isClosed());
+  }
+
+  @Test
+  void openStreamShouldFailAtEndOfStreamWhenDataDoesNotMatchEtag() {
+    // Given
+    when(S3ConnectorAPI.getObjectStream("bucketName", "objectName"))
+        .thenReturn(new ByteArrayInputStream("data".getBytes()));
+    var part = new OVHCloudS3Part(S3ConnectorAPI, "bucketName", "objectName", 0, 4L, null, 4L, 1,
+        null, "\"d41d8cd98f00b204e9800998ecf8427e\"");
+
+    // When
+    var result = part.openStream();
+
+    // Then
+    assertInstanceOf(OVHCloudS3VerifyingInputStream.class, result);
+    assertThrows(IOException.class, result::readAllBytes);
+  }
+
+  @Test
+  void openStreamShouldNotVerifyDataWhenEtagIsThatOfAMultipartUpload() {
+    // Given
+    var inputStream = new ByteArrayInputStream("data".getBytes());
+    when(S3ConnectorAPI.getObjectStream("bucketName", "objectName")).thenReturn(inputStream);
+    var part = new OVHCloudS3Part(S3ConnectorAPI, "bucketName", "objectName", 0, 4L, null, 4L, 1,
+        null, "\"d41d8cd98f00b204e9800998ecf8427e-2\"");
+
+    // When
+    var result = part.openStream();
+
+    // Then
+    assertEquals(inputStream, result);
+  }
+
   @Test
   void openStreamWithOffsetAndSizeShouldReturnValidInputStreamWhenOffsetAndSizeAreOK() {
     // Given
@@ -0,0 +1,197 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ovhcloud.edc.extension.s3.api.S3Metrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OVHCloudS3ExecutorsTest {
+
+  private S3Metrics metrics;
+  private Monitor monitor;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    metrics = mock(S3Metrics.class);
+    when(metrics.monitorExecutor(anyString(), any())).thenAnswer(
+        invocation -> invocation.getArgument(1));
+    monitor = mock(Monitor.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void parseTypeShouldAcceptKnownTypesInAnyCase() {
+    assertEquals(OVHCloudS3Executors.VIRTUAL, OVHCloudS3Executors.parseType(" Virtual "));
+    assertEquals(OVHCloudS3Executors.FIXED, OVHCloudS3Executors.parseType(null));
+    assertThrows(EdcException.class, () -> OVHCloudS3Executors.parseType("unknown"));
+  }
+
+  @Test
+  void fixedShouldRunTasksInTheSubmittingThreadWhenItsQueueIsFull() throws Exception {
+    executor = OVHCloudS3Executors.fixed("sink", 1, 1, metrics);
+    var release = new CountDownLatch(1);
+    executor.execute(() -> await(release));
+    executor.execute(() -> {
+    });
+
+    var thread = new AtomicReference<Thread>();
+    executor.execute(() -> thread.set(Thread.currentThread()));
+
+    assertSame(Thread.currentThread(), thread.get());
+    verify(metrics).executorSaturated("sink");
+    verify(metrics).monitorExecutor("sink", executor);
+    release.countDown();
+  }
+
+  @Test
+  void virtualShouldBoundTheTasksRunningAtTheSameTime() throws Exception {
+    executor = OVHCloudS3Executors.virtual("sink", 2, 0, metrics, monitor);
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+    var futures = new ArrayList<CompletableFuture<Void>>();
+
+    for (var i = 0; i < 10; i++) {
+      futures.add(CompletableFuture.runAsync(() -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        sleep(20);
+        running.decrementAndGet();
+      }, executor));
+    }
+
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+    assertTrue(maxRunning.get() <= 2);
+  }
+
+  @Test
+  void boundedExecutorShouldMakeTheSubmittingThreadWaitWhenSaturated() throws Exception {
+    executor = new OVHCloudS3Executors.BoundedExecutorService(Executors.newCachedThreadPool(), 1,
+        "sink", metrics);
+    var release = new CountDownLatch(1);
+    executor.execute(() -> await(release));
+
+    var submitted = CompletableFuture.runAsync(() -> executor.execute(() -> {
+    }));
+
+    verify(metrics, timeout(5000)).executorSaturated("sink");
+    assertFalse(submitted.isDone());
+    release.countDown();
+    submitted.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void limitShouldQueueTheTasksBeyondTheLimitWithoutBlockingTheSubmittingThread()
+      throws Exception {
+    executor = Executors.newFixedThreadPool(4);
+    var limited = OVHCloudS3Executors.limit(executor, 1);
+    var release = new CountDownLatch(1);
+    var first = CompletableFuture.runAsync(() -> await(release), limited);
+    var second = CompletableFuture.runAsync(() -> {
+    }, limited);
+
+    sleep(50);
+    assertFalse(second.isDone());
+    release.countDown();
+    CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void shutdownOfALimitedViewShouldNotShutDownTheSharedExecutor() throws Exception {
+    executor = Executors.newFixedThreadPool(1);
+    var limited = OVHCloudS3Executors.limit(executor, 2);
+    var completed = new AtomicInteger();
+    limited.execute(() -> {
+      sleep(50);
+      completed.incrementAndGet();
+    });
+
+    limited.shutdown();
+
+    assertTrue(limited.awaitTermination(5, TimeUnit.SECONDS));
+    assertEquals(1, completed.get());
+    assertFalse(executor.isShutdown());
+    assertThrows(RejectedExecutionException.class, () -> limited.execute(() -> {
+    }));
+  }
+
+  @Test
+  void shutdownShouldLetTheRunningTasksComplete() {
+    executor = OVHCloudS3Executors.fixed("sink", 1, 0, metrics);
+    var completed = new AtomicInteger();
+    executor.execute(() -> {
+      sleep(100);
+      completed.incrementAndGet();
+    });
+
+    OVHCloudS3Executors.shutdown("sink", executor, Duration.ofSeconds(5), monitor);
+
+    assertTrue(executor.isTerminated());
+    assertEquals(1, completed.get());
+    assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+    }));
+  }
+
+  @Test
+  void shutdownShouldInterruptTheTasksStillRunningAfterTheTimeout() throws Exception {
+    executor = OVHCloudS3Executors.fixed("sink", 1, 0, metrics);
+    var interrupted = new CountDownLatch(1);
+    executor.execute(() -> {
+      try {
+        new CountDownLatch(1).await();
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+    });
+
+    OVHCloudS3Executors.shutdown("sink", executor, Duration.ofMillis(50), monitor);
+
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    verify(monitor).warning(anyString());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class OVHCloudS3MemoryBudgetTest {
+
+  @Test
+  void tryReserveShouldFailWhenBudgetIsExhausted() {
+    var memoryBudget = new OVHCloudS3MemoryBudget(4096L);
+
+    assertTrue(memoryBudget.tryReserve(3000L));
+    assertFalse(memoryBudget.tryReserve(2048L));
+
+    memoryBudget.release(3000L);
+    assertEquals(4096L, memoryBudget.available());
+  }
+
+  @Test
+  void reserveShouldCapReservationsLargerThanBudget() throws InterruptedException {
+    var memoryBudget = new OVHCloudS3MemoryBudget(1024L);
+
+    memoryBudget.reserve(1024L * 1024L);
+    assertEquals(0, memoryBudget.available());
+
+    memoryBudget.release(1024L * 1024L);
+    assertEquals(1024L, memoryBudget.available());
+  }
+
+  @Test
+  void constructorShouldThrowWhenBudgetIsNotPositive() {
+    assertThrows(IllegalArgumentException.class, () -> new OVHCloudS3MemoryBudget(0));
+  }
+}
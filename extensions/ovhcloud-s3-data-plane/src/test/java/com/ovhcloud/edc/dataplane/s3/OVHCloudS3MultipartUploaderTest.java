@@ -0,0 +1,289 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ovhcloud.edc.extension.s3.api.AsyncS3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.S3BufferPool;
+import com.ovhcloud.edc.extension.s3.api.S3CompletedPart;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIImpl;
+import com.ovhcloud.edc.extension.s3.api.S3Metrics;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class OVHCloudS3MultipartUploaderTest {
+
+  private static final int CHUNK_SIZE = (int) OVHCloudS3MultipartUploader.MIN_CHUNK_SIZE;
+
+  private S3ConnectorAPIImpl s3ConnectorAPI;
+  private Monitor monitor;
+  private ExecutorService executorService;
+  private OVHCloudS3MultipartUploader uploader;
+
+  @BeforeEach
+  void setUp() {
+    s3ConnectorAPI = mock(S3ConnectorAPIImpl.class);
+    monitor = mock(Monitor.class);
+    executorService = Executors.newFixedThreadPool(2);
+    uploader = OVHCloudS3MultipartUploader.Builder.newInstance()
+        .client(s3ConnectorAPI)
+        .monitor(monitor)
+        .executor(executorService)
+        .chunkSize(CHUNK_SIZE)
+        .maxConcurrentChunks(2)
+        .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void uploadShouldPutObjectWhenStreamIsSmallerThanAChunk() {
+    uploader.upload("bucketName", "objectName", new ByteArrayInputStream(new byte[1024]), -1);
+
+    verify(s3ConnectorAPI, times(1)).putObject(eq("bucketName"), eq("objectName"),
+        any(InputStream.class), eq(1024L), any());
+    verify(s3ConnectorAPI, never()).createMultipartUpload(any(), any());
+  }
+
+  @Test
+  void uploadShouldSplitStreamOfUnknownSizeIntoChunks() {
+    when(s3ConnectorAPI.createMultipartUpload("bucketName", "objectName")).thenReturn("uploadId");
+    when(s3ConnectorAPI.uploadPart(eq("bucketName"), eq("objectName"), eq("uploadId"), anyInt(),
+        any(byte[].class), anyInt(), any()))
+        .thenAnswer(invocation -> "etag" + invocation.getArgument(3));
+
+    var data = new byte[2 * CHUNK_SIZE + 10];
+    uploader.upload("bucketName", "objectName", new ByteArrayInputStream(data), -1);
+
+    verify(s3ConnectorAPI, times(3)).uploadPart(eq("bucketName"), eq("objectName"),
+        eq("uploadId"), anyInt(), any(byte[].class), anyInt(), any());
+    verify(s3ConnectorAPI).uploadPart(eq("bucketName"), eq("objectName"), eq("uploadId"), eq(3),
+        any(byte[].class), eq(10), any());
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<S3CompletedPart>> parts = ArgumentCaptor.forClass(List.class);
+    verify(s3ConnectorAPI).completeMultipartUpload(eq("bucketName"), eq("objectName"),
+        eq("uploadId"), parts.capture());
+    assertEquals(List.of(
+        new S3CompletedPart(1, "etag1"),
+        new S3CompletedPart(2, "etag2"),
+        new S3CompletedPart(3, "etag3")), parts.getValue());
+  }
+
+  @Test
+  void uploadShouldAbortMultipartUploadWhenAChunkFails() {
+    when(s3ConnectorAPI.createMultipartUpload("bucketName", "objectName")).thenReturn("uploadId");
+    when(s3ConnectorAPI.uploadPart(eq("bucketName"), eq("objectName"), eq("uploadId"), anyInt(),
+        any(byte[].class), anyInt(), any())).thenThrow(new EdcException("upload failed"));
+
+    var data = new ByteArrayInputStream(new byte[3 * CHUNK_SIZE]);
+
+    assertThrows(EdcException.class,
+        () -> uploader.upload("bucketName", "objectName", data, -1));
+    verify(s3ConnectorAPI, times(1)).abortMultipartUpload("bucketName", "objectName", "uploadId");
+    verify(s3ConnectorAPI, never()).completeMultipartUpload(any(), any(), any(), anyList());
+  }
+
+  @Test
+  void uploadShouldSendChunksWithAsyncClientWhenSet() {
+    var asyncS3ConnectorAPI = mock(AsyncS3ConnectorAPI.class);
+    var asyncUploader = OVHCloudS3MultipartUploader.Builder.newInstance()
+        .client(s3ConnectorAPI)
+        .asyncClient(asyncS3ConnectorAPI)
+        .monitor(monitor)
+        .chunkSize(CHUNK_SIZE)
+        .maxConcurrentChunks(2)
+        .build();
+    when(s3ConnectorAPI.createMultipartUpload("bucketName", "objectName")).thenReturn("uploadId");
+    when(asyncS3ConnectorAPI.uploadPart(eq("bucketName"), eq("objectName"), eq("uploadId"),
+        anyInt(), any(byte[].class), anyInt(), any())).thenAnswer(
+        invocation -> CompletableFuture.completedFuture("etag" + invocation.getArgument(3)));
+
+    var data = new byte[CHUNK_SIZE + 10];
+    asyncUploader.upload("bucketName", "objectName", new ByteArrayInputStream(data), -1);
+
+    verify(asyncS3ConnectorAPI, times(2)).uploadPart(eq("bucketName"), eq("objectName"),
+        eq("uploadId"), anyInt(), any(byte[].class), anyInt(), any());
+    verify(s3ConnectorAPI, never()).uploadPart(any(), any(), any(), anyInt(), any(), anyInt(),
+        any());
+    verify(s3ConnectorAPI).completeMultipartUpload("bucketName", "objectName", "uploadId",
+        List.of(new S3CompletedPart(1, "etag1"), new S3CompletedPart(2, "etag2")));
+  }
+
+  @Test
+  void uploadShouldReleaseTheBuffersOfTheChunksToThePool() {
+    var metrics = mock(S3Metrics.class);
+    var bufferPool = new S3BufferPool(4L * CHUNK_SIZE, metrics, null);
+    var pooledUploader = OVHCloudS3MultipartUploader.Builder.newInstance()
+        .client(s3ConnectorAPI)
+        .monitor(monitor)
+        .executor(executorService)
+        .chunkSize(CHUNK_SIZE)
+        .maxConcurrentChunks(2)
+        .bufferPool(bufferPool)
+        .build();
+    when(s3ConnectorAPI.createMultipartUpload("bucketName", "objectName")).thenReturn("uploadId");
+    when(s3ConnectorAPI.uploadPart(eq("bucketName"), eq("objectName"), eq("uploadId"), anyInt(),
+        any(byte[].class), anyInt(), any()))
+        .thenAnswer(invocation -> "etag" + invocation.getArgument(3));
+
+    var data = new byte[3 * CHUNK_SIZE + 10];
+    pooledUploader.upload("bucketName", "objectName", new ByteArrayInputStream(data), -1);
+
+    verify(s3ConnectorAPI).uploadPart(eq("bucketName"), eq("objectName"), eq("uploadId"), eq(4),
+        any(byte[].class), eq(10), any());
+    // At most the chunks in flight and the one being read hold a buffer at the same time
+    verify(metrics, atMost(3)).bufferAllocated(anyLong(), eq(true));
+    clearInvocations(metrics);
+    try (var first = bufferPool.acquire(CHUNK_SIZE); var second = bufferPool.acquire(CHUNK_SIZE)) {
+      verify(metrics, never()).bufferAllocated(anyLong(), eq(true));
+    }
+  }
+
+  @Test
+  void uploadShouldOnlyTakeABufferOfTheSizeOfASmallStream() {
+    var metrics = mock(S3Metrics.class);
+    var pooledUploader = OVHCloudS3MultipartUploader.Builder.newInstance()
+        .client(s3ConnectorAPI)
+        .monitor(monitor)
+        .chunkSize(CHUNK_SIZE)
+        .bufferPool(new S3BufferPool(4L * CHUNK_SIZE, metrics, null))
+        .build();
+
+    pooledUploader.upload("bucketName", "objectName", new ByteArrayInputStream(new byte[1024]),
+        1024);
+
+    verify(s3ConnectorAPI).putObject(eq("bucketName"), eq("objectName"), any(InputStream.class),
+        eq(1024L), any());
+    verify(metrics).bufferAllocated(64L * 1024L, true);
+    verify(metrics, never()).bufferAllocated(eq((long) CHUNK_SIZE), eq(true));
+  }
+
+  @Test
+  void uploadShouldSplitStreamLongerThanItsAnnouncedSizeIntoChunks() {
+    when(s3ConnectorAPI.createMultipartUpload("bucketName", "objectName")).thenReturn("uploadId");
+    when(s3ConnectorAPI.uploadPart(eq("bucketName"), eq("objectName"), eq("uploadId"), anyInt(),
+        any(byte[].class), anyInt(), any()))
+        .thenAnswer(invocation -> "etag" + invocation.getArgument(3));
+
+    var data = new byte[CHUNK_SIZE + 10];
+    data[CHUNK_SIZE - 1] = 1;
+    uploader.upload("bucketName", "objectName", new ByteArrayInputStream(data), 1024);
+
+    var chunk = ArgumentCaptor.forClass(byte[].class);
+    verify(s3ConnectorAPI).uploadPart(eq("bucketName"), eq("objectName"), eq("uploadId"), eq(1),
+        chunk.capture(), eq(CHUNK_SIZE), any());
+    assertEquals(1, chunk.getValue()[CHUNK_SIZE - 1]);
+    verify(s3ConnectorAPI).uploadPart(eq("bucketName"), eq("objectName"), eq("uploadId"), eq(2),
+        any(byte[].class), eq(10), any());
+    verify(s3ConnectorAPI, never()).putObject(any(), any(), any(InputStream.class), anyLong(),
+        any());
+  }
+
+  @Test
+  void chunkSizeForShouldGrowChunksSoThatObjectFitsInMaximumNumberOfParts() {
+    var size = (long) OVHCloudS3MultipartUploader.MAX_PARTS * CHUNK_SIZE * 2;
+
+    assertEquals(CHUNK_SIZE, uploader.chunkSizeFor(-1));
+    assertEquals(CHUNK_SIZE, uploader.chunkSizeFor(CHUNK_SIZE));
+    assertEquals(2L * CHUNK_SIZE, uploader.chunkSizeFor(size));
+  }
+
+  @Test
+  void uploadShouldSendTheDigestOfAnObjectPutWithSingleRequest() throws Exception {
+    var data = "data".getBytes();
+
+    verifyingUploader().upload("bucketName", "objectName", new ByteArrayInputStream(data), -1);
+
+    var contentMd5 = ArgumentCaptor.forClass(byte[].class);
+    verify(s3ConnectorAPI).putObject(eq("bucketName"), eq("objectName"), any(InputStream.class),
+        eq((long) data.length), contentMd5.capture());
+    assertArrayEquals(md5(data), contentMd5.getValue());
+  }
+
+  @Test
+  void uploadShouldNotCompareEtagOfEncryptedObjectWithDigest() {
+    // The ETag of an object encrypted by the bucket is not the MD5 digest of its data
+    when(s3ConnectorAPI.putObject(eq("bucketName"), eq("objectName"), any(InputStream.class),
+        eq(4L), any())).thenReturn("\"d41d8cd98f00b204e9800998ecf8427e\"");
+
+    verifyingUploader().upload("bucketName", "objectName",
+        new ByteArrayInputStream("data".getBytes()), -1);
+  }
+
+  @Test
+  void uploadShouldSendTheDigestsOfTheParts() throws Exception {
+    var data = new byte[CHUNK_SIZE + 10];
+    Arrays.fill(data, (byte) 1);
+    when(s3ConnectorAPI.createMultipartUpload("bucketName", "objectName")).thenReturn("uploadId");
+    when(s3ConnectorAPI.uploadPart(eq("bucketName"), eq("objectName"), eq("uploadId"), anyInt(),
+        any(byte[].class), anyInt(), any())).thenReturn("d41d8cd98f00b204e9800998ecf8427e");
+
+    verifyingUploader().upload("bucketName", "objectName", new ByteArrayInputStream(data), -1);
+
+    verify(s3ConnectorAPI).uploadPart(eq("bucketName"), eq("objectName"), eq("uploadId"), eq(1),
+        any(byte[].class), eq(CHUNK_SIZE), eq(md5(Arrays.copyOf(data, CHUNK_SIZE))));
+    verify(s3ConnectorAPI).uploadPart(eq("bucketName"), eq("objectName"), eq("uploadId"), eq(2),
+        any(byte[].class), eq(10), eq(md5(Arrays.copyOfRange(data, CHUNK_SIZE, data.length))));
+    verify(s3ConnectorAPI).completeMultipartUpload(eq("bucketName"), eq("objectName"),
+        eq("uploadId"), anyList());
+    verify(s3ConnectorAPI, never()).abortMultipartUpload(any(), any(), any());
+  }
+
+  @Test
+  void uploadShouldAbortMultipartUploadWhenThePartIsRejectedByTheBucket() {
+    when(s3ConnectorAPI.createMultipartUpload("bucketName", "objectName")).thenReturn("uploadId");
+    when(s3ConnectorAPI.uploadPart(eq("bucketName"), eq("objectName"), eq("uploadId"), anyInt(),
+        any(byte[].class), anyInt(), any())).thenThrow(new EdcException("BadDigest"));
+    var verifyingUploader = verifyingUploader();
+    var data = new ByteArrayInputStream(new byte[CHUNK_SIZE + 10]);
+
+    assertThrows(EdcException.class,
+        () -> verifyingUploader.upload("bucketName", "objectName", data, -1));
+    verify(s3ConnectorAPI, times(1)).abortMultipartUpload("bucketName", "objectName", "uploadId");
+    verify(s3ConnectorAPI, never()).completeMultipartUpload(any(), any(), any(), anyList());
+  }
+
+  private OVHCloudS3MultipartUploader verifyingUploader() {
+    return OVHCloudS3MultipartUploader.Builder.newInstance()
+        .client(s3ConnectorAPI)
+        .monitor(monitor)
+        .executor(executorService)
+        .chunkSize(CHUNK_SIZE)
+        .maxConcurrentChunks(2)
+        .verifyIntegrity(true)
+        .build();
+  }
+
+  private static byte[] md5(byte[] data) throws Exception {
+    return MessageDigest.getInstance("MD5").digest(data);
+  }
+}
@@ -0,0 +1,67 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part;
+import org.junit.jupiter.api.Test;
+
+class OVHCloudS3PartSchedulerTest {
+
+  @Test
+  void nextShouldHandOutTheLargestPartsFirst() {
+    var scheduler = new OVHCloudS3PartScheduler(parts(1, 50, -1, 10, 1000).iterator(), 10);
+
+    assertEquals(5, scheduler.prefetch());
+    assertEquals(List.of(-1L, 1000L, 50L, 10L, 1L), sizes(scheduler));
+  }
+
+  @Test
+  void nextShouldReadTheNextPartsOnceHalfOfTheWindowIsHandedOut() {
+    var scheduler = new OVHCloudS3PartScheduler(parts(1, 2, 3, 4, 100, 5).iterator(), 4);
+
+    assertEquals(4, scheduler.prefetch());
+    assertEquals(4, scheduler.next().size());
+    assertEquals(3, scheduler.next().size());
+    assertEquals(100, scheduler.next().size());
+    assertEquals(List.of(5L, 2L, 1L), sizes(scheduler));
+  }
+
+  @Test
+  void stopShouldStopHandingOutParts() {
+    var scheduler = new OVHCloudS3PartScheduler(parts(1, 2, 3).iterator(), 10);
+    scheduler.next();
+
+    scheduler.stop();
+
+    assertNull(scheduler.next());
+  }
+
+  @Test
+  void constructorShouldRejectAnEmptyWindow() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new OVHCloudS3PartScheduler(parts().iterator(), 0));
+  }
+
+  private static List<Part> parts(long... sizes) {
+    return LongStream.of(sizes).mapToObj(size -> {
+      var part = mock(Part.class);
+      when(part.size()).thenReturn(size);
+      return part;
+    }).toList();
+  }
+
+  private static List<Long> sizes(OVHCloudS3PartScheduler scheduler) {
+    var sizes = new ArrayList<Long>();
+    for (var part = scheduler.next(); part != null; part = scheduler.next()) {
+      sizes.add(part.size());
+    }
+    return sizes;
+  }
+}
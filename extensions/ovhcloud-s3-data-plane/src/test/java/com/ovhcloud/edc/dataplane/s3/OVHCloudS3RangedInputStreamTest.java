@@ -0,0 +1,221 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ovhcloud.edc.extension.s3.api.S3BufferPool;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.S3Metrics;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OVHCloudS3RangedInputStreamTest {
+
+  private static final byte[] DATA = "0123456789".getBytes();
+
+  private S3ConnectorAPI client;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    client = mock(S3ConnectorAPI.class);
+    when(client.getObjectStream(eq("bucketName"), eq("objectName"), anyLong(), anyLong()))
+        .thenAnswer(invocation -> {
+          int offset = (int) (long) invocation.getArgument(2);
+          int length = (int) (long) invocation.getArgument(3);
+          return new ByteArrayInputStream(Arrays.copyOfRange(DATA, offset, offset + length));
+        });
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void readShouldReturnRangesInOrder() throws IOException {
+    try (var inputStream = rangedInputStream(DATA.length)) {
+      assertArrayEquals(DATA, inputStream.readAllBytes());
+    }
+
+    verify(client, times(4)).getObjectStream(eq("bucketName"), eq("objectName"), anyLong(),
+        anyLong());
+    verify(client).getObjectStream("bucketName", "objectName", 9L, 1L);
+    // The ranges are streamed, never buffered by the client
+    verify(client, never()).getObject(eq("bucketName"), eq("objectName"), anyLong(), anyLong());
+  }
+
+  @Test
+  void readShouldReturnEndOfStreamForEmptyObject() throws IOException {
+    try (var inputStream = rangedInputStream(0)) {
+      assertEquals(-1, inputStream.read());
+    }
+  }
+
+  @Test
+  void readShouldThrowIOExceptionWhenRangeDownloadFails() {
+    when(client.getObjectStream("bucketName", "objectName", 3L, 3L))
+        .thenThrow(EdcException.class);
+
+    try (var inputStream = rangedInputStream(DATA.length)) {
+      assertThrows(IOException.class, inputStream::readAllBytes);
+    }
+  }
+
+  @Test
+  void readShouldThrowIOExceptionWhenStreamIsClosed() {
+    var inputStream = rangedInputStream(DATA.length);
+    inputStream.close();
+
+    assertThrows(IOException.class, inputStream::read);
+  }
+
+  @Test
+  void readShouldNotReadAheadWhenMemoryBudgetIsExhausted() throws IOException {
+    var memoryBudget = new OVHCloudS3MemoryBudget(1024L);
+
+    var inputStream = OVHCloudS3RangedInputStream.Builder.newInstance()
+        .client(client)
+        .bucketName("bucketName")
+        .objectName("objectName")
+        .size(DATA.length)
+        .chunkSize(3)
+        .maxConcurrentChunks(2)
+        .executor(Runnable::run)
+        .memoryBudget(memoryBudget)
+        .build();
+
+    assertEquals('0', inputStream.read());
+    verify(client, times(1)).getObjectStream(eq("bucketName"), eq("objectName"), anyLong(),
+        anyLong());
+    assertEquals(0, memoryBudget.available());
+
+    assertArrayEquals("123456789".getBytes(), inputStream.readAllBytes());
+    inputStream.close();
+    assertEquals(1024L, memoryBudget.available());
+  }
+
+  @Test
+  void closeShouldKeepTheBudgetOfARangeUntilItsDownloadEnds() throws Exception {
+    var memoryBudget = new OVHCloudS3MemoryBudget(2048L);
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    when(client.getObjectStream("bucketName", "objectName", 3L, 3L)).thenAnswer(invocation -> {
+      started.countDown();
+      release.await();
+      return new ByteArrayInputStream(Arrays.copyOfRange(DATA, 3, 6));
+    });
+
+    var inputStream = OVHCloudS3RangedInputStream.Builder.newInstance()
+        .client(client)
+        .bucketName("bucketName")
+        .objectName("objectName")
+        .size(DATA.length)
+        .chunkSize(3)
+        .maxConcurrentChunks(2)
+        .executor(executor)
+        .memoryBudget(memoryBudget)
+        .build();
+    assertEquals('0', inputStream.read());
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    inputStream.close();
+
+    // The range still downloading holds its memory until its download ends
+    assertEquals(1024L, memoryBudget.available());
+    release.countDown();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertEquals(2048L, memoryBudget.available());
+  }
+
+  @Test
+  void readShouldReleaseTheBuffersOfTheRangesToThePool() throws IOException {
+    var metrics = mock(S3Metrics.class);
+    var bufferPool = new S3BufferPool(1024L * 1024L, metrics, null);
+
+    try (var inputStream = OVHCloudS3RangedInputStream.Builder.newInstance()
+        .client(client)
+        .bucketName("bucketName")
+        .objectName("objectName")
+        .size(DATA.length)
+        .chunkSize(3)
+        .maxConcurrentChunks(2)
+        .executor(executor)
+        .bufferPool(bufferPool)
+        .build()) {
+      assertArrayEquals(DATA, inputStream.readAllBytes());
+    }
+
+    // At most the current range and the two read ahead hold a buffer at the same time
+    verify(metrics, atMost(3)).bufferAllocated(anyLong(), eq(true));
+    clearInvocations(metrics);
+    try (var first = bufferPool.acquire(3); var second = bufferPool.acquire(3)) {
+      verify(metrics, never()).bufferAllocated(anyLong(), eq(true));
+    }
+  }
+
+  @Test
+  void readShouldNotAllocateBuffersOnceThePoolIsWarm() throws IOException {
+    var metrics = mock(S3Metrics.class);
+    var bufferPool = new S3BufferPool(1024L * 1024L, metrics, null);
+    try (var inputStream = pooledRangedInputStream(bufferPool)) {
+      inputStream.readAllBytes();
+    }
+    clearInvocations(metrics);
+
+    try (var inputStream = pooledRangedInputStream(bufferPool)) {
+      assertArrayEquals(DATA, inputStream.readAllBytes());
+    }
+
+    // Each range is read into a pooled buffer, without any array allocated for it
+    verify(metrics, never()).bufferAllocated(anyLong(), anyBoolean());
+    verify(client, never()).getObject(eq("bucketName"), eq("objectName"), anyLong(), anyLong());
+  }
+
+  private OVHCloudS3RangedInputStream pooledRangedInputStream(S3BufferPool bufferPool) {
+    return OVHCloudS3RangedInputStream.Builder.newInstance()
+        .client(client)
+        .bucketName("bucketName")
+        .objectName("objectName")
+        .size(DATA.length)
+        .chunkSize(3)
+        .maxConcurrentChunks(2)
+        .executor(executor)
+        .bufferPool(bufferPool)
+        .build();
+  }
+
+  private OVHCloudS3RangedInputStream rangedInputStream(long size) {
+    return OVHCloudS3RangedInputStream.Builder.newInstance()
+        .client(client)
+        .bucketName("bucketName")
+        .objectName("objectName")
+        .size(size)
+        .chunkSize(3)
+        .maxConcurrentChunks(2)
+        .executor(executor)
+        .build();
+  }
+}
@@ -0,0 +1,90 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.ovhcloud.edc.dataplane.s3.OVHCloudS3DataSource.OVHCloudS3Part;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.S3ObjectMetadata;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OVHCloudS3SyncFilterTest {
+
+  private static final String MD5 = "0123456789abcdef0123456789abcdef";
+  private static final String OTHER_MD5 = "fedcba9876543210fedcba9876543210";
+  private static final ZonedDateTime NOW = ZonedDateTime.parse("2024-05-01T10:00:00Z");
+
+  private S3ConnectorAPI client;
+
+  @BeforeEach
+  void setUp() {
+    client = mock(S3ConnectorAPI.class);
+  }
+
+  @Test
+  void testShouldSkipOnlyTheUnchangedObjectsOfTheDestination() {
+    var destination = List.of(
+        new S3ObjectMetadata("backup/a", 10, MD5, NOW),
+        new S3ObjectMetadata("backup/b", 10, MD5, NOW),
+        new S3ObjectMetadata("backup/c", 10, MD5, NOW),
+        new S3ObjectMetadata("backup/z", 10, MD5, NOW));
+    var filter = new OVHCloudS3SyncFilter(destination.iterator(), part -> "backup/" + part.name());
+
+    var transferred = Stream.of(
+            part("a", 10, MD5, NOW),
+            part("b", 11, MD5, NOW),
+            part("c", 10, OTHER_MD5, NOW),
+            part("d", 10, MD5, NOW),
+            part("z", 10, MD5, NOW))
+        .filter(filter)
+        .map(Part::name)
+        .toList();
+
+    assertEquals(List.of("b", "c", "d"), transferred);
+    assertEquals(2, filter.skipped());
+  }
+
+  @Test
+  void testShouldTransferThePartsNotReadFromABucket() {
+    var filter = new OVHCloudS3SyncFilter(
+        List.of(new S3ObjectMetadata("a", 10, MD5, NOW)).iterator(), Part::name);
+    var part = mock(Part.class);
+
+    assertTrue(filter.test(part));
+  }
+
+  @Test
+  void isUnchangedShouldCompareTheDatesWhenTheEtagsAreThoseOfMultipartUploads() {
+    var source = part("a", 10, MD5 + "-3", NOW);
+
+    assertTrue(OVHCloudS3SyncFilter.isUnchanged(source,
+        new S3ObjectMetadata("a", 10, OTHER_MD5 + "-2", NOW.plusHours(1))));
+    assertTrue(OVHCloudS3SyncFilter.isUnchanged(source,
+        new S3ObjectMetadata("a", 10, "\"" + MD5.toUpperCase() + "-3\"", NOW.minusHours(1))));
+    assertFalse(OVHCloudS3SyncFilter.isUnchanged(source,
+        new S3ObjectMetadata("a", 10, OTHER_MD5 + "-2", NOW.minusHours(1))));
+    assertFalse(OVHCloudS3SyncFilter.isUnchanged(part("a", 10, MD5, NOW),
+        new S3ObjectMetadata("a", 10, OTHER_MD5, NOW.plusHours(1))));
+  }
+
+  @Test
+  void compareKeysShouldFollowTheOrderOfTheUtf8Encoding() {
+    // U+1F600 is encoded as F0 9F 98 80, after U+FFFD encoded as EF BF BD
+    assertTrue(OVHCloudS3SyncFilter.compareKeys("a\uFFFD", "a\uD83D\uDE00") < 0);
+    assertTrue("a\uFFFD".compareTo("a\uD83D\uDE00") > 0);
+    assertTrue(OVHCloudS3SyncFilter.compareKeys("ab", "abc") < 0);
+    assertEquals(0, OVHCloudS3SyncFilter.compareKeys("abc", "abc"));
+  }
+
+  private OVHCloudS3Part part(String name, long size, String etag, ZonedDateTime lastModified) {
+    return new OVHCloudS3Part(client, "bucket", new S3ObjectMetadata(name, size, etag,
+        lastModified), null, size, 1, null, false, null);
+  }
+}
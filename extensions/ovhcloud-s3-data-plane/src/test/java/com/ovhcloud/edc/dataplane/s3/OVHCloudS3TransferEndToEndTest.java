@@ -0,0 +1,154 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ovhcloud.edc.extension.s3.api.AsyncS3ConnectorAPIImpl;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPI;
+import com.ovhcloud.edc.extension.s3.api.S3ConnectorAPIImpl;
+import com.ovhcloud.edc.extension.s3.utils.MinioClientBuilderImpl;
+import com.ovhcloud.edc.testfixtures.S3StandInServer;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Transfers objects between buckets of an in-process S3 stand-in server, through the real MinIO
+ * clients: listing, ranged downloads, multipart uploads, server-side copies and batch deletes.
+ */
+class OVHCloudS3TransferEndToEndTest {
+
+  private static final String SOURCE_BUCKET = "source";
+  private static final String DESTINATION_BUCKET = "destination";
+  private static final int CHUNK_SIZE = 5 * 1024 * 1024;
+
+  private final Monitor monitor = new Monitor() {
+  };
+
+  private S3StandInServer server;
+  private ExecutorService executorService;
+  private S3ConnectorAPI client;
+  private OVHCloudS3MultipartUploader multipartUploader;
+  private byte[] largeObject;
+  private byte[] smallObject;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = S3StandInServer.start();
+    // Unbounded, as the sink tasks wait for the ranges and the chunks running on the same pool
+    executorService = Executors.newCachedThreadPool();
+
+    var builder = MinioClientBuilderImpl.builder()
+        .endpoint(server.endpoint())
+        .allowedEndpoints(Set.of(server.endpoint()))
+        .credentials("accessKey", "secretKey");
+    var asyncMinioClient = builder.buildAsync();
+    client = new S3ConnectorAPIImpl(builder.build(), asyncMinioClient, monitor);
+    multipartUploader = OVHCloudS3MultipartUploader.Builder.newInstance()
+        .client(client)
+        .asyncClient(new AsyncS3ConnectorAPIImpl(asyncMinioClient, monitor))
+        .monitor(monitor)
+        .executor(executorService)
+        .chunkSize(CHUNK_SIZE)
+        .maxConcurrentChunks(2)
+        .verifyIntegrity(true)
+        .build();
+
+    var random = new Random(42);
+    largeObject = new byte[2 * CHUNK_SIZE + 1024];
+    random.nextBytes(largeObject);
+    smallObject = new byte[1024];
+    random.nextBytes(smallObject);
+
+    server.putObject(SOURCE_BUCKET, "dataset/large", largeObject);
+    server.putObject(SOURCE_BUCKET, "dataset/small", smallObject);
+    server.createBucket(DESTINATION_BUCKET);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+    server.close();
+  }
+
+  @Test
+  void transferShouldDownloadRangesAndUploadMultipart() throws Exception {
+    var result = sink(false).transfer(source()).get();
+
+    assertTrue(result.succeeded(), () -> String.valueOf(result.getFailureDetail()));
+    assertArrayEquals(largeObject, server.getObject(DESTINATION_BUCKET, "copy/dataset/large"));
+    assertArrayEquals(smallObject, server.getObject(DESTINATION_BUCKET, "copy/dataset/small"));
+    // The large object is uploaded in 3 parts, its ETag is the one of a multipart upload
+    assertTrue(server.getObjectEtag(DESTINATION_BUCKET, "copy/dataset/large").endsWith("-3\""));
+    assertEquals(0, server.pendingUploadCount());
+  }
+
+  @Test
+  void transferShouldCopyObjectsServerSide() throws Exception {
+    var result = sink(true).transfer(source()).get();
+
+    assertTrue(result.succeeded(), () -> String.valueOf(result.getFailureDetail()));
+    assertArrayEquals(largeObject, server.getObject(DESTINATION_BUCKET, "copy/dataset/large"));
+    assertArrayEquals(smallObject, server.getObject(DESTINATION_BUCKET, "copy/dataset/small"));
+    assertEquals(server.getObjectEtag(SOURCE_BUCKET, "dataset/large"),
+        server.getObjectEtag(DESTINATION_BUCKET, "copy/dataset/large"));
+  }
+
+  @Test
+  void transferShouldFailWhenNoObjectMatchesThePrefix() throws Exception {
+    var source = OVHCloudS3DataSource.Builder.newInstance(client)
+        .monitor(monitor)
+        .bucketName(SOURCE_BUCKET)
+        .objectPrefix("missing/")
+        .build();
+
+    var result = sink(false).transfer(source).get();
+
+    assertTrue(result.failed());
+    assertEquals(0, server.objectCount(DESTINATION_BUCKET));
+  }
+
+  @Test
+  void deleteObjectsShouldDeleteAllTheObjectsInOneRequest() {
+    var requestCount = server.requestCount();
+
+    client.deleteObjects(SOURCE_BUCKET, List.of("dataset/large", "dataset/small"));
+
+    assertEquals(0, server.objectCount(SOURCE_BUCKET));
+    assertEquals(requestCount + 1, server.requestCount());
+  }
+
+  private OVHCloudS3DataSource source() {
+    return OVHCloudS3DataSource.Builder.newInstance(client)
+        .monitor(monitor)
+        .bucketName(SOURCE_BUCKET)
+        .objectPrefix("dataset/")
+        .executor(executorService)
+        .chunkSize(CHUNK_SIZE)
+        .maxConcurrentChunks(2)
+        .memoryBudget(new OVHCloudS3MemoryBudget(4L * CHUNK_SIZE))
+        .verifyIntegrity(true)
+        .build();
+  }
+
+  private OVHCloudS3DataSink sink(boolean serverSideCopy) {
+    return OVHCloudS3DataSink.Builder.newInstance()
+        .requestId("requestId")
+        .monitor(monitor)
+        .executorService(executorService)
+        .s3ConnectorAPI(client)
+        .multipartUploader(multipartUploader)
+        .bucketName(DESTINATION_BUCKET)
+        .path("copy")
+        .serverSideCopy(serverSideCopy)
+        .build();
+  }
+}
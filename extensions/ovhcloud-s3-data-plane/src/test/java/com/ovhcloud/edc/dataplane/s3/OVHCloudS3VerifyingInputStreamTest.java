@@ -0,0 +1,68 @@
+package com.ovhcloud.edc.dataplane.s3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ovhcloud.edc.extension.s3.api.S3ObjectStream;
+import com.ovhcloud.edc.extension.s3.api.S3ResponseHeaders;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class OVHCloudS3VerifyingInputStreamTest {
+
+  private static final byte[] DATA = "data".getBytes();
+  private static final String DATA_MD5 = "8d777f385d3dfec8815d20f7496026dc";
+
+  @Test
+  void readShouldReturnDataWhenEtagMatches() throws IOException {
+    try (var inputStream = new OVHCloudS3VerifyingInputStream(new ByteArrayInputStream(DATA),
+        "objectName", "\"" + DATA_MD5.toUpperCase() + "\"")) {
+      assertArrayEquals(DATA, inputStream.readAllBytes());
+    }
+  }
+
+  @Test
+  void readShouldThrowIOExceptionAtEndOfStreamWhenEtagDoesNotMatch() throws IOException {
+    try (var inputStream = new OVHCloudS3VerifyingInputStream(new ByteArrayInputStream(DATA),
+        "objectName", "d41d8cd98f00b204e9800998ecf8427e")) {
+      assertEquals('d', inputStream.read());
+      assertThrows(IOException.class, inputStream::readAllBytes);
+    }
+  }
+
+  @Test
+  void skipShouldDigestSkippedData() throws IOException {
+    try (var inputStream = new OVHCloudS3VerifyingInputStream(new ByteArrayInputStream(DATA),
+        "objectName", DATA_MD5)) {
+      assertEquals(2, inputStream.skip(2));
+      assertArrayEquals("ta".getBytes(), inputStream.readAllBytes());
+    }
+  }
+
+  @Test
+  void readShouldNotVerifyObjectEncryptedByTheBucket() throws IOException {
+    var etag = "d41d8cd98f00b204e9800998ecf8427e";
+    try (var inputStream = new OVHCloudS3VerifyingInputStream(
+        new EncryptedObjectStream(DATA, etag), "objectName", etag)) {
+      assertArrayEquals(DATA, inputStream.readAllBytes());
+    }
+  }
+
+  private static class EncryptedObjectStream extends ByteArrayInputStream
+      implements S3ObjectStream {
+
+    private final String etag;
+
+    EncryptedObjectStream(byte[] data, String etag) {
+      super(data);
+      this.etag = etag;
+    }
+
+    @Override
+    public S3ResponseHeaders responseHeaders() {
+      return new S3ResponseHeaders(etag, count, true);
+    }
+  }
+}
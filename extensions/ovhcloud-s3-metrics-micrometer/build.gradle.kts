@@ -0,0 +1,47 @@
+plugins {
+    `java-library`
+    id("org.spdx.sbom") version "0.8.0"
+}
+
+val edcGroup: String by project
+val edcVersion: String by project
+val metaModelVersion: String by project
+val micrometerVersion: String by project
+
+val junitGroup: String by project
+val junitVersion: String by project
+val mockitoGroup: String by project
+val mockitoVersion: String by project
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    api("${edcGroup}:runtime-metamodel:${metaModelVersion}")
+
+    implementation(project(":extensions:ovhcloud-s3-core"))
+    implementation("${edcGroup}:core-spi:${edcVersion}")
+    implementation("io.micrometer:micrometer-core:${micrometerVersion}")
+
+    testImplementation("${junitGroup}:junit-jupiter-api:${junitVersion}")
+    testImplementation("${junitGroup}:junit-jupiter-engine:${junitVersion}")
+    testImplementation("${junitGroup}:junit-jupiter-params:${junitVersion}")
+    testImplementation("${mockitoGroup}:mockito-core:${mockitoVersion}")
+}
+
+java {
+    withJavadocJar()
+    withSourcesJar()
+}
+
+spdxSbom {
+    targets {
+        create("release") {
+        }
+    }
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
@@ -0,0 +1,167 @@
+package com.ovhcloud.edc.metrics;
+
+import com.ovhcloud.edc.extension.s3.api.S3Metrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3Metrics recorded in a Micrometer {@link MeterRegistry}. The requests are recorded by a timer
+ * per operation, bucket and outcome, publishing a percentile histogram so that the p99 latency can
+ * be computed by the monitoring system. The failures are counted by S3 error code, the requests in
+ * flight by a gauge per operation and bucket, the transferred bytes by a counter per bucket and
+ * direction, and the bytes of the allocated and leaked transfer buffers by counters. The executors
+ * of the transfers are instrumented by the Micrometer {@link ExecutorServiceMetrics}, and the
+ * tasks submitted while they are saturated counted.
+ */
+public class MicrometerS3Metrics implements S3Metrics {
+
+  /**
+   * The name of the timers of the requests.
+   */
+  public static final String REQUESTS = "edc.ovhcloud.s3.requests";
+
+  /**
+   * The name of the counters of the failed requests.
+   */
+  public static final String ERRORS = "edc.ovhcloud.s3.errors";
+
+  /**
+   * The name of the gauges of the requests in flight.
+   */
+  public static final String REQUESTS_IN_FLIGHT = "edc.ovhcloud.s3.requests.in.flight";
+
+  /**
+   * The name of the counters of the transferred bytes.
+   */
+  public static final String BYTES = "edc.ovhcloud.s3.bytes";
+
+  /**
+   * The name of the counters of the bytes of the allocated transfer buffers.
+   */
+  public static final String BUFFERS_ALLOCATED = "edc.ovhcloud.s3.buffers.allocated";
+
+  /**
+   * The name of the counter of the bytes of the leaked transfer buffers.
+   */
+  public static final String BUFFERS_LEAKED = "edc.ovhcloud.s3.buffers.leaked";
+
+  /**
+   * The prefix of the meters of the executors, e.g. {@code edc.ovhcloud.s3.executor.active}.
+   */
+  public static final String EXECUTOR_PREFIX = "edc.ovhcloud.s3";
+
+  /**
+   * The name of the counters of the tasks submitted to a saturated executor.
+   */
+  public static final String EXECUTOR_SATURATED = "edc.ovhcloud.s3.executor.saturated";
+
+  private static final String ALL_BUCKETS = "*";
+
+  private final MeterRegistry registry;
+  private final boolean bucketTag;
+  private final Map<Tags, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+  private final Map<Tags, Timer> timers = new ConcurrentHashMap<>();
+  private final Map<Tags, Counter> errors = new ConcurrentHashMap<>();
+  private final Map<String, Counter> bytesIn = new ConcurrentHashMap<>();
+  private final Map<String, Counter> bytesOut = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a MicrometerS3Metrics.
+   *
+   * @param registry  the registry the meters are registered in
+   * @param bucketTag whether the meters are tagged with the name of the bucket
+   */
+  public MicrometerS3Metrics(MeterRegistry registry, boolean bucketTag) {
+    this.registry = Objects.requireNonNull(registry, "registry must not be null");
+    this.bucketTag = bucketTag;
+  }
+
+  @Override
+  public Sample start(String operation, String bucketName) {
+    var tags = Tags.of("operation", operation, "bucket", bucket(bucketName));
+    // The registry only holds a weak reference to the value of a gauge
+    var requestsInFlight = inFlight.computeIfAbsent(tags,
+        key -> registry.gauge(REQUESTS_IN_FLIGHT, key, new AtomicInteger()));
+    requestsInFlight.incrementAndGet();
+    var timerSample = Timer.start(registry);
+
+    return new Sample() {
+      @Override
+      public void success() {
+        stop("success", "none");
+      }
+
+      @Override
+      public void failure(String errorCode) {
+        errors.computeIfAbsent(tags.and("code", errorCode),
+            key -> registry.counter(ERRORS, key)).increment();
+        stop("error", errorCode);
+      }
+
+      private void stop(String outcome, String errorCode) {
+        requestsInFlight.decrementAndGet();
+        // Registered once per tag set: building a timer publishing a histogram is not free
+        timerSample.stop(timers.computeIfAbsent(tags.and("outcome", outcome, "code", errorCode),
+            key -> Timer.builder(REQUESTS)
+                .tags(key)
+                .publishPercentileHistogram()
+                .register(registry)));
+      }
+    };
+  }
+
+  @Override
+  public void bytesIn(String bucketName, long bytes) {
+    bytesIn.computeIfAbsent(bucket(bucketName), bucket -> bytesCounter(bucket, "in"))
+        .increment(bytes);
+  }
+
+  @Override
+  public void bytesOut(String bucketName, long bytes) {
+    bytesOut.computeIfAbsent(bucket(bucketName), bucket -> bytesCounter(bucket, "out"))
+        .increment(bytes);
+  }
+
+  @Override
+  public void bufferAllocated(long bytes, boolean pooled) {
+    Counter.builder(BUFFERS_ALLOCATED)
+        .baseUnit("bytes")
+        .tags("pooled", String.valueOf(pooled))
+        .register(registry)
+        .increment(bytes);
+  }
+
+  @Override
+  public void bufferLeaked(long bytes) {
+    Counter.builder(BUFFERS_LEAKED).baseUnit("bytes").register(registry).increment(bytes);
+  }
+
+  @Override
+  public ExecutorService monitorExecutor(String name, ExecutorService executor) {
+    return ExecutorServiceMetrics.monitor(registry, executor, name, EXECUTOR_PREFIX, Tags.empty());
+  }
+
+  @Override
+  public void executorSaturated(String name) {
+    registry.counter(EXECUTOR_SATURATED, "name", name).increment();
+  }
+
+  private Counter bytesCounter(String bucket, String direction) {
+    return Counter.builder(BYTES)
+        .baseUnit("bytes")
+        .tags("bucket", bucket, "direction", direction)
+        .register(registry);
+  }
+
+  private String bucket(String bucketName) {
+    return bucketTag && bucketName != null ? bucketName : ALL_BUCKETS;
+  }
+}
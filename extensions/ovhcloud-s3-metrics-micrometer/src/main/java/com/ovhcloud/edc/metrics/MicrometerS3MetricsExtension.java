@@ -0,0 +1,58 @@
+package com.ovhcloud.edc.metrics;
+
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.DEFAULT_METRICS_BUCKET_TAG_ENABLED;
+import static com.ovhcloud.edc.extension.s3.settings.S3SettingsSchema.EDC_OVHCLOUD_S3_METRICS_BUCKET_TAG_ENABLED;
+
+import com.ovhcloud.edc.extension.s3.api.S3Metrics;
+import io.micrometer.core.instrument.Metrics;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+/**
+ * Provides the {@link S3Metrics} recording the S3 requests in the global Micrometer registry, the
+ * one the EDC Micrometer extension configures and exports.
+ */
+@Provides(S3Metrics.class)
+@Extension(value = MicrometerS3MetricsExtension.NAME)
+public class MicrometerS3MetricsExtension implements ServiceExtension {
+
+  /**
+   * The name of this extension.
+   */
+  public static final String NAME = "OVHcloud S3 Micrometer Metrics";
+
+  /**
+   * The {@link Monitor} service.
+   */
+  @Inject
+  private Monitor monitor;
+
+  /**
+   * Returns the name of this extension.
+   *
+   * @return the name of this extension
+   */
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  /**
+   * Initializes the extension, registering the S3Metrics service used by the S3 clients.
+   *
+   * @param context the ServiceExtensionContext
+   */
+  @Override
+  public void initialize(ServiceExtensionContext context) {
+    monitor.debug("Recording the S3 requests in the global Micrometer registry");
+
+    var bucketTag = context.getConfig().getBoolean(EDC_OVHCLOUD_S3_METRICS_BUCKET_TAG_ENABLED,
+        DEFAULT_METRICS_BUCKET_TAG_ENABLED);
+    context.registerService(S3Metrics.class,
+        new MicrometerS3Metrics(Metrics.globalRegistry, bucketTag));
+  }
+}
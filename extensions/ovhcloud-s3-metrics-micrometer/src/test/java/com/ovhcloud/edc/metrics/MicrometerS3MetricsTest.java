@@ -0,0 +1,116 @@
+package com.ovhcloud.edc.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MicrometerS3MetricsTest {
+
+  private SimpleMeterRegistry registry;
+  private MicrometerS3Metrics metrics;
+
+  @BeforeEach
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    metrics = new MicrometerS3Metrics(registry, true);
+  }
+
+  @Test
+  public void successShouldBeTimedPerOperationAndBucket() {
+    var sample = metrics.start("getObjectStream", "bucket");
+    assertEquals(1, registry.get(MicrometerS3Metrics.REQUESTS_IN_FLIGHT)
+        .tags("operation", "getObjectStream", "bucket", "bucket").gauge().value());
+
+    sample.success();
+
+    assertEquals(0, registry.get(MicrometerS3Metrics.REQUESTS_IN_FLIGHT)
+        .tags("operation", "getObjectStream", "bucket", "bucket").gauge().value());
+    assertEquals(1, registry.get(MicrometerS3Metrics.REQUESTS)
+        .tags("operation", "getObjectStream", "bucket", "bucket", "outcome", "success")
+        .timer().count());
+  }
+
+  @Test
+  public void failureShouldBeCountedByErrorCode() {
+    metrics.start("statObject", "bucket").failure("NoSuchKey");
+    metrics.start("statObject", "bucket").failure("NoSuchKey");
+
+    assertEquals(2, registry.get(MicrometerS3Metrics.ERRORS)
+        .tags("operation", "statObject", "code", "NoSuchKey").counter().count());
+    assertEquals(2, registry.get(MicrometerS3Metrics.REQUESTS)
+        .tags("outcome", "error", "code", "NoSuchKey").timer().count());
+  }
+
+  @Test
+  public void requestsWithSameTagsShouldBeTimedBySameTimer() {
+    metrics.start("listObjectsPage", "bucket").success();
+    var timer = registry.get(MicrometerS3Metrics.REQUESTS)
+        .tags("operation", "listObjectsPage", "outcome", "success").timer();
+
+    metrics.start("listObjectsPage", "bucket").success();
+
+    assertSame(timer, registry.get(MicrometerS3Metrics.REQUESTS)
+        .tags("operation", "listObjectsPage", "outcome", "success").timer());
+    assertEquals(2, timer.count());
+  }
+
+  @Test
+  public void bytesShouldBeCountedPerBucketAndDirection() {
+    metrics.bytesIn("bucket", 10);
+    metrics.bytesIn("bucket", 5);
+    metrics.bytesOut("bucket", 3);
+
+    assertEquals(15, registry.get(MicrometerS3Metrics.BYTES)
+        .tags("bucket", "bucket", "direction", "in").counter().count());
+    assertEquals(3, registry.get(MicrometerS3Metrics.BYTES)
+        .tags("bucket", "bucket", "direction", "out").counter().count());
+  }
+
+  @Test
+  public void bufferBytesShouldBeCounted() {
+    metrics.bufferAllocated(1024, true);
+    metrics.bufferAllocated(2048, true);
+    metrics.bufferAllocated(4096, false);
+    metrics.bufferLeaked(1024);
+
+    assertEquals(3072, registry.get(MicrometerS3Metrics.BUFFERS_ALLOCATED)
+        .tags("pooled", "true").counter().count());
+    assertEquals(4096, registry.get(MicrometerS3Metrics.BUFFERS_ALLOCATED)
+        .tags("pooled", "false").counter().count());
+    assertEquals(1024, registry.get(MicrometerS3Metrics.BUFFERS_LEAKED).counter().count());
+  }
+
+  @Test
+  public void executorsShouldBeInstrumented() throws InterruptedException {
+    var executor = metrics.monitorExecutor("sink", Executors.newFixedThreadPool(2));
+    executor.submit(() -> {
+    });
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    metrics.executorSaturated("sink");
+
+    assertNotNull(registry.find("edc.ovhcloud.s3.executor.active").tags("name", "sink").gauge());
+    assertEquals(1, registry.get("edc.ovhcloud.s3.executor").tags("name", "sink").timer()
+        .count());
+    assertEquals(1, registry.get(MicrometerS3Metrics.EXECUTOR_SATURATED).tags("name", "sink")
+        .counter().count());
+  }
+
+  @Test
+  public void bucketShouldNotBeTaggedWhenDisabled() {
+    metrics = new MicrometerS3Metrics(registry, false);
+
+    metrics.start("listObjects", "bucket").success();
+
+    assertNotNull(registry.find(MicrometerS3Metrics.REQUESTS).tags("bucket", "*").timer());
+    assertNull(registry.find(MicrometerS3Metrics.REQUESTS).tags("bucket", "bucket").timer());
+  }
+}
@@ -0,0 +1,7 @@
+plugins {
+    `java-library`
+}
+
+repositories {
+    mavenCentral()
+}
@@ -0,0 +1,755 @@
+package com.ovhcloud.edc.testfixtures;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * An embeddable S3-compatible server, keeping the objects in memory. It serves the requests sent
+ * by the MinIO clients of the connector: bucket creation, existence and deletion, ListObjectsV2,
+ * HEAD, ranged and conditional (If-Match) GET, PUT, copy, batch delete and multipart uploads, part
+ * copies included. The requests are not authenticated, and the Content-MD5 of the uploads is
+ * checked.
+ * <p>
+ * The responses can be delayed by a fixed latency, and the bodies of the requests and responses
+ * shaped to a bandwidth, to reproduce the behavior of a remote endpoint.
+ * </p>
+ */
+public final class S3StandInServer implements AutoCloseable {
+
+  private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter
+      .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+  private static final DateTimeFormatter XML_DATE = DateTimeFormatter
+      .ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", Locale.US).withZone(ZoneOffset.UTC);
+  private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+  private static final Pattern COMPLETED_PART = Pattern.compile(
+      "<PartNumber>(\\d+)</PartNumber>");
+  private static final Pattern DELETED_KEY = Pattern.compile("<Key>(.*?)</Key>", Pattern.DOTALL);
+  private static final String NAMESPACE = " xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\"";
+  private static final int MAX_KEYS = 1000;
+  private static final int SHAPING_CHUNK_SIZE = 16 * 1024;
+
+  private final HttpServer server;
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final Duration latency;
+  private final long bytesPerSecond;
+  private final Map<String, NavigableMap<String, StoredObject>> buckets =
+      new ConcurrentHashMap<>();
+  private final Map<String, Map<Integer, StoredObject>> uploads = new ConcurrentHashMap<>();
+  private final AtomicLong requestCount = new AtomicLong();
+
+  private S3StandInServer(Builder builder) throws IOException {
+    this.latency = builder.latency;
+    this.bytesPerSecond = builder.bytesPerSecond;
+    this.server = HttpServer.create(
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), builder.port), 0);
+    server.createContext("/", this::handle);
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  /**
+   * Starts a server listening on a free port of the loopback interface, without latency nor
+   * bandwidth limit.
+   *
+   * @return the started server
+   * @throws IOException if the server cannot be started
+   */
+  public static S3StandInServer start() throws IOException {
+    return Builder.newInstance().build();
+  }
+
+  /**
+   * Returns the endpoint of the server.
+   *
+   * @return the URL of the server
+   */
+  public String endpoint() {
+    return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+  }
+
+  /**
+   * Creates a bucket, if it does not exist.
+   *
+   * @param bucketName the name of the bucket
+   */
+  public void createBucket(String bucketName) {
+    buckets.computeIfAbsent(bucketName, name -> new ConcurrentSkipListMap<>());
+  }
+
+  /**
+   * Tells whether a bucket exists.
+   *
+   * @param bucketName the name of the bucket
+   * @return true if the bucket exists
+   */
+  public boolean bucketExists(String bucketName) {
+    return buckets.containsKey(bucketName);
+  }
+
+  /**
+   * Stores an object, without going through HTTP.
+   *
+   * @param bucketName the name of the bucket, created if needed
+   * @param objectName the name of the object
+   * @param data       the data of the object
+   */
+  public void putObject(String bucketName, String objectName, byte[] data) {
+    createBucket(bucketName);
+    buckets.get(bucketName).put(objectName, StoredObject.of(data));
+  }
+
+  /**
+   * Stores objects sharing the same data, named from a prefix and their index, without going
+   * through HTTP. The data is stored once, so that millions of objects can be listed.
+   *
+   * @param bucketName the name of the bucket, created if needed
+   * @param prefix     the prefix of the names of the objects
+   * @param count      the number of objects
+   * @param data       the data of each object
+   */
+  public void putObjects(String bucketName, String prefix, int count, byte[] data) {
+    createBucket(bucketName);
+    var object = StoredObject.of(data);
+    var objects = buckets.get(bucketName);
+    for (var i = 0; i < count; i++) {
+      objects.put(prefix + String.format("%08d", i), object);
+    }
+  }
+
+  /**
+   * Returns the data of an object.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @return the data of the object, null if it does not exist
+   */
+  public byte[] getObject(String bucketName, String objectName) {
+    var object = storedObject(bucketName, objectName);
+    return object == null ? null : object.data();
+  }
+
+  /**
+   * Returns the ETag of an object.
+   *
+   * @param bucketName the name of the bucket
+   * @param objectName the name of the object
+   * @return the quoted ETag of the object, null if it does not exist
+   */
+  public String getObjectEtag(String bucketName, String objectName) {
+    var object = storedObject(bucketName, objectName);
+    return object == null ? null : object.etag();
+  }
+
+  /**
+   * Returns the number of objects of a bucket.
+   *
+   * @param bucketName the name of the bucket
+   * @return the number of objects, 0 if the bucket does not exist
+   */
+  public int objectCount(String bucketName) {
+    var objects = buckets.get(bucketName);
+    return objects == null ? 0 : objects.size();
+  }
+
+  /**
+   * Returns the number of multipart uploads neither completed nor aborted.
+   *
+   * @return the number of pending multipart uploads
+   */
+  public int pendingUploadCount() {
+    return uploads.size();
+  }
+
+  /**
+   * Returns the number of requests served since the server started.
+   *
+   * @return the number of requests
+   */
+  public long requestCount() {
+    return requestCount.get();
+  }
+
+  /**
+   * Deletes all the buckets, objects and pending uploads.
+   */
+  public void clear() {
+    buckets.clear();
+    uploads.clear();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private StoredObject storedObject(String bucketName, String objectName) {
+    var objects = buckets.get(bucketName);
+    return objects == null ? null : objects.get(objectName);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      requestCount.incrementAndGet();
+      if (!latency.isZero()) {
+        sleep(latency.toNanos());
+      }
+
+      var path = URLDecoder.decode(exchange.getRequestURI().getRawPath(), StandardCharsets.UTF_8);
+      var separator = path.indexOf('/', 1);
+      var bucketName = separator < 0 ? path.substring(1) : path.substring(1, separator);
+      var objectName = separator < 0 ? "" : path.substring(separator + 1);
+      var query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+      if (objectName.isEmpty()) {
+        handleBucket(exchange, bucketName, query);
+      } else {
+        handleObject(exchange, bucketName, objectName, query);
+      }
+    } catch (RuntimeException e) {
+      sendError(exchange, 500, "InternalError", String.valueOf(e.getMessage()));
+    }
+  }
+
+  private void handleBucket(HttpExchange exchange, String bucketName, Map<String, String> query)
+      throws IOException {
+    var objects = buckets.get(bucketName);
+    var method = exchange.getRequestMethod();
+    if ("PUT".equals(method)) {
+      readBody(exchange);
+      if (objects != null) {
+        sendError(exchange, 409, "BucketAlreadyOwnedByYou",
+            "Your previous request to create the named bucket succeeded and you already own it");
+        return;
+      }
+      createBucket(bucketName);
+      sendEmpty(exchange, 200);
+    } else if (objects == null) {
+      sendError(exchange, 404, "NoSuchBucket", "The specified bucket does not exist");
+    } else if ("HEAD".equals(method)) {
+      sendEmpty(exchange, 200);
+    } else if ("DELETE".equals(method)) {
+      if (!objects.isEmpty()) {
+        sendError(exchange, 409, "BucketNotEmpty", "The bucket you tried to delete is not empty");
+        return;
+      }
+      buckets.remove(bucketName);
+      sendEmpty(exchange, 204);
+    } else if ("POST".equals(method) && query.containsKey("delete")) {
+      deleteObjects(exchange, objects);
+    } else if ("GET".equals(method) && query.containsKey("location")) {
+      sendXml(exchange, 200, "<LocationConstraint" + NAMESPACE + ">us-east-1</LocationConstraint>");
+    } else if ("GET".equals(method)) {
+      listObjects(exchange, bucketName, objects, query);
+    } else {
+      sendError(exchange, 405, "MethodNotAllowed", method);
+    }
+  }
+
+  private void handleObject(HttpExchange exchange, String bucketName, String objectName,
+      Map<String, String> query) throws IOException {
+    var objects = buckets.get(bucketName);
+    if (objects == null) {
+      sendError(exchange, 404, "NoSuchBucket", "The specified bucket does not exist");
+      return;
+    }
+
+    var method = exchange.getRequestMethod();
+    var uploadId = query.get("uploadId");
+    var copySource = exchange.getRequestHeaders().getFirst("x-amz-copy-source");
+    if ("POST".equals(method) && query.containsKey("uploads")) {
+      var id = UUID.randomUUID().toString();
+      uploads.put(id, new ConcurrentHashMap<>());
+      sendXml(exchange, 200, "<InitiateMultipartUploadResult" + NAMESPACE + "><Bucket>"
+          + escape(bucketName) + "</Bucket><Key>" + escape(objectName) + "</Key><UploadId>" + id
+          + "</UploadId></InitiateMultipartUploadResult>");
+    } else if ("PUT".equals(method) && uploadId != null) {
+      uploadPart(exchange, uploadId, Integer.parseInt(query.get("partNumber")), copySource);
+    } else if ("POST".equals(method) && uploadId != null) {
+      completeMultipartUpload(exchange, bucketName, objectName, objects, uploadId);
+    } else if ("DELETE".equals(method) && uploadId != null) {
+      uploads.remove(uploadId);
+      sendEmpty(exchange, 204);
+    } else if ("PUT".equals(method) && copySource != null) {
+      var source = copySource(exchange, copySource);
+      if (source != null) {
+        var object = new StoredObject(source.data(), source.etag(), Instant.now());
+        objects.put(objectName, object);
+        sendXml(exchange, 200, "<CopyObjectResult" + NAMESPACE + "><LastModified>"
+            + XML_DATE.format(object.lastModified()) + "</LastModified><ETag>"
+            + escape(object.etag()) + "</ETag></CopyObjectResult>");
+      }
+    } else if ("PUT".equals(method)) {
+      var data = readBody(exchange);
+      if (!contentMd5Matches(exchange, data)) {
+        return;
+      }
+      var object = StoredObject.of(data);
+      objects.put(objectName, object);
+      exchange.getResponseHeaders().set("ETag", object.etag());
+      sendEmpty(exchange, 200);
+    } else if ("DELETE".equals(method)) {
+      objects.remove(objectName);
+      sendEmpty(exchange, 204);
+    } else if ("GET".equals(method) || "HEAD".equals(method)) {
+      var object = objects.get(objectName);
+      if (object == null) {
+        sendError(exchange, 404, "NoSuchKey", "The specified key does not exist");
+      } else {
+        getObject(exchange, object);
+      }
+    } else {
+      sendError(exchange, 405, "MethodNotAllowed", method);
+    }
+  }
+
+  private void listObjects(HttpExchange exchange, String bucketName,
+      NavigableMap<String, StoredObject> objects, Map<String, String> query) throws IOException {
+    var prefix = query.getOrDefault("prefix", "");
+    var delimiter = query.getOrDefault("delimiter", "");
+    var maxKeys = Math.min(Integer.parseInt(query.getOrDefault("max-keys", "" + MAX_KEYS)),
+        MAX_KEYS);
+    var from = query.getOrDefault("continuation-token", query.getOrDefault("start-after", ""));
+
+    var contents = new StringBuilder();
+    var count = 0;
+    String last = null;
+    var truncated = false;
+    for (var key : objects.tailMap(from.isEmpty() ? prefix : from, from.isEmpty()).keySet()) {
+      if (!key.startsWith(prefix)) {
+        break;
+      }
+      // The keys rolled up in the common prefix the listing continues from were already listed
+      if (!delimiter.isEmpty() && from.endsWith(delimiter) && key.startsWith(from)) {
+        continue;
+      }
+
+      var commonPrefix = commonPrefix(key, prefix, delimiter);
+      if (commonPrefix != null && commonPrefix.equals(last)) {
+        continue;
+      }
+      if (count == maxKeys) {
+        truncated = true;
+        break;
+      }
+
+      if (commonPrefix != null) {
+        contents.append("<CommonPrefixes><Prefix>").append(escape(commonPrefix))
+            .append("</Prefix></CommonPrefixes>");
+        last = commonPrefix;
+      } else {
+        var object = objects.get(key);
+        contents.append("<Contents><Key>").append(escape(key)).append("</Key>")
+            .append("<LastModified>").append(XML_DATE.format(object.lastModified()))
+            .append("</LastModified><ETag>").append(escape(object.etag())).append("</ETag>")
+            .append("<Size>").append(object.data().length).append("</Size>")
+            .append("<StorageClass>STANDARD</StorageClass></Contents>");
+        last = key;
+      }
+      count++;
+    }
+
+    var xml = new StringBuilder()
+        .append("<ListBucketResult").append(NAMESPACE).append(">")
+        .append("<Name>").append(escape(bucketName)).append("</Name>")
+        .append("<Prefix>").append(escape(prefix)).append("</Prefix>");
+    if (!delimiter.isEmpty()) {
+      xml.append("<Delimiter>").append(escape(delimiter)).append("</Delimiter>");
+    }
+    xml.append("<MaxKeys>").append(maxKeys).append("</MaxKeys>")
+        .append("<KeyCount>").append(count).append("</KeyCount>")
+        .append("<IsTruncated>").append(truncated).append("</IsTruncated>");
+    if (truncated) {
+      xml.append("<NextContinuationToken>").append(escape(last))
+          .append("</NextContinuationToken>");
+    }
+    sendXml(exchange, 200, xml.append(contents).append("</ListBucketResult>").toString());
+  }
+
+  private static String commonPrefix(String key, String prefix, String delimiter) {
+    if (delimiter.isEmpty()) {
+      return null;
+    }
+    var index = key.indexOf(delimiter, prefix.length());
+    return index < 0 ? null : key.substring(0, index + delimiter.length());
+  }
+
+  private void deleteObjects(HttpExchange exchange, NavigableMap<String, StoredObject> objects)
+      throws IOException {
+    var body = new String(readBody(exchange), StandardCharsets.UTF_8);
+    var quiet = body.contains("<Quiet>true</Quiet>");
+
+    var xml = new StringBuilder("<DeleteResult" + NAMESPACE + ">");
+    var matcher = DELETED_KEY.matcher(body);
+    while (matcher.find()) {
+      var key = unescape(matcher.group(1));
+      objects.remove(key);
+      if (!quiet) {
+        xml.append("<Deleted><Key>").append(escape(key)).append("</Key></Deleted>");
+      }
+    }
+    sendXml(exchange, 200, xml.append("</DeleteResult>").toString());
+  }
+
+  private void getObject(HttpExchange exchange, StoredObject object) throws IOException {
+    var data = object.data();
+    var start = 0L;
+    var end = data.length - 1L;
+    var status = 200;
+
+    var ifMatch = exchange.getRequestHeaders().getFirst("If-Match");
+    if (ifMatch != null && !unquote(ifMatch).equals(unquote(object.etag()))) {
+      sendError(exchange, 412, "PreconditionFailed",
+          "At least one of the pre-conditions you specified did not hold");
+      return;
+    }
+
+    var range = exchange.getRequestHeaders().getFirst("Range");
+    if (range != null) {
+      var matcher = RANGE.matcher(range);
+      if (!matcher.matches() || Long.parseLong(matcher.group(1)) >= data.length) {
+        sendError(exchange, 416, "InvalidRange", "The requested range is not satisfiable");
+        return;
+      }
+      start = Long.parseLong(matcher.group(1));
+      if (!matcher.group(2).isEmpty()) {
+        end = Math.min(end, Long.parseLong(matcher.group(2)));
+      }
+      status = 206;
+      exchange.getResponseHeaders().set("Content-Range",
+          "bytes " + start + "-" + end + "/" + data.length);
+    }
+
+    var headers = exchange.getResponseHeaders();
+    headers.set("ETag", object.etag());
+    headers.set("Last-Modified", HTTP_DATE.format(object.lastModified()));
+    headers.set("Content-Type", "application/octet-stream");
+    headers.set("Accept-Ranges", "bytes");
+
+    var length = end - start + 1;
+    if ("HEAD".equals(exchange.getRequestMethod())) {
+      headers.set("Content-Length", String.valueOf(length));
+      exchange.sendResponseHeaders(status, -1);
+      return;
+    }
+    exchange.sendResponseHeaders(status, length == 0 ? -1 : length);
+    write(exchange, data, (int) start, (int) length);
+  }
+
+  private void uploadPart(HttpExchange exchange, String uploadId, int partNumber,
+      String copySource) throws IOException {
+    var parts = uploads.get(uploadId);
+    if (parts == null) {
+      sendError(exchange, 404, "NoSuchUpload", "The specified upload does not exist");
+      return;
+    }
+
+    if (copySource == null) {
+      var data = readBody(exchange);
+      if (!contentMd5Matches(exchange, data)) {
+        return;
+      }
+      var part = StoredObject.of(data);
+      parts.put(partNumber, part);
+      exchange.getResponseHeaders().set("ETag", part.etag());
+      sendEmpty(exchange, 200);
+      return;
+    }
+
+    var source = copySource(exchange, copySource);
+    if (source == null) {
+      return;
+    }
+    var data = source.data();
+    var range = exchange.getRequestHeaders().getFirst("x-amz-copy-source-range");
+    if (range != null) {
+      var matcher = RANGE.matcher(range);
+      if (!matcher.matches() || matcher.group(2).isEmpty()) {
+        sendError(exchange, 400, "InvalidArgument", "Invalid copy source range " + range);
+        return;
+      }
+      data = Arrays.copyOfRange(data, Integer.parseInt(matcher.group(1)),
+          Integer.parseInt(matcher.group(2)) + 1);
+    }
+    var part = StoredObject.of(data);
+    parts.put(partNumber, part);
+    sendXml(exchange, 200, "<CopyPartResult" + NAMESPACE + "><LastModified>"
+        + XML_DATE.format(part.lastModified()) + "</LastModified><ETag>" + escape(part.etag())
+        + "</ETag></CopyPartResult>");
+  }
+
+  private StoredObject copySource(HttpExchange exchange, String copySource) throws IOException {
+    var source = URLDecoder.decode(copySource.split("\\?", 2)[0], StandardCharsets.UTF_8);
+    source = source.startsWith("/") ? source.substring(1) : source;
+    var separator = source.indexOf('/');
+    var object = separator < 0 ? null
+        : storedObject(source.substring(0, separator), source.substring(separator + 1));
+    if (object == null) {
+      sendError(exchange, 404, "NoSuchKey", "The specified copy source does not exist");
+    }
+    return object;
+  }
+
+  private void completeMultipartUpload(HttpExchange exchange, String bucketName,
+      String objectName, NavigableMap<String, StoredObject> objects, String uploadId)
+      throws IOException {
+    var body = new String(readBody(exchange), StandardCharsets.UTF_8);
+    var parts = uploads.get(uploadId);
+    if (parts == null) {
+      sendError(exchange, 404, "NoSuchUpload", "The specified upload does not exist");
+      return;
+    }
+
+    var data = new ByteArrayOutputStream();
+    var digests = new ByteArrayOutputStream();
+    var count = 0;
+    var matcher = COMPLETED_PART.matcher(body);
+    while (matcher.find()) {
+      var part = parts.get(Integer.parseInt(matcher.group(1)));
+      if (part == null) {
+        sendError(exchange, 400, "InvalidPart", "Part " + matcher.group(1) + " not found");
+        return;
+      }
+      data.writeBytes(part.data());
+      digests.writeBytes(md5(part.data()));
+      count++;
+    }
+    uploads.remove(uploadId);
+
+    var etag = "\"" + HexFormat.of().formatHex(md5(digests.toByteArray())) + "-" + count + "\"";
+    objects.put(objectName, new StoredObject(data.toByteArray(), etag, Instant.now()));
+    sendXml(exchange, 200, "<CompleteMultipartUploadResult" + NAMESPACE + "><Location>"
+        + endpoint() + "/" + escape(bucketName) + "/" + escape(objectName) + "</Location><Bucket>"
+        + escape(bucketName) + "</Bucket><Key>" + escape(objectName) + "</Key><ETag>"
+        + escape(etag) + "</ETag></CompleteMultipartUploadResult>");
+  }
+
+  private byte[] readBody(HttpExchange exchange) throws IOException {
+    var inputStream = exchange.getRequestBody();
+    if (bytesPerSecond <= 0) {
+      return inputStream.readAllBytes();
+    }
+
+    var body = new ByteArrayOutputStream();
+    var buffer = new byte[SHAPING_CHUNK_SIZE];
+    for (int read; (read = inputStream.read(buffer)) >= 0; ) {
+      shape(read);
+      body.write(buffer, 0, read);
+    }
+    return body.toByteArray();
+  }
+
+  /**
+   * Checks the body of an upload against its Content-MD5, if any.
+   *
+   * @return false if they do not match, the error being sent
+   */
+  private boolean contentMd5Matches(HttpExchange exchange, byte[] data) throws IOException {
+    var contentMd5 = exchange.getRequestHeaders().getFirst("Content-MD5");
+    if (contentMd5 == null || contentMd5.equals(Base64.getEncoder().encodeToString(md5(data)))) {
+      return true;
+    }
+    sendError(exchange, 400, "BadDigest",
+        "The Content-MD5 you specified did not match what was received");
+    return false;
+  }
+
+  private void write(HttpExchange exchange, byte[] data, int offset, int length)
+      throws IOException {
+    var outputStream = exchange.getResponseBody();
+    if (bytesPerSecond <= 0) {
+      outputStream.write(data, offset, length);
+      return;
+    }
+
+    for (var written = 0; written < length; ) {
+      var chunk = Math.min(SHAPING_CHUNK_SIZE, length - written);
+      shape(chunk);
+      outputStream.write(data, offset + written, chunk);
+      written += chunk;
+    }
+  }
+
+  private void shape(long bytes) throws IOException {
+    sleep(bytes * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond);
+  }
+
+  private static void sleep(long nanos) throws IOException {
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while shaping the traffic");
+    }
+  }
+
+  private void sendEmpty(HttpExchange exchange, int status) throws IOException {
+    exchange.sendResponseHeaders(status, -1);
+  }
+
+  private void sendError(HttpExchange exchange, int status, String code, String message)
+      throws IOException {
+    if ("HEAD".equals(exchange.getRequestMethod())) {
+      sendEmpty(exchange, status);
+      return;
+    }
+    sendXml(exchange, status, "<Error><Code>" + code + "</Code><Message>" + escape(message)
+        + "</Message><Resource>" + escape(exchange.getRequestURI().getPath())
+        + "</Resource><RequestId>" + UUID.randomUUID() + "</RequestId></Error>");
+  }
+
+  private void sendXml(HttpExchange exchange, int status, String xml) throws IOException {
+    var body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + xml)
+        .getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/xml");
+    exchange.sendResponseHeaders(status, body.length);
+    write(exchange, body, 0, body.length);
+  }
+
+  private static Map<String, String> parseQuery(String rawQuery) {
+    var query = new HashMap<String, String>();
+    if (rawQuery == null || rawQuery.isEmpty()) {
+      return query;
+    }
+    for (var parameter : rawQuery.split("&")) {
+      var separator = parameter.indexOf('=');
+      var key = separator < 0 ? parameter : parameter.substring(0, separator);
+      var value = separator < 0 ? "" : parameter.substring(separator + 1);
+      query.put(URLDecoder.decode(key, StandardCharsets.UTF_8),
+          URLDecoder.decode(value, StandardCharsets.UTF_8));
+    }
+    return query;
+  }
+
+  private static String escape(String value) {
+    return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+        .replace("\"", "&quot;");
+  }
+
+  private static String unquote(String etag) {
+    return etag.length() >= 2 && etag.startsWith("\"") && etag.endsWith("\"")
+        ? etag.substring(1, etag.length() - 1) : etag;
+  }
+
+  private static String unescape(String value) {
+    return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+        .replace("&apos;", "'").replace("&amp;", "&");
+  }
+
+  private static byte[] md5(byte[] data) {
+    try {
+      return MessageDigest.getInstance("MD5").digest(data);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record StoredObject(byte[] data, String etag, Instant lastModified) {
+
+    private static StoredObject of(byte[] data) {
+      return new StoredObject(data, "\"" + HexFormat.of().formatHex(md5(data)) + "\"",
+          Instant.now());
+    }
+  }
+
+  /**
+   * A builder for {@link S3StandInServer}.
+   */
+  public static class Builder {
+
+    private int port;
+    private Duration latency = Duration.ZERO;
+    private long bytesPerSecond;
+
+    private Builder() {
+    }
+
+    /**
+     * Creates a new instance of {@link Builder}.
+     *
+     * @return a new instance of {@link Builder}.
+     */
+    public static Builder newInstance() {
+      return new Builder();
+    }
+
+    /**
+     * Sets the port the server listens on. If not set, a free port is used.
+     *
+     * @param port the port.
+     * @return the builder.
+     */
+    public Builder port(int port) {
+      this.port = port;
+      return this;
+    }
+
+    /**
+     * Sets the delay before each request is handled, i.e. the minimum time to the first byte of
+     * the responses.
+     *
+     * @param latency the latency of the requests.
+     * @return the builder.
+     */
+    public Builder latency(Duration latency) {
+      this.latency = latency;
+      return this;
+    }
+
+    /**
+     * Sets the bandwidth of each request: the bodies of the request and of the response are read
+     * and written at most at this rate. If not set, or not positive, the bodies are not shaped.
+     *
+     * @param bytesPerSecond the bandwidth in bytes per second.
+     * @return the builder.
+     */
+    public Builder bytesPerSecond(long bytesPerSecond) {
+      this.bytesPerSecond = bytesPerSecond;
+      return this;
+    }
+
+    /**
+     * Builds and starts the {@link S3StandInServer}.
+     *
+     * @return the started {@link S3StandInServer}.
+     * @throws IOException if the server cannot be started
+     */
+    public S3StandInServer build() throws IOException {
+      Objects.requireNonNull(latency, "latency must not be null");
+      if (latency.isNegative()) {
+        throw new IllegalArgumentException("latency must not be negative");
+      }
+
+      return new S3StandInServer(this);
+    }
+  }
+}
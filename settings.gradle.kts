@@ -30,4 +30,7 @@ dependencyResolutionManagement {
 include(":extensions:ovhcloud-s3-core")
 include("extensions:ovhcloud-s3-control-plane")
 include("extensions:ovhcloud-s3-data-plane")
+include("extensions:ovhcloud-s3-metrics-micrometer")
+include("extensions:ovhcloud-s3-test-fixtures")
 include(":launchers:development")
+include(":benchmarks")